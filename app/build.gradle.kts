@@ -1,3 +1,9 @@
+import com.google.protobuf.gradle.id
+import org.graalvm.buildtools.gradle.dsl.GraalVMExtension
+import org.springframework.boot.gradle.tasks.aot.ProcessAot
+import org.springframework.boot.gradle.tasks.bundling.BootBuildImage
+import org.springframework.boot.gradle.tasks.bundling.BootJar
+
 plugins {
     java
     jacoco
@@ -5,6 +11,8 @@ plugins {
     id("io.spring.dependency-management") version "1.1.7"
     id("org.springframework.cloud.contract") version "4.2.0"
     id("com.diffplug.spotless") version "7.0.2"
+    id("com.google.protobuf") version "0.9.4"
+    id("org.graalvm.buildtools.native") version "0.10.4" apply false
 }
 
 group = "com.example"
@@ -21,6 +29,10 @@ repositories {
 }
 
 extra["springCloudVersion"] = "2024.0.0"
+extra["luceneVersion"] = "9.12.0"
+extra["zstdVersion"] = "1.5.6-9"
+extra["grpcVersion"] = "1.68.1"
+extra["protobufVersion"] = "3.25.5"
 
 dependencies {
     implementation("org.springframework.boot:spring-boot-starter-actuator")
@@ -28,9 +40,26 @@ dependencies {
     implementation("org.springframework.boot:spring-boot-starter-security")
     implementation("org.springframework.boot:spring-boot-starter-validation")
     implementation("org.springframework.boot:spring-boot-starter-web")
+    implementation("org.springframework.boot:spring-boot-starter-webflux")
+    implementation("org.springframework:spring-r2dbc")
+    implementation("io.r2dbc:r2dbc-pool")
     implementation("org.flywaydb:flyway-mysql")
+    implementation("org.apache.lucene:lucene-core:${property("luceneVersion")}")
+    implementation("org.apache.lucene:lucene-analysis-common:${property("luceneVersion")}")
+    implementation("com.fasterxml.jackson.dataformat:jackson-dataformat-cbor")
+    implementation("com.fasterxml.jackson.dataformat:jackson-dataformat-smile")
+    implementation("com.github.luben:zstd-jni:${property("zstdVersion")}")
+    implementation("io.grpc:grpc-netty-shaded")
+    implementation("io.grpc:grpc-protobuf")
+    implementation("io.grpc:grpc-stub")
+    implementation("io.grpc:grpc-inprocess")
+    implementation("com.google.protobuf:protobuf-java:${property("protobufVersion")}")
+    // javax.annotation.Generated on the generated gRPC stubs
+    compileOnly("org.apache.tomcat:annotations-api:6.0.53")
     runtimeOnly("com.mysql:mysql-connector-j")
     runtimeOnly("com.h2database:h2")
+    runtimeOnly("io.asyncer:r2dbc-mysql")
+    runtimeOnly("io.r2dbc:r2dbc-h2")
     compileOnly("org.projectlombok:lombok")
     annotationProcessor("org.projectlombok:lombok")
     testImplementation("org.springframework.boot:spring-boot-starter-test")
@@ -43,6 +72,7 @@ dependencies {
 dependencyManagement {
     imports {
         mavenBom("org.springframework.cloud:spring-cloud-dependencies:${property("springCloudVersion")}")
+        mavenBom("io.grpc:grpc-bom:${property("grpcVersion")}")
     }
 }
 
@@ -65,6 +95,43 @@ testing {
                 }
             }
         }
+
+        // Run on demand with ./gradlew benchmark; pass -Pbenchmark.datasource.url=... (and -Pbenchmark.r2dbc.url=...)
+        // to benchmark against MySQL
+        register<JvmTestSuite>("benchmark") {
+            dependencies {
+                implementation(project())
+            }
+
+            targets {
+                all {
+                    testTask.configure {
+                        listOf("url", "username", "password").forEach { key ->
+                            project.findProperty("benchmark.datasource.$key")?.let {
+                                systemProperty("spring.datasource.$key", it)
+                            }
+                            project.findProperty("benchmark.r2dbc.$key")?.let {
+                                systemProperty("example.datasource.r2dbc.$key", it)
+                            }
+                        }
+                        // Outputs of ./gradlew cdsArchive and nativeCompile, used by StartupBenchmark
+                        systemProperty("benchmark.startup.dir", layout.buildDirectory.dir("cds").get().asFile.path)
+                        systemProperty(
+                            "benchmark.native.executable",
+                            layout.buildDirectory.file("native/nativeCompile/app").get().asFile.path,
+                        )
+                        // Sizing knobs such as -Dbenchmark.orders=... are read by the benchmarks themselves
+                        System.getProperties()
+                            .filterKeys { it.toString().startsWith("benchmark.") }
+                            .forEach { (key, value) -> systemProperty(key.toString(), value) }
+                        testLogging {
+                            showStandardStreams = true
+                        }
+                        outputs.upToDateWhen { false }
+                    }
+                }
+            }
+        }
     }
 }
 
@@ -77,6 +144,14 @@ configurations {
         extendsFrom(configurations.runtimeOnly.get())
         extendsFrom(configurations.testRuntimeOnly.get())
     }
+    named("benchmarkImplementation") {
+        extendsFrom(configurations.implementation.get())
+        extendsFrom(configurations.testImplementation.get())
+    }
+    named("benchmarkRuntimeOnly") {
+        extendsFrom(configurations.runtimeOnly.get())
+        extendsFrom(configurations.testRuntimeOnly.get())
+    }
 }
 
 spotless {
@@ -97,10 +172,103 @@ spotless {
     }
 }
 
+protobuf {
+    protoc {
+        artifact = "com.google.protobuf:protoc:${property("protobufVersion")}"
+    }
+    plugins {
+        id("grpc") {
+            artifact = "io.grpc:protoc-gen-grpc-java:${property("grpcVersion")}"
+        }
+    }
+    generateProtoTasks {
+        all().forEach {
+            it.plugins {
+                id("grpc")
+            }
+        }
+    }
+}
+
 contracts {
     packageWithBaseClasses = "com.example.demo.adapter.web"
 }
 
+// Build with -Paot to add Spring AOT processing; run the result with -Dspring.aot.enabled=true. Conditions are
+// evaluated at build time, so the application must run with the profiles given by -Paot.profiles
+val aot = providers.gradleProperty("aot").isPresent
+val aotProfiles = providers.gradleProperty("aot.profiles").getOrElse("default")
+// Build with -Pnative to compile a GraalVM native executable (./gradlew nativeCompile); implies AOT processing
+val native = providers.gradleProperty("native").isPresent
+val nativeExecutable = layout.buildDirectory.file("native/nativeCompile/app")
+
+if (aot || native) {
+    apply(plugin = "org.springframework.boot.aot")
+    tasks.withType<ProcessAot>().configureEach {
+        systemProperty("spring.profiles.active", aotProfiles)
+    }
+}
+
+if (native) {
+    apply(plugin = "org.graalvm.buildtools.native")
+    extensions.configure<GraalVMExtension> {
+        binaries.named("main") {
+            imageName = "app"
+            buildArgs.add("-H:+ReportExceptionStackTraces")
+            // Flight Recorder, for the continuous recording and the order events
+            buildArgs.add("--enable-monitoring=jfr")
+        }
+    }
+    // The JVM integration tests still run; NativeApplicationTest additionally drives the executable over HTTP
+    tasks.named<Test>("integrationTest") {
+        dependsOn(tasks.named("nativeCompile"))
+        systemProperty("example.native.executable", nativeExecutable.get().asFile.path)
+    }
+}
+
+tasks.named<BootBuildImage>("bootBuildImage") {
+    environment.put("BP_JVM_CDS_ENABLED", "true")
+    if (aot) {
+        environment.put("BP_SPRING_AOT_ENABLED", "true")
+    }
+}
+
+// ./gradlew cdsArchive extracts the boot jar into build/cds and records the classes loaded while the
+// application context starts; run with java -XX:SharedArchiveFile=application.jsa -jar build/cds/<jar>
+val cdsDirectory = layout.buildDirectory.dir("cds")
+val bootJarFile = tasks.named<BootJar>("bootJar").flatMap { it.archiveFile }
+val javaLauncher = javaToolchains.launcherFor(java.toolchain).map { it.executablePath.asFile.absolutePath }
+
+val extractBootJar by tasks.registering(Exec::class) {
+    inputs.file(bootJarFile)
+    outputs.dir(cdsDirectory)
+    commandLine(
+        javaLauncher.get(),
+        "-Djarmode=tools",
+        "-jar",
+        bootJarFile.get().asFile.absolutePath,
+        "extract",
+        "--force",
+        "--destination",
+        cdsDirectory.get().asFile.absolutePath,
+    )
+}
+
+tasks.register<Exec>("cdsArchive") {
+    dependsOn(extractBootJar)
+    workingDir(cdsDirectory)
+    val aotArgs = if (aot) listOf("-Dspring.aot.enabled=true") else emptyList()
+    commandLine(
+        listOf(javaLauncher.get(), "-XX:ArchiveClassesAtExit=application.jsa", "-Dspring.context.exit=onRefresh") +
+            aotArgs +
+            listOf(
+                "-jar",
+                bootJarFile.get().asFile.name,
+                "--spring.profiles.active=$aotProfiles",
+            ),
+    )
+}
+
 tasks.withType<Test>().configureEach {
     useJUnitPlatform()
     finalizedBy(tasks.named("jacocoTestReport"))
@@ -110,15 +278,20 @@ tasks.withType<JavaCompile>().configureEach {
     options.compilerArgs.add("-parameters")
 }
 
+// Classes generated from src/main/proto are not ours to cover
+val generatedClasses = listOf("com/example/demo/adapter/grpc/proto/**")
+
 tasks.named<JacocoReport>("jacocoTestReport") {
     reports {
         html.required = true
     }
     tasks.withType<Test>().forEach { executionData(it) }
+    classDirectories.setFrom(classDirectories.files.map { fileTree(it) { exclude(generatedClasses) } })
 }
 
 tasks.named<JacocoCoverageVerification>("jacocoTestCoverageVerification") {
     tasks.withType<Test>().forEach { executionData(it) }
+    classDirectories.setFrom(classDirectories.files.map { fileTree(it) { exclude(generatedClasses) } })
 
     violationRules {
         rule {
@@ -0,0 +1,58 @@
+package com.example.demo;
+
+import com.example.demo.domain.Identities;
+import com.example.demo.domain.dish.DishId;
+import com.example.demo.domain.merchant.MerchantId;
+import com.example.demo.domain.order.DeliveryInfo;
+import com.example.demo.domain.order.Order;
+import com.example.demo.domain.order.OrderId;
+import com.example.demo.domain.order.OrderItem;
+import com.example.demo.domain.order.OrderNumber;
+import com.example.demo.domain.order.OrderStatus;
+import com.example.demo.domain.order.Pricing;
+import com.example.demo.domain.user.UserId;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * Paid orders for seeding benchmarks, spread over 100 users and 20 merchants.
+ */
+public final class BenchmarkOrders {
+
+    // Random order numbers collide at bulk rates
+    private static final AtomicLong ORDER_NUMBERS = new AtomicLong(System.currentTimeMillis() * 1_000);
+
+    private BenchmarkOrders() {}
+
+    /**
+     * @return the orders, built lazily as the stream is consumed
+     */
+    public static Stream<Order> newOrders(int count, int itemsPerOrder) {
+        return IntStream.range(0, count).mapToObj(sequence -> newOrder(sequence, itemsPerOrder));
+    }
+
+    private static Order newOrder(int sequence, int itemsPerOrder) {
+        List<OrderItem> items = IntStream.range(0, itemsPerOrder)
+                .mapToObj(i -> new OrderItem(new DishId("dish-" + i), "宫保鸡丁", 1 + i, new BigDecimal("25.00")))
+                .toList();
+        UserId userId = new UserId("bench-user-" + sequence % 100);
+        Instant createdAt = Instant.now();
+        return new Order(
+                // Keyed by user like orders placed through the API, so sharded and routed storage sees real IDs
+                new OrderId(Identities.generateId(userId.value())),
+                new OrderNumber(String.format("%020d", ORDER_NUMBERS.incrementAndGet())),
+                userId,
+                new MerchantId("merchant-" + sequence % 20),
+                items,
+                new DeliveryInfo("张三", "13800138000", "北京市朝阳区xxx街道xxx号"),
+                null,
+                OrderStatus.PAID,
+                Pricing.calculate(items),
+                createdAt,
+                createdAt);
+    }
+}
@@ -0,0 +1,210 @@
+package com.example.demo;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.jar.JarFile;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Measures time-to-first-request of the packaged application, from launching the process until an authenticated
+ * order lookup has gone through security, JPA and the database, and the resident set size right after it.
+ * Uses the outputs of {@code ./gradlew cdsArchive} (add {@code -Paot} for the AOT variants) and
+ * {@code ./gradlew nativeCompile -Pnative}, whichever exist, e.g.
+ * {@code ./gradlew cdsArchive benchmark --tests '*StartupBenchmark'}.
+ */
+class StartupBenchmark {
+
+    private static final int RUNS = Integer.getInteger("benchmark.runs", 5);
+    private static final Duration STARTUP_TIMEOUT = Duration.ofSeconds(120);
+    private static final String AOT_INITIALIZER =
+            "com/example/demo/DemoApplication__ApplicationContextInitializer.class";
+    private static final String AOT_ENABLED = "-Dspring.aot.enabled=true";
+
+    private final HttpClient client =
+            HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(1)).build();
+
+    @Test
+    void compare_time_to_first_request() throws Exception {
+        Path directory = Path.of(System.getProperty("benchmark.startup.dir", "build/cds"));
+        Path nativeExecutable =
+                Path.of(System.getProperty("benchmark.native.executable", "build/native/nativeCompile/app"));
+        Path jar = findApplicationJar(directory);
+        boolean nativeImage = Files.isExecutable(nativeExecutable);
+        assumeTrue(jar != null || nativeImage, "Run ./gradlew cdsArchive or ./gradlew nativeCompile -Pnative first");
+
+        List<Variant> variants = new ArrayList<>();
+        if (jar != null) {
+            variants.addAll(jvmVariants(jar, directory.resolve("application.jsa")));
+        }
+        if (nativeImage) {
+            variants.add(new Variant("native", nativeExecutable.getParent(), List.of(nativeExecutable.toString()), ""));
+            variants.add(new Variant(
+                    "native+lazy", nativeExecutable.getParent(), List.of(nativeExecutable.toString()), ",fast-start"));
+        }
+
+        List<Result> results = new ArrayList<>();
+        for (Variant variant : variants) {
+            results.add(measure(variant));
+        }
+
+        System.out.printf("%n%d runs per variant%n", RUNS);
+        System.out.printf("%-14s %10s %10s %10s %10s%n", "variant", "p50 ms", "min ms", "max ms", "RSS MB");
+        for (Result result : results) {
+            System.out.printf(
+                    "%-14s %10d %10d %10d %10d%n",
+                    result.variant(),
+                    result.p50Millis(),
+                    result.minMillis(),
+                    result.maxMillis(),
+                    result.rssMegabytes());
+        }
+    }
+
+    private static List<Variant> jvmVariants(Path jar, Path archive) throws IOException {
+        String java = ProcessHandle.current().info().command().orElse("java");
+        List<String> launch = List.of(java, "-jar", jar.getFileName().toString());
+        boolean aot = hasAotInitializer(jar);
+        List<Variant> variants = new ArrayList<>();
+        variants.add(new Variant("jvm", jar.getParent(), launch, ""));
+        variants.add(new Variant("jvm+lazy", jar.getParent(), launch, ",fast-start"));
+        if (Files.exists(archive)) {
+            String sharedArchive = "-XX:SharedArchiveFile=" + archive.toAbsolutePath();
+            variants.add(new Variant("cds", jar.getParent(), withJvmArgs(launch, sharedArchive), ""));
+            variants.add(new Variant("cds+lazy", jar.getParent(), withJvmArgs(launch, sharedArchive), ",fast-start"));
+            if (aot) {
+                List<String> aotCds = withJvmArgs(launch, sharedArchive, AOT_ENABLED);
+                variants.add(new Variant("aot+cds+lazy", jar.getParent(), aotCds, ",fast-start"));
+            }
+        }
+        if (aot) {
+            variants.add(new Variant("aot", jar.getParent(), withJvmArgs(launch, AOT_ENABLED), ""));
+        }
+        return variants;
+    }
+
+    private static List<String> withJvmArgs(List<String> launch, String... jvmArgs) {
+        List<String> command = new ArrayList<>();
+        command.add(launch.getFirst());
+        command.addAll(List.of(jvmArgs));
+        command.addAll(launch.subList(1, launch.size()));
+        return command;
+    }
+
+    private Result measure(Variant variant) throws Exception {
+        long[] millis = new long[RUNS];
+        long[] rss = new long[RUNS];
+        for (int i = 0; i < RUNS; i++) {
+            Sample sample = firstRequest(variant);
+            millis[i] = sample.millis();
+            rss[i] = sample.rssMegabytes();
+        }
+        Arrays.sort(millis);
+        Arrays.sort(rss);
+        return new Result(variant.name(), millis[(RUNS - 1) / 2], millis[0], millis[RUNS - 1], rss[(RUNS - 1) / 2]);
+    }
+
+    private Sample firstRequest(Variant variant) throws Exception {
+        int port = freePort();
+        List<String> command = new ArrayList<>(variant.command());
+        command.add("--server.port=" + port);
+        command.add("--spring.profiles.active=default" + variant.extraProfiles());
+        URI uri = URI.create("http://localhost:" + port + "/api/v1/orders/" + UUID.randomUUID());
+
+        long started = System.nanoTime();
+        Process process = new ProcessBuilder(command)
+                .directory(variant.directory().toFile())
+                .redirectErrorStream(true)
+                .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+                .start();
+        try {
+            long deadline = started + STARTUP_TIMEOUT.toNanos();
+            while (System.nanoTime() < deadline) {
+                assertThat(process.isAlive()).as("%s exited during startup", variant.name()).isTrue();
+                if (status(uri) == 404) {
+                    long millis = Duration.ofNanos(System.nanoTime() - started).toMillis();
+                    return new Sample(millis, rssMegabytes(process.pid()));
+                }
+                Thread.sleep(5);
+            }
+            throw new AssertionError(variant.name() + " did not serve a request within " + STARTUP_TIMEOUT);
+        } finally {
+            process.destroy();
+            process.waitFor();
+        }
+    }
+
+    private int status(URI uri) throws InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(uri)
+                .header("Authorization", "startup-bench")
+                .timeout(Duration.ofSeconds(30))
+                .GET()
+                .build();
+        try {
+            return client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+        } catch (IOException ex) {
+            // Not listening yet
+            return -1;
+        }
+    }
+
+    /**
+     * Reads VmRSS from procfs; -1 where that is not available.
+     */
+    private static long rssMegabytes(long pid) throws IOException {
+        Path status = Path.of("/proc", Long.toString(pid), "status");
+        if (!Files.exists(status)) {
+            return -1;
+        }
+        try (Stream<String> lines = Files.lines(status)) {
+            return lines.filter(line -> line.startsWith("VmRSS:"))
+                    .map(line -> line.replaceAll("\\D", ""))
+                    .mapToLong(kilobytes -> Long.parseLong(kilobytes) / 1024)
+                    .findFirst()
+                    .orElse(-1);
+        }
+    }
+
+    private static Path findApplicationJar(Path directory) throws IOException {
+        if (!Files.isDirectory(directory)) {
+            return null;
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(file -> file.toString().endsWith(".jar"))
+                    .findFirst()
+                    .orElse(null);
+        }
+    }
+
+    private static boolean hasAotInitializer(Path jar) throws IOException {
+        try (JarFile jarFile = new JarFile(jar.toFile())) {
+            return jarFile.getEntry(AOT_INITIALIZER) != null;
+        }
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    private record Variant(String name, Path directory, List<String> command, String extraProfiles) {}
+
+    private record Sample(long millis, long rssMegabytes) {}
+
+    private record Result(String variant, long p50Millis, long minMillis, long maxMillis, long rssMegabytes) {}
+}
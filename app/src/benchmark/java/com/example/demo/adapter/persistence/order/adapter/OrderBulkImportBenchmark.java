@@ -0,0 +1,76 @@
+package com.example.demo.adapter.persistence.order.adapter;
+
+import com.example.demo.BenchmarkOrders;
+import com.example.demo.application.port.SaveOrderPort;
+import com.example.demo.application.service.ImportOrdersService;
+import com.example.demo.application.service.ImportOrdersService.ImportOrdersCommand;
+import com.example.demo.application.service.ImportOrdersService.ImportOrdersResult;
+import com.example.demo.domain.order.Order;
+import java.time.Duration;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Compares loading orders one JPA save at a time with the multi-row bulk import at different worker counts.
+ */
+@SpringBootTest
+class OrderBulkImportBenchmark {
+
+    private static final int ORDERS = Integer.getInteger("benchmark.orders", 50_000);
+    private static final int ITEMS_PER_ORDER = Integer.getInteger("benchmark.itemsPerOrder", 5);
+    private static final int BATCH_SIZE = Integer.getInteger("benchmark.batchSize", 1_000);
+
+    @Autowired
+    private SaveOrderPort saveOrderPort;
+
+    @Autowired
+    private ImportOrdersService importOrdersService;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void compare_single_saves_and_bulk_import() {
+        importOrders(BATCH_SIZE * 4, 1);
+        double singleSaves = saveOneByOne(ORDERS / 10);
+        ImportOrdersResult oneWorker = importOrders(ORDERS, 1);
+        ImportOrdersResult fourWorkers = importOrders(ORDERS, 4);
+
+        System.out.printf("%n%d orders x %d items, batch size %d%n", ORDERS, ITEMS_PER_ORDER, BATCH_SIZE);
+        System.out.printf("%-22s %14s%n", "mode", "orders/s");
+        System.out.printf("%-22s %14.0f%n", "jpa save per order", singleSaves);
+        print("bulk import, 1 worker", oneWorker);
+        print("bulk import, 4 workers", fourWorkers);
+    }
+
+    private static void print(String mode, ImportOrdersResult result) {
+        System.out.printf(
+                "%-22s %14.0f (%.0f rows/s)%n",
+                mode,
+                result.orders() * 1e9 / result.elapsed().toNanos(),
+                result.rowsPerSecond());
+    }
+
+    private double saveOneByOne(int count) {
+        List<Order> orders = BenchmarkOrders.newOrders(count, ITEMS_PER_ORDER).toList();
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        long started = System.nanoTime();
+        for (Order order : orders) {
+            transaction.executeWithoutResult(status -> saveOrderPort.save(order));
+        }
+        return count * 1e9 / (System.nanoTime() - started);
+    }
+
+    private ImportOrdersResult importOrders(int count, int workers) {
+        // Built lazily, as the import would read them from a file
+        return importOrdersService.importOrders(new ImportOrdersCommand(
+                BenchmarkOrders.newOrders(count, ITEMS_PER_ORDER).iterator(),
+                BATCH_SIZE,
+                workers,
+                Duration.ofSeconds(5)));
+    }
+}
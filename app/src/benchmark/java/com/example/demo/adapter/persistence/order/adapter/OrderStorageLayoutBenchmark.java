@@ -0,0 +1,88 @@
+package com.example.demo.adapter.persistence.order.adapter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.example.demo.BenchmarkOrders;
+import com.example.demo.adapter.persistence.datasource.ReadYourWritesWindow;
+import com.example.demo.adapter.persistence.order.CompactOrderEntityRepository;
+import com.example.demo.adapter.persistence.order.OrderEntityRepository;
+import com.example.demo.domain.order.Order;
+import com.example.demo.domain.order.OrderId;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Compares write and read throughput of the normalized (orders + order_items) and compact (items blob) layouts.
+ */
+@SpringBootTest
+class OrderStorageLayoutBenchmark {
+
+    private static final int WARMUP_ORDERS = 500;
+    private static final int ORDERS = Integer.getInteger("benchmark.orders", 5_000);
+    private static final int ITEMS_PER_ORDER = Integer.getInteger("benchmark.itemsPerOrder", 5);
+
+    @Autowired
+    private OrderEntityRepository orderEntityRepository;
+
+    @Autowired
+    private CompactOrderEntityRepository compactOrderEntityRepository;
+
+    @Autowired
+    private ReadYourWritesWindow readYourWritesWindow;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void compare_normalized_and_compact_layouts() {
+        OrderStore normalized = new OrderPersistenceAdapter(orderEntityRepository, readYourWritesWindow);
+        OrderStore compact = new CompactOrderPersistenceAdapter(compactOrderEntityRepository, readYourWritesWindow);
+
+        run(normalized, WARMUP_ORDERS);
+        run(compact, WARMUP_ORDERS);
+        Result normalizedResult = run(normalized, ORDERS);
+        Result compactResult = run(compact, ORDERS);
+
+        System.out.printf("%n%d orders x %d items%n", ORDERS, ITEMS_PER_ORDER);
+        System.out.printf("%-12s %14s %14s%n", "layout", "writes/s", "reads/s");
+        print("normalized", normalizedResult);
+        print("compact", compactResult);
+    }
+
+    private static void print(String layout, Result result) {
+        System.out.printf("%-12s %14.0f %14.0f%n", layout, result.writesPerSecond(), result.readsPerSecond());
+    }
+
+    private Result run(OrderStore store, int count) {
+        List<Order> orders = BenchmarkOrders.newOrders(count, ITEMS_PER_ORDER).toList();
+        TransactionTemplate writeTransaction = new TransactionTemplate(transactionManager);
+        TransactionTemplate readTransaction = new TransactionTemplate(transactionManager);
+        readTransaction.setReadOnly(true);
+
+        long writeStart = System.nanoTime();
+        for (Order order : orders) {
+            writeTransaction.executeWithoutResult(status -> store.save(order));
+        }
+        long writeNanos = System.nanoTime() - writeStart;
+
+        List<OrderId> ids = new ArrayList<>(orders.stream().map(Order::getId).toList());
+        Collections.shuffle(ids, new Random(42));
+        long readStart = System.nanoTime();
+        for (OrderId id : ids) {
+            Order loaded = readTransaction.execute(status -> store.findById(id).orElseThrow());
+            assertThat(loaded.getItems()).hasSize(ITEMS_PER_ORDER);
+        }
+        long readNanos = System.nanoTime() - readStart;
+
+        return new Result(count * 1e9 / writeNanos, count * 1e9 / readNanos);
+    }
+
+    private record Result(double writesPerSecond, double readsPerSecond) {}
+}
@@ -0,0 +1,125 @@
+package com.example.demo.adapter.persistence.search.adapter;
+
+import static org.mockito.Mockito.mock;
+
+import com.example.demo.adapter.persistence.search.OrderSearchIndex;
+import com.example.demo.adapter.persistence.search.OrderSearchProperties;
+import com.example.demo.adapter.persistence.search.OrderSearchSource;
+import com.example.demo.application.port.SearchOrdersPort.OrderSearchCriteria;
+import com.example.demo.domain.dish.DishId;
+import com.example.demo.domain.merchant.MerchantId;
+import com.example.demo.domain.order.DeliveryInfo;
+import com.example.demo.domain.order.Order;
+import com.example.demo.domain.order.OrderId;
+import com.example.demo.domain.order.OrderItem;
+import com.example.demo.domain.order.OrderNumber;
+import com.example.demo.domain.order.OrderStatus;
+import com.example.demo.domain.order.Pricing;
+import com.example.demo.domain.user.UserId;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.function.IntFunction;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Measures search latency of the order index by criterion at a configurable index size.
+ */
+class OrderSearchBenchmark {
+
+    private static final int ORDERS = Integer.getInteger("benchmark.orders", 2_000_000);
+    private static final int QUERIES = Integer.getInteger("benchmark.queries", 2_000);
+
+    private static final String[] SURNAMES = {"张", "李", "王", "赵", "刘", "陈", "杨", "黄", "周", "吴"};
+    private static final String[] GIVEN_NAMES = {"伟", "芳", "娜", "敏", "静", "磊", "强", "洋", "艳", "军", "杰", "勇"};
+    private static final String[] DISHES = {
+        "宫保鸡丁", "鱼香肉丝", "麻婆豆腐", "回锅肉", "水煮牛肉", "糖醋里脊", "酸菜鱼", "米饭", "蛋炒饭", "红烧茄子"
+    };
+    private static final String[] REMARKS = {"不要香菜", "多放辣", "少盐", "放门口", "打电话", "不要葱"};
+
+    @Test
+    void measure_search_latency() throws IOException {
+        Path directory = Files.createTempDirectory("order-search-benchmark");
+        OrderSearchProperties properties = new OrderSearchProperties(
+                true, directory.toString(), 256, Duration.ofSeconds(1), Duration.ofSeconds(30));
+        OrderSearchIndex index = new OrderSearchIndex(properties, mock(OrderSearchSource.class));
+        OrderSearchPersistenceAdapter adapter = new OrderSearchPersistenceAdapter(index);
+        try {
+            Random random = new Random(42);
+            long started = System.nanoTime();
+            for (int i = 0; i < ORDERS; i++) {
+                index.index(newOrder(i, random));
+            }
+            index.commitScheduled();
+            index.refresh();
+            System.out.printf(
+                    "%nindexed %d orders in %d ms%n", ORDERS, (System.nanoTime() - started) / 1_000_000);
+
+            System.out.printf("%-24s %10s %10s %10s%n", "criteria", "p50 (us)", "p99 (us)", "max (us)");
+            measure(adapter, "phone prefix", i -> new OrderSearchCriteria(phone(random), null, null, null, null));
+            measure(adapter, "recipient name", i -> new OrderSearchCriteria(null, name(random), null, null, null));
+            measure(adapter, "dish name", i -> new OrderSearchCriteria(null, null, pick(DISHES, random), null, null));
+            measure(adapter, "remark + merchant", i -> new OrderSearchCriteria(
+                    null, null, null, pick(REMARKS, random), "merchant-" + random.nextInt(1_000)));
+            measure(adapter, "name + dish", i -> new OrderSearchCriteria(
+                    null, name(random), pick(DISHES, random), null, null));
+        } finally {
+            index.close();
+        }
+    }
+
+    private static void measure(
+            OrderSearchPersistenceAdapter adapter, String label, IntFunction<OrderSearchCriteria> criteria) {
+        List<OrderSearchCriteria> queries = IntStream.range(0, QUERIES).mapToObj(criteria).toList();
+        queries.forEach(query -> adapter.search(query, 20));
+
+        long[] micros = new long[QUERIES];
+        for (int i = 0; i < QUERIES; i++) {
+            long started = System.nanoTime();
+            adapter.search(queries.get(i), 20);
+            micros[i] = (System.nanoTime() - started) / 1_000;
+        }
+        Arrays.sort(micros);
+        System.out.printf(
+                "%-24s %10d %10d %10d%n",
+                label, micros[QUERIES / 2], micros[QUERIES * 99 / 100], micros[QUERIES - 1]);
+    }
+
+    private static Order newOrder(int sequence, Random random) {
+        List<OrderItem> items = IntStream.range(0, 1 + random.nextInt(3))
+                .mapToObj(i -> new OrderItem(new DishId("dish-" + i), pick(DISHES, random), 1, new BigDecimal("25.00")))
+                .toList();
+        Instant createdAt = Instant.ofEpochSecond(1_700_000_000L + sequence);
+        return new Order(
+                new OrderId("order-" + sequence),
+                new OrderNumber(String.format("%020d", sequence)),
+                new UserId("user-" + random.nextInt(100_000)),
+                new MerchantId("merchant-" + random.nextInt(1_000)),
+                items,
+                new DeliveryInfo(name(random), phone(random), "北京市朝阳区xxx街道xxx号"),
+                random.nextInt(4) == 0 ? pick(REMARKS, random) : null,
+                OrderStatus.PAID,
+                Pricing.calculate(items),
+                createdAt,
+                createdAt);
+    }
+
+    private static String phone(Random random) {
+        return "13" + String.format("%09d", random.nextInt(1_000_000_000));
+    }
+
+    private static String name(Random random) {
+        return pick(SURNAMES, random) + pick(GIVEN_NAMES, random) + pick(GIVEN_NAMES, random);
+    }
+
+    private static String pick(String[] values, Random random) {
+        return values[random.nextInt(values.length)];
+    }
+}
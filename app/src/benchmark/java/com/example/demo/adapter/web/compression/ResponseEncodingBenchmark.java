@@ -0,0 +1,163 @@
+package com.example.demo.adapter.web.compression;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.example.demo.adapter.web.order.adapter.GetOrderAdapter.GetOrderResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import com.github.luben.zstd.Zstd;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.IntStream;
+import java.util.zip.GZIPInputStream;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Compares payload size and CPU time per response of the order encodings: JSON, CBOR and Smile, and JSON
+ * compressed with the pooled gzip and zstd compressors used by {@link ResponseCompressionFilter}.
+ */
+class ResponseEncodingBenchmark {
+
+    private static final int ITERATIONS = Integer.getInteger("benchmark.iterations", 200_000);
+    private static final int ITEMS_PER_ORDER = Integer.getInteger("benchmark.itemsPerOrder", 5);
+
+    private static final ThreadMXBean THREADS = ManagementFactory.getThreadMXBean();
+
+    private final ObjectMapper jsonMapper = new ObjectMapper();
+    private final ObjectMapper cborMapper = new CBORMapper();
+    private final ObjectMapper smileMapper = new SmileMapper();
+
+    @Test
+    void compare_encodings() throws IOException {
+        GetOrderResponse response = newResponse();
+        List<Encoding> encodings = List.of(
+                new Encoding("json", plain(jsonMapper)),
+                new Encoding("cbor", plain(cborMapper)),
+                new Encoding("smile", plain(smileMapper)),
+                new Encoding("json+gzip", compressed(jsonMapper, new GzipResponseCompressor(6))),
+                new Encoding("json+zstd", compressed(jsonMapper, new ZstdResponseCompressor(3))),
+                new Encoding("smile+zstd", compressed(smileMapper, new ZstdResponseCompressor(3))));
+
+        System.out.printf("%nGetOrderResponse with %d items, %d iterations%n", ITEMS_PER_ORDER, ITERATIONS);
+        System.out.printf("%-12s %10s %16s %16s%n", "encoding", "bytes", "encode cpu ns", "decode cpu ns");
+        for (Encoding encoding : encodings) {
+            byte[] payload = encoding.codec().encode(response);
+            assertThat(encoding.codec().decode(payload)).isEqualTo(response);
+
+            measure(encoding.codec(), response, payload);
+            Result result = measure(encoding.codec(), response, payload);
+            System.out.printf(
+                    "%-12s %10d %16.0f %16.0f%n",
+                    encoding.name(), payload.length, result.encodeNanos(), result.decodeNanos());
+        }
+    }
+
+    private static Result measure(Codec codec, GetOrderResponse response, byte[] payload) {
+        long sink = 0;
+        long started = THREADS.getCurrentThreadCpuTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            sink += codec.encode(response).length;
+        }
+        long encodeNanos = THREADS.getCurrentThreadCpuTime() - started;
+
+        started = THREADS.getCurrentThreadCpuTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            sink += codec.decode(payload).code();
+        }
+        long decodeNanos = THREADS.getCurrentThreadCpuTime() - started;
+
+        assertThat(sink).isPositive();
+        return new Result((double) encodeNanos / ITERATIONS, (double) decodeNanos / ITERATIONS);
+    }
+
+    private static Codec plain(ObjectMapper mapper) {
+        return new Codec() {
+            @Override
+            public byte[] encode(GetOrderResponse response) {
+                try {
+                    return mapper.writeValueAsBytes(response);
+                } catch (IOException ex) {
+                    throw new UncheckedIOException(ex);
+                }
+            }
+
+            @Override
+            public GetOrderResponse decode(byte[] payload) {
+                try {
+                    return mapper.readValue(payload, GetOrderResponse.class);
+                } catch (IOException ex) {
+                    throw new UncheckedIOException(ex);
+                }
+            }
+        };
+    }
+
+    private static Codec compressed(ObjectMapper mapper, ResponseCompressor compressor) {
+        Codec plain = plain(mapper);
+        return new Codec() {
+            @Override
+            public byte[] encode(GetOrderResponse response) {
+                byte[] body = plain.encode(response);
+                int length = compressor.compress(body, body.length);
+                return Arrays.copyOf(compressor.output(), length);
+            }
+
+            @Override
+            public GetOrderResponse decode(byte[] payload) {
+                return plain.decode(decompress(compressor.encoding(), payload));
+            }
+        };
+    }
+
+    private static byte[] decompress(String encoding, byte[] payload) {
+        if (encoding.equals("zstd")) {
+            return Zstd.decompress(payload, (int) Zstd.getFrameContentSize(payload));
+        }
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(payload))) {
+            return in.readAllBytes();
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private static GetOrderResponse newResponse() {
+        List<GetOrderResponse.OrderItemData> items = IntStream.range(0, ITEMS_PER_ORDER)
+                .mapToObj(i -> new GetOrderResponse.OrderItemData("dish-" + i, "宫保鸡丁", 1 + i, new BigDecimal("25.00")))
+                .toList();
+        return new GetOrderResponse(
+                0,
+                "查询成功",
+                new GetOrderResponse.OrderData(
+                        "0192f3c4-5b6a-7c8d-9e0f-1a2b3c4d5e6f",
+                        "20251105102730996280",
+                        "user-001",
+                        "merchant-001",
+                        items,
+                        new GetOrderResponse.DeliveryInfoData("张三", "13800138000", "北京市朝阳区xxx街道xxx号"),
+                        "少辣",
+                        "PAID",
+                        new GetOrderResponse.PricingData(
+                                new BigDecimal("75.00"),
+                                new BigDecimal("1.00"),
+                                new BigDecimal("3.00"),
+                                new BigDecimal("79.00")),
+                        "2025-11-05T02:27:30.745152Z"));
+    }
+
+    private interface Codec {
+        byte[] encode(GetOrderResponse response);
+
+        GetOrderResponse decode(byte[] payload);
+    }
+
+    private record Encoding(String name, Codec codec) {}
+
+    private record Result(double encodeNanos, double decodeNanos) {}
+}
@@ -0,0 +1,190 @@
+package com.example.demo.adapter.web.order;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.example.demo.DemoApplication;
+import com.jayway.jsonpath.JsonPath;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * Compares GET polling on the servlet stack (Tomcat + JPA) with the reactive stack (Netty + R2DBC)
+ * against the same database, reporting throughput, latency and the number of platform threads in use.
+ */
+class WebStackLoadBenchmark {
+
+    private static final int ORDERS = Integer.getInteger("benchmark.orders", 200);
+    private static final int CONCURRENCY = Integer.getInteger("benchmark.concurrency", 1_000);
+    private static final Duration WARMUP = Duration.ofSeconds(Integer.getInteger("benchmark.warmupSeconds", 5));
+    private static final Duration MEASUREMENT = Duration.ofSeconds(Integer.getInteger("benchmark.seconds", 15));
+    private static final String USER = "bench-user";
+
+    private static final String CREATE_ORDER_REQUEST =
+            """
+            {
+              "merchantId": "merchant-001",
+              "items": [{"dishId": "dish-001", "dishName": "宫保鸡丁", "quantity": 2, "price": 25.00}],
+              "deliveryInfo": {
+                "recipientName": "张三",
+                "recipientPhone": "13800138000",
+                "address": "北京市朝阳区xxx街道xxx号"
+              }
+            }
+            """;
+
+    private final HttpClient client = HttpClient.newBuilder()
+            .executor(Executors.newVirtualThreadPerTaskExecutor())
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+
+    @Test
+    void compare_servlet_and_reactive_stacks_under_get_polling() throws Exception {
+        Result servlet = run("servlet", "spring.main.web-application-type=servlet");
+        Result reactive = run(
+                "reactive", "spring.main.web-application-type=reactive", "example.datasource.r2dbc.enabled=true");
+
+        System.out.printf(
+                "%n%d concurrent pollers over %d orders, %ds%n", CONCURRENCY, ORDERS, MEASUREMENT.toSeconds());
+        System.out.printf(
+                "%-10s %12s %10s %10s %10s %10s %14s%n",
+                "stack", "requests/s", "p50 ms", "p99 ms", "max ms", "errors", "peak threads");
+        print(servlet);
+        print(reactive);
+    }
+
+    private static void print(Result result) {
+        System.out.printf(
+                "%-10s %12.0f %10.2f %10.2f %10.2f %10d %14d%n",
+                result.stack(),
+                result.requestsPerSecond(),
+                result.p50Millis(),
+                result.p99Millis(),
+                result.maxMillis(),
+                result.errors(),
+                result.peakThreads());
+    }
+
+    private Result run(String stack, String... properties) throws Exception {
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(DemoApplication.class)
+                .properties("server.port=0")
+                .properties(properties)
+                .run()) {
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            List<String> orderIds = new ArrayList<>();
+            for (int i = 0; i < ORDERS; i++) {
+                orderIds.add(createOrder(port));
+            }
+
+            poll(port, orderIds, WARMUP);
+            ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+            threads.resetPeakThreadCount();
+            Load load = poll(port, orderIds, MEASUREMENT);
+
+            long[] latencies = load.latencies();
+            Arrays.sort(latencies);
+            assertThat(latencies).isNotEmpty();
+            return new Result(
+                    stack,
+                    latencies.length / (double) MEASUREMENT.toSeconds(),
+                    percentile(latencies, 0.50),
+                    percentile(latencies, 0.99),
+                    latencies[latencies.length - 1] / 1e6,
+                    load.errors(),
+                    // Virtual client threads are not counted: this is server platform threads plus JVM overhead
+                    threads.getPeakThreadCount());
+        }
+    }
+
+    private Load poll(int port, List<String> orderIds, Duration duration) throws Exception {
+        long deadline = System.nanoTime() + duration.toNanos();
+        AtomicInteger errors = new AtomicInteger();
+        List<Future<long[]>> workers = new ArrayList<>();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < CONCURRENCY; i++) {
+                workers.add(executor.submit(() -> {
+                    long[] samples = new long[1024];
+                    int count = 0;
+                    while (System.nanoTime() < deadline) {
+                        String orderId = orderIds.get(ThreadLocalRandom.current().nextInt(orderIds.size()));
+                        long start = System.nanoTime();
+                        int status = get(port, orderId);
+                        long elapsed = System.nanoTime() - start;
+                        if (status != 200) {
+                            errors.incrementAndGet();
+                            continue;
+                        }
+                        if (count == samples.length) {
+                            samples = Arrays.copyOf(samples, count * 2);
+                        }
+                        samples[count++] = elapsed;
+                    }
+                    return Arrays.copyOf(samples, count);
+                }));
+            }
+        }
+        List<long[]> samples = new ArrayList<>();
+        for (Future<long[]> worker : workers) {
+            samples.add(worker.get());
+        }
+        long[] latencies = samples.stream().flatMapToLong(Arrays::stream).toArray();
+        return new Load(latencies, errors.get());
+    }
+
+    private int get(int port, String orderId) {
+        HttpRequest request = HttpRequest.newBuilder(
+                        URI.create("http://localhost:" + port + "/api/v1/orders/" + orderId))
+                .header("Authorization", USER)
+                .timeout(Duration.ofSeconds(30))
+                .GET()
+                .build();
+        try {
+            return client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+        } catch (Exception ex) {
+            return -1;
+        }
+    }
+
+    private String createOrder(int port) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/v1/orders"))
+                .header("Authorization", USER)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(CREATE_ORDER_REQUEST))
+                .build();
+        HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+        assertThat(response.statusCode()).isEqualTo(201);
+        return JsonPath.read(response.body(), "$.data.orderId");
+    }
+
+    private static double percentile(long[] sorted, double percentile) {
+        int index = (int) Math.ceil(percentile * sorted.length) - 1;
+        return sorted[Math.max(index, 0)] / 1e6;
+    }
+
+    private record Load(long[] latencies, int errors) {}
+
+    private record Result(
+            String stack,
+            double requestsPerSecond,
+            double p50Millis,
+            double p99Millis,
+            double maxMillis,
+            int errors,
+            int peakThreads) {}
+}
@@ -0,0 +1,84 @@
+package com.example.demo.adapter.web.order.adapter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.example.demo.BenchmarkOrders;
+import com.example.demo.adapter.web.order.adapter.ExportOrdersAdapter.ExportRequest;
+import com.example.demo.application.service.ImportOrdersService;
+import com.example.demo.application.service.ImportOrdersService.ImportOrdersCommand;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.Duration;
+import java.time.LocalDate;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+/**
+ * Measures export throughput and output size of the CSV and columnar formats.
+ */
+@SpringBootTest
+class OrderExportBenchmark {
+
+    private static final int ORDERS = Integer.getInteger("benchmark.orders", 20_000);
+    private static final int ITEMS_PER_ORDER = Integer.getInteger("benchmark.itemsPerOrder", 5);
+    private static final int SEED_BATCH = 1_000;
+
+    @Autowired
+    private ImportOrdersService importOrdersService;
+
+    @Autowired
+    private ExportOrdersAdapter exportOrdersAdapter;
+
+    @Test
+    void compare_export_formats() throws IOException {
+        seed();
+        LocalDate today = LocalDate.now();
+
+        export(exportOrdersAdapter.prepare(today, today, "csv"));
+        export(exportOrdersAdapter.prepare(today, today, "columnar"));
+        Result csv = export(exportOrdersAdapter.prepare(today, today, "csv"));
+        Result columnar = export(exportOrdersAdapter.prepare(today, today, "columnar"));
+
+        System.out.printf("%n%d orders x %d items%n", ORDERS, ITEMS_PER_ORDER);
+        System.out.printf("%-10s %12s %14s %14s%n", "format", "lines", "lines/s", "bytes");
+        print("csv", csv);
+        print("columnar", columnar);
+    }
+
+    private static void print(String format, Result result) {
+        System.out.printf(
+                "%-10s %12d %14.0f %14d%n", format, result.lines(), result.linesPerSecond(), result.bytes());
+    }
+
+    private Result export(ExportRequest request) throws IOException {
+        CountingOutputStream out = new CountingOutputStream();
+        long started = System.nanoTime();
+        long lines = exportOrdersAdapter.export(request, out);
+        long nanos = System.nanoTime() - started;
+        assertThat(lines).isGreaterThanOrEqualTo((long) ORDERS * ITEMS_PER_ORDER);
+        return new Result(lines, lines * 1e9 / nanos, out.count);
+    }
+
+    private void seed() {
+        importOrdersService.importOrders(new ImportOrdersCommand(
+                BenchmarkOrders.newOrders(ORDERS, ITEMS_PER_ORDER).iterator(), SEED_BATCH, 4, Duration.ofSeconds(5)));
+    }
+
+    private record Result(long lines, double linesPerSecond, long bytes) {}
+
+    private static final class CountingOutputStream extends OutputStream {
+
+        private long count;
+
+        @Override
+        public void write(int b) {
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            count += len;
+        }
+    }
+}
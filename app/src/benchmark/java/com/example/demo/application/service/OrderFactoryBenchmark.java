@@ -0,0 +1,75 @@
+package com.example.demo.application.service;
+
+import com.example.demo.application.service.CreateOrderService.CreateOrderCommand;
+import com.example.demo.application.service.CreateOrderService.CreateOrderCommand.DeliveryInfoDto;
+import com.example.demo.application.service.CreateOrderService.CreateOrderCommand.OrderItemDto;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Times sequential and forked order building for growing item counts, and reports the smallest count at which
+ * forking wins; use it to set {@code example.order.parallel.item-threshold} for the target hardware.
+ */
+class OrderFactoryBenchmark {
+
+    private static final int[] ITEM_COUNTS = {8, 32, 128, 512, 2048, 8192, 32768};
+    // Work per measurement, so that small sizes are repeated often enough to be timed
+    private static final int ITEMS_PER_ROUND = Integer.getInteger("benchmark.itemsPerRound", 2_000_000);
+    private static final DeliveryInfoDto DELIVERY_INFO = new DeliveryInfoDto("张三", "13800138000", "北京市朝阳区某某街道123号");
+
+    private final OrderFactory sequential = OrderFactory.sequential();
+    private final OrderFactory forked = new OrderFactory(ForkJoinPool.commonPool(), 0);
+
+    @Test
+    void find_item_threshold() {
+        System.out.printf("%nOne order, parallelism %d%n", ForkJoinPool.commonPool().getParallelism());
+        System.out.printf("%-10s %16s %16s %10s%n", "items", "sequential µs", "forked µs", "speedup");
+        Integer crossover = null;
+        for (int items : ITEM_COUNTS) {
+            CreateOrderCommand command = command(items);
+            int repetitions = Math.max(1, ITEMS_PER_ROUND / items);
+            double sequentialMicros = time(repetitions, () -> sequential.create(command));
+            double forkedMicros = time(repetitions, () -> forked.create(command));
+            print(items, sequentialMicros, forkedMicros);
+            if (crossover == null && forkedMicros < sequentialMicros) {
+                crossover = items;
+            }
+        }
+        System.out.printf("item-threshold: %s%n", crossover == null ? "forking never won" : crossover);
+    }
+
+    private static void print(int size, double sequentialMicros, double forkedMicros) {
+        System.out.printf(
+                "%-10d %16.2f %16.2f %9.2fx%n", size, sequentialMicros, forkedMicros, sequentialMicros / forkedMicros);
+    }
+
+    /**
+     * @return the mean time of one call in microseconds, after as many warm-up calls
+     */
+    private static double time(int repetitions, Supplier<?> call) {
+        Object sink = null;
+        for (int i = 0; i < repetitions; i++) {
+            sink = call.get();
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < repetitions; i++) {
+            sink = call.get();
+        }
+        long elapsed = System.nanoTime() - start;
+        if (sink == null) {
+            throw new AssertionError();
+        }
+        return elapsed / 1_000.0 / repetitions;
+    }
+
+    private static CreateOrderCommand command(int items) {
+        List<OrderItemDto> itemDtos = IntStream.range(0, items)
+                .mapToObj(i -> new OrderItemDto("dish-" + i, "餐品" + i, i % 5 + 1, new BigDecimal("18.80")))
+                .toList();
+        return new CreateOrderCommand("user-001", "merchant-001", itemDtos, DELIVERY_INFO, null);
+    }
+}
@@ -62,6 +62,7 @@ public abstract class OrdersBase extends ContractTestBase {
                                 new BigDecimal("1.00"),
                                 new BigDecimal("3.00"),
                                 new BigDecimal("54.00")),
+                        Instant.parse("2025-11-05T02:27:30.745152Z"),
                         Instant.parse("2025-11-05T02:27:30.745152Z"));
             } else {
                 throw new OrderNotFoundException("订单不存在");
@@ -0,0 +1,67 @@
+package com.example.demo;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+@SpringBootTest
+@ActiveProfiles({"default", "fast-start"})
+@AutoConfigureMockMvc
+class FastStartProfileTest {
+
+    @Autowired
+    private ConfigurableApplicationContext context;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void controllers_should_be_created_at_startup_under_lazy_initialization() {
+        assertThat(context.getEnvironment().getProperty("spring.main.lazy-initialization")).isEqualTo("true");
+        assertThat(context.getBeanFactory().containsSingleton("createOrderController")).isTrue();
+        assertThat(context.getBeanFactory().containsSingleton("getOrderController")).isTrue();
+    }
+
+    @Test
+    void orders_should_be_created_and_read_with_the_fast_start_profile() throws Exception {
+        String userId = "fast-start-" + UUID.randomUUID();
+        String request =
+                """
+                {
+                  "merchantId": "merchant-001",
+                  "items": [{"dishId": "dish-001", "dishName": "宫保鸡丁", "quantity": 2, "price": 25.00}],
+                  "deliveryInfo": {"recipientName": "张三", "recipientPhone": "13800138000", "address": "北京市朝阳区xxx街道xxx号"}
+                }
+                """;
+        String response = mockMvc.perform(post("/api/v1/orders")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(request)
+                        .with(user(userId)))
+                .andExpect(status().isCreated())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+        String orderId = objectMapper.readTree(response).path("data").path("orderId").asText();
+
+        mockMvc.perform(get("/api/v1/orders/{orderId}", orderId).with(user(userId)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.orderId").value(orderId));
+    }
+}
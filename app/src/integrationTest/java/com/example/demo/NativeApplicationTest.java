@@ -0,0 +1,121 @@
+package com.example.demo;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.jayway.jsonpath.JsonPath;
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.UUID;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+/**
+ * Drives the native executable over HTTP with the default H2 profile. Runs as part of
+ * {@code ./gradlew integrationTest -Pnative}, which compiles the executable first.
+ */
+@EnabledIfSystemProperty(named = "example.native.executable", matches = ".+")
+class NativeApplicationTest {
+
+    private static final Duration STARTUP_TIMEOUT = Duration.ofSeconds(30);
+
+    private static final HttpClient CLIENT =
+            HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(1)).build();
+
+    private static Process application;
+    private static String baseUrl;
+
+    @BeforeAll
+    static void startExecutable() throws Exception {
+        int port = freePort();
+        baseUrl = "http://localhost:" + port + "/api/v1/orders";
+        application = new ProcessBuilder(System.getProperty("example.native.executable"), "--server.port=" + port)
+                .redirectErrorStream(true)
+                .redirectOutput(ProcessBuilder.Redirect.INHERIT)
+                .start();
+        long deadline = System.nanoTime() + STARTUP_TIMEOUT.toNanos();
+        while (System.nanoTime() < deadline) {
+            assertThat(application.isAlive()).as("native executable exited during startup").isTrue();
+            try {
+                send(get(UUID.randomUUID().toString(), "native-startup"));
+                return;
+            } catch (IOException ex) {
+                Thread.sleep(20);
+            }
+        }
+        throw new AssertionError("native executable did not start within " + STARTUP_TIMEOUT);
+    }
+
+    @AfterAll
+    static void stopExecutable() throws InterruptedException {
+        if (application != null) {
+            application.destroy();
+            application.waitFor();
+        }
+    }
+
+    @Test
+    void orders_should_be_created_and_read_back() throws Exception {
+        String userId = "native-" + UUID.randomUUID();
+        HttpRequest create = HttpRequest.newBuilder(URI.create(baseUrl))
+                .header("Authorization", userId)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(
+                        """
+                        {
+                          "merchantId": "merchant-001",
+                          "items": [{"dishId": "dish-001", "dishName": "宫保鸡丁", "quantity": 2, "price": 25.00}],
+                          "deliveryInfo": {"recipientName": "张三", "recipientPhone": "13800138000", "address": "北京市朝阳区"},
+                          "remark": "少放辣"
+                        }
+                        """))
+                .build();
+        HttpResponse<String> created = send(create);
+        assertThat(created.statusCode()).isEqualTo(201);
+        String orderId = JsonPath.read(created.body(), "$.data.orderId");
+
+        HttpResponse<String> found = send(get(orderId, userId));
+
+        assertThat(found.statusCode()).isEqualTo(200);
+        assertThat((String) JsonPath.read(found.body(), "$.data.remark")).isEqualTo("少放辣");
+        assertThat((Double) JsonPath.read(found.body(), "$.data.pricing.itemsTotal")).isEqualTo(50.0);
+    }
+
+    @Test
+    void validation_and_missing_orders_should_map_to_problem_details() throws Exception {
+        HttpRequest invalid = HttpRequest.newBuilder(URI.create(baseUrl))
+                .header("Authorization", "native-user")
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString("{\"merchantId\": \"merchant-001\", \"items\": []}"))
+                .build();
+
+        assertThat(send(invalid).statusCode()).isEqualTo(400);
+        HttpResponse<String> missing = send(get(UUID.randomUUID().toString(), "native-user"));
+        assertThat(missing.statusCode()).isEqualTo(404);
+        assertThat(missing.headers().firstValue("Content-Type")).hasValueSatisfying(type -> assertThat(type)
+                .startsWith("application/problem+json"));
+    }
+
+    private static HttpRequest get(String orderId, String userId) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + "/" + orderId))
+                .header("Authorization", userId)
+                .GET()
+                .build();
+    }
+
+    private static HttpResponse<String> send(HttpRequest request) throws IOException, InterruptedException {
+        return CLIENT.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package com.example.demo.adapter.cli;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.zip.GZIPOutputStream;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+@SpringBootTest(
+        properties = {
+            "example.cli.import-orders.batch-size=2",
+            "example.cli.import-orders.workers=2",
+            "example.cli.import-orders.exit-when-done=false"
+        })
+@AutoConfigureMockMvc
+class ImportOrdersRunnerTest {
+
+    private static final String MERCHANT_ID = "import-" + UUID.randomUUID().toString().substring(0, 8);
+    private static final Instant CREATED_AT =
+            Instant.now().minus(10, ChronoUnit.DAYS).truncatedTo(ChronoUnit.SECONDS);
+    private static final String[] ORDER_IDS = {
+        UUID.randomUUID().toString(), UUID.randomUUID().toString(), UUID.randomUUID().toString()
+    };
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @DynamicPropertySource
+    static void importFile(DynamicPropertyRegistry registry) {
+        registry.add("example.cli.import-orders.file", ImportOrdersRunnerTest::writeImportFile);
+    }
+
+    @Test
+    void orders_should_be_imported_with_their_original_identity_at_startup() throws Exception {
+        for (String orderId : ORDER_IDS) {
+            assertThat(jdbcTemplate.queryForObject(
+                            "SELECT COUNT(*) FROM order_items WHERE order_id = ?", Integer.class, orderId))
+                    .isEqualTo(2);
+        }
+
+        mockMvc.perform(get("/api/v1/orders/{orderId}", ORDER_IDS[0]).with(user("import-user")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.orderId").value(ORDER_IDS[0]))
+                .andExpect(jsonPath("$.data.merchantId").value(MERCHANT_ID))
+                .andExpect(jsonPath("$.data.status").value("PAID"))
+                .andExpect(jsonPath("$.data.items.length()").value(2))
+                .andExpect(jsonPath("$.data.createdAt").value(CREATED_AT.toString()));
+    }
+
+    @Test
+    void merchant_stats_of_imported_days_should_be_rebuilt() throws Exception {
+        String day = LocalDate.ofInstant(CREATED_AT, ZoneId.systemDefault()).toString();
+
+        mockMvc.perform(get("/api/v1/merchants/{merchantId}/stats", MERCHANT_ID)
+                        .param("from", day)
+                        .param("to", day)
+                        .with(user("import-user")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.totalOrders").value(3))
+                .andExpect(jsonPath("$.data.totalRevenue").value(168.00));
+    }
+
+    private static String writeImportFile() {
+        try {
+            Path file = Files.createTempFile("orders-import-", ".jsonl.gz");
+            file.toFile().deleteOnExit();
+            try (OutputStream out = new GZIPOutputStream(Files.newOutputStream(file))) {
+                for (String orderId : ORDER_IDS) {
+                    out.write(orderLine(orderId).getBytes(StandardCharsets.UTF_8));
+                    out.write('\n');
+                }
+            }
+            return file.toString();
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private static String orderLine(String orderId) {
+        long random = ThreadLocalRandom.current().nextLong(1_000_000_000_000L);
+        String orderNumber = "20250101" + String.format("%012d", random);
+        return """
+                {"id":"%s","orderNumber":"%s","userId":"import-user","merchantId":"%s",\
+                "items":[{"dishId":"dish-001","dishName":"宫保鸡丁","quantity":2,"price":25.00},\
+                {"dishId":"dish-002","dishName":"米饭","quantity":1,"price":2.00}],\
+                "recipientName":"张三","recipientPhone":"13800138000","address":"北京市朝阳区xxx街道xxx号",\
+                "remark":null,"status":"PAID","itemsTotal":52.00,"packagingFee":1.00,"deliveryFee":3.00,\
+                "finalAmount":56.00,"createdAt":"%s","updatedAt":"%s"}"""
+                .formatted(orderId, orderNumber, MERCHANT_ID, CREATED_AT, CREATED_AT);
+    }
+}
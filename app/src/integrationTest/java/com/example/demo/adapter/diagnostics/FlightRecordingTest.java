@@ -0,0 +1,92 @@
+package com.example.demo.adapter.diagnostics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.RequestPostProcessor;
+
+/**
+ * Downloads the continuous recording through Actuator after placing an order and checks that the order event is
+ * in it.
+ */
+@SpringBootTest(
+        properties = {
+            "example.diagnostics.flight-recording.enabled=true",
+            "example.diagnostics.flight-recording.directory=build/flight-recordings",
+            "management.endpoints.web.exposure.include=flightrecording"
+        })
+@AutoConfigureMockMvc
+class FlightRecordingTest {
+
+    private static final String CREATE_ORDER_REQUEST =
+            """
+            {
+              "merchantId": "merchant-001",
+              "items": [{"dishId": "dish-001", "dishName": "宫保鸡丁", "quantity": 2, "price": 25.00}],
+              "deliveryInfo": {"recipientName": "张三", "recipientPhone": "13800138000", "address": "北京市朝阳区xxx街道xxx号"}
+            }
+            """;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void dump_should_download_a_recording_with_the_order_events() throws Exception {
+        // Given
+        mockMvc.perform(post("/api/v1/orders")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(CREATE_ORDER_REQUEST)
+                        .with(user("flight-recording-" + UUID.randomUUID())))
+                .andExpect(status().isCreated());
+
+        // When
+        byte[] dump = mockMvc.perform(get("/actuator/flightrecording").with(admin()))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsByteArray();
+
+        // Then
+        Path downloaded = Files.createTempFile("downloaded-", ".jfr");
+        try {
+            Files.write(downloaded, dump);
+            List<RecordedEvent> events = RecordingFile.readAllEvents(downloaded);
+            assertThat(events)
+                    .anySatisfy(event -> assertThat(event.getEventType().getName())
+                            .isEqualTo("com.example.demo.OrderCreated"));
+        } finally {
+            Files.deleteIfExists(downloaded);
+        }
+        try (Stream<Path> dumps = Files.list(Path.of("build/flight-recordings"))) {
+            // The dump is deleted once downloaded; only the recording saved at shutdown stays
+            assertThat(dumps).allMatch(file -> file.getFileName().toString().endsWith("-shutdown.jfr"));
+        }
+    }
+
+    @Test
+    void dump_should_be_forbidden_to_non_admin_users() throws Exception {
+        // When & Then
+        mockMvc.perform(get("/actuator/flightrecording").with(user("flight-recording-" + UUID.randomUUID())))
+                .andExpect(status().isForbidden());
+    }
+
+    private static RequestPostProcessor admin() {
+        return user("flight-recording-admin").roles("USER", "ADMIN");
+    }
+}
@@ -0,0 +1,207 @@
+package com.example.demo.adapter.grpc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.example.demo.adapter.grpc.proto.CreateOrderRequest;
+import com.example.demo.adapter.grpc.proto.CreateOrderResponse;
+import com.example.demo.adapter.grpc.proto.CreateOrdersResponse;
+import com.example.demo.adapter.grpc.proto.DeliveryInfo;
+import com.example.demo.adapter.grpc.proto.GetOrderRequest;
+import com.example.demo.adapter.grpc.proto.GetOrderResponse;
+import com.example.demo.adapter.grpc.proto.OrderItem;
+import com.example.demo.adapter.grpc.proto.OrderServiceGrpc;
+import io.grpc.ManagedChannel;
+import io.grpc.Metadata;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.grpc.inprocess.InProcessChannelBuilder;
+import io.grpc.netty.shaded.io.grpc.netty.NettyChannelBuilder;
+import io.grpc.stub.MetadataUtils;
+import io.grpc.stub.StreamObserver;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+@SpringBootTest(
+        properties = {
+            "example.grpc.enabled=true",
+            "example.grpc.port=0",
+            "example.grpc.in-process-name=order-grpc-it"
+        })
+class OrderGrpcServiceTest {
+
+    @Autowired
+    private GrpcServer grpcServer;
+
+    private ManagedChannel inProcessChannel;
+    private ManagedChannel networkChannel;
+
+    @BeforeEach
+    void setUp() {
+        inProcessChannel = InProcessChannelBuilder.forName("order-grpc-it").directExecutor().build();
+        networkChannel = NettyChannelBuilder.forAddress("localhost", grpcServer.getPort())
+                .usePlaintext()
+                .build();
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        inProcessChannel.shutdownNow().awaitTermination(5, TimeUnit.SECONDS);
+        networkChannel.shutdownNow().awaitTermination(5, TimeUnit.SECONDS);
+    }
+
+    @Test
+    void create_order_should_be_readable_by_get_order() {
+        // Given
+        OrderServiceGrpc.OrderServiceBlockingStub stub = blockingStub(inProcessChannel, newUser());
+
+        // When
+        CreateOrderResponse created = stub.createOrder(createOrderRequest("13800138000"));
+        GetOrderResponse order = stub.getOrder(
+                GetOrderRequest.newBuilder().setOrderId(created.getOrderId()).build());
+
+        // Then
+        assertThat(created.getStatus()).isEqualTo("PENDING_PAYMENT");
+        assertThat(created.getPricing().getFinalAmount()).isEqualTo("54.00");
+        assertThat(order.getOrderNumber()).isEqualTo(created.getOrderNumber());
+        assertThat(order.getItemsList()).extracting(OrderItem::getDishName).containsExactly("宫保鸡丁");
+        assertThat(order.hasRemark()).isFalse();
+    }
+
+    @Test
+    void get_order_should_return_not_found_for_other_users_order() {
+        // Given
+        CreateOrderResponse created = blockingStub(inProcessChannel, newUser())
+                .createOrder(createOrderRequest("13800138000"));
+
+        // When & Then
+        assertThatThrownBy(() -> blockingStub(inProcessChannel, newUser())
+                        .getOrder(GetOrderRequest.newBuilder()
+                                .setOrderId(created.getOrderId())
+                                .build()))
+                .isInstanceOfSatisfying(StatusRuntimeException.class, ex -> assertThat(
+                                ex.getStatus().getCode())
+                        .isEqualTo(Status.Code.NOT_FOUND));
+    }
+
+    @Test
+    void create_order_should_return_invalid_argument_for_invalid_phone() {
+        OrderServiceGrpc.OrderServiceBlockingStub stub = blockingStub(inProcessChannel, newUser());
+
+        assertThatThrownBy(() -> stub.createOrder(createOrderRequest("123")))
+                .isInstanceOfSatisfying(StatusRuntimeException.class, ex -> {
+                    assertThat(ex.getStatus().getCode()).isEqualTo(Status.Code.INVALID_ARGUMENT);
+                    assertThat(ex.getStatus().getDescription()).isEqualTo("手机号格式不正确");
+                });
+    }
+
+    @Test
+    void calls_without_user_should_be_unauthenticated() {
+        OrderServiceGrpc.OrderServiceBlockingStub stub = OrderServiceGrpc.newBlockingStub(inProcessChannel);
+
+        assertThatThrownBy(() -> stub.createOrder(createOrderRequest("13800138000")))
+                .isInstanceOfSatisfying(StatusRuntimeException.class, ex -> assertThat(
+                                ex.getStatus().getCode())
+                        .isEqualTo(Status.Code.UNAUTHENTICATED));
+    }
+
+    @Test
+    void create_orders_should_stream_bulk_creation_over_network() throws Exception {
+        // Given
+        CompletableFuture<CreateOrdersResponse> response = new CompletableFuture<>();
+        OrderServiceGrpc.OrderServiceStub stub = OrderServiceGrpc.newStub(networkChannel)
+                .withInterceptors(MetadataUtils.newAttachHeadersInterceptor(metadata(newUser())));
+
+        // When
+        StreamObserver<CreateOrderRequest> requests = stub.createOrders(new StreamObserver<>() {
+            @Override
+            public void onNext(CreateOrdersResponse value) {
+                response.complete(value);
+            }
+
+            @Override
+            public void onError(Throwable t) {
+                response.completeExceptionally(t);
+            }
+
+            @Override
+            public void onCompleted() {}
+        });
+        requests.onNext(createOrderRequest("13800138000"));
+        requests.onNext(createOrderRequest("123"));
+        requests.onNext(createOrderRequest("13900139000"));
+        requests.onCompleted();
+
+        // Then
+        CreateOrdersResponse result = response.get(10, TimeUnit.SECONDS);
+        assertThat(result.getCreatedCount()).isEqualTo(2);
+        assertThat(result.getFailedCount()).isEqualTo(1);
+        assertThat(result.getFailuresList())
+                .singleElement()
+                .satisfies(failure -> {
+                    assertThat(failure.getIndex()).isEqualTo(1);
+                    assertThat(failure.getError()).isEqualTo("手机号格式不正确");
+                });
+    }
+
+    @Test
+    void concurrent_calls_should_share_one_connection() throws Exception {
+        // Given
+        OrderServiceGrpc.OrderServiceBlockingStub stub = blockingStub(networkChannel, newUser());
+        ExecutorService callers = Executors.newFixedThreadPool(8);
+
+        // When - HTTP/2 multiplexes the calls as streams of the channel's single connection
+        try {
+            List<CompletableFuture<CreateOrderResponse>> calls = IntStream.range(0, 32)
+                    .mapToObj(i -> CompletableFuture.supplyAsync(
+                            () -> stub.createOrder(createOrderRequest("13800138000")), callers))
+                    .toList();
+
+            // Then
+            CompletableFuture.allOf(calls.toArray(CompletableFuture[]::new)).get(30, TimeUnit.SECONDS);
+            assertThat(calls).allSatisfy(call -> assertThat(call.join().getOrderId()).isNotEmpty());
+        } finally {
+            callers.shutdownNow();
+        }
+    }
+
+    private static OrderServiceGrpc.OrderServiceBlockingStub blockingStub(ManagedChannel channel, String userId) {
+        return OrderServiceGrpc.newBlockingStub(channel)
+                .withInterceptors(MetadataUtils.newAttachHeadersInterceptor(metadata(userId)));
+    }
+
+    private static String newUser() {
+        return "grpc-user-" + UUID.randomUUID();
+    }
+
+    private static Metadata metadata(String userId) {
+        Metadata metadata = new Metadata();
+        metadata.put(GrpcAuthenticationInterceptor.AUTHORIZATION, userId);
+        return metadata;
+    }
+
+    private static CreateOrderRequest createOrderRequest(String recipientPhone) {
+        return CreateOrderRequest.newBuilder()
+                .setMerchantId("merchant-001")
+                .addItems(OrderItem.newBuilder()
+                        .setDishId("dish-001")
+                        .setDishName("宫保鸡丁")
+                        .setQuantity(2)
+                        .setPrice("25.00"))
+                .setDeliveryInfo(DeliveryInfo.newBuilder()
+                        .setRecipientName("张三")
+                        .setRecipientPhone(recipientPhone)
+                        .setAddress("北京市朝阳区xxx街道xxx号"))
+                .build();
+    }
+}
@@ -0,0 +1,170 @@
+package com.example.demo.adapter.persistence.datasource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.example.demo.application.service.Bulkhead;
+import com.example.demo.application.service.OrderBulkheads;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+/**
+ * Shows that order reads and order creation no longer starve each other: reads that exhaust their connection
+ * pool or their bulkhead fail with 503 while orders are still created.
+ */
+@SpringBootTest(
+        properties = {
+            "example.datasource.bulkhead.enabled=true",
+            "example.datasource.bulkhead.pools.create-order=2",
+            "example.datasource.bulkhead.pools.get-order=1",
+            "example.order.bulkhead.get-order.max-concurrent-calls=1",
+            "spring.datasource.hikari.connection-timeout=500ms"
+        })
+@AutoConfigureMockMvc
+class BulkheadIsolationTest {
+
+    private static final String CREATE_ORDER_REQUEST =
+            """
+            {
+              "merchantId": "merchant-001",
+              "items": [{"dishId": "dish-001", "dishName": "宫保鸡丁", "quantity": 2, "price": 25.00}],
+              "deliveryInfo": {"recipientName": "张三", "recipientPhone": "13800138000", "address": "北京市朝阳区xxx街道xxx号"}
+            }
+            """;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private BulkheadRoutingDataSource bulkheadRoutingDataSource;
+
+    @Autowired
+    private OrderBulkheads orderBulkheads;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor();
+    private final CountDownLatch release = new CountDownLatch(1);
+    private Connection heldConnection;
+    private String userId;
+    private String orderId;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        userId = "bulkhead-" + UUID.randomUUID();
+        orderId = createOrder();
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        release.countDown();
+        executor.shutdownNow();
+        if (heldConnection != null) {
+            heldConnection.close();
+        }
+    }
+
+    @Test
+    void exhausted_read_pool_should_not_hold_up_order_creation() throws Exception {
+        // Given the only connection of the read pool is taken
+        heldConnection = new Bulkhead(OrderBulkheads.GET_ORDER, 0, Duration.ZERO).call(() -> {
+            try {
+                return bulkheadRoutingDataSource.getConnection();
+            } catch (SQLException ex) {
+                throw new IllegalStateException(ex);
+            }
+        });
+        assertThat(activeConnections("get-order")).isEqualTo(1.0);
+
+        // When & Then
+        mockMvc.perform(get("/api/v1/orders/{orderId}", orderId).with(user(userId)))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(jsonPath("$.detail").value("数据库繁忙，请稍后重试"));
+        long started = System.nanoTime();
+        createOrder();
+        assertThat(Duration.ofNanos(System.nanoTime() - started)).isLessThan(Duration.ofMillis(500));
+    }
+
+    @Test
+    void full_read_bulkhead_should_reject_reads_but_not_creates() throws Exception {
+        // Given a read holds the only permit of the read bulkhead
+        CountDownLatch entered = new CountDownLatch(1);
+        Future<Boolean> slowRead = executor.submit(() -> orderBulkheads.getOrder().call(() -> {
+            entered.countDown();
+            try {
+                return release.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }));
+        assertThat(entered.await(5, TimeUnit.SECONDS)).isTrue();
+        double rejectedBefore = rejected("get-order");
+
+        // When & Then
+        mockMvc.perform(get("/api/v1/orders/{orderId}", orderId).with(user(userId)))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(jsonPath("$.detail").value("服务繁忙，请稍后重试: get-order"));
+        createOrder();
+        assertThat(rejected("get-order")).isEqualTo(rejectedBefore + 1);
+        assertThat(rejected("create-order")).isZero();
+
+        release.countDown();
+        assertThat(slowRead.get(5, TimeUnit.SECONDS)).isTrue();
+        mockMvc.perform(get("/api/v1/orders/{orderId}", orderId).with(user(userId)))
+                .andExpect(status().isOk());
+    }
+
+    private String createOrder() throws Exception {
+        String body = mockMvc.perform(post("/api/v1/orders")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(CREATE_ORDER_REQUEST)
+                        .with(user(userId)))
+                .andExpect(status().isCreated())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+        return objectMapper.readTree(body).path("data").path("orderId").asText();
+    }
+
+    private double activeConnections(String pool) {
+        return meterRegistry
+                .get("hikaricp.connections.active")
+                .tag("pool", pool)
+                .gauge()
+                .value();
+    }
+
+    private double rejected(String bulkhead) {
+        return meterRegistry
+                .get("order.bulkhead.calls.rejected")
+                .tag("bulkhead", bulkhead)
+                .functionCounter()
+                .count();
+    }
+}
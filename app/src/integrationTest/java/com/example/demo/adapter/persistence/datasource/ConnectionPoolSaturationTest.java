@@ -0,0 +1,142 @@
+package com.example.demo.adapter.persistence.datasource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import java.sql.Connection;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+/**
+ * Shows how the service degrades when every pooled connection is taken: requests wait at most the
+ * connection timeout, then fail with 503 instead of piling up, and are served again once connections return.
+ */
+@SpringBootTest(
+        properties = {
+            "spring.datasource.hikari.maximum-pool-size=2",
+            "spring.datasource.hikari.connection-timeout=1s"
+        })
+@AutoConfigureMockMvc
+class ConnectionPoolSaturationTest {
+
+    private static final String CREATE_ORDER_REQUEST =
+            """
+            {
+              "merchantId": "merchant-001",
+              "items": [{"dishId": "dish-001", "dishName": "宫保鸡丁", "quantity": 2, "price": 25.00}],
+              "deliveryInfo": {"recipientName": "张三", "recipientPhone": "13800138000", "address": "北京市朝阳区xxx街道xxx号"}
+            }
+            """;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private final List<Connection> heldConnections = new ArrayList<>();
+    private final ExecutorService executor = Executors.newSingleThreadExecutor();
+
+    @AfterEach
+    void tearDown() throws Exception {
+        releaseConnections();
+        executor.shutdownNow();
+    }
+
+    @Test
+    void requests_should_fail_fast_with_503_while_the_pool_is_exhausted() throws Exception {
+        String userId = "pool-" + UUID.randomUUID();
+        double timeoutsBefore = timeouts();
+        exhaustPool();
+
+        long started = System.nanoTime();
+        mockMvc.perform(get("/api/v1/orders/{orderId}", UUID.randomUUID().toString())
+                        .with(user(userId)))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(jsonPath("$.detail").value("数据库繁忙，请稍后重试"));
+        mockMvc.perform(post("/api/v1/orders")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(CREATE_ORDER_REQUEST)
+                        .with(user(userId)))
+                .andExpect(status().isServiceUnavailable());
+
+        // Each request gave up after the one second connection timeout rather than waiting indefinitely
+        assertThat(Duration.ofNanos(System.nanoTime() - started)).isLessThan(Duration.ofSeconds(5));
+        assertThat(timeouts()).isGreaterThanOrEqualTo(timeoutsBefore + 2);
+
+        releaseConnections();
+        mockMvc.perform(post("/api/v1/orders")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(CREATE_ORDER_REQUEST)
+                        .with(user(userId)))
+                .andExpect(status().isCreated());
+    }
+
+    @Test
+    void waiting_requests_should_be_served_once_a_connection_is_returned() throws Exception {
+        String userId = "pool-" + UUID.randomUUID();
+        exhaustPool();
+
+        Future<Integer> request = executor.submit(() -> mockMvc.perform(post("/api/v1/orders")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(CREATE_ORDER_REQUEST)
+                        .with(user(userId)))
+                .andReturn()
+                .getResponse()
+                .getStatus());
+        awaitPendingThreads();
+        heldConnections.removeFirst().close();
+
+        assertThat(request.get(5, TimeUnit.SECONDS)).isEqualTo(201);
+    }
+
+    private void exhaustPool() throws Exception {
+        heldConnections.add(dataSource.getConnection());
+        heldConnections.add(dataSource.getConnection());
+    }
+
+    private void releaseConnections() throws Exception {
+        for (Connection connection : heldConnections) {
+            connection.close();
+        }
+        heldConnections.clear();
+    }
+
+    private double timeouts() {
+        return meterRegistry.get("hikaricp.connections.timeout").counter().count();
+    }
+
+    private void awaitPendingThreads() throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (pendingThreads() < 1 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(pendingThreads()).isGreaterThanOrEqualTo(1);
+    }
+
+    private double pendingThreads() {
+        return meterRegistry.get("hikaricp.connections.pending").gauge().value();
+    }
+}
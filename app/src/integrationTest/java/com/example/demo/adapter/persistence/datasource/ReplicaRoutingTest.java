@@ -0,0 +1,107 @@
+package com.example.demo.adapter.persistence.datasource;
+
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.UUID;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+@SpringBootTest(
+        properties = {
+            "example.datasource.replica-routing.enabled=true",
+            "example.datasource.replica-routing.migrate-replicas=true",
+            "example.datasource.replica-routing.read-your-writes-window=PT1H",
+            "example.datasource.replica-routing.replicas[0].url=jdbc:h2:mem:replica-it;DB_CLOSE_DELAY=-1",
+            "example.datasource.replica-routing.replicas[0].username=sa"
+        })
+@AutoConfigureMockMvc
+class ReplicaRoutingTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private ReplicaRoutingDataSource replicaRoutingDataSource;
+
+    @Test
+    void read_only_lookups_should_be_served_by_the_replica() throws Exception {
+        String orderId = UUID.randomUUID().toString();
+        insertOrder(dataSource("replica-0"), orderId, "replica-user");
+
+        mockMvc.perform(get("/api/v1/orders/{orderId}", orderId).with(user("replica-user")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.orderId").value(orderId));
+    }
+
+    @Test
+    void rows_only_on_the_primary_should_not_be_visible_to_plain_reads() throws Exception {
+        String orderId = UUID.randomUUID().toString();
+        insertOrder(dataSource(ReplicaRoutingDataSource.PRIMARY), orderId, "primary-user");
+
+        mockMvc.perform(get("/api/v1/orders/{orderId}", orderId).with(user("primary-user")))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void orders_created_within_the_window_should_be_read_from_the_primary() throws Exception {
+        String request =
+                """
+                {
+                  "merchantId": "merchant-001",
+                  "items": [{"dishId": "dish-001", "dishName": "宫保鸡丁", "quantity": 2, "price": 25.00}],
+                  "deliveryInfo": {"recipientName": "张三", "recipientPhone": "13800138000", "address": "北京市朝阳区xxx街道xxx号"}
+                }
+                """;
+        MvcResult result = mockMvc.perform(post("/api/v1/orders")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(request)
+                        .with(user("writer-user")))
+                .andExpect(status().isCreated())
+                .andReturn();
+        String orderId = objectMapper
+                .readTree(result.getResponse().getContentAsString())
+                .path("data")
+                .path("orderId")
+                .asText();
+
+        mockMvc.perform(get("/api/v1/orders/{orderId}", orderId).with(user("writer-user")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.orderId").value(orderId));
+    }
+
+    private DataSource dataSource(String key) {
+        return replicaRoutingDataSource.getResolvedDataSources().get(key);
+    }
+
+    private static void insertOrder(DataSource dataSource, String orderId, String userId) {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.update(
+                """
+                INSERT INTO orders (id, order_number, user_id, merchant_id, recipient_name, recipient_phone, address,
+                    remark, status, items_total, packaging_fee, delivery_fee, final_amount, created_at, updated_at)
+                VALUES (?, ?, ?, 'merchant-001', '张三', '13800138000', '北京市朝阳区xxx街道xxx号',
+                    NULL, 'PENDING_PAYMENT', 50.00, 1.00, 3.00, 54.00, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)
+                """,
+                orderId,
+                orderId.substring(0, 20),
+                userId);
+        jdbcTemplate.update(
+                "INSERT INTO order_items (order_id, dish_id, dish_name, quantity, price) VALUES (?, 'dish-001', '宫保鸡丁', 2, 25.00)",
+                orderId);
+    }
+}
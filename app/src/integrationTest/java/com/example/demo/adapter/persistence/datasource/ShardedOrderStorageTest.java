@@ -0,0 +1,144 @@
+package com.example.demo.adapter.persistence.datasource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.example.demo.adapter.persistence.order.adapter.OrderLinesPersistenceAdapter;
+import com.example.demo.application.port.StreamOrderLinesPort.OrderLine;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashSet;
+import java.util.Set;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+@SpringBootTest(
+        properties = {
+            "example.datasource.sharding.enabled=true",
+            "example.datasource.sharding.shards[0].url=jdbc:h2:mem:shard0-it;DB_CLOSE_DELAY=-1",
+            "example.datasource.sharding.shards[0].username=sa",
+            "example.datasource.sharding.shards[1].url=jdbc:h2:mem:shard1-it;DB_CLOSE_DELAY=-1",
+            "example.datasource.sharding.shards[1].username=sa"
+        })
+@AutoConfigureMockMvc
+class ShardedOrderStorageTest {
+
+    private static final String REQUEST =
+            """
+            {
+              "merchantId": "merchant-001",
+              "items": [{"dishId": "dish-001", "dishName": "宫保鸡丁", "quantity": 2, "price": 25.00}],
+              "deliveryInfo": {"recipientName": "张三", "recipientPhone": "13800138000", "address": "北京市朝阳区xxx街道xxx号"}
+            }
+            """;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private ShardRoutingDataSource shardRoutingDataSource;
+
+    @Autowired
+    private OrderLinesPersistenceAdapter orderLinesPersistenceAdapter;
+
+    @Test
+    void every_shard_should_be_migrated() {
+        for (int shard = 0; shard < shardRoutingDataSource.getShardCount(); shard++) {
+            Integer tables = shard(shard)
+                    .queryForObject(
+                            "SELECT COUNT(*) FROM information_schema.tables WHERE LOWER(table_name) IN ('orders', 'order_items')",
+                            Integer.class);
+            assertThat(tables).isEqualTo(2);
+        }
+    }
+
+    @Test
+    void orders_should_be_stored_only_on_the_owning_shard_and_read_back() throws Exception {
+        Set<Integer> usedShards = new HashSet<>();
+        for (int i = 0; i < 20; i++) {
+            String userId = "shard-user-" + i;
+            String orderId = createOrder(userId);
+            int owner = shardRoutingDataSource.shardFor(orderId);
+            usedShards.add(owner);
+
+            for (int shard = 0; shard < shardRoutingDataSource.getShardCount(); shard++) {
+                assertThat(countOrders(shard, orderId)).isEqualTo(shard == owner ? 1 : 0);
+            }
+
+            mockMvc.perform(get("/api/v1/orders/{orderId}", orderId).with(user(userId)))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data.orderId").value(orderId))
+                    .andExpect(jsonPath("$.data.items[0].dishId").value("dish-001"));
+        }
+
+        assertThat(usedShards).hasSize(shardRoutingDataSource.getShardCount());
+    }
+
+    @Test
+    void orders_of_the_same_user_should_share_a_shard() throws Exception {
+        String first = createOrder("shard-user-same");
+        String second = createOrder("shard-user-same");
+
+        assertThat(shardRoutingDataSource.shardFor(first)).isEqualTo(shardRoutingDataSource.shardFor(second));
+    }
+
+    @Test
+    void export_should_read_every_shard() throws Exception {
+        // Given
+        Instant from = Instant.now().minus(Duration.ofMinutes(1));
+        Set<String> created = new HashSet<>();
+        Set<Integer> usedShards = new HashSet<>();
+        for (int i = 0; i < 10; i++) {
+            String orderId = createOrder("export-user-" + i);
+            created.add(orderId);
+            usedShards.add(shardRoutingDataSource.shardFor(orderId));
+        }
+        assertThat(usedShards).hasSize(shardRoutingDataSource.getShardCount());
+
+        // When
+        Set<String> exported = new HashSet<>();
+        orderLinesPersistenceAdapter.forEachOrderLine(
+                from, Instant.now().plus(Duration.ofMinutes(1)), line -> exported.add(line.orderId()));
+
+        // Then
+        assertThat(exported).containsAll(created);
+    }
+
+    private String createOrder(String userId) throws Exception {
+        MvcResult result = mockMvc.perform(post("/api/v1/orders")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(REQUEST)
+                        .with(user(userId)))
+                .andExpect(status().isCreated())
+                .andReturn();
+        return objectMapper
+                .readTree(result.getResponse().getContentAsString())
+                .path("data")
+                .path("orderId")
+                .asText();
+    }
+
+    private int countOrders(int shard, String orderId) {
+        return shard(shard).queryForObject("SELECT COUNT(*) FROM orders WHERE id = ?", Integer.class, orderId);
+    }
+
+    private JdbcTemplate shard(int shard) {
+        DataSource dataSource = shardRoutingDataSource.getResolvedDataSources().get(shard);
+        return new JdbcTemplate(dataSource);
+    }
+}
@@ -0,0 +1,105 @@
+package com.example.demo.adapter.persistence.order;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.example.demo.domain.Identities;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.sql.Timestamp;
+import java.time.Instant;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+@SpringBootTest(properties = "example.persistence.order.layout=compact")
+@AutoConfigureMockMvc
+class CompactOrderLayoutTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void orders_should_be_stored_in_a_single_row_and_read_back() throws Exception {
+        String request =
+                """
+                {
+                  "merchantId": "merchant-001",
+                  "items": [
+                    {"dishId": "dish-001", "dishName": "宫保鸡丁", "quantity": 2, "price": 25.00},
+                    {"dishId": "dish-002", "dishName": "米饭", "quantity": 1, "price": 2.00}
+                  ],
+                  "deliveryInfo": {"recipientName": "张三", "recipientPhone": "13800138000", "address": "北京市朝阳区xxx街道xxx号"},
+                  "remark": "少辣"
+                }
+                """;
+        MvcResult result = mockMvc.perform(post("/api/v1/orders")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(request)
+                        .with(user("compact-user")))
+                .andExpect(status().isCreated())
+                .andReturn();
+        String orderId = objectMapper
+                .readTree(result.getResponse().getContentAsString())
+                .path("data")
+                .path("orderId")
+                .asText();
+
+        assertThat(jdbcTemplate.queryForObject(
+                        "SELECT COUNT(*) FROM order_items WHERE order_id = ?", Integer.class, orderId))
+                .isZero();
+        assertThat(jdbcTemplate.queryForObject(
+                        "SELECT COUNT(*) FROM orders WHERE id = ? AND items_data IS NOT NULL", Integer.class, orderId))
+                .isEqualTo(1);
+
+        mockMvc.perform(get("/api/v1/orders/{orderId}", orderId).with(user("compact-user")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.items.length()").value(2))
+                .andExpect(jsonPath("$.data.items[0].dishName").value("宫保鸡丁"))
+                .andExpect(jsonPath("$.data.items[1].dishId").value("dish-002"))
+                .andExpect(jsonPath("$.data.items[1].price").value(2.00))
+                .andExpect(jsonPath("$.data.remark").value("少辣"));
+    }
+
+    @Test
+    void orders_stored_before_the_compact_layout_should_read_their_items_from_order_items() throws Exception {
+        // Given
+        String orderId = Identities.generateId("legacy-user");
+        Timestamp now = Timestamp.from(Instant.now());
+        jdbcTemplate.update(
+                "INSERT INTO orders (id, order_number, user_id, merchant_id, recipient_name, recipient_phone, address,"
+                        + " status, items_total, packaging_fee, delivery_fee, final_amount, created_at, updated_at)"
+                        + " VALUES (?, ?, 'legacy-user', 'merchant-001', '张三', '13800138000', '北京市朝阳区xxx街道xxx号',"
+                        + " 'PENDING_PAYMENT', 52.00, 1.00, 5.00, 58.00, ?, ?)",
+                orderId,
+                "LEGACY" + System.nanoTime() % 100_000_000_000_000L,
+                now,
+                now);
+        jdbcTemplate.update(
+                "INSERT INTO order_items (order_id, dish_id, dish_name, quantity, price) VALUES"
+                        + " (?, 'dish-001', '宫保鸡丁', 2, 25.00), (?, 'dish-002', '米饭', 1, 2.00)",
+                orderId,
+                orderId);
+
+        // When / Then
+        mockMvc.perform(get("/api/v1/orders/{orderId}", orderId).with(user("legacy-user")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.items.length()").value(2))
+                .andExpect(jsonPath("$.data.items[0].dishName").value("宫保鸡丁"))
+                .andExpect(jsonPath("$.data.items[1].dishId").value("dish-002"));
+    }
+}
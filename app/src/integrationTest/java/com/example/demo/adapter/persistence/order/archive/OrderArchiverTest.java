@@ -0,0 +1,113 @@
+package com.example.demo.adapter.persistence.order.archive;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.sql.Timestamp;
+import java.time.Instant;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+@SpringBootTest(
+        properties = {
+            "example.persistence.order.archive.enabled=true",
+            "example.persistence.order.archive.directory=${java.io.tmpdir}/order-archive-it",
+            "example.persistence.order.archive.older-than=30d",
+            "example.persistence.order.archive.batch-size=2"
+        })
+@AutoConfigureMockMvc
+class OrderArchiverTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private OrderArchiver orderArchiver;
+
+    @Test
+    void old_orders_should_be_archived_and_still_be_readable() throws Exception {
+        String oldOrderId = createOrder("archive-user");
+        String anotherOldOrderId = createOrder("archive-user");
+        String anotherOldOrderIdToo = createOrder("archive-user");
+        String recentOrderId = createOrder("archive-user");
+        backdate(oldOrderId, anotherOldOrderId, anotherOldOrderIdToo);
+
+        int archived = orderArchiver.archiveOlderThanThreshold();
+
+        assertThat(archived).isGreaterThanOrEqualTo(3);
+        assertThat(countRows("orders", "id", oldOrderId)).isZero();
+        assertThat(countRows("order_items", "order_id", oldOrderId)).isZero();
+        assertThat(countRows("order_archive_index", "order_id", oldOrderId)).isEqualTo(1);
+        assertThat(countRows("orders", "id", recentOrderId)).isEqualTo(1);
+
+        mockMvc.perform(get("/api/v1/orders/{orderId}", anotherOldOrderIdToo).with(user("archive-user")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.orderId").value(anotherOldOrderIdToo))
+                .andExpect(jsonPath("$.data.items[0].dishName").value("宫保鸡丁"))
+                .andExpect(jsonPath("$.data.pricing.finalAmount").value(54.00));
+        mockMvc.perform(get("/api/v1/orders/{orderId}", recentOrderId).with(user("archive-user")))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void archived_orders_should_still_be_hidden_from_other_users() throws Exception {
+        String orderId = createOrder("archive-owner");
+        backdate(orderId);
+
+        orderArchiver.archiveOlderThanThreshold();
+
+        mockMvc.perform(get("/api/v1/orders/{orderId}", orderId).with(user("archive-intruder")))
+                .andExpect(status().isNotFound());
+    }
+
+    private String createOrder(String userId) throws Exception {
+        String request =
+                """
+                {
+                  "merchantId": "merchant-001",
+                  "items": [{"dishId": "dish-001", "dishName": "宫保鸡丁", "quantity": 2, "price": 25.00}],
+                  "deliveryInfo": {"recipientName": "张三", "recipientPhone": "13800138000", "address": "北京市朝阳区xxx街道xxx号"}
+                }
+                """;
+        MvcResult result = mockMvc.perform(post("/api/v1/orders")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(request)
+                        .with(user(userId)))
+                .andExpect(status().isCreated())
+                .andReturn();
+        return objectMapper
+                .readTree(result.getResponse().getContentAsString())
+                .path("data")
+                .path("orderId")
+                .asText();
+    }
+
+    private void backdate(String... orderIds) {
+        Timestamp longAgo = Timestamp.from(Instant.parse("2024-01-01T00:00:00Z"));
+        for (String orderId : orderIds) {
+            jdbcTemplate.update("UPDATE orders SET created_at = ? WHERE id = ?", longAgo, orderId);
+        }
+    }
+
+    private int countRows(String table, String column, String value) {
+        return jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM " + table + " WHERE " + column + " = ?", Integer.class, value);
+    }
+}
@@ -0,0 +1,180 @@
+package com.example.demo.adapter.persistence.order.journal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.example.demo.DemoApplication;
+import com.jayway.jsonpath.JsonPath;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+/**
+ * Runs the application in write-behind mode in a child JVM, kills it with SIGKILL while the writer is
+ * draining small batches, and restarts on the same journal and database files. Every order acknowledged
+ * before the kill must be in the database exactly once after the replay.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class WriteBehindCrashRecoveryTest {
+
+    private static final Duration STARTUP_TIMEOUT = Duration.ofSeconds(60);
+    private static final int ORDERS = 120;
+    private static final String USER_ID = "write-behind-" + UUID.randomUUID();
+
+    private static final HttpClient CLIENT =
+            HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(1)).build();
+
+    private static final Path DIRECTORY = createDirectory();
+    private static final Map<String, String> SETTINGS = Map.of(
+            "spring.datasource.url", "jdbc:h2:file:" + DIRECTORY.resolve("db") + ";FILE_LOCK=NO",
+            "spring.datasource.username", "sa",
+            "example.persistence.order.write-mode", "write-behind",
+            "example.persistence.order.journal.directory", DIRECTORY.resolve("journal").toString(),
+            "example.persistence.order.journal.segment-size", "256KB");
+
+    private static final List<String> acknowledged = new ArrayList<>();
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private WriteBehindOrderAdapter writeBehindOrderAdapter;
+
+    @DynamicPropertySource
+    static void sharedFiles(DynamicPropertyRegistry registry) {
+        SETTINGS.forEach((key, value) -> registry.add(key, () -> value));
+    }
+
+    @BeforeAll
+    static void acknowledgeOrdersAndKillTheApplication() throws Exception {
+        int port = freePort();
+        List<String> command = new ArrayList<>(List.of(
+                ProcessHandle.current().info().command().orElseThrow(),
+                "-cp",
+                System.getProperty("java.class.path"),
+                DemoApplication.class.getName(),
+                "--server.port=" + port,
+                // Small, frequent batches, so that the kill is likely to land in the middle of one
+                "--example.persistence.order.journal.drain-batch-size=7",
+                "--example.persistence.order.journal.drain-interval=PT0.005S"));
+        SETTINGS.forEach((key, value) -> command.add("--" + key + "=" + value));
+        Process application = new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+                .start();
+        try {
+            String baseUrl = "http://localhost:" + port + "/api/v1/orders";
+            awaitStartup(application, baseUrl);
+            ExecutorService executor = Executors.newFixedThreadPool(8);
+            List<Future<String>> creates = new ArrayList<>();
+            for (int i = 0; i < ORDERS; i++) {
+                creates.add(executor.submit(() -> create(baseUrl)));
+            }
+            for (Future<String> create : creates) {
+                acknowledged.add(create.get());
+            }
+            executor.shutdown();
+        } finally {
+            application.destroyForcibly().waitFor();
+        }
+    }
+
+    @Test
+    void acknowledged_orders_should_be_written_exactly_once_after_a_crash() throws Exception {
+        // When: the restarted application replays the journal
+        writeBehindOrderAdapter.drain();
+
+        // Then
+        assertThat(acknowledged).hasSize(ORDERS);
+        Integer rows = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM orders WHERE user_id = ?", Integer.class, USER_ID);
+        List<String> ids = jdbcTemplate.queryForList("SELECT id FROM orders WHERE user_id = ?", String.class, USER_ID);
+        assertThat(rows).isEqualTo(ORDERS);
+        assertThat(ids).containsExactlyInAnyOrderElementsOf(acknowledged);
+        for (String orderId : List.of(acknowledged.get(0), acknowledged.get(ORDERS - 1))) {
+            mockMvc.perform(get("/api/v1/orders/{orderId}", orderId).with(user(USER_ID)))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data.orderId").value(orderId));
+        }
+    }
+
+    private static Path createDirectory() {
+        try {
+            return Files.createTempDirectory("write-behind-it");
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private static void awaitStartup(Process application, String baseUrl) throws Exception {
+        long deadline = System.nanoTime() + STARTUP_TIMEOUT.toNanos();
+        while (System.nanoTime() < deadline) {
+            assertThat(application.isAlive()).as("application exited during startup").isTrue();
+            try {
+                CLIENT.send(
+                        HttpRequest.newBuilder(URI.create(baseUrl + "/" + UUID.randomUUID()))
+                                .header("Authorization", USER_ID)
+                                .build(),
+                        HttpResponse.BodyHandlers.discarding());
+                return;
+            } catch (IOException ex) {
+                Thread.sleep(50);
+            }
+        }
+        throw new AssertionError("application did not start within " + STARTUP_TIMEOUT);
+    }
+
+    private static String create(String baseUrl) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl))
+                .header("Authorization", USER_ID)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(
+                        """
+                        {
+                          "merchantId": "merchant-001",
+                          "items": [{"dishId": "dish-001", "dishName": "宫保鸡丁", "quantity": 2, "price": 25.00}],
+                          "deliveryInfo": {"recipientName": "张三", "recipientPhone": "13800138000", "address": "北京市朝阳区"}
+                        }
+                        """))
+                .build();
+        HttpResponse<String> response = CLIENT.send(request, HttpResponse.BodyHandlers.ofString());
+        assertThat(response.statusCode()).isEqualTo(201);
+        return JsonPath.read(response.body(), "$.data.orderId");
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
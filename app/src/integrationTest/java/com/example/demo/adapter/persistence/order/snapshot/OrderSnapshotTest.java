@@ -0,0 +1,117 @@
+package com.example.demo.adapter.persistence.order.snapshot;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.example.demo.adapter.persistence.order.adapter.OrderStore;
+import com.example.demo.domain.order.Order;
+import com.example.demo.domain.order.OrderId;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@SpringBootTest(properties = "example.persistence.order.snapshot.enabled=true")
+@AutoConfigureMockMvc
+class OrderSnapshotTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private OrderSnapshotStore orderSnapshotStore;
+
+    @Autowired
+    private OrderStore orderStore;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    void a_new_order_should_be_served_from_the_snapshot() throws Exception {
+        // Given
+        String userId = "snapshot-" + UUID.randomUUID();
+        String orderId = createOrder(userId);
+        double hits = lookups("hit");
+        double loads = meterRegistry
+                .get("order.load.calls")
+                .tag("outcome", "executed")
+                .counter()
+                .count();
+
+        // When & Then
+        mockMvc.perform(get("/api/v1/orders/{orderId}", orderId).with(user(userId)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.orderId").value(orderId))
+                .andExpect(jsonPath("$.data.items[0].dishName").value("宫保鸡丁"))
+                .andExpect(jsonPath("$.data.pricing.finalAmount").value(54.00));
+        assertThat(lookups("hit")).isEqualTo(hits + 1);
+        assertThat(meterRegistry
+                        .get("order.load.calls")
+                        .tag("outcome", "executed")
+                        .counter()
+                        .count())
+                .isEqualTo(loads);
+    }
+
+    @Test
+    void a_snapshot_should_match_the_order_read_from_the_database() throws Exception {
+        // Given
+        String orderId = createOrder("snapshot-" + UUID.randomUUID());
+
+        // When
+        Order snapshot = orderSnapshotStore.findById(new OrderId(orderId)).orElseThrow();
+        Order stored = transactionTemplate.execute(
+                status -> orderStore.findById(new OrderId(orderId)).orElseThrow());
+
+        // Then: same values down to amount scale and timestamp precision, so ETags agree
+        assertThat(snapshot).usingRecursiveComparison().isEqualTo(stored);
+    }
+
+    private double lookups(String outcome) {
+        return meterRegistry
+                .get("order.snapshot.lookups")
+                .tag("outcome", outcome)
+                .counter()
+                .count();
+    }
+
+    private String createOrder(String userId) throws Exception {
+        String request =
+                """
+                {
+                  "merchantId": "merchant-001",
+                  "items": [{"dishId": "dish-001", "dishName": "宫保鸡丁", "quantity": 2, "price": 25.00}],
+                  "deliveryInfo": {"recipientName": "张三", "recipientPhone": "13800138000", "address": "北京市朝阳区xxx街道xxx号"}
+                }
+                """;
+        MvcResult result = mockMvc.perform(post("/api/v1/orders")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(request)
+                        .with(user(userId)))
+                .andExpect(status().isCreated())
+                .andReturn();
+        return objectMapper
+                .readTree(result.getResponse().getContentAsString())
+                .path("data")
+                .path("orderId")
+                .asText();
+    }
+}
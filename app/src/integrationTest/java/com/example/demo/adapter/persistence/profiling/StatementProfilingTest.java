@@ -0,0 +1,152 @@
+package com.example.demo.adapter.persistence.profiling;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.RequestPostProcessor;
+
+/**
+ * Holds order creation and order reads to their statement budgets: a change that makes either run more statements,
+ * such as loading the items of an order one by one, fails this test instead of only showing up in production.
+ */
+@SpringBootTest(
+        properties = {
+            "example.persistence.profiling.enabled=true",
+            "example.persistence.profiling.slow-threshold=0ms",
+            "example.persistence.profiling.repeat-threshold=3",
+            "example.persistence.profiling.enforce-budgets=true",
+            // The order lookup by the merge, the order insert, and an insert plus a foreign key update per item
+            // for the three items below: 8, with room for a statement outside the order tables
+            "example.persistence.profiling.budgets[CreateOrderController.createOrder]=9",
+            // The order and, loaded lazily, its items
+            "example.persistence.profiling.budgets[GetOrderController.getOrder]=2",
+            "management.endpoints.web.exposure.include=health,slowqueries"
+        })
+@AutoConfigureMockMvc
+class StatementProfilingTest {
+
+    private static final String CREATE_ORDER_REQUEST =
+            """
+            {
+              "merchantId": "merchant-001",
+              "items": [
+                {"dishId": "dish-001", "dishName": "宫保鸡丁", "quantity": 2, "price": 25.00},
+                {"dishId": "dish-002", "dishName": "鱼香肉丝", "quantity": 1, "price": 22.00},
+                {"dishId": "dish-003", "dishName": "米饭", "quantity": 2, "price": 2.00}
+              ],
+              "deliveryInfo": {"recipientName": "张三", "recipientPhone": "13800138000", "address": "北京市朝阳区xxx街道xxx号"}
+            }
+            """;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private SlowQueriesEndpoint slowQueriesEndpoint;
+
+    private String userId;
+
+    @BeforeEach
+    void setUp() {
+        userId = "profiling-" + UUID.randomUUID();
+        slowQueriesEndpoint.clear();
+    }
+
+    @Test
+    void creating_and_reading_an_order_should_stay_within_the_statement_budgets() throws Exception {
+        // When
+        String orderId = createOrder();
+        mockMvc.perform(get("/api/v1/orders/{orderId}", orderId).with(user(userId)))
+                .andExpect(status().isOk());
+
+        // Then
+        assertThat(statementsPerRequest("CreateOrderController.createOrder").count())
+                .isPositive();
+        assertThat(statementsPerRequest("GetOrderController.getOrder").max()).isEqualTo(2);
+        assertThat(meterRegistry.find("db.request.budget.exceeded").counters()).isEmpty();
+    }
+
+    @Test
+    void inserting_the_items_one_by_one_should_be_flagged_as_repeated() throws Exception {
+        // When
+        createOrder();
+
+        // Then
+        assertThat(meterRegistry
+                        .find("db.statement.repeated")
+                        .tag("endpoint", "CreateOrderController.createOrder")
+                        .counters())
+                .anySatisfy(counter ->
+                        assertThat(counter.getId().getTag("statement")).startsWith("insert into order_items"));
+    }
+
+    @Test
+    void statements_over_the_slow_threshold_should_be_readable_from_the_endpoint() throws Exception {
+        // When
+        String orderId = createOrder();
+        mockMvc.perform(get("/api/v1/orders/{orderId}", orderId).with(user(userId)))
+                .andExpect(status().isOk());
+
+        // Then
+        assertThat(slowQueriesEndpoint.slowQueries())
+                .filteredOn(slowQuery -> slowQuery.endpoint().equals("GetOrderController.getOrder"))
+                .extracting(SlowQuery::statement)
+                .anySatisfy(statement -> assertThat(statement).contains("from orders"))
+                .anySatisfy(statement -> assertThat(statement).contains("from order_items"));
+    }
+
+    @Test
+    void slow_query_log_should_only_be_readable_and_cleared_by_admins() throws Exception {
+        // When & Then
+        mockMvc.perform(get("/actuator/slowqueries")).andExpect(status().isForbidden());
+        mockMvc.perform(get("/actuator/slowqueries").with(user(userId))).andExpect(status().isForbidden());
+        mockMvc.perform(delete("/actuator/slowqueries").with(user(userId))).andExpect(status().isForbidden());
+        mockMvc.perform(get("/actuator/slowqueries").with(admin())).andExpect(status().isOk());
+        mockMvc.perform(delete("/actuator/slowqueries").with(admin())).andExpect(status().isNoContent());
+        mockMvc.perform(get("/actuator/health")).andExpect(status().isOk());
+    }
+
+    private static RequestPostProcessor admin() {
+        return user("profiling-admin").roles("USER", "ADMIN");
+    }
+
+    private String createOrder() throws Exception {
+        String body = mockMvc.perform(post("/api/v1/orders")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(CREATE_ORDER_REQUEST)
+                        .with(user(userId)))
+                .andExpect(status().isCreated())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+        return objectMapper.readTree(body).path("data").path("orderId").asText();
+    }
+
+    private DistributionSummary statementsPerRequest(String endpoint) {
+        return meterRegistry
+                .get("db.request.statements")
+                .tag("endpoint", endpoint)
+                .summary();
+    }
+}
@@ -0,0 +1,205 @@
+package com.example.demo.adapter.web.limit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.example.demo.adapter.persistence.order.adapter.OrderStore;
+import com.example.demo.application.port.SaveOrderPort;
+import com.example.demo.domain.order.Order;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Primary;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+/**
+ * Runs the order endpoints against a save that blocks until released, standing in for a slow database, with
+ * the limit pinned at two: creates may take both slots, reads only one.
+ */
+@SpringBootTest(
+        properties = {
+            "example.web.concurrency-limit.enabled=true",
+            "example.web.concurrency-limit.initial-limit=2",
+            "example.web.concurrency-limit.min-limit=2",
+            "example.web.concurrency-limit.max-limit=2",
+            "example.web.concurrency-limit.read-share=0.5"
+        })
+@AutoConfigureMockMvc
+class ConcurrencyLimitTest {
+
+    private static final String CREATE_ORDER_REQUEST =
+            """
+            {
+              "merchantId": "merchant-001",
+              "items": [{"dishId": "dish-001", "dishName": "宫保鸡丁", "quantity": 2, "price": 25.00}],
+              "deliveryInfo": {"recipientName": "张三", "recipientPhone": "13800138000", "address": "北京市朝阳区xxx街道xxx号"}
+            }
+            """;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private AdaptiveConcurrencyLimiter limiter;
+
+    @Autowired
+    private SlowSaveOrderPort slowSaveOrderPort;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(2);
+
+    @AfterEach
+    void tearDown() {
+        slowSaveOrderPort.open();
+        executor.shutdownNow();
+    }
+
+    @Test
+    void slow_saves_should_shed_reads_first_and_then_creates() throws Exception {
+        // Given
+        String userId = "limit-" + UUID.randomUUID();
+        String orderId = createOrder(userId);
+        double readsShed = shed("get-order");
+        double createsShed = shed("create-order");
+        slowSaveOrderPort.close();
+        Future<Integer> firstCreate = executor.submit(() -> createOrderStatus(userId));
+        awaitInFlight(1);
+
+        // When the read share is taken, reads are shed but another create is still admitted
+        mockMvc.perform(get("/api/v1/orders/{orderId}", orderId).with(user(userId)))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().exists(HttpHeaders.RETRY_AFTER))
+                .andExpect(jsonPath("$.title").value("ConcurrencyLimitExceeded"))
+                .andExpect(jsonPath("$.detail").value("服务繁忙，请稍后重试"));
+        Future<Integer> secondCreate = executor.submit(() -> createOrderStatus(userId));
+        awaitInFlight(2);
+
+        // And once the whole limit is taken, creates are shed as well
+        assertThat(createOrderStatus(userId)).isEqualTo(503);
+
+        // Then
+        slowSaveOrderPort.open();
+        assertThat(firstCreate.get(10, TimeUnit.SECONDS)).isEqualTo(201);
+        assertThat(secondCreate.get(10, TimeUnit.SECONDS)).isEqualTo(201);
+        assertThat(shed("get-order")).isEqualTo(readsShed + 1);
+        assertThat(shed("create-order")).isEqualTo(createsShed + 1);
+        assertThat(meterRegistry.get("http.server.concurrency.limit").gauge().value())
+                .isEqualTo(2.0);
+        assertThat(limiter.inFlight()).isZero();
+        mockMvc.perform(get("/api/v1/orders/{orderId}", orderId).with(user(userId)))
+                .andExpect(status().isOk());
+    }
+
+    private String createOrder(String userId) throws Exception {
+        String body = mockMvc.perform(post("/api/v1/orders")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(CREATE_ORDER_REQUEST)
+                        .with(user(userId)))
+                .andExpect(status().isCreated())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+        return objectMapper.readTree(body).path("data").path("orderId").asText();
+    }
+
+    private int createOrderStatus(String userId) throws Exception {
+        return mockMvc.perform(post("/api/v1/orders")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(CREATE_ORDER_REQUEST)
+                        .with(user(userId)))
+                .andReturn()
+                .getResponse()
+                .getStatus();
+    }
+
+    private double shed(String endpoint) {
+        return meterRegistry
+                .get("http.server.requests.shed")
+                .tag("endpoint", endpoint)
+                .counter()
+                .count();
+    }
+
+    private void awaitInFlight(int requests) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (slowSaveOrderPort.waiting() < requests && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(slowSaveOrderPort.waiting()).isEqualTo(requests);
+        assertThat(limiter.inFlight()).isEqualTo(requests);
+    }
+
+    @TestConfiguration
+    static class SlowSaveOrderPortConfig {
+
+        @Bean
+        @Primary
+        SlowSaveOrderPort slowSaveOrderPort(OrderStore orderStore) {
+            return new SlowSaveOrderPort(orderStore);
+        }
+    }
+
+    /**
+     * Holds each save until {@link #open} is called, as a database would while it is overloaded.
+     */
+    static class SlowSaveOrderPort implements SaveOrderPort {
+
+        private final OrderStore delegate;
+        private final AtomicInteger waiting = new AtomicInteger();
+        private volatile CountDownLatch gate = new CountDownLatch(0);
+
+        SlowSaveOrderPort(OrderStore delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void save(Order order) {
+            waiting.incrementAndGet();
+            try {
+                gate.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            } finally {
+                waiting.decrementAndGet();
+            }
+            delegate.save(order);
+        }
+
+        void close() {
+            gate = new CountDownLatch(1);
+        }
+
+        void open() {
+            gate.countDown();
+        }
+
+        int waiting() {
+            return waiting.get();
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package com.example.demo.adapter.web.merchant;
+
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.example.demo.adapter.persistence.stats.OrderDailyStatsAggregator;
+import com.example.demo.adapter.persistence.stats.OrderDailyStatsReconciler;
+import java.time.LocalDate;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.RequestPostProcessor;
+
+@SpringBootTest(
+        properties =
+                "example.web.security.merchant-users[merchant-user]=stats-merchant-1,stats-merchant-2,stats-merchant-3,"
+                        + "merchant-001")
+@AutoConfigureMockMvc
+class GetMerchantStatsControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private OrderDailyStatsAggregator orderDailyStatsAggregator;
+
+    @Autowired
+    private OrderDailyStatsReconciler orderDailyStatsReconciler;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void get_stats_should_return_flushed_daily_aggregates() throws Exception {
+        String merchantId = "stats-merchant-1";
+        createOrder(merchantId);
+        createOrder(merchantId);
+        orderDailyStatsAggregator.flush();
+
+        mockMvc.perform(get("/api/v1/merchants/{merchantId}/stats", merchantId).with(merchantUser()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.code").value(0))
+                .andExpect(jsonPath("$.message").value("查询成功"))
+                .andExpect(jsonPath("$.data.merchantId").value(merchantId))
+                .andExpect(jsonPath("$.data.to").value(LocalDate.now().toString()))
+                .andExpect(jsonPath("$.data.totalOrders").value(2))
+                .andExpect(jsonPath("$.data.totalRevenue").value(108.00))
+                .andExpect(jsonPath("$.data.days.length()").value(1))
+                .andExpect(jsonPath("$.data.days[0].date").value(LocalDate.now().toString()))
+                .andExpect(jsonPath("$.data.days[0].orderCount").value(2));
+    }
+
+    @Test
+    void get_stats_should_not_include_unflushed_orders() throws Exception {
+        String merchantId = "stats-merchant-2";
+        createOrder(merchantId);
+        orderDailyStatsAggregator.flush();
+        createOrder(merchantId);
+
+        mockMvc.perform(get("/api/v1/merchants/{merchantId}/stats", merchantId).with(merchantUser()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.totalOrders").value(1));
+    }
+
+    @Test
+    void reconcile_should_rebuild_aggregates_from_orders() throws Exception {
+        String merchantId = "stats-merchant-3";
+        createOrder(merchantId);
+        createOrder(merchantId);
+        createOrder(merchantId);
+        orderDailyStatsAggregator.flush();
+        jdbcTemplate.update(
+                "UPDATE order_daily_stats SET order_count = 99, revenue = 0 WHERE merchant_id = ?", merchantId);
+
+        LocalDate today = LocalDate.now();
+        orderDailyStatsReconciler.reconcile(today, today.plusDays(1));
+
+        mockMvc.perform(get("/api/v1/merchants/{merchantId}/stats", merchantId).with(merchantUser()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.totalOrders").value(3))
+                .andExpect(jsonPath("$.data.totalRevenue").value(162.00));
+    }
+
+    @Test
+    void get_stats_should_return_400_when_range_is_inverted() throws Exception {
+        mockMvc.perform(get("/api/v1/merchants/{merchantId}/stats", "merchant-001")
+                        .param("from", "2025-01-03")
+                        .param("to", "2025-01-01")
+                        .with(merchantUser()))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.title").value("InvalidQueryException"))
+                .andExpect(jsonPath("$.detail").value("开始日期不能晚于结束日期"));
+    }
+
+    @Test
+    void get_stats_should_return_403_for_another_merchant() throws Exception {
+        mockMvc.perform(get("/api/v1/merchants/{merchantId}/stats", "merchant-002")
+                        .with(merchantUser()))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    void get_stats_should_return_403_when_not_authenticated() throws Exception {
+        mockMvc.perform(get("/api/v1/merchants/{merchantId}/stats", "merchant-001"))
+                .andExpect(status().isForbidden());
+    }
+
+    private static RequestPostProcessor merchantUser() {
+        return user("merchant-user").roles("USER", "MERCHANT");
+    }
+
+    private void createOrder(String merchantId) throws Exception {
+        mockMvc.perform(post("/api/v1/orders")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(
+                                """
+                                {
+                                  "merchantId": "%s",
+                                  "items": [{"dishId": "dish-001", "dishName": "宫保鸡丁", "quantity": 2, "price": 25.00}],
+                                  "deliveryInfo": {
+                                    "recipientName": "张三",
+                                    "recipientPhone": "13800138000",
+                                    "address": "北京市朝阳区xxx街道xxx号"
+                                  }
+                                }
+                                """
+                                        .formatted(merchantId))
+                        .with(user("stats-user")))
+                .andExpect(status().isCreated());
+    }
+}
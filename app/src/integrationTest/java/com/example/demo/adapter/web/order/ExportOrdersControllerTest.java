@@ -0,0 +1,160 @@
+package com.example.demo.adapter.web.order;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.example.demo.adapter.web.order.export.ColumnarOrderExportReader;
+import com.example.demo.application.port.StreamOrderLinesPort.OrderLine;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.zip.GZIPInputStream;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+@SpringBootTest(properties = "example.web.security.admin-users=export-admin")
+@AutoConfigureMockMvc
+class ExportOrdersControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void export_should_stream_gzip_csv_with_one_row_per_item() throws Exception {
+        String merchantId = newMerchantId();
+        createOrder(merchantId);
+        createOrder(merchantId);
+
+        byte[] body = export("csv");
+
+        List<String> rows = gunzip(body).lines().toList();
+        assertThat(rows.get(0)).startsWith("order_id,order_number,user_id,merchant_id");
+        List<String> merchantRows = rows.stream()
+                .filter(row -> row.contains("," + merchantId + ","))
+                .toList();
+        assertThat(merchantRows).hasSize(4);
+        assertThat(merchantRows).anyMatch(row -> row.contains(",宫保鸡丁,2,25.00"));
+        assertThat(merchantRows).anyMatch(row -> row.contains(",米饭,1,2.00"));
+    }
+
+    @Test
+    void export_should_stream_columnar_file() throws Exception {
+        String merchantId = newMerchantId();
+        createOrder(merchantId);
+
+        byte[] body = export("columnar");
+
+        List<OrderLine> lines = new ArrayList<>();
+        ColumnarOrderExportReader.read(new ByteArrayInputStream(body), line -> {
+            if (line.merchantId().equals(merchantId)) {
+                lines.add(line);
+            }
+        });
+        assertThat(lines).hasSize(2);
+        assertThat(lines.get(0).finalAmount()).isEqualByComparingTo("56.00");
+        assertThat(lines.get(0).userId()).isEqualTo("export-user");
+    }
+
+    @Test
+    void export_should_return_403_for_non_admin_users() throws Exception {
+        String today = LocalDate.now().toString();
+
+        mockMvc.perform(get("/api/v1/admin/orders/export")
+                        .param("from", today)
+                        .param("to", today)
+                        .with(user("export-user")))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    void export_should_return_400_before_streaming_when_range_is_inverted() throws Exception {
+        mockMvc.perform(get("/api/v1/admin/orders/export")
+                        .param("from", "2025-01-03")
+                        .param("to", "2025-01-01")
+                        .with(user("export-admin")))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.detail").value("开始日期不能晚于结束日期"));
+    }
+
+    @Test
+    void export_should_return_400_for_unknown_format() throws Exception {
+        String today = LocalDate.now().toString();
+
+        mockMvc.perform(get("/api/v1/admin/orders/export")
+                        .param("from", today)
+                        .param("to", today)
+                        .param("format", "xlsx")
+                        .with(user("export-admin")))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.detail").value("不支持的导出格式: xlsx"));
+    }
+
+    private byte[] export(String format) throws Exception {
+        String today = LocalDate.now().toString();
+        MvcResult result = mockMvc.perform(get("/api/v1/admin/orders/export")
+                        .param("from", today)
+                        .param("to", today)
+                        .param("format", format)
+                        .with(user("export-admin")))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        return mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Type", "application/gzip"))
+                .andExpect(header().string("Content-Disposition", containsString("orders-")))
+                .andReturn()
+                .getResponse()
+                .getContentAsByteArray();
+    }
+
+    private static String newMerchantId() {
+        return "export-" + UUID.randomUUID().toString().substring(0, 8);
+    }
+
+    private void createOrder(String merchantId) throws Exception {
+        mockMvc.perform(post("/api/v1/orders")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(
+                                """
+                                {
+                                  "merchantId": "%s",
+                                  "items": [
+                                    {"dishId": "dish-001", "dishName": "宫保鸡丁", "quantity": 2, "price": 25.00},
+                                    {"dishId": "dish-002", "dishName": "米饭", "quantity": 1, "price": 2.00}
+                                  ],
+                                  "deliveryInfo": {
+                                    "recipientName": "张三",
+                                    "recipientPhone": "13800138000",
+                                    "address": "北京市朝阳区xxx街道xxx号"
+                                  }
+                                }
+                                """
+                                        .formatted(merchantId))
+                        .with(user("export-user")))
+                .andExpect(status().isCreated());
+    }
+
+    private static String gunzip(byte[] data) throws IOException {
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(data))) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+}
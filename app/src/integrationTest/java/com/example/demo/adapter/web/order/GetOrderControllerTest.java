@@ -3,16 +3,20 @@ package com.example.demo.adapter.web.order;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import java.math.BigDecimal;
 import java.util.List;
+import org.hamcrest.Matchers;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.MvcResult;
@@ -106,6 +110,83 @@ class GetOrderControllerTest {
                 .andExpect(jsonPath("$.data.remark").value("少辣"));
     }
 
+    @Test
+    void get_order_should_return_validators() throws Exception {
+        // Given
+        String orderId = createTestOrder("test-user-005");
+
+        // When & Then
+        mockMvc.perform(get("/api/v1/orders/{orderId}", orderId).with(user("test-user-005")))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, Matchers.startsWith("W/\"")))
+                .andExpect(header().exists(HttpHeaders.LAST_MODIFIED))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache, private"));
+    }
+
+    @Test
+    void get_order_should_return_304_when_etag_matches() throws Exception {
+        // Given - The first read caches the version
+        String orderId = createTestOrder("test-user-005");
+        String eTag = mockMvc.perform(get("/api/v1/orders/{orderId}", orderId).with(user("test-user-005")))
+                .andReturn()
+                .getResponse()
+                .getHeader(HttpHeaders.ETAG);
+
+        // When & Then
+        mockMvc.perform(get("/api/v1/orders/{orderId}", orderId)
+                        .header(HttpHeaders.IF_NONE_MATCH, eTag)
+                        .with(user("test-user-005")))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, eTag))
+                .andExpect(content().string(""));
+    }
+
+    @Test
+    void get_order_should_return_304_when_not_modified_since() throws Exception {
+        // Given
+        String orderId = createTestOrder("test-user-005");
+        String lastModified = mockMvc.perform(get("/api/v1/orders/{orderId}", orderId).with(user("test-user-005")))
+                .andReturn()
+                .getResponse()
+                .getHeader(HttpHeaders.LAST_MODIFIED);
+
+        // When & Then
+        mockMvc.perform(get("/api/v1/orders/{orderId}", orderId)
+                        .header(HttpHeaders.IF_MODIFIED_SINCE, lastModified)
+                        .with(user("test-user-005")))
+                .andExpect(status().isNotModified());
+    }
+
+    @Test
+    void get_order_should_return_body_when_etag_is_stale() throws Exception {
+        // Given
+        String orderId = createTestOrder("test-user-005");
+        mockMvc.perform(get("/api/v1/orders/{orderId}", orderId).with(user("test-user-005")));
+
+        // When & Then
+        mockMvc.perform(get("/api/v1/orders/{orderId}", orderId)
+                        .header(HttpHeaders.IF_NONE_MATCH, "W/\"1\"")
+                        .with(user("test-user-005")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.orderId").value(orderId));
+    }
+
+    @Test
+    void get_order_should_return_404_when_other_user_sends_matching_etag() throws Exception {
+        // Given
+        String orderId = createTestOrder("test-user-005");
+        String eTag = mockMvc.perform(get("/api/v1/orders/{orderId}", orderId).with(user("test-user-005")))
+                .andReturn()
+                .getResponse()
+                .getHeader(HttpHeaders.ETAG);
+
+        // When & Then - The cached version is not revealed to another user
+        mockMvc.perform(get("/api/v1/orders/{orderId}", orderId)
+                        .header(HttpHeaders.IF_NONE_MATCH, eTag)
+                        .with(user("test-user-006")))
+                .andExpect(status().isNotFound());
+    }
+
     /**
      * Helper method to create a test order and return its ID.
      */
@@ -0,0 +1,132 @@
+package com.example.demo.adapter.web.order;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.math.BigDecimal;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+@SpringBootTest(
+        properties = {
+            "example.web.security.merchant-users[merchant-feed-001]=merchant-feed-001",
+            "example.web.security.merchant-users[merchant-feed-002]=merchant-feed-002"
+        })
+@AutoConfigureMockMvc
+class MerchantOrderFeedControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void stream_orders_should_push_created_order_to_merchant() throws Exception {
+        // Given - A merchant subscribed to its feed
+        MvcResult stream = mockMvc.perform(get("/api/v1/merchants/{merchantId}/orders/stream", "merchant-feed-001")
+                        .accept(MediaType.TEXT_EVENT_STREAM)
+                        .with(user("merchant-feed-001").roles("USER", "MERCHANT")))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // When - A user places an order with that merchant
+        String orderId = createTestOrder("test-user-001", "merchant-feed-001");
+
+        // Then - The order is pushed on the stream
+        String body = awaitContent(stream.getResponse(), orderId);
+        assertThat(body).contains("event:order-created");
+        assertThat(body).contains("id:" + orderId);
+        assertThat(body).contains("\"merchantId\":\"merchant-feed-001\"");
+    }
+
+    @Test
+    void stream_orders_should_not_push_orders_of_other_merchants() throws Exception {
+        // Given - A merchant subscribed to its feed
+        MvcResult stream = mockMvc.perform(get("/api/v1/merchants/{merchantId}/orders/stream", "merchant-feed-002")
+                        .accept(MediaType.TEXT_EVENT_STREAM)
+                        .with(user("merchant-feed-002").roles("USER", "MERCHANT")))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // When - Orders are placed with another merchant, then with the subscribed one
+        String otherOrderId = createTestOrder("test-user-001", "merchant-feed-003");
+        String orderId = createTestOrder("test-user-001", "merchant-feed-002");
+
+        // Then - Only the subscribed merchant's order is pushed
+        String body = awaitContent(stream.getResponse(), orderId);
+        assertThat(body).doesNotContain(otherOrderId);
+    }
+
+    @Test
+    void stream_orders_should_return_403_when_not_authenticated() throws Exception {
+        mockMvc.perform(get("/api/v1/merchants/{merchantId}/orders/stream", "merchant-feed-001")
+                        .accept(MediaType.TEXT_EVENT_STREAM))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    void stream_orders_should_return_403_for_another_merchant() throws Exception {
+        mockMvc.perform(get("/api/v1/merchants/{merchantId}/orders/stream", "merchant-feed-001")
+                        .accept(MediaType.TEXT_EVENT_STREAM)
+                        .with(user("merchant-feed-002").roles("USER", "MERCHANT")))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    void stream_orders_should_return_403_without_merchant_role() throws Exception {
+        mockMvc.perform(get("/api/v1/merchants/{merchantId}/orders/stream", "merchant-feed-001")
+                        .accept(MediaType.TEXT_EVENT_STREAM)
+                        .with(user("merchant-feed-001")))
+                .andExpect(status().isForbidden());
+    }
+
+    /**
+     * Helper method to wait until the streamed response contains the expected text.
+     */
+    private String awaitContent(MockHttpServletResponse response, String expected) throws Exception {
+        long deadline = System.currentTimeMillis() + 5_000;
+        String body = response.getContentAsString();
+        while (!body.contains(expected) && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+            body = response.getContentAsString();
+        }
+        assertThat(body).contains(expected);
+        return body;
+    }
+
+    /**
+     * Helper method to create a test order and return its ID.
+     */
+    private String createTestOrder(String userId, String merchantId) throws Exception {
+        CreateOrderController.CreateOrderRequest request = new CreateOrderController.CreateOrderRequest(
+                merchantId,
+                List.of(new CreateOrderController.CreateOrderRequest.OrderItemRequest(
+                        "dish-001", "宫保鸡丁", 2, new BigDecimal("25.00"))),
+                new CreateOrderController.CreateOrderRequest.DeliveryInfoRequest(
+                        "张三", "13800138000", "北京市朝阳区xxx街道xxx号"),
+                null);
+
+        MvcResult result = mockMvc.perform(post("/api/v1/orders")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request))
+                        .with(user(userId)))
+                .andExpect(status().isCreated())
+                .andReturn();
+
+        String responseBody = result.getResponse().getContentAsString();
+        return objectMapper.readTree(responseBody).path("data").path("orderId").asText();
+    }
+}
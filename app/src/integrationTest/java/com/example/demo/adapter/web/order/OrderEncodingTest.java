@@ -0,0 +1,146 @@
+package com.example.demo.adapter.web.order;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import java.io.ByteArrayInputStream;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+import java.util.zip.GZIPInputStream;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+@SpringBootTest(properties = {"example.web.compression.enabled=true", "example.web.compression.min-response-size=0"})
+@AutoConfigureMockMvc
+class OrderEncodingTest {
+
+    private static final MediaType APPLICATION_SMILE = MediaType.parseMediaType("application/x-jackson-smile");
+
+    private final ObjectMapper cborMapper = new CBORMapper();
+    private final ObjectMapper smileMapper = new SmileMapper();
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void create_order_should_accept_and_return_cbor() throws Exception {
+        // Given
+        String userId = "encoding-user-" + UUID.randomUUID();
+
+        // When
+        byte[] body = mockMvc.perform(post("/api/v1/orders")
+                        .contentType(MediaType.APPLICATION_CBOR)
+                        .accept(MediaType.APPLICATION_CBOR)
+                        .content(cborMapper.writeValueAsBytes(createOrderRequest()))
+                        .with(user(userId)))
+                .andExpect(status().isCreated())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_CBOR))
+                .andReturn()
+                .getResponse()
+                .getContentAsByteArray();
+
+        // Then
+        JsonNode response = cborMapper.readTree(body);
+        assertThat(response.path("code").asInt()).isZero();
+        assertThat(response.path("data").path("orderId").asText()).isNotEmpty();
+    }
+
+    @Test
+    void get_order_should_return_smile_when_accepted() throws Exception {
+        // Given
+        String userId = "encoding-user-" + UUID.randomUUID();
+        String orderId = createOrder(userId);
+
+        // When
+        byte[] body = mockMvc.perform(get("/api/v1/orders/{orderId}", orderId)
+                        .accept(APPLICATION_SMILE)
+                        .with(user(userId)))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(APPLICATION_SMILE))
+                .andReturn()
+                .getResponse()
+                .getContentAsByteArray();
+
+        // Then
+        JsonNode response = smileMapper.readTree(body);
+        assertThat(response.path("data").path("orderId").asText()).isEqualTo(orderId);
+        assertThat(response.path("data").path("items").get(0).path("dishName").asText())
+                .isEqualTo("宫保鸡丁");
+    }
+
+    @Test
+    void get_order_should_return_json_by_default() throws Exception {
+        // Given
+        String userId = "encoding-user-" + UUID.randomUUID();
+        String orderId = createOrder(userId);
+
+        // When & Then
+        mockMvc.perform(get("/api/v1/orders/{orderId}", orderId).with(user(userId)))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING));
+    }
+
+    @Test
+    void get_order_should_be_gzipped_when_accepted() throws Exception {
+        // Given
+        String userId = "encoding-user-" + UUID.randomUUID();
+        String orderId = createOrder(userId);
+
+        // When
+        byte[] body = mockMvc.perform(get("/api/v1/orders/{orderId}", orderId)
+                        .header(HttpHeaders.ACCEPT_ENCODING, "gzip")
+                        .with(user(userId)))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+                .andReturn()
+                .getResponse()
+                .getContentAsByteArray();
+
+        // Then
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(body))) {
+            JsonNode response = objectMapper.readTree(in);
+            assertThat(response.path("data").path("orderId").asText()).isEqualTo(orderId);
+        }
+    }
+
+    private String createOrder(String userId) throws Exception {
+        byte[] body = mockMvc.perform(post("/api/v1/orders")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsBytes(createOrderRequest()))
+                        .with(user(userId)))
+                .andExpect(status().isCreated())
+                .andReturn()
+                .getResponse()
+                .getContentAsByteArray();
+        return objectMapper.readTree(body).path("data").path("orderId").asText();
+    }
+
+    private static CreateOrderController.CreateOrderRequest createOrderRequest() {
+        return new CreateOrderController.CreateOrderRequest(
+                "merchant-001",
+                List.of(new CreateOrderController.CreateOrderRequest.OrderItemRequest(
+                        "dish-001", "宫保鸡丁", 2, new BigDecimal("25.00"))),
+                new CreateOrderController.CreateOrderRequest.DeliveryInfoRequest(
+                        "张三", "13800138000", "北京市朝阳区xxx街道xxx号"),
+                null);
+    }
+}
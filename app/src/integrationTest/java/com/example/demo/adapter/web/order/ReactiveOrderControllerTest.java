@@ -0,0 +1,153 @@
+package com.example.demo.adapter.web.order;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.jayway.jsonpath.JsonPath;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.AutoConfigureWebTestClient;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+@SpringBootTest(
+        properties = {
+            "spring.main.web-application-type=reactive",
+            "example.datasource.r2dbc.enabled=true",
+            "example.datasource.r2dbc.url=r2dbc:h2:mem:///testdb"
+                    + "?options=MODE=MySQL;DATABASE_TO_LOWER=TRUE;CASE_INSENSITIVE_IDENTIFIERS=TRUE",
+            "example.datasource.r2dbc.username=sa"
+        })
+@AutoConfigureWebTestClient
+class ReactiveOrderControllerTest {
+
+    private static final String CREATE_ORDER_REQUEST =
+            """
+            {
+              "merchantId": "merchant-001",
+              "items": [
+                {"dishId": "dish-001", "dishName": "宫保鸡丁", "quantity": 2, "price": 25.00},
+                {"dishId": "dish-002", "dishName": "米饭", "quantity": 1, "price": 2.00}
+              ],
+              "deliveryInfo": {
+                "recipientName": "张三",
+                "recipientPhone": "13800138000",
+                "address": "北京市朝阳区xxx街道xxx号"
+              },
+              "remark": "少辣"
+            }
+            """;
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void create_order_should_store_order_and_items_through_r2dbc() {
+        String orderId = createOrder("reactive-user-001");
+
+        Integer items = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM order_items WHERE order_id = ?", Integer.class, orderId);
+        assertThat(items).isEqualTo(2);
+    }
+
+    @Test
+    void get_order_should_return_order_created_on_reactive_stack() {
+        String orderId = createOrder("reactive-user-002");
+
+        webTestClient
+                .get()
+                .uri("/api/v1/orders/{orderId}", orderId)
+                .header(HttpHeaders.AUTHORIZATION, "reactive-user-002")
+                .exchange()
+                .expectStatus()
+                .isOk()
+                .expectBody()
+                .jsonPath("$.code")
+                .isEqualTo(0)
+                .jsonPath("$.message")
+                .isEqualTo("查询成功")
+                .jsonPath("$.data.orderId")
+                .isEqualTo(orderId)
+                .jsonPath("$.data.userId")
+                .isEqualTo("reactive-user-002")
+                .jsonPath("$.data.items.length()")
+                .isEqualTo(2)
+                .jsonPath("$.data.items[0].dishName")
+                .isEqualTo("宫保鸡丁")
+                .jsonPath("$.data.remark")
+                .isEqualTo("少辣")
+                .jsonPath("$.data.pricing.finalAmount")
+                .isEqualTo(56.00);
+    }
+
+    @Test
+    void get_order_should_return_404_when_accessing_other_users_order() {
+        String orderId = createOrder("reactive-user-003");
+
+        webTestClient
+                .get()
+                .uri("/api/v1/orders/{orderId}", orderId)
+                .header(HttpHeaders.AUTHORIZATION, "reactive-user-004")
+                .exchange()
+                .expectStatus()
+                .isNotFound()
+                .expectBody()
+                .jsonPath("$.title")
+                .isEqualTo("OrderNotFoundException")
+                .jsonPath("$.detail")
+                .isEqualTo("订单不存在: " + orderId);
+    }
+
+    @Test
+    void create_order_should_return_400_when_request_is_invalid() {
+        webTestClient
+                .post()
+                .uri("/api/v1/orders")
+                .header(HttpHeaders.AUTHORIZATION, "reactive-user-001")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(
+                        """
+                        {"merchantId": "merchant-001", "items": [], "deliveryInfo": null}
+                        """)
+                .exchange()
+                .expectStatus()
+                .isBadRequest()
+                .expectBody()
+                .jsonPath("$.title")
+                .isEqualTo("ValidationError");
+    }
+
+    @Test
+    void get_order_should_return_403_when_not_authenticated() {
+        webTestClient
+                .get()
+                .uri("/api/v1/orders/{orderId}", "550e8400-e29b-41d4-a716-446655440000")
+                .exchange()
+                .expectStatus()
+                .isForbidden();
+    }
+
+    private String createOrder(String userId) {
+        byte[] body = webTestClient
+                .post()
+                .uri("/api/v1/orders")
+                .header(HttpHeaders.AUTHORIZATION, userId)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(CREATE_ORDER_REQUEST)
+                .exchange()
+                .expectStatus()
+                .isCreated()
+                .expectBody()
+                .jsonPath("$.message")
+                .isEqualTo("订单创建成功")
+                .returnResult()
+                .getResponseBody();
+        return JsonPath.read(new String(body, StandardCharsets.UTF_8), "$.data.orderId");
+    }
+}
@@ -0,0 +1,196 @@
+package com.example.demo.adapter.web.order;
+
+import static org.hamcrest.Matchers.not;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.example.demo.adapter.persistence.search.OrderSearchIndex;
+import com.example.demo.application.service.RebuildOrderSearchIndexService;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+@SpringBootTest(
+        properties = {
+            "example.persistence.order.search.enabled=true",
+            "example.web.security.admin-users=search-admin"
+        })
+@AutoConfigureMockMvc
+class SearchOrdersControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private OrderSearchIndex orderSearchIndex;
+
+    @Autowired
+    private RebuildOrderSearchIndexService rebuildOrderSearchIndexService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @DynamicPropertySource
+    static void indexDirectory(DynamicPropertyRegistry registry) {
+        registry.add("example.persistence.order.search.directory", () -> {
+            try {
+                return Files.createTempDirectory("order-search-it").toString();
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        });
+    }
+
+    @Test
+    void created_orders_should_be_searchable_by_phone_dish_and_remark() throws Exception {
+        String merchantId = newMerchantId();
+        String phone = newPhone();
+        createOrder(merchantId, phone, "宫保鸡丁", "不要香菜");
+        createOrder(merchantId, newPhone(), "鱼香肉丝", "多放辣");
+        orderSearchIndex.refresh();
+
+        mockMvc.perform(get("/api/v1/admin/orders/search")
+                        .param("recipientPhone", phone.substring(0, 7))
+                        .with(user("search-admin")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.code").value(0))
+                .andExpect(jsonPath("$.message").value("查询成功"))
+                .andExpect(jsonPath("$.data.orders.length()").value(1))
+                .andExpect(jsonPath("$.data.orders[0].recipientPhone").value(phone))
+                .andExpect(jsonPath("$.data.orders[0].merchantId").value(merchantId))
+                .andExpect(jsonPath("$.data.orders[0].finalAmount").value(56.00));
+
+        mockMvc.perform(get("/api/v1/admin/orders/search")
+                        .param("merchantId", merchantId)
+                        .param("dishName", "鱼香")
+                        .with(user("search-admin")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.orders.length()").value(1))
+                .andExpect(jsonPath("$.data.orders[0].recipientPhone").value(not(phone)));
+
+        mockMvc.perform(get("/api/v1/admin/orders/search")
+                        .param("merchantId", merchantId)
+                        .param("remark", "香菜")
+                        .param("recipientName", "张三")
+                        .with(user("search-admin")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.orders.length()").value(1))
+                .andExpect(jsonPath("$.data.orders[0].recipientPhone").value(phone));
+
+        mockMvc.perform(get("/api/v1/admin/orders/search")
+                        .param("merchantId", merchantId)
+                        .with(user("search-admin")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.orders.length()").value(2));
+    }
+
+    @Test
+    void rebuild_should_index_orders_written_outside_the_create_path() throws Exception {
+        String merchantId = newMerchantId();
+        insertOrderDirectly(merchantId);
+        orderSearchIndex.refresh();
+
+        mockMvc.perform(get("/api/v1/admin/orders/search")
+                        .param("merchantId", merchantId)
+                        .with(user("search-admin")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.orders.length()").value(0));
+
+        rebuildOrderSearchIndexService.rebuildIndex();
+
+        mockMvc.perform(get("/api/v1/admin/orders/search")
+                        .param("merchantId", merchantId)
+                        .param("dishName", "米饭")
+                        .with(user("search-admin")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.orders.length()").value(1))
+                .andExpect(jsonPath("$.data.orders[0].status").value("PAID"));
+    }
+
+    @Test
+    void search_should_return_400_without_criteria() throws Exception {
+        mockMvc.perform(get("/api/v1/admin/orders/search").with(user("search-admin")))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.detail").value("至少需要一个搜索条件"));
+    }
+
+    @Test
+    void search_should_return_403_for_non_admin_users() throws Exception {
+        mockMvc.perform(get("/api/v1/admin/orders/search")
+                        .param("recipientPhone", "138")
+                        .with(user("search-user")))
+                .andExpect(status().isForbidden());
+    }
+
+    private static String newMerchantId() {
+        return "search-" + UUID.randomUUID().toString().substring(0, 8);
+    }
+
+    private static String newPhone() {
+        return "139" + String.format("%08d", ThreadLocalRandom.current().nextInt(100_000_000));
+    }
+
+    private void createOrder(String merchantId, String phone, String dishName, String remark) throws Exception {
+        mockMvc.perform(post("/api/v1/orders")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(
+                                """
+                                {
+                                  "merchantId": "%s",
+                                  "items": [
+                                    {"dishId": "dish-001", "dishName": "%s", "quantity": 2, "price": 25.00},
+                                    {"dishId": "dish-002", "dishName": "米饭", "quantity": 1, "price": 2.00}
+                                  ],
+                                  "deliveryInfo": {
+                                    "recipientName": "张三",
+                                    "recipientPhone": "%s",
+                                    "address": "北京市朝阳区xxx街道xxx号"
+                                  },
+                                  "remark": "%s"
+                                }
+                                """
+                                        .formatted(merchantId, dishName, phone, remark))
+                        .with(user("search-user")))
+                .andExpect(status().isCreated());
+    }
+
+    private void insertOrderDirectly(String merchantId) {
+        String orderId = UUID.randomUUID().toString();
+        Timestamp now = Timestamp.from(Instant.now());
+        jdbcTemplate.update(
+                """
+                INSERT INTO orders (id, order_number, user_id, merchant_id, recipient_name, recipient_phone, address,
+                    remark, status, items_total, packaging_fee, delivery_fee, final_amount, created_at, updated_at)
+                VALUES (?, ?, 'search-user', ?, '李四', '13900000000', '上海市',
+                    NULL, 'PAID', 2.00, 1.00, 3.00, 6.00, ?, ?)
+                """,
+                orderId,
+                "9" + String.format("%019d", ThreadLocalRandom.current().nextLong(Long.MAX_VALUE / 10)),
+                merchantId,
+                now,
+                now);
+        jdbcTemplate.update(
+                "INSERT INTO order_items (order_id, dish_id, dish_name, quantity, price) VALUES (?, ?, ?, ?, ?)",
+                orderId,
+                "dish-002",
+                "米饭",
+                1,
+                2.00);
+    }
+}
@@ -1,12 +1,26 @@
 package com.example.demo;
 
+import com.example.demo.adapter.cli.CommandLineTask;
+import com.example.demo.adapter.persistence.PersistenceRuntimeHints;
+import com.example.demo.adapter.web.WebRuntimeHints;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.properties.ConfigurationPropertiesScan;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.ImportRuntimeHints;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
+@ConfigurationPropertiesScan
+@EnableScheduling
+@ImportRuntimeHints({PersistenceRuntimeHints.class, WebRuntimeHints.class})
 public class DemoApplication {
 
     public static void main(String[] args) {
-        SpringApplication.run(DemoApplication.class, args);
+        ConfigurableApplicationContext context = SpringApplication.run(DemoApplication.class, args);
+        // Command line tasks have finished by the time run returns
+        if (context.getBeanProvider(CommandLineTask.class).stream().anyMatch(CommandLineTask::exitWhenDone)) {
+            System.exit(SpringApplication.exit(context));
+        }
     }
 }
@@ -0,0 +1,14 @@
+package com.example.demo.adapter.cli;
+
+/**
+ * A task run once at startup, after which the application may exit instead of serving requests. The task runs
+ * during startup, so {@link com.example.demo.DemoApplication#main} exits with the context's exit code once
+ * startup returns if any task asks to.
+ */
+public interface CommandLineTask {
+
+    /**
+     * @return whether to shut the application down once the task has finished
+     */
+    boolean exitWhenDone();
+}
@@ -0,0 +1,25 @@
+package com.example.demo.adapter.cli;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Configuration for the bulk order import run at startup.
+ *
+ * @param file JSON-lines file of orders in the archive format, gzip-compressed if the name ends with {@code .gz};
+ *     the import only runs when set
+ * @param batchSize orders committed per transaction
+ * @param workers batches written concurrently
+ * @param progressInterval how often progress is logged
+ * @param reconcileStats whether to rebuild the merchant daily stats of the imported days afterwards
+ * @param exitWhenDone whether to shut the application down once the import has finished
+ */
+@ConfigurationProperties(prefix = "example.cli.import-orders")
+public record ImportOrdersProperties(
+        String file,
+        @DefaultValue("1000") int batchSize,
+        @DefaultValue("4") int workers,
+        @DefaultValue("5s") Duration progressInterval,
+        @DefaultValue("true") boolean reconcileStats,
+        @DefaultValue("true") boolean exitWhenDone) {}
@@ -0,0 +1,84 @@
+package com.example.demo.adapter.cli;
+
+import com.example.demo.adapter.persistence.order.archive.ArchivedOrder;
+import com.example.demo.application.service.ImportOrdersService;
+import com.example.demo.application.service.ImportOrdersService.ImportOrdersCommand;
+import com.example.demo.application.service.ImportOrdersService.ImportOrdersResult;
+import com.example.demo.domain.order.Order;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.zip.GZIPInputStream;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Imports the orders of {@code example.cli.import-orders.file} when the application starts, then exits.
+ * Archive segments can be replayed as they are. A failed import fails the startup.
+ */
+@Component
+@ConditionalOnProperty(prefix = "example.cli.import-orders", name = "file")
+@RequiredArgsConstructor
+@Slf4j
+public class ImportOrdersRunner implements ApplicationRunner, CommandLineTask {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final ImportOrdersService importOrdersService;
+    private final ImportOrdersProperties properties;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public void run(ApplicationArguments args) throws IOException {
+        Path file = Path.of(properties.file());
+        log.info("Importing orders from {}", file);
+        ImportOrdersResult result;
+        try (BufferedReader reader = open(file)) {
+            Iterator<Order> orders = reader.lines()
+                    .filter(line -> !line.isBlank())
+                    .map(this::toOrder)
+                    .iterator();
+            result = importOrdersService.importOrders(new ImportOrdersCommand(
+                    orders, properties.batchSize(), properties.workers(), properties.progressInterval()));
+        } catch (UncheckedIOException ex) {
+            throw ex.getCause();
+        }
+
+        if (properties.reconcileStats()) {
+            importOrdersService.reconcileStats(result);
+        }
+    }
+
+    @Override
+    public boolean exitWhenDone() {
+        return properties.exitWhenDone();
+    }
+
+    private Order toOrder(String line) {
+        try {
+            return objectMapper.readValue(line, ArchivedOrder.class).toDomain();
+        } catch (JsonProcessingException ex) {
+            throw new UncheckedIOException("Invalid order line: " + line, ex);
+        }
+    }
+
+    private static BufferedReader open(Path file) throws IOException {
+        InputStream in = Files.newInputStream(file);
+        if (file.getFileName().toString().endsWith(".gz")) {
+            in = new GZIPInputStream(in, BUFFER_SIZE);
+        }
+        return new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8), BUFFER_SIZE);
+    }
+}
@@ -0,0 +1,13 @@
+package com.example.demo.adapter.cli;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Configuration for rebuilding the order search index at startup.
+ *
+ * @param enabled whether to rebuild; requires {@code example.persistence.order.search.enabled}
+ * @param exitWhenDone whether to shut the application down once the rebuild has finished
+ */
+@ConfigurationProperties(prefix = "example.cli.rebuild-order-search-index")
+public record RebuildOrderSearchIndexProperties(boolean enabled, @DefaultValue("true") boolean exitWhenDone) {}
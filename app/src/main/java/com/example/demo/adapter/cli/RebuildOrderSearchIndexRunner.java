@@ -0,0 +1,34 @@
+package com.example.demo.adapter.cli;
+
+import com.example.demo.application.service.RebuildOrderSearchIndexService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Rebuilds the order search index from the database when the application starts, then exits unless told
+ * to keep serving. The index directory is locked by its process, so this runs in place of, not next to,
+ * the instance owning the index.
+ */
+@Component
+@ConditionalOnProperty(
+        name = {"example.cli.rebuild-order-search-index.enabled", "example.persistence.order.search.enabled"},
+        havingValue = "true")
+@RequiredArgsConstructor
+public class RebuildOrderSearchIndexRunner implements ApplicationRunner, CommandLineTask {
+
+    private final RebuildOrderSearchIndexService rebuildOrderSearchIndexService;
+    private final RebuildOrderSearchIndexProperties properties;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        rebuildOrderSearchIndexService.rebuildIndex();
+    }
+
+    @Override
+    public boolean exitWhenDone() {
+        return properties.exitWhenDone();
+    }
+}
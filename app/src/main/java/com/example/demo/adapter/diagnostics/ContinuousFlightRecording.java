@@ -0,0 +1,107 @@
+package com.example.demo.adapter.diagnostics;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.Optional;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import jdk.jfr.Configuration;
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.Recording;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * A Flight Recorder recording running for the life of the application, so that the minutes before a latency
+ * spike can be examined afterwards without attaching a profiler. Flight Recorder keeps the recording in rolling
+ * chunk files in its repository, by default under the temporary directory, and drops chunks beyond the maximum
+ * age or size. The recording is saved to the configured directory at shutdown.
+ */
+@Slf4j
+public class ContinuousFlightRecording {
+
+    static final String NAME = "order-service";
+
+    private static final DateTimeFormatter FILE_TIMESTAMP =
+            DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss-SSS").withZone(ZoneOffset.UTC);
+
+    private final FlightRecordingProperties properties;
+    private final Path directory;
+    private final AtomicInteger dumps = new AtomicInteger();
+    private final Semaphore dumping = new Semaphore(1);
+    private volatile Recording recording;
+
+    public ContinuousFlightRecording(FlightRecordingProperties properties) {
+        this.properties = properties;
+        this.directory = Path.of(properties.directory());
+    }
+
+    @PostConstruct
+    public void start() throws IOException, ParseException {
+        if (!FlightRecorder.isAvailable()) {
+            log.warn("Flight Recorder is not available in this JVM, continuous recording is off");
+            return;
+        }
+        Files.createDirectories(directory);
+        Recording started = new Recording(Configuration.getConfiguration(properties.settings()));
+        started.setName(NAME);
+        started.setToDisk(true);
+        started.setMaxAge(properties.maxAge());
+        started.setMaxSize(properties.maxSize().toBytes());
+        started.setDestination(directory.resolve(NAME + "-shutdown.jfr"));
+        started.start();
+        recording = started;
+        log.info(
+                "Started continuous flight recording with {} settings, keeping {} or {}",
+                properties.settings(),
+                properties.maxAge(),
+                properties.maxSize());
+    }
+
+    /**
+     * Writes what the recording currently holds to a new file in the configured directory. Only one dump is
+     * written at a time, as each copies up to the maximum size of the recording to disk.
+     *
+     * @return the written file, empty if another dump is still being written
+     * @throws IllegalStateException if the recording is not running
+     */
+    public Optional<Path> dump() throws IOException {
+        Recording current = recording;
+        if (current == null) {
+            throw new IllegalStateException("The continuous flight recording is not running");
+        }
+        if (!dumping.tryAcquire()) {
+            return Optional.empty();
+        }
+        try {
+            Path file = directory.resolve(
+                    NAME + "-" + FILE_TIMESTAMP.format(Instant.now()) + "-" + dumps.incrementAndGet() + ".jfr");
+            current.dump(file);
+            return Optional.of(file);
+        } finally {
+            dumping.release();
+        }
+    }
+
+    public boolean isRunning() {
+        return recording != null;
+    }
+
+    @PreDestroy
+    public void stop() {
+        Recording current = recording;
+        if (current == null) {
+            return;
+        }
+        recording = null;
+        // Stopping writes the recording to its destination
+        current.stop();
+        current.close();
+    }
+}
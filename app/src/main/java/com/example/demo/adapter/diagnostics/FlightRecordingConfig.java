@@ -0,0 +1,24 @@
+package com.example.demo.adapter.diagnostics;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Starts the continuous flight recording and exposes it as an Actuator endpoint. The order events recorded by
+ * the application services are part of every recording, this one or one started with {@code jcmd JFR.start}.
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(prefix = "example.diagnostics.flight-recording", name = "enabled", havingValue = "true")
+public class FlightRecordingConfig {
+
+    @Bean
+    public ContinuousFlightRecording continuousFlightRecording(FlightRecordingProperties properties) {
+        return new ContinuousFlightRecording(properties);
+    }
+
+    @Bean
+    public FlightRecordingEndpoint flightRecordingEndpoint(ContinuousFlightRecording continuousFlightRecording) {
+        return new FlightRecordingEndpoint(continuousFlightRecording);
+    }
+}
@@ -0,0 +1,68 @@
+package com.example.demo.adapter.diagnostics;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+import org.springframework.boot.actuate.endpoint.web.annotation.WebEndpoint;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+
+/**
+ * Exposes {@code /actuator/flightrecording}, which dumps the continuous recording and downloads it as a
+ * {@code .jfr} file for JDK Mission Control or {@code jfr print}. The dump is deleted once downloaded. A request
+ * arriving while another dump is being written gets 429.
+ */
+@WebEndpoint(id = "flightrecording")
+@RequiredArgsConstructor
+@Slf4j
+public class FlightRecordingEndpoint {
+
+    private final ContinuousFlightRecording recording;
+
+    @ReadOperation(produces = "application/octet-stream")
+    public WebEndpointResponse<Resource> dump() {
+        if (!recording.isRunning()) {
+            return new WebEndpointResponse<>(WebEndpointResponse.STATUS_SERVICE_UNAVAILABLE);
+        }
+        try {
+            return recording
+                    .dump()
+                    .map(file -> new WebEndpointResponse<Resource>(
+                            new DownloadOnceResource(file), WebEndpointResponse.STATUS_OK))
+                    .orElseGet(() -> new WebEndpointResponse<>(WebEndpointResponse.STATUS_TOO_MANY_REQUESTS));
+        } catch (IOException ex) {
+            log.warn("Failed to dump the continuous flight recording", ex);
+            return new WebEndpointResponse<>(WebEndpointResponse.STATUS_INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    /**
+     * A dump file deleted once its content has been read.
+     */
+    static final class DownloadOnceResource extends FileSystemResource {
+
+        DownloadOnceResource(Path file) {
+            super(file);
+        }
+
+        @Override
+        public InputStream getInputStream() throws IOException {
+            return new FilterInputStream(super.getInputStream()) {
+                @Override
+                public void close() throws IOException {
+                    try {
+                        super.close();
+                    } finally {
+                        Files.deleteIfExists(getFile().toPath());
+                    }
+                }
+            };
+        }
+    }
+}
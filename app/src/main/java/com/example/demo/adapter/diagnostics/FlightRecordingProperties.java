@@ -0,0 +1,24 @@
+package com.example.demo.adapter.diagnostics;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * Configuration for the continuous Flight Recorder recording.
+ *
+ * @param enabled whether the recording runs from startup to shutdown
+ * @param settings the predefined event settings, {@code default} (about 1% overhead) or {@code profile}
+ *     (about 2%, more frequent method sampling)
+ * @param maxAge how far back the recording reaches; older chunks are removed from disk
+ * @param maxSize the disk space the recording may take before its oldest chunks are removed
+ * @param directory where dumps are written, and where the recording is saved at shutdown
+ */
+@ConfigurationProperties(prefix = "example.diagnostics.flight-recording")
+public record FlightRecordingProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("default") String settings,
+        @DefaultValue("30m") Duration maxAge,
+        @DefaultValue("256MB") DataSize maxSize,
+        @DefaultValue("flight-recordings") String directory) {}
@@ -0,0 +1,39 @@
+package com.example.demo.adapter.grpc;
+
+import io.grpc.Context;
+import io.grpc.Contexts;
+import io.grpc.Metadata;
+import io.grpc.ServerCall;
+import io.grpc.ServerCallHandler;
+import io.grpc.ServerInterceptor;
+import io.grpc.Status;
+
+/**
+ * gRPC counterpart of the REST pre-authentication: the {@code authorization} metadata entry carries the
+ * caller's user ID, which is made available to the service through {@link #currentUserId()}.
+ */
+public class GrpcAuthenticationInterceptor implements ServerInterceptor {
+
+    static final Metadata.Key<String> AUTHORIZATION =
+            Metadata.Key.of("authorization", Metadata.ASCII_STRING_MARSHALLER);
+
+    private static final Context.Key<String> USER_ID = Context.key("userId");
+
+    @Override
+    public <Q, R> ServerCall.Listener<Q> interceptCall(
+            ServerCall<Q, R> call, Metadata headers, ServerCallHandler<Q, R> next) {
+        String userId = headers.get(AUTHORIZATION);
+        if (userId == null || userId.isBlank()) {
+            call.close(Status.UNAUTHENTICATED.withDescription("缺少调用方用户ID"), new Metadata());
+            return new ServerCall.Listener<>() {};
+        }
+        return Contexts.interceptCall(Context.current().withValue(USER_ID, userId), call, headers, next);
+    }
+
+    /**
+     * @return the user ID of the call being handled by the current thread
+     */
+    static String currentUserId() {
+        return USER_ID.get();
+    }
+}
@@ -0,0 +1,32 @@
+package com.example.demo.adapter.grpc;
+
+import com.example.demo.adapter.grpc.proto.OrderServiceProto;
+import com.google.protobuf.Descriptors.Descriptor;
+import com.google.protobuf.Timestamp;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.aot.hint.TypeReference;
+
+/**
+ * Native image hints for the generated protobuf messages, whose field accessor tables look up the getters
+ * and builder setters by name.
+ */
+class GrpcRuntimeHints implements RuntimeHintsRegistrar {
+
+    private static final String PROTO_PACKAGE = OrderServiceProto.class.getPackageName();
+
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+        for (Descriptor message : OrderServiceProto.getDescriptor().getMessageTypes()) {
+            registerMessage(hints, PROTO_PACKAGE + "." + message.getName());
+        }
+        registerMessage(hints, Timestamp.class.getName());
+    }
+
+    private static void registerMessage(RuntimeHints hints, String className) {
+        hints.reflection()
+                .registerType(TypeReference.of(className), MemberCategory.INVOKE_PUBLIC_METHODS)
+                .registerType(TypeReference.of(className + "$Builder"), MemberCategory.INVOKE_PUBLIC_METHODS);
+    }
+}
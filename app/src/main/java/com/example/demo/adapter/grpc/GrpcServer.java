@@ -0,0 +1,99 @@
+package com.example.demo.adapter.grpc;
+
+import io.grpc.BindableService;
+import io.grpc.Server;
+import io.grpc.ServerBuilder;
+import io.grpc.ServerInterceptors;
+import io.grpc.inprocess.InProcessServerBuilder;
+import io.grpc.netty.shaded.io.grpc.netty.NettyServerBuilder;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+/**
+ * Runs the gRPC services next to the web server: an HTTP/2 listener on {@code example.grpc.port} and,
+ * when {@code in-process-name} is set, an in-process server sharing the same services and executor.
+ */
+@Component
+@ConditionalOnProperty(prefix = "example.grpc", name = "enabled", havingValue = "true")
+@RequiredArgsConstructor
+@Slf4j
+public class GrpcServer implements SmartLifecycle {
+
+    private final GrpcServerProperties properties;
+    private final List<BindableService> services;
+    private final List<Server> servers = new ArrayList<>();
+    private ExecutorService executor;
+    private volatile boolean running;
+
+    @Override
+    public synchronized void start() {
+        executor = Executors.newFixedThreadPool(properties.threads(), new CustomizableThreadFactory("grpc-"));
+        if (properties.port() >= 0) {
+            start(NettyServerBuilder.forPort(properties.port())
+                    .maxConcurrentCallsPerConnection(properties.maxConcurrentCallsPerConnection()));
+        }
+        if (StringUtils.hasText(properties.inProcessName())) {
+            start(InProcessServerBuilder.forName(properties.inProcessName()));
+        }
+        running = true;
+    }
+
+    @Override
+    public synchronized void stop() {
+        servers.forEach(Server::shutdown);
+        for (Server server : servers) {
+            try {
+                if (!server.awaitTermination(properties.shutdownTimeout().toMillis(), TimeUnit.MILLISECONDS)) {
+                    server.shutdownNow();
+                }
+            } catch (InterruptedException ex) {
+                server.shutdownNow();
+                Thread.currentThread().interrupt();
+            }
+        }
+        servers.clear();
+        executor.shutdown();
+        running = false;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * @return the port of the HTTP/2 listener, useful when it was configured as 0
+     */
+    public int getPort() {
+        return servers.stream()
+                .filter(server -> server.getPort() > 0)
+                .findFirst()
+                .map(Server::getPort)
+                .orElseThrow(() -> new IllegalStateException("gRPC network listener is not running"));
+    }
+
+    private void start(ServerBuilder<?> builder) {
+        builder.executor(executor).maxInboundMessageSize((int) properties.maxInboundMessageSize().toBytes());
+        GrpcAuthenticationInterceptor authentication = new GrpcAuthenticationInterceptor();
+        services.forEach(service -> builder.addService(ServerInterceptors.intercept(service, authentication)));
+        try {
+            Server server = builder.build().start();
+            servers.add(server);
+            log.info("gRPC server started: {}", server.getListenSockets());
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+}
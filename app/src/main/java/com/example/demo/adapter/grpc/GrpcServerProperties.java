@@ -0,0 +1,27 @@
+package com.example.demo.adapter.grpc;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * Configuration for the gRPC order endpoint.
+ *
+ * @param port TCP port of the HTTP/2 listener; 0 picks a free port, -1 disables the listener
+ * @param inProcessName name of an additional in-process server, for callers in the same JVM such as tests
+ * @param threads threads running the calls, which block on the database
+ * @param maxConcurrentCallsPerConnection calls multiplexed over one HTTP/2 connection before the client has
+ *     to wait or open another connection
+ * @param maxInboundMessageSize largest request message accepted
+ * @param shutdownTimeout how long in-flight calls may take to finish on shutdown
+ */
+@ConfigurationProperties(prefix = "example.grpc")
+public record GrpcServerProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("9090") int port,
+        String inProcessName,
+        @DefaultValue("32") int threads,
+        @DefaultValue("1000") int maxConcurrentCallsPerConnection,
+        @DefaultValue("4MB") DataSize maxInboundMessageSize,
+        @DefaultValue("10s") Duration shutdownTimeout) {}
@@ -0,0 +1,238 @@
+package com.example.demo.adapter.grpc;
+
+import com.example.demo.adapter.grpc.proto.CreateOrderRequest;
+import com.example.demo.adapter.grpc.proto.CreateOrderResponse;
+import com.example.demo.adapter.grpc.proto.CreateOrdersFailure;
+import com.example.demo.adapter.grpc.proto.CreateOrdersResponse;
+import com.example.demo.adapter.grpc.proto.DeliveryInfo;
+import com.example.demo.adapter.grpc.proto.GetOrderRequest;
+import com.example.demo.adapter.grpc.proto.GetOrderResponse;
+import com.example.demo.adapter.grpc.proto.OrderItem;
+import com.example.demo.adapter.grpc.proto.OrderServiceGrpc;
+import com.example.demo.adapter.grpc.proto.Pricing;
+import com.example.demo.application.service.BulkheadFullException;
+import com.example.demo.application.service.CreateOrderService;
+import com.example.demo.application.service.CreateOrderService.CreateOrderCommand;
+import com.example.demo.application.service.CreateOrderService.CreateOrderResult;
+import com.example.demo.application.service.GetOrderService;
+import com.example.demo.application.service.GetOrderService.GetOrderQuery;
+import com.example.demo.application.service.GetOrderService.GetOrderResult;
+import com.example.demo.application.service.OrderNotFoundException;
+import com.google.protobuf.Timestamp;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.grpc.stub.StreamObserver;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.ImportRuntimeHints;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.stereotype.Component;
+
+/**
+ * gRPC adapter for order creation and retrieval. Protobuf messages are mapped straight to the application
+ * commands and queries; field checks are left to the domain, which enforces the same rules as the REST
+ * request validation.
+ */
+@Component
+@ConditionalOnProperty(prefix = "example.grpc", name = "enabled", havingValue = "true")
+@ImportRuntimeHints(GrpcRuntimeHints.class)
+@RequiredArgsConstructor
+@Slf4j
+public class OrderGrpcService extends OrderServiceGrpc.OrderServiceImplBase {
+
+    private final CreateOrderService createOrderService;
+    private final GetOrderService getOrderService;
+
+    @Override
+    public void createOrder(CreateOrderRequest request, StreamObserver<CreateOrderResponse> responseObserver) {
+        try {
+            CreateOrderResult result =
+                    createOrderService.createOrder(toCommand(request, GrpcAuthenticationInterceptor.currentUserId()));
+            responseObserver.onNext(toResponse(result));
+            responseObserver.onCompleted();
+        } catch (RuntimeException ex) {
+            responseObserver.onError(toStatus(ex));
+        }
+    }
+
+    @Override
+    public void getOrder(GetOrderRequest request, StreamObserver<GetOrderResponse> responseObserver) {
+        try {
+            GetOrderResult result = getOrderService.getOrder(
+                    new GetOrderQuery(request.getOrderId(), GrpcAuthenticationInterceptor.currentUserId()));
+            responseObserver.onNext(toResponse(result));
+            responseObserver.onCompleted();
+        } catch (RuntimeException ex) {
+            responseObserver.onError(toStatus(ex));
+        }
+    }
+
+    /**
+     * Creates each order as its message arrives. Inbound flow control only asks for the next message once
+     * this one has been handled, so a fast client is held back by the database rather than buffered.
+     * Created orders are only counted: echoing each of them back would let the single response message
+     * outgrow the client's inbound message limit once every order has already been committed.
+     */
+    @Override
+    public StreamObserver<CreateOrderRequest> createOrders(StreamObserver<CreateOrdersResponse> responseObserver) {
+        String userId = GrpcAuthenticationInterceptor.currentUserId();
+        return new StreamObserver<>() {
+
+            private final CreateOrdersResponse.Builder response = CreateOrdersResponse.newBuilder();
+            private int index;
+            private boolean aborted;
+
+            @Override
+            public void onNext(CreateOrderRequest request) {
+                if (aborted) {
+                    return;
+                }
+                try {
+                    createOrderService.createOrder(toCommand(request, userId));
+                    response.setCreatedCount(response.getCreatedCount() + 1);
+                } catch (IllegalArgumentException ex) {
+                    // An invalid order is reported and skipped; anything else fails the whole call
+                    response.addFailures(CreateOrdersFailure.newBuilder()
+                            .setIndex(index)
+                            .setError(ex.getMessage()));
+                    response.setFailedCount(response.getFailedCount() + 1);
+                } catch (RuntimeException ex) {
+                    aborted = true;
+                    responseObserver.onError(toStatus(ex));
+                    return;
+                }
+                index++;
+            }
+
+            @Override
+            public void onError(Throwable t) {
+                log.debug("Bulk order creation cancelled after {} orders", index, t);
+            }
+
+            @Override
+            public void onCompleted() {
+                if (!aborted) {
+                    responseObserver.onNext(response.build());
+                    responseObserver.onCompleted();
+                }
+            }
+        };
+    }
+
+    static CreateOrderCommand toCommand(CreateOrderRequest request, String userId) {
+        List<CreateOrderCommand.OrderItemDto> itemDtos = request.getItemsList().stream()
+                .map(item -> new CreateOrderCommand.OrderItemDto(
+                        requireText(item.getDishId(), "餐品ID不能为空"),
+                        item.getDishName(),
+                        item.getQuantity(),
+                        toDecimal(item.getPrice())))
+                .toList();
+
+        DeliveryInfo deliveryInfo = request.getDeliveryInfo();
+        CreateOrderCommand.DeliveryInfoDto deliveryInfoDto = new CreateOrderCommand.DeliveryInfoDto(
+                deliveryInfo.getRecipientName(), deliveryInfo.getRecipientPhone(), deliveryInfo.getAddress());
+
+        return new CreateOrderCommand(
+                userId,
+                requireText(request.getMerchantId(), "商家ID不能为空"),
+                itemDtos,
+                deliveryInfoDto,
+                request.hasRemark() ? request.getRemark() : null);
+    }
+
+    static CreateOrderResponse toResponse(CreateOrderResult result) {
+        return CreateOrderResponse.newBuilder()
+                .setOrderId(result.orderId())
+                .setOrderNumber(result.orderNumber())
+                .setStatus(result.status())
+                .setPricing(toPricing(
+                        result.pricing().itemsTotal(),
+                        result.pricing().packagingFee(),
+                        result.pricing().deliveryFee(),
+                        result.pricing().finalAmount()))
+                .setCreatedAt(toTimestamp(result.createdAt()))
+                .build();
+    }
+
+    static GetOrderResponse toResponse(GetOrderResult result) {
+        GetOrderResponse.Builder response = GetOrderResponse.newBuilder()
+                .setOrderId(result.orderId())
+                .setOrderNumber(result.orderNumber())
+                .setUserId(result.userId())
+                .setMerchantId(result.merchantId())
+                .setDeliveryInfo(DeliveryInfo.newBuilder()
+                        .setRecipientName(result.deliveryInfo().recipientName())
+                        .setRecipientPhone(result.deliveryInfo().recipientPhone())
+                        .setAddress(result.deliveryInfo().address()))
+                .setStatus(result.status())
+                .setPricing(toPricing(
+                        result.pricing().itemsTotal(),
+                        result.pricing().packagingFee(),
+                        result.pricing().deliveryFee(),
+                        result.pricing().finalAmount()))
+                .setCreatedAt(toTimestamp(result.createdAt()));
+        result.items()
+                .forEach(item -> response.addItems(OrderItem.newBuilder()
+                        .setDishId(item.dishId())
+                        .setDishName(item.dishName())
+                        .setQuantity(item.quantity())
+                        .setPrice(item.price().toPlainString())));
+        if (result.remark() != null) {
+            response.setRemark(result.remark());
+        }
+        return response.build();
+    }
+
+    static StatusRuntimeException toStatus(RuntimeException ex) {
+        Status status;
+        if (ex instanceof IllegalArgumentException) {
+            status = Status.INVALID_ARGUMENT;
+        } else if (ex instanceof OrderNotFoundException) {
+            status = Status.NOT_FOUND;
+        } else if (ex instanceof IllegalStateException) {
+            status = Status.FAILED_PRECONDITION;
+        } else if (ex instanceof BulkheadFullException || ex instanceof DataAccessResourceFailureException) {
+            status = Status.UNAVAILABLE;
+        } else {
+            log.error(ex.getMessage(), ex);
+            status = Status.INTERNAL;
+        }
+        return status.withDescription(ex.getMessage()).asRuntimeException();
+    }
+
+    private static Pricing toPricing(
+            BigDecimal itemsTotal, BigDecimal packagingFee, BigDecimal deliveryFee, BigDecimal finalAmount) {
+        return Pricing.newBuilder()
+                .setItemsTotal(itemsTotal.toPlainString())
+                .setPackagingFee(packagingFee.toPlainString())
+                .setDeliveryFee(deliveryFee.toPlainString())
+                .setFinalAmount(finalAmount.toPlainString())
+                .build();
+    }
+
+    private static Timestamp toTimestamp(Instant instant) {
+        return Timestamp.newBuilder()
+                .setSeconds(instant.getEpochSecond())
+                .setNanos(instant.getNano())
+                .build();
+    }
+
+    private static String requireText(String value, String message) {
+        if (value.isEmpty()) {
+            throw new IllegalArgumentException(message);
+        }
+        return value;
+    }
+
+    private static BigDecimal toDecimal(String value) {
+        try {
+            return new BigDecimal(requireText(value, "价格不能为空"));
+        } catch (NumberFormatException ex) {
+            throw new IllegalArgumentException("价格格式不正确: " + value);
+        }
+    }
+}
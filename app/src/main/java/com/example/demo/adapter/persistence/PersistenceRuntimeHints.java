@@ -0,0 +1,36 @@
+package com.example.demo.adapter.persistence;
+
+import com.example.demo.adapter.persistence.order.CompactOrderEntity;
+import com.example.demo.adapter.persistence.order.DeliveryInfoEmbeddable;
+import com.example.demo.adapter.persistence.order.OrderEntity;
+import com.example.demo.adapter.persistence.order.OrderItemEntity;
+import com.example.demo.adapter.persistence.order.PricingEmbeddable;
+import com.example.demo.adapter.persistence.order.archive.ArchivedOrderIndexEntity;
+import com.example.demo.adapter.persistence.stats.OrderDailyStatsEntity;
+import java.util.List;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+
+/**
+ * Native image hints for the JPA entities and the Flyway migrations. Hibernate reads and writes the entity
+ * fields and the Lombok-generated accessors reflectively, including on the embeddables.
+ */
+public class PersistenceRuntimeHints implements RuntimeHintsRegistrar {
+
+    static final List<Class<?>> ENTITIES = List.of(
+            OrderEntity.class,
+            OrderItemEntity.class,
+            PricingEmbeddable.class,
+            DeliveryInfoEmbeddable.class,
+            CompactOrderEntity.class,
+            ArchivedOrderIndexEntity.class,
+            OrderDailyStatsEntity.class);
+
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+        ENTITIES.forEach(entity -> hints.reflection().registerType(entity, MemberCategory.values()));
+        // Spring Boot only covers the default db/migration location, not the per-vendor scripts
+        hints.resources().registerPattern("db/migration/*.sql").registerPattern("db/vendor/*/*.sql");
+    }
+}
@@ -0,0 +1,60 @@
+package com.example.demo.adapter.persistence.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+/**
+ * Replaces the single datasource with one pool per configured use case plus a shared pool for everything else.
+ * The use case pools copy the settings of the shared pool apart from their size. Not combinable with replica
+ * routing or sharding.
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(prefix = "example.datasource.bulkhead", name = "enabled", havingValue = "true")
+public class BulkheadDataSourceConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource sharedDataSource(DataSourceProperties dataSourceProperties) {
+        return dataSourceProperties
+                .initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+    }
+
+    @Bean
+    public BulkheadRoutingDataSource bulkheadRoutingDataSource(
+            @Qualifier("sharedDataSource") HikariDataSource sharedDataSource,
+            BulkheadDataSourceProperties properties,
+            MeterRegistry meterRegistry) {
+        Map<String, HikariDataSource> pools = new LinkedHashMap<>();
+        properties.pools().forEach((bulkhead, maximumPoolSize) -> {
+            HikariDataSource pool = new HikariDataSource();
+            sharedDataSource.copyStateTo(pool);
+            pool.setPoolName(bulkhead);
+            pool.setMaximumPoolSize(maximumPoolSize);
+            // Not beans, so the pool metrics are not bound automatically; tagged pool=<bulkhead>
+            pool.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+            pools.put(bulkhead, pool);
+        });
+        return new BulkheadRoutingDataSource(sharedDataSource, pools);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(BulkheadRoutingDataSource bulkheadRoutingDataSource) {
+        // Defer the pool lookup until a statement runs, inside the bulkhead of the calling use case
+        return new LazyConnectionDataSourceProxy(bulkheadRoutingDataSource);
+    }
+}
@@ -0,0 +1,19 @@
+package com.example.demo.adapter.persistence.datasource;
+
+import java.util.Map;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Configuration for giving use cases connection pools of their own.
+ *
+ * @param enabled whether to split the datasource into per use case pools
+ * @param pools the maximum pool size per bulkhead, such as {@code create-order}; work outside these bulkheads
+ *     uses the pool configured under {@code spring.datasource.hikari}
+ */
+@ConfigurationProperties(prefix = "example.datasource.bulkhead")
+public record BulkheadDataSourceProperties(boolean enabled, Map<String, Integer> pools) {
+
+    public BulkheadDataSourceProperties {
+        pools = pools == null ? Map.of() : Map.copyOf(pools);
+    }
+}
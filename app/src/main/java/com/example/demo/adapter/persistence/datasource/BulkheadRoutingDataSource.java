@@ -0,0 +1,35 @@
+package com.example.demo.adapter.persistence.datasource;
+
+import com.example.demo.application.service.Bulkhead;
+import com.zaxxer.hikari.HikariDataSource;
+import java.util.HashMap;
+import java.util.Map;
+import javax.sql.DataSource;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+/**
+ * Routes connections to the pool of the {@link Bulkhead} the current thread runs in, so that a use case that
+ * exhausts its pool leaves the others untouched. Connections acquired outside a bulkhead with a pool of its own
+ * come from the shared pool.
+ */
+public class BulkheadRoutingDataSource extends AbstractRoutingDataSource implements AutoCloseable {
+
+    private final Map<String, HikariDataSource> pools;
+
+    public BulkheadRoutingDataSource(DataSource shared, Map<String, HikariDataSource> pools) {
+        this.pools = Map.copyOf(pools);
+        setTargetDataSources(new HashMap<>(pools));
+        setDefaultTargetDataSource(shared);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        // Unknown keys and null fall back to the shared pool
+        return Bulkhead.current();
+    }
+
+    @Override
+    public void close() {
+        pools.values().forEach(HikariDataSource::close);
+    }
+}
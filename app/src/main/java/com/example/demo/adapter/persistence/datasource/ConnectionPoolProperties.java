@@ -0,0 +1,23 @@
+package com.example.demo.adapter.persistence.datasource;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Inputs for deriving the connection pool size from the host and the database limits.
+ *
+ * @param autoSize whether to override the configured maximum pool size
+ * @param cores the CPU cores of the database host; 0 uses the cores available to this JVM
+ * @param effectiveSpindles the disks the database can keep busy concurrently
+ * @param databaseMaxConnections the database {@code max_connections}
+ * @param instances the application instances sharing the database
+ * @param reservedConnections connections kept free for administration, replication and migrations
+ */
+@ConfigurationProperties(prefix = "example.datasource.pool")
+public record ConnectionPoolProperties(
+        boolean autoSize,
+        int cores,
+        @DefaultValue("1") int effectiveSpindles,
+        @DefaultValue("151") int databaseMaxConnections,
+        @DefaultValue("1") int instances,
+        @DefaultValue("10") int reservedConnections) {}
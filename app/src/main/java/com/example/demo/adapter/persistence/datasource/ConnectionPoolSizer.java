@@ -0,0 +1,69 @@
+package com.example.demo.adapter.persistence.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.beans.factory.BeanFactoryAware;
+import org.springframework.beans.factory.ListableBeanFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+
+/**
+ * Sizes every Hikari pool bean as {@code cores * 2 + effective spindles}, capped by the share of the
+ * database connections left to this instance. The per use case pools of {@link BulkheadDataSourceConfig} keep
+ * their configured sizes, which are taken off the share first; the rest is divided evenly between the Hikari
+ * pool beans, so that together they stay within it. Runs after the {@code spring.datasource.hikari} binding, so
+ * it takes precedence over an explicit {@code maximum-pool-size}.
+ *
+ * <p>Declared by {@link ConnectionPoolSizingConfig}. The properties are resolved on the first pool, so that
+ * creating this post-processor does not instantiate other beans early.
+ */
+@RequiredArgsConstructor
+@Slf4j
+public class ConnectionPoolSizer implements BeanPostProcessor, BeanFactoryAware {
+
+    private final ObjectProvider<ConnectionPoolProperties> properties;
+    private final ObjectProvider<BulkheadDataSourceProperties> bulkheadProperties;
+    private ListableBeanFactory beanFactory;
+
+    @Override
+    public void setBeanFactory(BeanFactory beanFactory) {
+        this.beanFactory = (ListableBeanFactory) beanFactory;
+    }
+
+    @Override
+    public Object postProcessBeforeInitialization(Object bean, String beanName) {
+        if (bean instanceof HikariDataSource dataSource) {
+            int pools = beanFactory.getBeanNamesForType(HikariDataSource.class, false, false).length;
+            BulkheadDataSourceProperties bulkheads = bulkheadProperties.getObject();
+            int bulkheadConnections = bulkheads.enabled()
+                    ? bulkheads.pools().values().stream().mapToInt(Integer::intValue).sum()
+                    : 0;
+            int poolSize = poolSize(
+                    properties.getObject(), Runtime.getRuntime().availableProcessors(), pools, bulkheadConnections);
+            dataSource.setMaximumPoolSize(poolSize);
+            log.info("Sized connection pool {} to {} connections", beanName, poolSize);
+        }
+        return bean;
+    }
+
+    /**
+     * @param pools the Hikari pool beans sharing what is left of this instance's share
+     * @param bulkheadConnections the connections of the per use case pools, taken off this instance's share
+     */
+    static int poolSize(
+            ConnectionPoolProperties properties, int availableProcessors, int pools, int bulkheadConnections) {
+        int cores = properties.cores() > 0 ? properties.cores() : availableProcessors;
+        int byThroughput = cores * 2 + properties.effectiveSpindles();
+        int perInstance = (properties.databaseMaxConnections() - properties.reservedConnections())
+                / Math.max(properties.instances(), 1);
+        int byDatabase = (perInstance - bulkheadConnections) / Math.max(pools, 1);
+        if (byDatabase < 1) {
+            throw new IllegalStateException("The database has no connections left for "
+                    + properties.instances() + " application instances with " + pools + " pools and "
+                    + bulkheadConnections + " bulkhead connections each");
+        }
+        return Math.min(byThroughput, byDatabase);
+    }
+}
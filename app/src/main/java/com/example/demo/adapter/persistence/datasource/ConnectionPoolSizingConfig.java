@@ -0,0 +1,22 @@
+package com.example.demo.adapter.persistence.datasource;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Sizes the Hikari pools when {@code example.datasource.pool.auto-size} is enabled. The post-processor is
+ * declared from a static method, so that registering it does not create this configuration first.
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(prefix = "example.datasource.pool", name = "auto-size", havingValue = "true")
+public class ConnectionPoolSizingConfig {
+
+    @Bean
+    public static ConnectionPoolSizer connectionPoolSizer(
+            ObjectProvider<ConnectionPoolProperties> properties,
+            ObjectProvider<BulkheadDataSourceProperties> bulkheadProperties) {
+        return new ConnectionPoolSizer(properties, bulkheadProperties);
+    }
+}
@@ -0,0 +1,61 @@
+package com.example.demo.adapter.persistence.datasource;
+
+/**
+ * Thread-bound routing hints consulted when a physical connection is acquired.
+ */
+public final class DataSourceRoutingContext {
+
+    private static final ThreadLocal<Integer> PRIMARY_PINS = ThreadLocal.withInitial(() -> 0);
+    private static final ThreadLocal<String> ROUTING_KEY = new ThreadLocal<>();
+
+    private DataSourceRoutingContext() {}
+
+    /**
+     * Pins connections acquired on the current thread to the primary until the returned pin is closed.
+     *
+     * @return the pin to close when the primary is no longer required
+     */
+    public static Pin pinToPrimary() {
+        PRIMARY_PINS.set(PRIMARY_PINS.get() + 1);
+        return () -> {
+            int remaining = PRIMARY_PINS.get() - 1;
+            if (remaining <= 0) {
+                PRIMARY_PINS.remove();
+            } else {
+                PRIMARY_PINS.set(remaining);
+            }
+        };
+    }
+
+    public static boolean isPinnedToPrimary() {
+        return PRIMARY_PINS.get() > 0;
+    }
+
+    /**
+     * Binds the key that partitioned datasources use to choose a target, restoring the previous key on close.
+     *
+     * @param routingKey the key of the record about to be accessed
+     * @return the pin to close once the access is complete
+     */
+    public static Pin bindRoutingKey(String routingKey) {
+        String previous = ROUTING_KEY.get();
+        ROUTING_KEY.set(routingKey);
+        return () -> {
+            if (previous == null) {
+                ROUTING_KEY.remove();
+            } else {
+                ROUTING_KEY.set(previous);
+            }
+        };
+    }
+
+    public static String currentRoutingKey() {
+        return ROUTING_KEY.get();
+    }
+
+    @FunctionalInterface
+    public interface Pin extends AutoCloseable {
+        @Override
+        void close();
+    }
+}
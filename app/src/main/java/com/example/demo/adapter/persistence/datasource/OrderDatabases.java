@@ -0,0 +1,35 @@
+package com.example.demo.adapter.persistence.datasource;
+
+import java.util.List;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+/**
+ * The databases holding orders: every shard when sharding is enabled, otherwise the application datasource.
+ * For raw JDBC work spanning all orders, which has no routing key to pick a shard by and would otherwise only
+ * see shard 0.
+ */
+@Component
+public class OrderDatabases {
+
+    private final List<DataSource> dataSources;
+    private final boolean sharded;
+
+    public OrderDatabases(DataSource dataSource, ObjectProvider<ShardRoutingDataSource> shardRoutingDataSource) {
+        ShardRoutingDataSource shards = shardRoutingDataSource.getIfAvailable();
+        this.sharded = shards != null;
+        this.dataSources = sharded ? shards.getShards() : List.of(dataSource);
+    }
+
+    /**
+     * @return one datasource per database, to run the same statement against each
+     */
+    public List<DataSource> all() {
+        return dataSources;
+    }
+
+    public boolean isSharded() {
+        return sharded;
+    }
+}
@@ -0,0 +1,58 @@
+package com.example.demo.adapter.persistence.datasource;
+
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.StringUtils;
+
+/**
+ * Adds a pooled R2DBC connection factory next to the JDBC datasource, which still serves Flyway.
+ *
+ * <p>Spring Boot's R2DBC auto-configuration is excluded in {@code application.yaml}: it would register a
+ * second transaction manager and make {@code @Transactional} on the blocking services ambiguous.
+ *
+ * <p>The reactive adapter reads and writes the normalized layout on one database, so startup fails when the
+ * compact layout or replica routing is enabled.
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(prefix = "example.datasource.r2dbc", name = "enabled", havingValue = "true")
+public class ReactiveDataSourceConfig {
+
+    public ReactiveDataSourceConfig(
+            ReplicaRoutingProperties replicaRouting,
+            @Value("${example.persistence.order.layout:normalized}") String orderLayout) {
+        if (replicaRouting.enabled()) {
+            throw new IllegalStateException("R2DBC cannot be combined with replica routing");
+        }
+        if ("compact".equals(orderLayout)) {
+            // Reactive reads take the items from order_items and would return compact orders without items
+            throw new IllegalStateException("R2DBC does not support the compact order layout");
+        }
+    }
+
+    @Bean(destroyMethod = "dispose")
+    public ConnectionPool reactiveConnectionFactory(ReactiveDataSourceProperties properties) {
+        ConnectionFactoryOptions.Builder options =
+                ConnectionFactoryOptions.parse(properties.url()).mutate();
+        if (StringUtils.hasText(properties.username())) {
+            options.option(ConnectionFactoryOptions.USER, properties.username());
+        }
+        if (StringUtils.hasText(properties.password())) {
+            options.option(ConnectionFactoryOptions.PASSWORD, properties.password());
+        }
+        ConnectionFactory connectionFactory = ConnectionFactories.get(options.build());
+
+        return new ConnectionPool(ConnectionPoolConfiguration.builder(connectionFactory)
+                .name("r2dbc-orders")
+                .initialSize(properties.initialSize())
+                .maxSize(properties.maxSize())
+                .maxIdleTime(properties.maxIdleTime())
+                .build());
+    }
+}
@@ -0,0 +1,18 @@
+package com.example.demo.adapter.persistence.datasource;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Configuration for the R2DBC connection pool used by the reactive order adapters.
+ */
+@ConfigurationProperties(prefix = "example.datasource.r2dbc")
+public record ReactiveDataSourceProperties(
+        boolean enabled,
+        String url,
+        String username,
+        String password,
+        @DefaultValue("10") int initialSize,
+        @DefaultValue("10") int maxSize,
+        @DefaultValue("30m") Duration maxIdleTime) {}
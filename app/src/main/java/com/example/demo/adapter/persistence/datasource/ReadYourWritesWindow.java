@@ -0,0 +1,62 @@
+package com.example.demo.adapter.persistence.datasource;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+import org.springframework.stereotype.Component;
+
+/**
+ * Remembers recently written keys so reads of them stay on the primary until replicas have caught up.
+ */
+@Component
+public class ReadYourWritesWindow implements SchedulingConfigurer {
+
+    private final long windowNanos;
+    private final Duration sweepInterval;
+    private final Map<String, Long> recentWrites = new ConcurrentHashMap<>();
+
+    public ReadYourWritesWindow(ReplicaRoutingProperties properties) {
+        Duration window = properties.enabled() ? properties.readYourWritesWindow() : Duration.ZERO;
+        this.windowNanos = window.toNanos();
+        this.sweepInterval = properties.readYourWritesSweepInterval();
+    }
+
+    public void recordWrite(String key) {
+        if (windowNanos > 0) {
+            recentWrites.put(key, System.nanoTime());
+        }
+    }
+
+    /**
+     * Pins the current thread to the primary if the key was written within the window.
+     *
+     * @param key the key about to be read
+     * @return the pin to close after the read, or a no-op pin
+     */
+    public DataSourceRoutingContext.Pin pinIfRecentlyWritten(String key) {
+        Long writtenAt = recentWrites.get(key);
+        if (writtenAt == null) {
+            return () -> {};
+        }
+        if (System.nanoTime() - writtenAt > windowNanos) {
+            recentWrites.remove(key, writtenAt);
+            return () -> {};
+        }
+        return DataSourceRoutingContext.pinToPrimary();
+    }
+
+    @Override
+    public void configureTasks(ScheduledTaskRegistrar taskRegistrar) {
+        if (windowNanos > 0) {
+            // Not the window itself, so that a short window does not make the sweep spin
+            taskRegistrar.addFixedDelayTask(this::evictExpired, sweepInterval);
+        }
+    }
+
+    public void evictExpired() {
+        long now = System.nanoTime();
+        recentWrites.values().removeIf(writtenAt -> now - writtenAt > windowNanos);
+    }
+}
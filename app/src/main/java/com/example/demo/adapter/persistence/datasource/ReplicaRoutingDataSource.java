@@ -0,0 +1,106 @@
+package com.example.demo.adapter.persistence.datasource;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.sql.DataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Routes read-only transactions to healthy replicas in round-robin order and everything else to the primary.
+ * Must be wrapped in a {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy} so the
+ * lookup happens after the transaction's read-only flag has been bound.
+ */
+@Slf4j
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource implements AutoCloseable {
+
+    public static final String PRIMARY = "primary";
+
+    private final Map<String, DataSource> replicas;
+    private final List<String> replicaKeys;
+    private final Set<String> unhealthyReplicas = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger nextReplica = new AtomicInteger();
+
+    public ReplicaRoutingDataSource(DataSource primary, Map<String, DataSource> replicas) {
+        this.replicas = Map.copyOf(replicas);
+        this.replicaKeys = List.copyOf(replicas.keySet());
+
+        Map<Object, Object> targets = new HashMap<>(replicas);
+        targets.put(PRIMARY, primary);
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+                || DataSourceRoutingContext.isPinnedToPrimary()) {
+            return PRIMARY;
+        }
+        return nextHealthyReplica();
+    }
+
+    String nextHealthyReplica() {
+        int size = replicaKeys.size();
+        if (size == 0) {
+            return PRIMARY;
+        }
+        int start = Math.floorMod(nextReplica.getAndIncrement(), size);
+        for (int i = 0; i < size; i++) {
+            String key = replicaKeys.get((start + i) % size);
+            if (!unhealthyReplicas.contains(key)) {
+                return key;
+            }
+        }
+        return PRIMARY;
+    }
+
+    /**
+     * Probes every replica and takes failing ones out of rotation until they recover.
+     *
+     * @param timeout the maximum time to wait for each replica to validate a connection
+     */
+    public void checkReplicaHealth(Duration timeout) {
+        int timeoutSeconds = (int) Math.max(1, timeout.toSeconds());
+        replicas.forEach((key, replica) -> {
+            boolean healthy;
+            try (Connection connection = replica.getConnection()) {
+                healthy = connection.isValid(timeoutSeconds);
+            } catch (SQLException ex) {
+                healthy = false;
+            }
+            if (healthy) {
+                if (unhealthyReplicas.remove(key)) {
+                    log.info("Replica {} is healthy again, returning it to rotation", key);
+                }
+            } else if (unhealthyReplicas.add(key)) {
+                log.warn("Replica {} failed its health check, removing it from rotation", key);
+            }
+        });
+    }
+
+    public Set<String> getUnhealthyReplicas() {
+        return Set.copyOf(unhealthyReplicas);
+    }
+
+    /**
+     * Closes the replica pools, which are created by the routing configuration rather than as beans. The primary
+     * is left to its own bean.
+     */
+    @Override
+    public void close() throws Exception {
+        for (DataSource replica : replicas.values()) {
+            if (replica instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.example.demo.adapter.persistence.datasource;
+
+import java.time.Duration;
+import java.util.List;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Configuration for routing read-only transactions to replicas.
+ *
+ * @param readYourWritesWindow how long reads of a written key stay on the primary; 0 to route them like any read
+ * @param readYourWritesSweepInterval how often keys written longer ago than the window are forgotten
+ * @param healthCheckInterval how often replicas are checked; failing replicas leave the rotation until they pass
+ * @param healthCheckTimeout how long a replica may take to answer the health check
+ * @param migrateReplicas whether to run the migrations on replicas, for local stand-ins not fed by replication
+ */
+@ConfigurationProperties(prefix = "example.datasource.replica-routing")
+public record ReplicaRoutingProperties(
+        boolean enabled,
+        @DefaultValue("2s") Duration readYourWritesWindow,
+        @DefaultValue("1s") Duration readYourWritesSweepInterval,
+        @DefaultValue("10s") Duration healthCheckInterval,
+        @DefaultValue("1s") Duration healthCheckTimeout,
+        boolean migrateReplicas,
+        List<Replica> replicas) {
+
+    public ReplicaRoutingProperties {
+        replicas = replicas == null ? List.of() : List.copyOf(replicas);
+    }
+
+    public record Replica(String url, String username, String password) {}
+}
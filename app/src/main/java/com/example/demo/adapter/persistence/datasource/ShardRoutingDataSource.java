@@ -0,0 +1,55 @@
+package com.example.demo.adapter.persistence.datasource;
+
+import com.example.demo.domain.Identities;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import javax.sql.DataSource;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+/**
+ * Routes connections to the shard owning the bound routing key. Keys are mapped to one of
+ * {@link Identities#ROUTING_BUCKETS} buckets and buckets to shards by modulo, so the shard count
+ * must not change without moving data. Connections acquired without a routing key go to shard 0.
+ */
+public class ShardRoutingDataSource extends AbstractRoutingDataSource {
+
+    private final List<DataSource> shards;
+    private final int shardCount;
+
+    public ShardRoutingDataSource(List<DataSource> shards) {
+        if (shards.isEmpty()) {
+            throw new IllegalArgumentException("At least one shard must be configured");
+        }
+        this.shards = List.copyOf(shards);
+        this.shardCount = shards.size();
+
+        Map<Object, Object> targets = new HashMap<>();
+        for (int i = 0; i < shards.size(); i++) {
+            targets.put(i, shards.get(i));
+        }
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(shards.get(0));
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        String routingKey = DataSourceRoutingContext.currentRoutingKey();
+        return routingKey == null ? 0 : shardFor(routingKey);
+    }
+
+    public int shardFor(String routingKey) {
+        return Identities.routingBucketOfId(routingKey) % shardCount;
+    }
+
+    public int getShardCount() {
+        return shardCount;
+    }
+
+    /**
+     * @return the shard datasources, in shard order
+     */
+    public List<DataSource> getShards() {
+        return shards;
+    }
+}
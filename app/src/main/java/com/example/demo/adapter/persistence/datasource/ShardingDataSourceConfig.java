@@ -0,0 +1,82 @@
+package com.example.demo.adapter.persistence.datasource;
+
+import com.example.demo.adapter.persistence.order.archive.OrderArchiveProperties;
+import com.zaxxer.hikari.HikariDataSource;
+import java.util.ArrayList;
+import java.util.List;
+import javax.sql.DataSource;
+import org.flywaydb.core.Flyway;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.flyway.FlywayMigrationStrategy;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+/**
+ * Replaces the single datasource with one datasource per shard. Not combinable with replica routing, datasource
+ * bulkheads, order archiving or R2DBC, which all assume a single database; startup fails when any of them is
+ * enabled.
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(prefix = "example.datasource.sharding", name = "enabled", havingValue = "true")
+public class ShardingDataSourceConfig {
+
+    public ShardingDataSourceConfig(
+            ReplicaRoutingProperties replicaRouting,
+            BulkheadDataSourceProperties bulkhead,
+            OrderArchiveProperties archive,
+            ReactiveDataSourceProperties r2dbc) {
+        if (replicaRouting.enabled()) {
+            throw new IllegalStateException("Sharding cannot be combined with replica routing");
+        }
+        if (bulkhead.enabled()) {
+            throw new IllegalStateException("Sharding cannot be combined with datasource bulkheads");
+        }
+        if (archive.enabled()) {
+            // The archiver selects and deletes without a routing key, so it would only ever see shard 0
+            throw new IllegalStateException("Order archiving does not support sharding");
+        }
+        if (r2dbc.enabled()) {
+            // Reactive writes go to the single R2DBC URL whatever shard the user belongs to
+            throw new IllegalStateException("Sharding cannot be combined with R2DBC");
+        }
+    }
+
+    @Bean
+    public ShardRoutingDataSource shardRoutingDataSource(ShardingProperties properties) {
+        List<DataSource> shards = new ArrayList<>();
+        for (int i = 0; i < properties.shards().size(); i++) {
+            ShardingProperties.Shard shard = properties.shards().get(i);
+            HikariDataSource dataSource = DataSourceBuilder.create()
+                    .type(HikariDataSource.class)
+                    .url(shard.url())
+                    .username(shard.username())
+                    .password(shard.password())
+                    .build();
+            dataSource.setPoolName("shard-" + i);
+            shards.add(dataSource);
+        }
+        return new ShardRoutingDataSource(shards);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(ShardRoutingDataSource shardRoutingDataSource) {
+        // Defer the shard lookup until the persistence adapter has bound the routing key
+        return new LazyConnectionDataSourceProxy(shardRoutingDataSource);
+    }
+
+    @Bean
+    public FlywayMigrationStrategy shardedFlywayMigrationStrategy(ShardRoutingDataSource shardRoutingDataSource) {
+        return flyway -> shardRoutingDataSource
+                .getResolvedDataSources()
+                .values()
+                .forEach(shard -> Flyway.configure()
+                        .configuration(flyway.getConfiguration())
+                        .dataSource(shard)
+                        .load()
+                        .migrate());
+    }
+}
@@ -0,0 +1,17 @@
+package com.example.demo.adapter.persistence.datasource;
+
+import java.util.List;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Configuration for partitioning order storage across several databases.
+ */
+@ConfigurationProperties(prefix = "example.datasource.sharding")
+public record ShardingProperties(boolean enabled, List<Shard> shards) {
+
+    public ShardingProperties {
+        shards = shards == null ? List.of() : List.copyOf(shards);
+    }
+
+    public record Shard(String url, String username, String password) {}
+}
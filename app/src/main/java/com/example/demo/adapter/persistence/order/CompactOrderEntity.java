@@ -0,0 +1,77 @@
+package com.example.demo.adapter.persistence.order;
+
+import com.example.demo.domain.order.OrderStatus;
+import jakarta.persistence.AttributeOverride;
+import jakarta.persistence.AttributeOverrides;
+import jakarta.persistence.Column;
+import jakarta.persistence.Embedded;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Lob;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
+import java.time.Instant;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.data.domain.Persistable;
+
+/**
+ * Single-row view of an order with its items encoded by {@link OrderItemsCodec}.
+ */
+@Entity
+@Table(name = "orders")
+@Getter
+@Setter
+@NoArgsConstructor
+public class CompactOrderEntity implements Persistable<String> {
+    @Id
+    private String id;
+
+    private String orderNumber;
+    private String userId;
+    private String merchantId;
+
+    @Lob
+    @Column(name = "items_data", columnDefinition = "blob")
+    private byte[] itemsData;
+
+    @Embedded
+    private DeliveryInfoEmbeddable deliveryInfo;
+
+    private String remark;
+
+    @Enumerated(EnumType.STRING)
+    private OrderStatus status;
+
+    @Embedded
+    @AttributeOverrides({
+        @AttributeOverride(name = "itemsTotal", column = @Column(name = "items_total")),
+        @AttributeOverride(name = "packagingFee", column = @Column(name = "packaging_fee")),
+        @AttributeOverride(name = "deliveryFee", column = @Column(name = "delivery_fee")),
+        @AttributeOverride(name = "finalAmount", column = @Column(name = "final_amount"))
+    })
+    private PricingEmbeddable pricing;
+
+    private Instant createdAt;
+    private Instant updatedAt;
+
+    // Lets save() insert directly instead of merging, which would cost an extra SELECT
+    @Transient
+    private boolean persisted;
+
+    @Override
+    public boolean isNew() {
+        return !persisted;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markPersisted() {
+        persisted = true;
+    }
+}
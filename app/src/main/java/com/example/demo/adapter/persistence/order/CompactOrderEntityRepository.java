@@ -0,0 +1,15 @@
+package com.example.demo.adapter.persistence.order;
+
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+public interface CompactOrderEntityRepository extends JpaRepository<CompactOrderEntity, String> {
+
+    List<CompactOrderEntity> findByIdIn(Collection<String> ids);
+
+    // Orders written before the compact layout was enabled keep their items in order_items
+    @Query("select i from OrderItemEntity i where i.orderId in :orderIds order by i.id")
+    List<OrderItemEntity> findNormalizedItemsByOrderIdIn(Collection<String> orderIds);
+}
@@ -1,5 +1,27 @@
 package com.example.demo.adapter.persistence.order;
 
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 
-public interface OrderEntityRepository extends JpaRepository<OrderEntity, String> {}
+public interface OrderEntityRepository extends JpaRepository<OrderEntity, String> {
+
+    @Query("select o.id from OrderEntity o where o.createdAt < :threshold order by o.createdAt")
+    List<String> findIdsCreatedBefore(Instant threshold, Pageable pageable);
+
+    @EntityGraph(attributePaths = "items")
+    List<OrderEntity> findByIdIn(Collection<String> ids);
+
+    @Modifying
+    @Query("delete from OrderItemEntity i where i.orderId in :orderIds")
+    int deleteItemsByOrderIdIn(Collection<String> orderIds);
+
+    @Modifying
+    @Query("delete from OrderEntity o where o.id in :ids")
+    int deleteByIdIn(Collection<String> ids);
+}
@@ -0,0 +1,13 @@
+package com.example.demo.adapter.persistence.order;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Configuration for streaming orders out of the database in bulk.
+ *
+ * @param fetchSize rows fetched per round trip; MySQL only streams with {@code Integer.MIN_VALUE} or with
+ *     {@code useCursorFetch=true} on the JDBC URL
+ */
+@ConfigurationProperties(prefix = "example.persistence.order.export")
+public record OrderExportProperties(@DefaultValue("1000") int fetchSize) {}
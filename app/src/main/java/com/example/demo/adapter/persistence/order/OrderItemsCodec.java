@@ -0,0 +1,97 @@
+package com.example.demo.adapter.persistence.order;
+
+import com.example.demo.domain.dish.DishId;
+import com.example.demo.domain.order.OrderItem;
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Versioned binary encoding of order items for the compact single-row layout.
+ *
+ * <p>Version 1: {@code version:byte, count:varint, (dishId:string, dishName:string, quantity:varint,
+ * priceScale:varint, priceUnscaled:zigzag-varlong)*}, where strings are a varint byte length followed by UTF-8.
+ * New versions must keep decoding every older version, since stored rows are never rewritten.
+ */
+public final class OrderItemsCodec {
+
+    static final byte VERSION_1 = 1;
+
+    private OrderItemsCodec() {}
+
+    public static byte[] encode(List<OrderItem> items) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(16 + items.size() * 48);
+        out.write(VERSION_1);
+        writeVarLong(out, items.size());
+        for (OrderItem item : items) {
+            writeString(out, item.dishId().value());
+            writeString(out, item.dishName());
+            writeVarLong(out, item.quantity());
+            writeVarLong(out, item.price().scale());
+            BigInteger unscaled = item.price().unscaledValue();
+            long value = unscaled.longValueExact();
+            writeVarLong(out, (value << 1) ^ (value >> 63));
+        }
+        return out.toByteArray();
+    }
+
+    public static List<OrderItem> decode(byte[] data) {
+        if (data == null || data.length == 0) {
+            throw new IllegalStateException("Order items were not stored in the compact layout");
+        }
+        ByteBuffer in = ByteBuffer.wrap(data);
+        byte version = in.get();
+        if (version != VERSION_1) {
+            throw new IllegalStateException("Unsupported order items encoding version: " + version);
+        }
+        int count = (int) readVarLong(in);
+        List<OrderItem> items = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            String dishId = readString(in);
+            String dishName = readString(in);
+            int quantity = (int) readVarLong(in);
+            int scale = (int) readVarLong(in);
+            long zigzag = readVarLong(in);
+            long unscaled = (zigzag >>> 1) ^ -(zigzag & 1);
+            items.add(new OrderItem(DishId.of(dishId), dishName, quantity, BigDecimal.valueOf(unscaled, scale)));
+        }
+        return List.copyOf(items);
+    }
+
+    private static void writeString(ByteArrayOutputStream out, String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeVarLong(out, bytes.length);
+        out.writeBytes(bytes);
+    }
+
+    private static String readString(ByteBuffer in) {
+        int length = (int) readVarLong(in);
+        String value = new String(in.array(), in.arrayOffset() + in.position(), length, StandardCharsets.UTF_8);
+        in.position(in.position() + length);
+        return value;
+    }
+
+    private static void writeVarLong(ByteArrayOutputStream out, long value) {
+        while ((value & ~0x7FL) != 0) {
+            out.write((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.write((int) value);
+    }
+
+    private static long readVarLong(ByteBuffer in) {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            byte b = in.get();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IllegalStateException("Malformed varint in order items encoding");
+    }
+}
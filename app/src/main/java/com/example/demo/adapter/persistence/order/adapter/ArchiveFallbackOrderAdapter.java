@@ -0,0 +1,28 @@
+package com.example.demo.adapter.persistence.order.adapter;
+
+import com.example.demo.adapter.persistence.order.archive.ArchivedOrder;
+import com.example.demo.adapter.persistence.order.archive.ArchivedOrderIndexRepository;
+import com.example.demo.adapter.persistence.order.archive.OrderArchiveStore;
+import com.example.demo.application.port.LoadOrderPort;
+import com.example.demo.domain.order.Order;
+import com.example.demo.domain.order.OrderId;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Loads orders from the hot tables and falls back to the archive for orders that have been moved there.
+ */
+@RequiredArgsConstructor
+public class ArchiveFallbackOrderAdapter implements LoadOrderPort {
+
+    private final LoadOrderPort delegate;
+    private final ArchivedOrderIndexRepository archivedOrderIndexRepository;
+    private final OrderArchiveStore orderArchiveStore;
+
+    public Optional<Order> findById(OrderId orderId) {
+        return delegate.findById(orderId).or(() -> archivedOrderIndexRepository
+                .findById(orderId.value())
+                .flatMap(index -> orderArchiveStore.find(index.getSegment(), orderId.value()))
+                .map(ArchivedOrder::toDomain));
+    }
+}
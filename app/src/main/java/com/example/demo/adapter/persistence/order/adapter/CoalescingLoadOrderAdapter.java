@@ -0,0 +1,72 @@
+package com.example.demo.adapter.persistence.order.adapter;
+
+import com.example.demo.application.port.LoadOrderPort;
+import com.example.demo.domain.order.Order;
+import com.example.demo.domain.order.OrderId;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Single-flight layer in front of the order store: concurrent lookups of the same order share one
+ * database call and its outcome, including a thrown exception. Callers arriving after the call has
+ * finished start a new one, so nothing is cached.
+ *
+ * <p>Coalesced callers block until the shared call completes. Their own read-only transaction may
+ * already hold a connection, so this saves queries rather than connections.
+ */
+public class CoalescingLoadOrderAdapter implements LoadOrderPort {
+
+    private final LoadOrderPort delegate;
+    private final ConcurrentMap<OrderId, CompletableFuture<Optional<Order>>> inFlight = new ConcurrentHashMap<>();
+    private final Counter executed;
+    private final Counter coalesced;
+
+    public CoalescingLoadOrderAdapter(LoadOrderPort delegate, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.executed = meterRegistry.counter("order.load.calls", "outcome", "executed");
+        this.coalesced = meterRegistry.counter("order.load.calls", "outcome", "coalesced");
+        Gauge.builder("order.load.in.flight", inFlight, ConcurrentMap::size).register(meterRegistry);
+    }
+
+    public Optional<Order> findById(OrderId orderId) {
+        CompletableFuture<Optional<Order>> call = new CompletableFuture<>();
+        CompletableFuture<Optional<Order>> existing = inFlight.putIfAbsent(orderId, call);
+        if (existing != null) {
+            coalesced.increment();
+            return await(existing);
+        }
+
+        executed.increment();
+        try {
+            Optional<Order> order = delegate.findById(orderId);
+            call.complete(order);
+            return order;
+        } catch (RuntimeException | Error ex) {
+            call.completeExceptionally(ex);
+            throw ex;
+        } finally {
+            inFlight.remove(orderId, call);
+        }
+    }
+
+    private static Optional<Order> await(CompletableFuture<Optional<Order>> call) {
+        try {
+            return call.join();
+        } catch (CompletionException ex) {
+            // Rethrow what the shared call threw, as if this caller had made it
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (ex.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw ex;
+        }
+    }
+}
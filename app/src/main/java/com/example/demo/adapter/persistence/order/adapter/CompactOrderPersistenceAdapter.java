@@ -0,0 +1,146 @@
+package com.example.demo.adapter.persistence.order.adapter;
+
+import com.example.demo.adapter.persistence.datasource.DataSourceRoutingContext;
+import com.example.demo.adapter.persistence.datasource.ReadYourWritesWindow;
+import com.example.demo.adapter.persistence.order.CompactOrderEntity;
+import com.example.demo.adapter.persistence.order.CompactOrderEntityRepository;
+import com.example.demo.adapter.persistence.order.DeliveryInfoEmbeddable;
+import com.example.demo.adapter.persistence.order.OrderItemEntity;
+import com.example.demo.adapter.persistence.order.OrderItemsCodec;
+import com.example.demo.adapter.persistence.order.PricingEmbeddable;
+import com.example.demo.domain.dish.DishId;
+import com.example.demo.domain.merchant.MerchantId;
+import com.example.demo.domain.order.DeliveryInfo;
+import com.example.demo.domain.order.Order;
+import com.example.demo.domain.order.OrderId;
+import com.example.demo.domain.order.OrderItem;
+import com.example.demo.domain.order.OrderNumber;
+import com.example.demo.domain.order.Pricing;
+import com.example.demo.domain.user.UserId;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Stores each order as a single row of the orders table with its items encoded into {@code items_data},
+ * so reads and writes touch one row. Items are immutable after creation, which this layout relies on.
+ * Rows written before the layout was switched on have no {@code items_data} and are read from
+ * {@code order_items} instead.
+ */
+@Component
+@ConditionalOnProperty(prefix = "example.persistence.order", name = "layout", havingValue = "compact")
+@RequiredArgsConstructor
+public class CompactOrderPersistenceAdapter implements OrderStore {
+
+    private final CompactOrderEntityRepository compactOrderEntityRepository;
+    private final ReadYourWritesWindow readYourWritesWindow;
+
+    public void save(Order order) {
+        CompactOrderEntity entity = toEntity(order);
+        try (DataSourceRoutingContext.Pin ignored = DataSourceRoutingContext.bindRoutingKey(entity.getId())) {
+            compactOrderEntityRepository.save(entity);
+        }
+        readYourWritesWindow.recordWrite(order.getId().value());
+    }
+
+    public Optional<Order> findById(OrderId orderId) {
+        // Orders written moments ago may not have reached the replicas yet
+        try (DataSourceRoutingContext.Pin shard = DataSourceRoutingContext.bindRoutingKey(orderId.value());
+                DataSourceRoutingContext.Pin primary = readYourWritesWindow.pinIfRecentlyWritten(orderId.value())) {
+            return compactOrderEntityRepository
+                    .findById(orderId.value())
+                    .map(entity -> toDomain(List.of(entity)).get(0));
+        }
+    }
+
+    public List<Order> findAllById(Collection<OrderId> orderIds) {
+        List<String> ids = orderIds.stream().map(OrderId::value).toList();
+        return toDomain(compactOrderEntityRepository.findByIdIn(ids));
+    }
+
+    private List<Order> toDomain(List<CompactOrderEntity> entities) {
+        List<String> normalized = entities.stream()
+                .filter(entity -> entity.getItemsData() == null)
+                .map(CompactOrderEntity::getId)
+                .toList();
+        Map<String, List<OrderItem>> normalizedItems = normalized.isEmpty()
+                ? Map.of()
+                : compactOrderEntityRepository.findNormalizedItemsByOrderIdIn(normalized).stream()
+                        .collect(Collectors.groupingBy(
+                                OrderItemEntity::getOrderId,
+                                Collectors.mapping(
+                                        item -> new OrderItem(
+                                                DishId.of(item.getDishId()),
+                                                item.getDishName(),
+                                                item.getQuantity(),
+                                                item.getPrice()),
+                                        Collectors.toList())));
+        return entities.stream()
+                .map(entity -> toDomain(
+                        entity,
+                        entity.getItemsData() == null
+                                ? normalizedItems.getOrDefault(entity.getId(), List.of())
+                                : OrderItemsCodec.decode(entity.getItemsData())))
+                .toList();
+    }
+
+    private CompactOrderEntity toEntity(Order order) {
+        CompactOrderEntity entity = new CompactOrderEntity();
+        entity.setId(order.getId().value());
+        entity.setOrderNumber(order.getOrderNumber().value());
+        entity.setUserId(order.getUserId().value());
+        entity.setMerchantId(order.getMerchantId().value());
+        entity.setItemsData(OrderItemsCodec.encode(order.getItems()));
+
+        entity.setDeliveryInfo(new DeliveryInfoEmbeddable(
+                order.getDeliveryInfo().recipientName(),
+                order.getDeliveryInfo().recipientPhone(),
+                order.getDeliveryInfo().address()));
+
+        entity.setRemark(order.getRemark());
+        entity.setStatus(order.getStatus());
+
+        entity.setPricing(new PricingEmbeddable(
+                order.getPricing().itemsTotal(),
+                order.getPricing().packagingFee(),
+                order.getPricing().deliveryFee(),
+                order.getPricing().finalAmount()));
+
+        entity.setCreatedAt(order.getCreatedAt());
+        entity.setUpdatedAt(order.getUpdatedAt());
+
+        return entity;
+    }
+
+    private Order toDomain(CompactOrderEntity entity, List<OrderItem> items) {
+        DeliveryInfo deliveryInfo = new DeliveryInfo(
+                entity.getDeliveryInfo().getRecipientName(),
+                entity.getDeliveryInfo().getRecipientPhone(),
+                entity.getDeliveryInfo().getAddress());
+
+        Pricing pricing = new Pricing(
+                entity.getPricing().getItemsTotal(),
+                entity.getPricing().getPackagingFee(),
+                entity.getPricing().getDeliveryFee(),
+                entity.getPricing().getFinalAmount());
+
+        // Use reconstitution constructor
+        return new Order(
+                new OrderId(entity.getId()),
+                new OrderNumber(entity.getOrderNumber()),
+                UserId.of(entity.getUserId()),
+                MerchantId.of(entity.getMerchantId()),
+                items,
+                deliveryInfo,
+                entity.getRemark(),
+                entity.getStatus(),
+                pricing,
+                entity.getCreatedAt(),
+                entity.getUpdatedAt());
+    }
+}
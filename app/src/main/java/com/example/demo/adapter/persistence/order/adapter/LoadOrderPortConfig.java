@@ -0,0 +1,49 @@
+package com.example.demo.adapter.persistence.order.adapter;
+
+import com.example.demo.adapter.persistence.order.archive.ArchivedOrderIndexRepository;
+import com.example.demo.adapter.persistence.order.archive.OrderArchiveStore;
+import com.example.demo.adapter.persistence.order.journal.JournaledLoadOrderAdapter;
+import com.example.demo.adapter.persistence.order.journal.WriteBehindOrderAdapter;
+import com.example.demo.adapter.persistence.order.snapshot.OrderSnapshotStore;
+import com.example.demo.adapter.persistence.order.snapshot.SnapshotLoadOrderAdapter;
+import com.example.demo.application.port.LoadOrderPort;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+/**
+ * Assembles the order lookup path from the tiers that are enabled. Lookups try, in order: orders not yet
+ * drained from the write-behind journal, the off-heap snapshot of recent orders, and the single-flight layer
+ * over the order store, which falls back to the archive when archiving is enabled.
+ */
+@Configuration(proxyBeanMethods = false)
+public class LoadOrderPortConfig {
+
+    @Bean
+    @Primary
+    public LoadOrderPort loadOrderPort(
+            OrderStore orderStore,
+            ArchivedOrderIndexRepository archivedOrderIndexRepository,
+            ObjectProvider<OrderArchiveStore> orderArchiveStore,
+            ObjectProvider<OrderSnapshotStore> orderSnapshotStore,
+            ObjectProvider<WriteBehindOrderAdapter> writeBehindOrderAdapter,
+            MeterRegistry meterRegistry) {
+        LoadOrderPort loadOrderPort = orderStore;
+        OrderArchiveStore archive = orderArchiveStore.getIfAvailable();
+        if (archive != null) {
+            loadOrderPort = new ArchiveFallbackOrderAdapter(loadOrderPort, archivedOrderIndexRepository, archive);
+        }
+        loadOrderPort = new CoalescingLoadOrderAdapter(loadOrderPort, meterRegistry);
+        OrderSnapshotStore snapshot = orderSnapshotStore.getIfAvailable();
+        if (snapshot != null) {
+            loadOrderPort = new SnapshotLoadOrderAdapter(snapshot, loadOrderPort);
+        }
+        WriteBehindOrderAdapter writeBehind = writeBehindOrderAdapter.getIfAvailable();
+        if (writeBehind != null) {
+            loadOrderPort = new JournaledLoadOrderAdapter(writeBehind, loadOrderPort);
+        }
+        return loadOrderPort;
+    }
+}
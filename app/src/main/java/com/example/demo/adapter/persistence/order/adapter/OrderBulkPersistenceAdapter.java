@@ -0,0 +1,123 @@
+package com.example.demo.adapter.persistence.order.adapter;
+
+import com.example.demo.adapter.persistence.datasource.ShardRoutingDataSource;
+import com.example.demo.adapter.persistence.order.OrderItemsCodec;
+import com.example.demo.application.port.BulkSaveOrderPort;
+import com.example.demo.domain.order.Order;
+import com.example.demo.domain.order.OrderItem;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.StringJoiner;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Inserts orders with multi-row INSERT statements, writing the layout selected by
+ * {@code example.persistence.order.layout}. Bypasses JPA, whose per-entity inserts dominate bulk loads.
+ */
+@Component
+public class OrderBulkPersistenceAdapter implements BulkSaveOrderPort {
+
+    // Keeps statements well below the 65535 placeholders MySQL accepts per statement
+    static final int ORDERS_PER_STATEMENT = 500;
+    static final int ITEMS_PER_STATEMENT = 1000;
+
+    private static final String ORDER_COLUMNS = "id, order_number, user_id, merchant_id, recipient_name, "
+            + "recipient_phone, address, remark, status, items_total, packaging_fee, delivery_fee, final_amount, "
+            + "created_at, updated_at";
+    private static final String ITEM_COLUMNS = "order_id, dish_id, dish_name, quantity, price";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final boolean compact;
+    private final boolean sharded;
+
+    public OrderBulkPersistenceAdapter(
+            DataSource dataSource,
+            ObjectProvider<ShardRoutingDataSource> shardRoutingDataSource,
+            @Value("${example.persistence.order.layout:normalized}") String layout) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.compact = "compact".equals(layout);
+        this.sharded = shardRoutingDataSource.getIfAvailable() != null;
+    }
+
+    @Override
+    public int saveAll(List<Order> orders) {
+        if (sharded) {
+            // One transaction is bound to one shard, while a batch spans many users
+            throw new IllegalStateException("Bulk order import does not support sharding");
+        }
+        int rows = 0;
+        for (List<Order> chunk : chunks(orders, ORDERS_PER_STATEMENT)) {
+            rows += insertOrders(chunk);
+        }
+        if (!compact) {
+            List<Object[]> items = new ArrayList<>();
+            for (Order order : orders) {
+                for (OrderItem item : order.getItems()) {
+                    items.add(new Object[] {
+                        order.getId().value(), item.dishId().value(), item.dishName(), item.quantity(), item.price()
+                    });
+                }
+            }
+            for (List<Object[]> chunk : chunks(items, ITEMS_PER_STATEMENT)) {
+                rows += insertItems(chunk);
+            }
+        }
+        return rows;
+    }
+
+    private int insertOrders(List<Order> orders) {
+        String columns = compact ? ORDER_COLUMNS + ", items_data" : ORDER_COLUMNS;
+        int columnCount = compact ? 16 : 15;
+        List<Object> args = new ArrayList<>(orders.size() * columnCount);
+        for (Order order : orders) {
+            args.add(order.getId().value());
+            args.add(order.getOrderNumber().value());
+            args.add(order.getUserId().value());
+            args.add(order.getMerchantId().value());
+            args.add(order.getDeliveryInfo().recipientName());
+            args.add(order.getDeliveryInfo().recipientPhone());
+            args.add(order.getDeliveryInfo().address());
+            args.add(order.getRemark());
+            args.add(order.getStatus().name());
+            args.add(order.getPricing().itemsTotal());
+            args.add(order.getPricing().packagingFee());
+            args.add(order.getPricing().deliveryFee());
+            args.add(order.getPricing().finalAmount());
+            args.add(Timestamp.from(order.getCreatedAt()));
+            args.add(Timestamp.from(order.getUpdatedAt()));
+            if (compact) {
+                args.add(OrderItemsCodec.encode(order.getItems()));
+            }
+        }
+        return jdbcTemplate.update(insert("orders", columns, columnCount, orders.size()), args.toArray());
+    }
+
+    private int insertItems(List<Object[]> items) {
+        List<Object> args = new ArrayList<>(items.size() * 5);
+        items.forEach(item -> Collections.addAll(args, item));
+        return jdbcTemplate.update(insert("order_items", ITEM_COLUMNS, 5, items.size()), args.toArray());
+    }
+
+    static String insert(String table, String columns, int columnCount, int rowCount) {
+        String row = "(" + "?, ".repeat(columnCount - 1) + "?)";
+        StringJoiner values = new StringJoiner(", ");
+        for (int i = 0; i < rowCount; i++) {
+            values.add(row);
+        }
+        return "INSERT INTO " + table + " (" + columns + ") VALUES " + values;
+    }
+
+    private static <T> List<List<T>> chunks(List<T> list, int size) {
+        List<List<T>> chunks = new ArrayList<>();
+        for (int start = 0; start < list.size(); start += size) {
+            chunks.add(list.subList(start, Math.min(start + size, list.size())));
+        }
+        return chunks;
+    }
+}
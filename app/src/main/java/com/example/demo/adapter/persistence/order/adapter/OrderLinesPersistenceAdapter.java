@@ -0,0 +1,106 @@
+package com.example.demo.adapter.persistence.order.adapter;
+
+import com.example.demo.adapter.persistence.datasource.OrderDatabases;
+import com.example.demo.adapter.persistence.order.OrderExportProperties;
+import com.example.demo.adapter.persistence.order.OrderItemsCodec;
+import com.example.demo.application.port.StreamOrderLinesPort;
+import com.example.demo.domain.order.OrderItem;
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+import java.util.function.Consumer;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Streams order lines straight from a forward-only JDBC cursor, bypassing JPA so memory stays constant
+ * regardless of the range size. Reads both the normalized and the compact layout, and every shard in turn when
+ * sharding is enabled.
+ */
+@Component
+public class OrderLinesPersistenceAdapter implements StreamOrderLinesPort {
+
+    private static final String SELECT_LINES =
+            """
+            SELECT o.id, o.order_number, o.user_id, o.merchant_id, o.status, o.created_at,
+                o.items_total, o.packaging_fee, o.delivery_fee, o.final_amount, o.items_data,
+                i.dish_id, i.dish_name, i.quantity, i.price
+            FROM orders o LEFT JOIN order_items i ON i.order_id = o.id
+            WHERE o.created_at >= ? AND o.created_at < ?
+            """;
+
+    private final List<JdbcTemplate> jdbcTemplates;
+
+    public OrderLinesPersistenceAdapter(OrderDatabases orderDatabases, OrderExportProperties properties) {
+        // Dedicated templates so the fetch size does not leak into other queries
+        this.jdbcTemplates = orderDatabases.all().stream()
+                .map(dataSource -> {
+                    JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+                    jdbcTemplate.setFetchSize(properties.fetchSize());
+                    return jdbcTemplate;
+                })
+                .toList();
+    }
+
+    public long forEachOrderLine(Instant from, Instant to, Consumer<OrderLine> action) {
+        long[] lines = {0};
+        for (JdbcTemplate jdbcTemplate : jdbcTemplates) {
+            jdbcTemplate.query(
+                    SELECT_LINES,
+                    resultSet -> {
+                        lines[0] += emit(resultSet, action);
+                    },
+                    Timestamp.from(from),
+                    Timestamp.from(to));
+        }
+        return lines[0];
+    }
+
+    private static int emit(ResultSet resultSet, Consumer<OrderLine> action) throws SQLException {
+        String dishId = resultSet.getString("dish_id");
+        if (dishId != null) {
+            action.accept(toLine(
+                    resultSet,
+                    dishId,
+                    resultSet.getString("dish_name"),
+                    resultSet.getInt("quantity"),
+                    resultSet.getBigDecimal("price")));
+            return 1;
+        }
+
+        // Compact layout: the items are encoded in the order row itself
+        byte[] itemsData = resultSet.getBytes("items_data");
+        if (itemsData == null) {
+            return 0;
+        }
+        int count = 0;
+        for (OrderItem item : OrderItemsCodec.decode(itemsData)) {
+            action.accept(toLine(resultSet, item.dishId().value(), item.dishName(), item.quantity(), item.price()));
+            count++;
+        }
+        return count;
+    }
+
+    private static OrderLine toLine(
+            ResultSet resultSet, String dishId, String dishName, int quantity, BigDecimal price)
+            throws SQLException {
+        return new OrderLine(
+                resultSet.getString("id"),
+                resultSet.getString("order_number"),
+                resultSet.getString("user_id"),
+                resultSet.getString("merchant_id"),
+                resultSet.getString("status"),
+                resultSet.getTimestamp("created_at").toInstant(),
+                resultSet.getBigDecimal("items_total"),
+                resultSet.getBigDecimal("packaging_fee"),
+                resultSet.getBigDecimal("delivery_fee"),
+                resultSet.getBigDecimal("final_amount"),
+                dishId,
+                dishName,
+                quantity,
+                price);
+    }
+}
@@ -1,12 +1,12 @@
 package com.example.demo.adapter.persistence.order.adapter;
 
+import com.example.demo.adapter.persistence.datasource.DataSourceRoutingContext;
+import com.example.demo.adapter.persistence.datasource.ReadYourWritesWindow;
 import com.example.demo.adapter.persistence.order.DeliveryInfoEmbeddable;
 import com.example.demo.adapter.persistence.order.OrderEntity;
 import com.example.demo.adapter.persistence.order.OrderEntityRepository;
 import com.example.demo.adapter.persistence.order.OrderItemEntity;
 import com.example.demo.adapter.persistence.order.PricingEmbeddable;
-import com.example.demo.application.port.LoadOrderPort;
-import com.example.demo.application.port.SaveOrderPort;
 import com.example.demo.domain.dish.DishId;
 import com.example.demo.domain.merchant.MerchantId;
 import com.example.demo.domain.order.DeliveryInfo;
@@ -16,25 +16,42 @@ import com.example.demo.domain.order.OrderItem;
 import com.example.demo.domain.order.OrderNumber;
 import com.example.demo.domain.order.Pricing;
 import com.example.demo.domain.user.UserId;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
 
 @Component
+@ConditionalOnProperty(
+        prefix = "example.persistence.order", name = "layout", havingValue = "normalized", matchIfMissing = true)
 @RequiredArgsConstructor
-public class OrderPersistenceAdapter implements SaveOrderPort, LoadOrderPort {
+public class OrderPersistenceAdapter implements OrderStore {
 
     private final OrderEntityRepository orderEntityRepository;
+    private final ReadYourWritesWindow readYourWritesWindow;
 
     public void save(Order order) {
         OrderEntity entity = toEntity(order);
-        orderEntityRepository.save(entity);
+        try (DataSourceRoutingContext.Pin ignored = DataSourceRoutingContext.bindRoutingKey(entity.getId())) {
+            orderEntityRepository.save(entity);
+        }
+        readYourWritesWindow.recordWrite(order.getId().value());
     }
 
     public Optional<Order> findById(OrderId orderId) {
-        return orderEntityRepository.findById(orderId.value()).map(this::toDomain);
+        // Orders written moments ago may not have reached the replicas yet
+        try (DataSourceRoutingContext.Pin shard = DataSourceRoutingContext.bindRoutingKey(orderId.value());
+                DataSourceRoutingContext.Pin primary = readYourWritesWindow.pinIfRecentlyWritten(orderId.value())) {
+            return orderEntityRepository.findById(orderId.value()).map(this::toDomain);
+        }
+    }
+
+    public List<Order> findAllById(Collection<OrderId> orderIds) {
+        List<String> ids = orderIds.stream().map(OrderId::value).toList();
+        return orderEntityRepository.findByIdIn(ids).stream().map(this::toDomain).toList();
     }
 
     private OrderEntity toEntity(Order order) {
@@ -86,7 +103,7 @@ public class OrderPersistenceAdapter implements SaveOrderPort, LoadOrderPort {
         // Convert order items
         List<OrderItem> items = entity.getItems().stream()
                 .map(itemEntity -> new OrderItem(
-                        new DishId(itemEntity.getDishId()),
+                        DishId.of(itemEntity.getDishId()),
                         itemEntity.getDishName(),
                         itemEntity.getQuantity(),
                         itemEntity.getPrice()))
@@ -109,8 +126,8 @@ public class OrderPersistenceAdapter implements SaveOrderPort, LoadOrderPort {
         return new Order(
                 new OrderId(entity.getId()),
                 new OrderNumber(entity.getOrderNumber()),
-                new UserId(entity.getUserId()),
-                new MerchantId(entity.getMerchantId()),
+                UserId.of(entity.getUserId()),
+                MerchantId.of(entity.getMerchantId()),
                 items,
                 deliveryInfo,
                 entity.getRemark(),
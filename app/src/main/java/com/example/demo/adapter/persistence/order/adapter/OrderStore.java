@@ -0,0 +1,21 @@
+package com.example.demo.adapter.persistence.order.adapter;
+
+import com.example.demo.application.port.LoadOrderPort;
+import com.example.demo.application.port.SaveOrderPort;
+import com.example.demo.domain.order.Order;
+import com.example.demo.domain.order.OrderId;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * The storage layout backing the order ports. Exactly one implementation is active per deployment,
+ * selected by {@code example.persistence.order.layout}.
+ */
+public interface OrderStore extends SaveOrderPort, LoadOrderPort {
+    /**
+     * Find the orders with the given IDs, skipping IDs that do not exist.
+     * @param orderIds the order IDs
+     * @return the orders found, in no particular order
+     */
+    List<Order> findAllById(Collection<OrderId> orderIds);
+}
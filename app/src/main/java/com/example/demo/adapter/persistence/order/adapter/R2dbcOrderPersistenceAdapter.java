@@ -0,0 +1,201 @@
+package com.example.demo.adapter.persistence.order.adapter;
+
+import com.example.demo.application.port.ReactiveLoadOrderPort;
+import com.example.demo.application.port.ReactiveSaveOrderPort;
+import com.example.demo.domain.dish.DishId;
+import com.example.demo.domain.merchant.MerchantId;
+import com.example.demo.domain.order.DeliveryInfo;
+import com.example.demo.domain.order.Order;
+import com.example.demo.domain.order.OrderId;
+import com.example.demo.domain.order.OrderItem;
+import com.example.demo.domain.order.OrderNumber;
+import com.example.demo.domain.order.OrderStatus;
+import com.example.demo.domain.order.Pricing;
+import com.example.demo.domain.user.UserId;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.Readable;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.StringJoiner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.r2dbc.connection.R2dbcTransactionManager;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking order store over R2DBC using the normalized layout (orders + order_items) on a single database.
+ * {@code ReactiveDataSourceConfig} refuses to start with the compact layout or replica routing.
+ */
+@Component
+@ConditionalOnProperty(prefix = "example.datasource.r2dbc", name = "enabled", havingValue = "true")
+public class R2dbcOrderPersistenceAdapter implements ReactiveSaveOrderPort, ReactiveLoadOrderPort {
+
+    private static final String INSERT_ORDER =
+            """
+            INSERT INTO orders (id, order_number, user_id, merchant_id, recipient_name, recipient_phone, address,
+                remark, status, items_total, packaging_fee, delivery_fee, final_amount, created_at, updated_at)
+            VALUES (:id, :orderNumber, :userId, :merchantId, :recipientName, :recipientPhone, :address,
+                :remark, :status, :itemsTotal, :packagingFee, :deliveryFee, :finalAmount, :createdAt, :updatedAt)
+            """;
+
+    private static final String INSERT_ITEMS =
+            "INSERT INTO order_items (order_id, dish_id, dish_name, quantity, price) VALUES ";
+
+    // One round trip: the order row is repeated for each item
+    private static final String SELECT_ORDER =
+            """
+            SELECT o.id, o.order_number, o.user_id, o.merchant_id, o.recipient_name, o.recipient_phone, o.address,
+                o.remark, o.status, o.items_total, o.packaging_fee, o.delivery_fee, o.final_amount,
+                o.created_at, o.updated_at, i.dish_id, i.dish_name, i.quantity, i.price
+            FROM orders o LEFT JOIN order_items i ON i.order_id = o.id
+            WHERE o.id = :id
+            ORDER BY i.id
+            """;
+
+    // Matches the JDBC drivers, which read and write TIMESTAMP columns in the JVM time zone
+    private static final ZoneId ZONE = ZoneId.systemDefault();
+
+    private final DatabaseClient databaseClient;
+    private final TransactionalOperator transactionalOperator;
+
+    public R2dbcOrderPersistenceAdapter(ConnectionFactory connectionFactory) {
+        this.databaseClient = DatabaseClient.create(connectionFactory);
+        // Deliberately not a bean, see ReactiveDataSourceConfig
+        this.transactionalOperator = TransactionalOperator.create(new R2dbcTransactionManager(connectionFactory));
+    }
+
+    @Override
+    public Mono<Void> save(Order order) {
+        return insertOrder(order).then(insertItems(order)).as(transactionalOperator::transactional);
+    }
+
+    @Override
+    public Mono<Order> findById(OrderId orderId) {
+        return databaseClient
+                .sql(SELECT_ORDER)
+                .bind("id", orderId.value())
+                .map(R2dbcOrderPersistenceAdapter::toRow)
+                .all()
+                .collectList()
+                .filter(rows -> !rows.isEmpty())
+                .map(R2dbcOrderPersistenceAdapter::toDomain);
+    }
+
+    private Mono<Void> insertOrder(Order order) {
+        DatabaseClient.GenericExecuteSpec spec = databaseClient
+                .sql(INSERT_ORDER)
+                .bind("id", order.getId().value())
+                .bind("orderNumber", order.getOrderNumber().value())
+                .bind("userId", order.getUserId().value())
+                .bind("merchantId", order.getMerchantId().value())
+                .bind("recipientName", order.getDeliveryInfo().recipientName())
+                .bind("recipientPhone", order.getDeliveryInfo().recipientPhone())
+                .bind("address", order.getDeliveryInfo().address())
+                .bind("status", order.getStatus().name())
+                .bind("itemsTotal", order.getPricing().itemsTotal())
+                .bind("packagingFee", order.getPricing().packagingFee())
+                .bind("deliveryFee", order.getPricing().deliveryFee())
+                .bind("finalAmount", order.getPricing().finalAmount())
+                .bind("createdAt", toLocal(order.getCreatedAt()))
+                .bind("updatedAt", toLocal(order.getUpdatedAt()));
+        spec = order.getRemark() == null
+                ? spec.bindNull("remark", String.class)
+                : spec.bind("remark", order.getRemark());
+        return spec.fetch().rowsUpdated().then();
+    }
+
+    private Mono<Void> insertItems(Order order) {
+        // Multi-row insert keeps item writes to a single statement
+        StringJoiner values = new StringJoiner(", ");
+        for (int i = 0; i < order.getItems().size(); i++) {
+            values.add("(:orderId, :dishId%1$d, :dishName%1$d, :quantity%1$d, :price%1$d)".formatted(i));
+        }
+        DatabaseClient.GenericExecuteSpec spec =
+                databaseClient.sql(INSERT_ITEMS + values).bind("orderId", order.getId().value());
+        for (int i = 0; i < order.getItems().size(); i++) {
+            OrderItem item = order.getItems().get(i);
+            spec = spec.bind("dishId" + i, item.dishId().value())
+                    .bind("dishName" + i, item.dishName())
+                    .bind("quantity" + i, item.quantity())
+                    .bind("price" + i, item.price());
+        }
+        return spec.fetch().rowsUpdated().then();
+    }
+
+    private static OrderRow toRow(Readable row) {
+        return new OrderRow(
+                row.get("id", String.class),
+                row.get("order_number", String.class),
+                row.get("user_id", String.class),
+                row.get("merchant_id", String.class),
+                row.get("recipient_name", String.class),
+                row.get("recipient_phone", String.class),
+                row.get("address", String.class),
+                row.get("remark", String.class),
+                row.get("status", String.class),
+                row.get("items_total", BigDecimal.class),
+                row.get("packaging_fee", BigDecimal.class),
+                row.get("delivery_fee", BigDecimal.class),
+                row.get("final_amount", BigDecimal.class),
+                row.get("created_at", LocalDateTime.class),
+                row.get("updated_at", LocalDateTime.class),
+                row.get("dish_id", String.class),
+                row.get("dish_name", String.class),
+                row.get("quantity", Integer.class),
+                row.get("price", BigDecimal.class));
+    }
+
+    private static Order toDomain(List<OrderRow> rows) {
+        OrderRow first = rows.getFirst();
+
+        // Convert order items; an order without items yields a single row with null item columns
+        List<OrderItem> items = rows.stream()
+                .filter(row -> row.dishId() != null)
+                .map(row -> new OrderItem(DishId.of(row.dishId()), row.dishName(), row.quantity(), row.price()))
+                .toList();
+
+        // Use reconstitution constructor
+        return new Order(
+                new OrderId(first.id()),
+                new OrderNumber(first.orderNumber()),
+                UserId.of(first.userId()),
+                MerchantId.of(first.merchantId()),
+                items,
+                new DeliveryInfo(first.recipientName(), first.recipientPhone(), first.address()),
+                first.remark(),
+                OrderStatus.valueOf(first.status()),
+                new Pricing(first.itemsTotal(), first.packagingFee(), first.deliveryFee(), first.finalAmount()),
+                first.createdAt().atZone(ZONE).toInstant(),
+                first.updatedAt().atZone(ZONE).toInstant());
+    }
+
+    private static LocalDateTime toLocal(Instant instant) {
+        return LocalDateTime.ofInstant(instant, ZONE);
+    }
+
+    private record OrderRow(
+            String id,
+            String orderNumber,
+            String userId,
+            String merchantId,
+            String recipientName,
+            String recipientPhone,
+            String address,
+            String remark,
+            String status,
+            BigDecimal itemsTotal,
+            BigDecimal packagingFee,
+            BigDecimal deliveryFee,
+            BigDecimal finalAmount,
+            LocalDateTime createdAt,
+            LocalDateTime updatedAt,
+            String dishId,
+            String dishName,
+            Integer quantity,
+            BigDecimal price) {}
+}
@@ -0,0 +1,83 @@
+package com.example.demo.adapter.persistence.order.archive;
+
+import com.example.demo.domain.dish.DishId;
+import com.example.demo.domain.merchant.MerchantId;
+import com.example.demo.domain.order.DeliveryInfo;
+import com.example.demo.domain.order.Order;
+import com.example.demo.domain.order.OrderId;
+import com.example.demo.domain.order.OrderItem;
+import com.example.demo.domain.order.OrderNumber;
+import com.example.demo.domain.order.OrderStatus;
+import com.example.demo.domain.order.Pricing;
+import com.example.demo.domain.user.UserId;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Flat archive representation of an order, written as one JSON line per order.
+ */
+public record ArchivedOrder(
+        String id,
+        String orderNumber,
+        String userId,
+        String merchantId,
+        List<Item> items,
+        String recipientName,
+        String recipientPhone,
+        String address,
+        String remark,
+        OrderStatus status,
+        BigDecimal itemsTotal,
+        BigDecimal packagingFee,
+        BigDecimal deliveryFee,
+        BigDecimal finalAmount,
+        Instant createdAt,
+        Instant updatedAt) {
+
+    public record Item(String dishId, String dishName, int quantity, BigDecimal price) {}
+
+    public static ArchivedOrder from(Order order) {
+        List<Item> items = order.getItems().stream()
+                .map(item -> new Item(item.dishId().value(), item.dishName(), item.quantity(), item.price()))
+                .toList();
+
+        return new ArchivedOrder(
+                order.getId().value(),
+                order.getOrderNumber().value(),
+                order.getUserId().value(),
+                order.getMerchantId().value(),
+                items,
+                order.getDeliveryInfo().recipientName(),
+                order.getDeliveryInfo().recipientPhone(),
+                order.getDeliveryInfo().address(),
+                order.getRemark(),
+                order.getStatus(),
+                order.getPricing().itemsTotal(),
+                order.getPricing().packagingFee(),
+                order.getPricing().deliveryFee(),
+                order.getPricing().finalAmount(),
+                order.getCreatedAt(),
+                order.getUpdatedAt());
+    }
+
+    public Order toDomain() {
+        List<OrderItem> orderItems = items.stream()
+                .map(item -> new OrderItem(DishId.of(item.dishId()), item.dishName(), item.quantity(), item.price()))
+                .toList();
+
+        // Use reconstitution constructor
+        return new Order(
+                new OrderId(id),
+                new OrderNumber(orderNumber),
+                UserId.of(userId),
+                MerchantId.of(merchantId),
+                orderItems,
+                new DeliveryInfo(recipientName, recipientPhone, address),
+                remark,
+                status,
+                new Pricing(itemsTotal, packagingFee, deliveryFee, finalAmount),
+                createdAt,
+                updatedAt);
+    }
+}
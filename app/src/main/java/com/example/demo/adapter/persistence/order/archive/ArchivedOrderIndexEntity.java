@@ -0,0 +1,24 @@
+package com.example.demo.adapter.persistence.order.archive;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.Instant;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Entity
+@Table(name = "order_archive_index")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ArchivedOrderIndexEntity {
+    @Id
+    private String orderId;
+
+    private String segment;
+    private Instant archivedAt;
+}
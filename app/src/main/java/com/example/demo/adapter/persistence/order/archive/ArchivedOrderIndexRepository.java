@@ -0,0 +1,5 @@
+package com.example.demo.adapter.persistence.order.archive;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface ArchivedOrderIndexRepository extends JpaRepository<ArchivedOrderIndexEntity, String> {}
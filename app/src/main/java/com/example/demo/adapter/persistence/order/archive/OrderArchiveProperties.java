@@ -0,0 +1,15 @@
+package com.example.demo.adapter.persistence.order.archive;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Configuration for moving old orders out of the hot tables into compressed archive segments.
+ */
+@ConfigurationProperties(prefix = "example.persistence.order.archive")
+public record OrderArchiveProperties(
+        boolean enabled,
+        @DefaultValue("order-archive") String directory,
+        @DefaultValue("180d") Duration olderThan,
+        @DefaultValue("1000") int batchSize) {}
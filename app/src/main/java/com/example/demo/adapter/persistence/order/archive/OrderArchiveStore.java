@@ -0,0 +1,101 @@
+package com.example.demo.adapter.persistence.order.archive;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Cold store of archived orders as immutable gzip-compressed JSON-lines segments on local disk.
+ */
+@Component
+@ConditionalOnProperty(prefix = "example.persistence.order.archive", name = "enabled", havingValue = "true")
+public class OrderArchiveStore {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final DateTimeFormatter SEGMENT_TIMESTAMP = DateTimeFormatter.ofPattern("yyyyMMddHHmmss");
+
+    private final Path directory;
+    private final ObjectMapper objectMapper;
+
+    public OrderArchiveStore(OrderArchiveProperties properties, ObjectMapper objectMapper) {
+        this.directory = Path.of(properties.directory());
+        this.objectMapper = objectMapper;
+        try {
+            Files.createDirectories(directory);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    /**
+     * Writes the orders to a new segment, fsyncs it and publishes it atomically.
+     *
+     * @param orders the orders to archive
+     * @return the segment name to record in the archive index
+     */
+    public String writeSegment(List<ArchivedOrder> orders) {
+        String segment = "orders-" + SEGMENT_TIMESTAMP.format(ZonedDateTime.now(ZoneOffset.UTC)) + "-"
+                + UUID.randomUUID().toString().substring(0, 8) + ".jsonl.gz";
+        Path temp = directory.resolve(segment + ".tmp");
+        try {
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+                    GZIPOutputStream gzip = new GZIPOutputStream(Channels.newOutputStream(channel), BUFFER_SIZE)) {
+                Writer writer = new BufferedWriter(new OutputStreamWriter(gzip, StandardCharsets.UTF_8), BUFFER_SIZE);
+                for (ArchivedOrder order : orders) {
+                    writer.write(objectMapper.writeValueAsString(order));
+                    writer.write('\n');
+                }
+                writer.flush();
+                gzip.finish();
+                channel.force(true);
+            }
+            Files.move(temp, directory.resolve(segment), StandardCopyOption.ATOMIC_MOVE);
+            return segment;
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Failed to write archive segment " + segment, ex);
+        }
+    }
+
+    public Optional<ArchivedOrder> find(String segment, String orderId) {
+        String needle = "\"id\":\"" + orderId + "\"";
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                new GZIPInputStream(Files.newInputStream(directory.resolve(segment)), BUFFER_SIZE),
+                StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                // Only parse lines that can match
+                if (line.contains(needle)) {
+                    ArchivedOrder order = objectMapper.readValue(line, ArchivedOrder.class);
+                    if (order.id().equals(orderId)) {
+                        return Optional.of(order);
+                    }
+                }
+            }
+            return Optional.empty();
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Failed to read archive segment " + segment, ex);
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.example.demo.adapter.persistence.order.archive;
+
+import com.example.demo.adapter.persistence.order.OrderEntityRepository;
+import com.example.demo.adapter.persistence.order.adapter.OrderStore;
+import com.example.demo.domain.order.OrderId;
+import java.time.Instant;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Background job moving orders older than the configured threshold into the archive store.
+ * Each batch is written and fsynced to a segment before the index rows are inserted and the hot rows
+ * are deleted in one transaction, so a crash leaves at worst an unreferenced segment.
+ */
+@Component
+@ConditionalOnProperty(prefix = "example.persistence.order.archive", name = "enabled", havingValue = "true")
+@RequiredArgsConstructor
+@Slf4j
+public class OrderArchiver {
+
+    private final OrderEntityRepository orderEntityRepository;
+    private final OrderStore orderStore;
+    private final ArchivedOrderIndexRepository archivedOrderIndexRepository;
+    private final OrderArchiveStore orderArchiveStore;
+    private final OrderArchiveProperties properties;
+    private final TransactionTemplate transactionTemplate;
+
+    @Scheduled(cron = "${example.persistence.order.archive.cron:0 0 3 * * *}")
+    public void archiveScheduled() {
+        archiveOlderThanThreshold();
+    }
+
+    /**
+     * Archives all orders created before now minus the configured age.
+     *
+     * @return the number of archived orders
+     */
+    public int archiveOlderThanThreshold() {
+        Instant threshold = Instant.now().minus(properties.olderThan());
+        int archived = 0;
+        while (true) {
+            List<ArchivedOrder> batch = transactionTemplate.execute(status -> loadBatch(threshold));
+            if (batch == null || batch.isEmpty()) {
+                break;
+            }
+
+            String segment = orderArchiveStore.writeSegment(batch);
+            List<String> ids = batch.stream().map(ArchivedOrder::id).toList();
+            Instant archivedAt = Instant.now();
+            transactionTemplate.executeWithoutResult(status -> {
+                archivedOrderIndexRepository.saveAll(ids.stream()
+                        .map(id -> new ArchivedOrderIndexEntity(id, segment, archivedAt))
+                        .toList());
+                orderEntityRepository.deleteItemsByOrderIdIn(ids);
+                orderEntityRepository.deleteByIdIn(ids);
+            });
+
+            archived += batch.size();
+            if (batch.size() < properties.batchSize()) {
+                break;
+            }
+        }
+        if (archived > 0) {
+            log.info("Archived {} orders created before {}", archived, threshold);
+        }
+        return archived;
+    }
+
+    private List<ArchivedOrder> loadBatch(Instant threshold) {
+        List<String> ids =
+                orderEntityRepository.findIdsCreatedBefore(threshold, PageRequest.ofSize(properties.batchSize()));
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        List<OrderId> orderIds = ids.stream().map(OrderId::new).toList();
+        return orderStore.findAllById(orderIds).stream()
+                .map(ArchivedOrder::from)
+                .toList();
+    }
+}
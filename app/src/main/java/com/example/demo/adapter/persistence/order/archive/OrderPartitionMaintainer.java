@@ -0,0 +1,94 @@
+package com.example.demo.adapter.persistence.order.archive;
+
+import com.example.demo.adapter.persistence.datasource.OrderDatabases;
+import java.time.Instant;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Keeps the monthly range partitions of the orders table ahead of the clock and drops old partitions once
+ * the archiver has emptied them. The partitions are created by the MySQL-only V2 migration in db/vendor/mysql,
+ * which runs on every shard, so every shard is maintained.
+ */
+@Component
+@ConditionalOnProperty(prefix = "example.persistence.order.partitioning", name = "enabled", havingValue = "true")
+@RequiredArgsConstructor
+@Slf4j
+public class OrderPartitionMaintainer {
+
+    private static final DateTimeFormatter PARTITION_NAME = DateTimeFormatter.ofPattern("'p'uuuuMM");
+
+    private final OrderDatabases orderDatabases;
+    private final OrderPartitioningProperties partitioningProperties;
+    private final OrderArchiveProperties archiveProperties;
+
+    @Scheduled(cron = "${example.persistence.order.partitioning.cron:0 30 2 * * *}")
+    public void maintainPartitions() {
+        orderDatabases.all().forEach(dataSource -> maintainPartitions(new JdbcTemplate(dataSource)));
+    }
+
+    private void maintainPartitions(JdbcTemplate jdbcTemplate) {
+        List<YearMonth> existing = jdbcTemplate
+                .queryForList(
+                        "SELECT partition_name FROM information_schema.partitions"
+                                + " WHERE table_schema = DATABASE() AND table_name = 'orders'"
+                                + " AND partition_name LIKE 'p______'",
+                        String.class)
+                .stream()
+                .map(name -> YearMonth.parse(name, PARTITION_NAME))
+                .sorted()
+                .toList();
+
+        addFuturePartitions(jdbcTemplate, existing);
+        if (archiveProperties.enabled()) {
+            dropArchivedPartitions(jdbcTemplate, existing);
+        }
+    }
+
+    private void addFuturePartitions(JdbcTemplate jdbcTemplate, List<YearMonth> existing) {
+        YearMonth target = YearMonth.now(ZoneOffset.UTC).plusMonths(partitioningProperties.monthsAhead());
+        YearMonth next = existing.isEmpty()
+                ? YearMonth.now(ZoneOffset.UTC)
+                : existing.get(existing.size() - 1).plusMonths(1);
+        // Partitions can only be split off the MAXVALUE partition in ascending order
+        for (YearMonth month = next; !month.isAfter(target); month = month.plusMonths(1)) {
+            jdbcTemplate.execute("ALTER TABLE orders REORGANIZE PARTITION pmax INTO (PARTITION "
+                    + PARTITION_NAME.format(month) + " VALUES LESS THAN (" + upperBound(month)
+                    + "), PARTITION pmax VALUES LESS THAN MAXVALUE)");
+            log.info("Added orders partition {}", PARTITION_NAME.format(month));
+        }
+    }
+
+    /**
+     * @return the first second after the month in UTC, like the partition name; a date literal passed to
+     *     UNIX_TIMESTAMP would be read in the session time zone instead
+     */
+    static long upperBound(YearMonth month) {
+        return month.plusMonths(1).atDay(1).atStartOfDay(ZoneOffset.UTC).toEpochSecond();
+    }
+
+    private void dropArchivedPartitions(JdbcTemplate jdbcTemplate, List<YearMonth> existing) {
+        YearMonth cutoff = YearMonth.from(
+                Instant.now().minus(archiveProperties.olderThan()).atZone(ZoneOffset.UTC));
+        for (YearMonth month : existing) {
+            if (!month.isBefore(cutoff)) {
+                break;
+            }
+            String partition = PARTITION_NAME.format(month);
+            Integer rows =
+                    jdbcTemplate.queryForObject("SELECT COUNT(*) FROM orders PARTITION (" + partition + ")", Integer.class);
+            if (rows != null && rows == 0) {
+                jdbcTemplate.execute("ALTER TABLE orders DROP PARTITION " + partition);
+                log.info("Dropped archived orders partition {}", partition);
+            }
+        }
+    }
+}
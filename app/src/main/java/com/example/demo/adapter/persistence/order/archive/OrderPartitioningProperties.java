@@ -0,0 +1,10 @@
+package com.example.demo.adapter.persistence.order.archive;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Configuration for maintaining the monthly range partitions of the orders table (MySQL only).
+ */
+@ConfigurationProperties(prefix = "example.persistence.order.partitioning")
+public record OrderPartitioningProperties(boolean enabled, @DefaultValue("3") int monthsAhead) {}
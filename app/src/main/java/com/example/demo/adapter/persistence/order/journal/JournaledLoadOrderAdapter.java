@@ -0,0 +1,22 @@
+package com.example.demo.adapter.persistence.order.journal;
+
+import com.example.demo.application.port.LoadOrderPort;
+import com.example.demo.domain.order.Order;
+import com.example.demo.domain.order.OrderId;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Answers lookups of orders that are journaled but not yet drained into the database; other lookups go to the
+ * delegate.
+ */
+@RequiredArgsConstructor
+public class JournaledLoadOrderAdapter implements LoadOrderPort {
+
+    private final WriteBehindOrderAdapter writeBehindOrderAdapter;
+    private final LoadOrderPort delegate;
+
+    public Optional<Order> findById(OrderId orderId) {
+        return writeBehindOrderAdapter.findPending(orderId).or(() -> delegate.findById(orderId));
+    }
+}
@@ -0,0 +1,370 @@
+package com.example.demo.adapter.persistence.order.journal;
+
+import com.example.demo.domain.order.Order;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Append-only journal of orders in preallocated, memory-mapped segment files. Each record is
+ *
+ * <pre>
+ * length:int  crc32c:int  payload:byte[length]
+ * </pre>
+ *
+ * and a zero length marks the end of the written part of a segment. A position is the segment index in the
+ * high 32 bits and the offset in the low 32 bits, so positions compare like the records they point at.
+ *
+ * <p>{@link #append} returns only once the record has been forced to disk. A single flusher thread forces the
+ * mapping on behalf of every appender that arrived while the previous force was running, so concurrent
+ * appends share one fsync. On open, the tail of the last segment is validated against the checksums and
+ * anything after the last intact record is cleared; such records were never acknowledged.
+ */
+@Slf4j
+final class OrderJournal implements AutoCloseable {
+
+    static final int RECORD_HEADER = 8;
+
+    private static final String SEGMENT_SUFFIX = ".journal";
+    private static final String CHECKPOINT = "checkpoint";
+
+    /**
+     * Orders read from the journal, and the position just after the last of them.
+     */
+    record Batch(List<Order> orders, long next) {}
+
+    private final Path directory;
+    private final int segmentSize;
+    private final NavigableMap<Integer, MappedByteBuffer> segments = new ConcurrentSkipListMap<>();
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition dirty = lock.newCondition();
+    private final Condition flushed = lock.newCondition();
+    private final Counter fsyncs;
+    private final Thread flusher;
+    private int writeSegment;
+    private int writeOffset;
+    private boolean closed;
+    private RuntimeException flushFailure;
+    private volatile long durable;
+    private volatile long checkpointed;
+
+    OrderJournal(Path directory, int segmentSize, MeterRegistry meterRegistry) {
+        this.directory = directory;
+        this.segmentSize = segmentSize;
+        this.fsyncs = meterRegistry.counter("order.journal.fsyncs");
+        try {
+            Files.createDirectories(directory);
+            checkpointed = readCheckpoint();
+            int first = segmentOf(checkpointed);
+            for (int index : segmentIndices()) {
+                if (index < first) {
+                    Files.delete(segmentPath(index));
+                } else {
+                    segments.put(index, map(index));
+                }
+            }
+            if (segments.isEmpty()) {
+                segments.put(first, map(first));
+            }
+            writeSegment = segments.lastKey();
+            writeOffset = recoverTail(segments.get(writeSegment), writeSegment == first ? offsetOf(checkpointed) : 0);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        durable = position(writeSegment, writeOffset);
+        flusher = Thread.ofPlatform().name("order-journal-fsync").daemon().start(this::flushLoop);
+    }
+
+    /**
+     * Appends an order and waits until it is durable.
+     *
+     * @return the position just after the record
+     * @throws IllegalStateException if the journal is closed or could not be forced to disk
+     */
+    long append(Order order) {
+        byte[] payload = OrderJournalCodec.encode(order);
+        if (RECORD_HEADER + payload.length > segmentSize) {
+            throw new IllegalArgumentException("Order too large for a journal segment: " + payload.length + " bytes");
+        }
+        CRC32C crc = new CRC32C();
+        crc.update(payload);
+        lock.lock();
+        try {
+            checkWritable();
+            MappedByteBuffer buffer = segments.get(writeSegment);
+            if (writeOffset + RECORD_HEADER + payload.length > buffer.capacity()) {
+                buffer = roll();
+            }
+            buffer.put(writeOffset + RECORD_HEADER, payload);
+            buffer.putInt(writeOffset + Integer.BYTES, (int) crc.getValue());
+            buffer.putInt(writeOffset, payload.length);
+            writeOffset += RECORD_HEADER + payload.length;
+            long target = position(writeSegment, writeOffset);
+            dirty.signal();
+            // Releases the lock while waiting, so appenders arriving meanwhile join the next force
+            while (durable < target) {
+                if (flushFailure != null) {
+                    throw new IllegalStateException("Order journal could not be forced to disk", flushFailure);
+                }
+                flushed.awaitUninterruptibly();
+            }
+            return target;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Reads up to {@code max} durable orders starting at the given position.
+     */
+    Batch read(long from, int max) {
+        long end = durable;
+        List<Order> orders = new ArrayList<>(Math.min(max, 1024));
+        int segment = segmentOf(from);
+        int offset = offsetOf(from);
+        while (orders.size() < max && position(segment, offset) < end) {
+            MappedByteBuffer buffer = segments.get(segment);
+            int length = buffer == null ? -1 : validLength(buffer, offset);
+            if (length < 0) {
+                // The rest of this segment was too small for the next record
+                segment++;
+                offset = 0;
+                continue;
+            }
+            byte[] payload = new byte[length];
+            buffer.get(offset + RECORD_HEADER, payload);
+            orders.add(OrderJournalCodec.decode(payload));
+            offset += RECORD_HEADER + length;
+        }
+        return new Batch(orders, position(segment, offset));
+    }
+
+    /**
+     * Records that everything before the position has reached the database and deletes the segments wholly
+     * before it. The checkpoint is replaced atomically; if a crash loses it, the orders after the previous
+     * checkpoint are replayed, so draining must be idempotent.
+     */
+    void checkpoint(long position) {
+        Path temporary = directory.resolve(CHECKPOINT + ".tmp");
+        try {
+            try (FileChannel channel = FileChannel.open(
+                    temporary,
+                    StandardOpenOption.CREATE,
+                    StandardOpenOption.WRITE,
+                    StandardOpenOption.TRUNCATE_EXISTING)) {
+                channel.write(ByteBuffer.allocate(Long.BYTES).putLong(0, position));
+                channel.force(true);
+            }
+            Files.move(
+                    temporary,
+                    directory.resolve(CHECKPOINT),
+                    StandardCopyOption.ATOMIC_MOVE,
+                    StandardCopyOption.REPLACE_EXISTING);
+            checkpointed = position;
+            for (int index : List.copyOf(segments.headMap(segmentOf(position)).keySet())) {
+                segments.remove(index);
+                Files.deleteIfExists(segmentPath(index));
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    long checkpointed() {
+        return checkpointed;
+    }
+
+    /**
+     * @return the position just after the last durable record
+     */
+    long end() {
+        return durable;
+    }
+
+    int segmentCount() {
+        return segments.size();
+    }
+
+    /**
+     * Stops accepting appends and waits for the pending force to finish.
+     */
+    public void close() {
+        lock.lock();
+        try {
+            closed = true;
+            dirty.signal();
+        } finally {
+            lock.unlock();
+        }
+        try {
+            flusher.join();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void flushLoop() {
+        while (true) {
+            MappedByteBuffer buffer;
+            long target;
+            lock.lock();
+            try {
+                while (!closed && durable == position(writeSegment, writeOffset)) {
+                    dirty.awaitUninterruptibly();
+                }
+                target = position(writeSegment, writeOffset);
+                if (durable == target) {
+                    return;
+                }
+                buffer = segments.get(writeSegment);
+            } finally {
+                lock.unlock();
+            }
+            RuntimeException failure = null;
+            try {
+                buffer.force();
+                fsyncs.increment();
+            } catch (UncheckedIOException ex) {
+                log.error("Failed to force the order journal to disk; rejecting further orders", ex);
+                failure = ex;
+            }
+            lock.lock();
+            try {
+                if (failure != null) {
+                    flushFailure = failure;
+                } else {
+                    durable = Math.max(durable, target);
+                }
+                flushed.signalAll();
+            } finally {
+                lock.unlock();
+            }
+            if (failure != null) {
+                return;
+            }
+        }
+    }
+
+    private MappedByteBuffer roll() {
+        MappedByteBuffer full = segments.get(writeSegment);
+        full.force();
+        fsyncs.increment();
+        durable = Math.max(durable, position(writeSegment, writeOffset));
+        flushed.signalAll();
+        int next = writeSegment + 1;
+        MappedByteBuffer buffer;
+        try {
+            buffer = map(next);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        segments.put(next, buffer);
+        writeSegment = next;
+        writeOffset = 0;
+        return buffer;
+    }
+
+    private void checkWritable() {
+        if (flushFailure != null) {
+            throw new IllegalStateException("Order journal could not be forced to disk", flushFailure);
+        }
+        if (closed) {
+            throw new IllegalStateException("Order journal is closed");
+        }
+    }
+
+    /**
+     * @return the offset just after the last intact record, with everything after it cleared
+     */
+    private static int recoverTail(MappedByteBuffer buffer, int from) {
+        int offset = from;
+        for (int length = validLength(buffer, offset); length >= 0; length = validLength(buffer, offset)) {
+            offset += RECORD_HEADER + length;
+        }
+        // A torn record, or records appended but never forced, must not turn up behind later appends
+        int index = offset;
+        for (; index + Long.BYTES <= buffer.capacity(); index += Long.BYTES) {
+            if (buffer.getLong(index) != 0) {
+                buffer.putLong(index, 0);
+            }
+        }
+        for (; index < buffer.capacity(); index++) {
+            buffer.put(index, (byte) 0);
+        }
+        buffer.force();
+        return offset;
+    }
+
+    /**
+     * @return the payload length of the intact record at the offset, or -1 if there is none
+     */
+    private static int validLength(ByteBuffer buffer, int offset) {
+        if (offset + RECORD_HEADER > buffer.capacity()) {
+            return -1;
+        }
+        int length = buffer.getInt(offset);
+        if (length <= 0 || length > buffer.capacity() - offset - RECORD_HEADER) {
+            return -1;
+        }
+        CRC32C crc = new CRC32C();
+        crc.update(buffer.slice(offset + RECORD_HEADER, length));
+        return (int) crc.getValue() == buffer.getInt(offset + Integer.BYTES) ? length : -1;
+    }
+
+    private long readCheckpoint() throws IOException {
+        Path checkpoint = directory.resolve(CHECKPOINT);
+        return Files.exists(checkpoint) ? ByteBuffer.wrap(Files.readAllBytes(checkpoint)).getLong() : 0L;
+    }
+
+    private List<Integer> segmentIndices() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.map(path -> path.getFileName().toString())
+                    .filter(name -> name.endsWith(SEGMENT_SUFFIX))
+                    .map(name -> Integer.parseInt(name.substring(0, name.length() - SEGMENT_SUFFIX.length())))
+                    .sorted()
+                    .toList();
+        }
+    }
+
+    private MappedByteBuffer map(int index) throws IOException {
+        try (FileChannel channel = FileChannel.open(
+                segmentPath(index), StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            // A segment written with a different configured size keeps its own size
+            long size = channel.size() > 0 ? channel.size() : segmentSize;
+            return channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+        }
+    }
+
+    private Path segmentPath(int index) {
+        return directory.resolve(String.format("%010d%s", index, SEGMENT_SUFFIX));
+    }
+
+    static long position(int segment, int offset) {
+        return ((long) segment << 32) | offset;
+    }
+
+    private static int segmentOf(long position) {
+        return (int) (position >>> 32);
+    }
+
+    private static int offsetOf(long position) {
+        return (int) position;
+    }
+}
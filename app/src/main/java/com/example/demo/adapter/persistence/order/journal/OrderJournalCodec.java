@@ -0,0 +1,123 @@
+package com.example.demo.adapter.persistence.order.journal;
+
+import com.example.demo.domain.dish.DishId;
+import com.example.demo.domain.merchant.MerchantId;
+import com.example.demo.domain.order.DeliveryInfo;
+import com.example.demo.domain.order.Order;
+import com.example.demo.domain.order.OrderId;
+import com.example.demo.domain.order.OrderItem;
+import com.example.demo.domain.order.OrderNumber;
+import com.example.demo.domain.order.OrderStatus;
+import com.example.demo.domain.order.Pricing;
+import com.example.demo.domain.user.UserId;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Binary form of an order in the journal. Unlike the database columns, amounts and timestamps are kept
+ * exactly, so a replayed order is written as if it had been saved directly.
+ */
+final class OrderJournalCodec {
+
+    private static final byte VERSION = 1;
+
+    private OrderJournalCodec() {}
+
+    static byte[] encode(Order order) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(512);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeByte(VERSION);
+            out.writeUTF(order.getId().value());
+            out.writeUTF(order.getOrderNumber().value());
+            out.writeUTF(order.getUserId().value());
+            out.writeUTF(order.getMerchantId().value());
+            out.writeUTF(order.getDeliveryInfo().recipientName());
+            out.writeUTF(order.getDeliveryInfo().recipientPhone());
+            out.writeUTF(order.getDeliveryInfo().address());
+            out.writeBoolean(order.getRemark() != null);
+            if (order.getRemark() != null) {
+                out.writeUTF(order.getRemark());
+            }
+            out.writeUTF(order.getStatus().name());
+            writeAmount(out, order.getPricing().itemsTotal());
+            writeAmount(out, order.getPricing().packagingFee());
+            writeAmount(out, order.getPricing().deliveryFee());
+            writeAmount(out, order.getPricing().finalAmount());
+            writeInstant(out, order.getCreatedAt());
+            writeInstant(out, order.getUpdatedAt());
+            out.writeInt(order.getItems().size());
+            for (OrderItem item : order.getItems()) {
+                out.writeUTF(item.dishId().value());
+                out.writeUTF(item.dishName());
+                out.writeInt(item.quantity());
+                writeAmount(out, item.price());
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        return bytes.toByteArray();
+    }
+
+    static Order decode(byte[] record) {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(record))) {
+            byte version = in.readByte();
+            if (version != VERSION) {
+                throw new IllegalStateException("Unsupported order journal record version " + version);
+            }
+            OrderId id = new OrderId(in.readUTF());
+            OrderNumber orderNumber = new OrderNumber(in.readUTF());
+            UserId userId = UserId.of(in.readUTF());
+            MerchantId merchantId = MerchantId.of(in.readUTF());
+            DeliveryInfo deliveryInfo = new DeliveryInfo(in.readUTF(), in.readUTF(), in.readUTF());
+            String remark = in.readBoolean() ? in.readUTF() : null;
+            OrderStatus status = OrderStatus.valueOf(in.readUTF());
+            Pricing pricing = new Pricing(readAmount(in), readAmount(in), readAmount(in), readAmount(in));
+            Instant createdAt = readInstant(in);
+            Instant updatedAt = readInstant(in);
+            int itemCount = in.readInt();
+            List<OrderItem> items = new ArrayList<>(itemCount);
+            for (int i = 0; i < itemCount; i++) {
+                items.add(new OrderItem(DishId.of(in.readUTF()), in.readUTF(), in.readInt(), readAmount(in)));
+            }
+            return new Order(
+                    id,
+                    orderNumber,
+                    userId,
+                    merchantId,
+                    List.copyOf(items),
+                    deliveryInfo,
+                    remark,
+                    status,
+                    pricing,
+                    createdAt,
+                    updatedAt);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private static void writeAmount(DataOutputStream out, BigDecimal amount) throws IOException {
+        out.writeUTF(amount.toPlainString());
+    }
+
+    private static BigDecimal readAmount(DataInputStream in) throws IOException {
+        return new BigDecimal(in.readUTF());
+    }
+
+    private static void writeInstant(DataOutputStream out, Instant instant) throws IOException {
+        out.writeLong(instant.getEpochSecond());
+        out.writeInt(instant.getNano());
+    }
+
+    private static Instant readInstant(DataInputStream in) throws IOException {
+        return Instant.ofEpochSecond(in.readLong(), in.readInt());
+    }
+}
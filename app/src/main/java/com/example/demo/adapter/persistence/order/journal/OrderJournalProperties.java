@@ -0,0 +1,21 @@
+package com.example.demo.adapter.persistence.order.journal;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * Configuration for the local order journal used by {@code example.persistence.order.write-mode=write-behind}.
+ *
+ * @param directory where journal segments and the drain checkpoint are kept; must survive restarts
+ * @param segmentSize the size of each memory-mapped segment file, preallocated when the journal rolls to it
+ * @param drainBatchSize the number of orders written to the database per transaction
+ * @param drainInterval the delay between drains of the journal into the database
+ */
+@ConfigurationProperties(prefix = "example.persistence.order.journal")
+public record OrderJournalProperties(
+        @DefaultValue("order-journal") String directory,
+        @DefaultValue("64MB") DataSize segmentSize,
+        @DefaultValue("500") int drainBatchSize,
+        @DefaultValue("100ms") Duration drainInterval) {}
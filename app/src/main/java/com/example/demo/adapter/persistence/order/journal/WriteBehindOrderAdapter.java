@@ -0,0 +1,240 @@
+package com.example.demo.adapter.persistence.order.journal;
+
+import com.example.demo.adapter.persistence.datasource.ShardRoutingDataSource;
+import com.example.demo.adapter.persistence.order.adapter.OrderStore;
+import com.example.demo.application.port.BulkSaveOrderPort;
+import com.example.demo.application.port.SaveOrderPort;
+import com.example.demo.domain.order.Order;
+import com.example.demo.domain.order.OrderId;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Write-behind order saving, selected with {@code example.persistence.order.write-mode=write-behind}. An
+ * order is acknowledged once it is durable in the local {@link OrderJournal}; a scheduled writer drains the
+ * journal into the order tables in multi-row batches and checkpoints its progress after each commit.
+ *
+ * <p>An acknowledged order survives a crash of the process or the machine, but not the loss of the journal
+ * directory before it has been drained. Until then, only lookups by ID on this instance see it; other
+ * instances, searches and exports see it once it is drained.
+ *
+ * <p>On restart, the orders after the checkpoint are replayed. The writer may have died after committing a
+ * batch but before checkpointing it, so batches up to the recovered end of the journal, and batches retried
+ * after a failure, skip orders the database already holds.
+ */
+@Component
+@Primary
+@ConditionalOnProperty(prefix = "example.persistence.order", name = "write-mode", havingValue = "write-behind")
+@Slf4j
+public class WriteBehindOrderAdapter implements SaveOrderPort, SchedulingConfigurer {
+
+    private final OrderJournal journal;
+    private final int drainBatchSize;
+    private final Duration drainInterval;
+    private final OrderStore orderStore;
+    private final BulkSaveOrderPort bulkSaveOrderPort;
+    private final TransactionTemplate transactionTemplate;
+    private final ConcurrentMap<OrderId, Order> pending = new ConcurrentHashMap<>();
+    private final Counter appended;
+    private final Counter drained;
+    private long drainedPosition;
+    private long verifyUntil;
+
+    @Autowired
+    public WriteBehindOrderAdapter(
+            OrderJournalProperties properties,
+            OrderStore orderStore,
+            BulkSaveOrderPort bulkSaveOrderPort,
+            TransactionTemplate transactionTemplate,
+            ObjectProvider<ShardRoutingDataSource> shardRoutingDataSource,
+            MeterRegistry meterRegistry) {
+        this(
+                openJournal(properties, shardRoutingDataSource.getIfAvailable() != null, meterRegistry),
+                properties.drainBatchSize(),
+                properties.drainInterval(),
+                orderStore,
+                bulkSaveOrderPort,
+                transactionTemplate,
+                meterRegistry);
+    }
+
+    WriteBehindOrderAdapter(
+            OrderJournal journal,
+            int drainBatchSize,
+            Duration drainInterval,
+            OrderStore orderStore,
+            BulkSaveOrderPort bulkSaveOrderPort,
+            TransactionTemplate transactionTemplate,
+            MeterRegistry meterRegistry) {
+        this.journal = journal;
+        this.drainBatchSize = drainBatchSize;
+        this.drainInterval = drainInterval;
+        this.orderStore = orderStore;
+        this.bulkSaveOrderPort = bulkSaveOrderPort;
+        this.transactionTemplate = transactionTemplate;
+        this.appended = meterRegistry.counter("order.journal.appends");
+        this.drained = meterRegistry.counter("order.journal.drained");
+        Gauge.builder("order.journal.pending", pending, ConcurrentMap::size).register(meterRegistry);
+
+        drainedPosition = journal.checkpointed();
+        verifyUntil = journal.end();
+        // Replayed orders stay readable by ID until they are drained
+        for (long position = drainedPosition; position < verifyUntil; ) {
+            OrderJournal.Batch batch = journal.read(position, drainBatchSize);
+            if (batch.orders().isEmpty()) {
+                break;
+            }
+            batch.orders().forEach(order -> pending.put(order.getId(), order));
+            position = batch.next();
+        }
+        if (!pending.isEmpty()) {
+            log.info("Replaying {} journaled orders", pending.size());
+        }
+    }
+
+    /**
+     * Appends the order to the journal, returning once it is durable.
+     *
+     * @throws DataAccessResourceFailureException if the journal is shutting down or cannot be forced to disk
+     */
+    @Override
+    public void save(Order order) {
+        pending.put(order.getId(), order);
+        try {
+            journal.append(order);
+        } catch (IllegalStateException ex) {
+            pending.remove(order.getId());
+            // The order was not accepted, so the caller may retry, on another instance if need be
+            throw new DataAccessResourceFailureException(ex.getMessage(), ex);
+        } catch (RuntimeException ex) {
+            pending.remove(order.getId());
+            throw ex;
+        }
+        appended.increment();
+    }
+
+    /**
+     * Orders are acknowledged from the journal; the database is only written by the drain.
+     */
+    @Override
+    public boolean requiresTransaction() {
+        return false;
+    }
+
+    /**
+     * Returns an order that is journaled but not yet in the database.
+     */
+    public Optional<Order> findPending(OrderId orderId) {
+        return Optional.ofNullable(pending.get(orderId));
+    }
+
+    @Override
+    public void configureTasks(ScheduledTaskRegistrar taskRegistrar) {
+        taskRegistrar.addFixedDelayTask(this::drainScheduled, drainInterval);
+    }
+
+    public void drainScheduled() {
+        try {
+            drain();
+        } catch (RuntimeException ex) {
+            // The batch stays in the journal and is retried on the next run
+            log.warn("Failed to drain the order journal", ex);
+        }
+    }
+
+    /**
+     * Writes journaled orders to the database, one transaction per batch, until the journal is drained.
+     *
+     * @return the number of orders inserted
+     */
+    public synchronized int drain() {
+        int inserted = 0;
+        while (true) {
+            OrderJournal.Batch batch = journal.read(drainedPosition, drainBatchSize);
+            if (batch.orders().isEmpty()) {
+                return inserted;
+            }
+            boolean verify = drainedPosition < verifyUntil;
+            try {
+                inserted += transactionTemplate.execute(status -> insert(batch.orders(), verify));
+                journal.checkpoint(batch.next());
+            } catch (RuntimeException ex) {
+                // The commit may have gone through before the failure surfaced
+                verifyUntil = Math.max(verifyUntil, batch.next());
+                throw ex;
+            }
+            drainedPosition = batch.next();
+            batch.orders().forEach(order -> pending.remove(order.getId()));
+            drained.increment(batch.orders().size());
+            if (batch.orders().size() < drainBatchSize) {
+                return inserted;
+            }
+        }
+    }
+
+    int pendingCount() {
+        return pending.size();
+    }
+
+    /**
+     * Stops accepting orders and drains what is left; whatever fails to drain is replayed on restart.
+     */
+    @PreDestroy
+    public void close() {
+        journal.close();
+        try {
+            drain();
+        } catch (RuntimeException ex) {
+            log.warn(
+                    "Failed to drain the order journal on shutdown; {} orders are replayed on restart",
+                    pending.size(),
+                    ex);
+        }
+    }
+
+    private int insert(List<Order> orders, boolean verify) {
+        List<Order> missing = orders;
+        if (verify) {
+            Set<OrderId> existing = orderStore.findAllById(orders.stream().map(Order::getId).toList()).stream()
+                    .map(Order::getId)
+                    .collect(Collectors.toSet());
+            missing = orders.stream()
+                    .filter(order -> !existing.contains(order.getId()))
+                    .toList();
+        }
+        if (!missing.isEmpty()) {
+            bulkSaveOrderPort.saveAll(missing);
+        }
+        return missing.size();
+    }
+
+    private static OrderJournal openJournal(
+            OrderJournalProperties properties, boolean sharded, MeterRegistry meterRegistry) {
+        if (sharded) {
+            // Batches are written with the bulk insert path, which is bound to a single database
+            throw new IllegalStateException("Write-behind mode does not support sharding");
+        }
+        return new OrderJournal(
+                Path.of(properties.directory()), Math.toIntExact(properties.segmentSize().toBytes()), meterRegistry);
+    }
+}
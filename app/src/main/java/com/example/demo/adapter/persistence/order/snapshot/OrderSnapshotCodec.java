@@ -0,0 +1,249 @@
+package com.example.demo.adapter.persistence.order.snapshot;
+
+import com.example.demo.domain.dish.DishId;
+import com.example.demo.domain.merchant.MerchantId;
+import com.example.demo.domain.order.DeliveryInfo;
+import com.example.demo.domain.order.Order;
+import com.example.demo.domain.order.OrderId;
+import com.example.demo.domain.order.OrderItem;
+import com.example.demo.domain.order.OrderNumber;
+import com.example.demo.domain.order.OrderStatus;
+import com.example.demo.domain.order.Pricing;
+import com.example.demo.domain.user.UserId;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Fixed-layout binary form of an order in the snapshot arenas. The record starts with a fixed header
+ * followed by the strings and the items:
+ *
+ * <pre>
+ *  0 recordLength:int   4 idHash:int
+ *  8 createdAtSeconds:long  16 createdAtNanos:int  20 updatedAtSeconds:long  28 updatedAtNanos:int
+ * 32 itemsTotal:long  40 packagingFee:long  48 deliveryFee:long  56 finalAmount:long  (hundredths)
+ * 64 status:byte  65 unused:byte  66 itemCount:short
+ * 68 id, orderNumber, userId, merchantId, recipientName, recipientPhone, address, remark:string
+ *    (dishId:string, dishName:string, quantity:int, price:long)*
+ * </pre>
+ *
+ * Strings are an unsigned short byte length followed by UTF-8, with {@code 0xFFFF} for null. Amounts are kept
+ * at scale 2 and timestamps rounded like the database columns, so a snapshot decodes to the same values as
+ * a row read back from the database.
+ */
+final class OrderSnapshotCodec {
+
+    static final int HEADER_LENGTH = 68;
+
+    private static final int ID_HASH = 4;
+    private static final int CREATED_AT = 8;
+    private static final int UPDATED_AT = 20;
+    private static final int PRICING = 32;
+    private static final int STATUS = 64;
+    private static final int ITEM_COUNT = 66;
+    private static final int NULL_STRING = 0xFFFF;
+    private static final int AMOUNT_SCALE = 2;
+    private static final OrderStatus[] STATUSES = OrderStatus.values();
+
+    private OrderSnapshotCodec() {}
+
+    static int idHash(String orderId) {
+        return orderId.hashCode();
+    }
+
+    static byte[] idBytes(String orderId) {
+        return orderId.getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * @param order the order
+     * @param timestampPrecision fractional second digits kept by the database timestamp columns
+     * @return the encoded record
+     */
+    static byte[] encode(Order order, int timestampPrecision) {
+        List<byte[]> strings = new ArrayList<>(8 + order.getItems().size() * 2);
+        strings.add(utf8(order.getId().value()));
+        strings.add(utf8(order.getOrderNumber().value()));
+        strings.add(utf8(order.getUserId().value()));
+        strings.add(utf8(order.getMerchantId().value()));
+        strings.add(utf8(order.getDeliveryInfo().recipientName()));
+        strings.add(utf8(order.getDeliveryInfo().recipientPhone()));
+        strings.add(utf8(order.getDeliveryInfo().address()));
+        strings.add(utf8(order.getRemark()));
+        for (OrderItem item : order.getItems()) {
+            strings.add(utf8(item.dishId().value()));
+            strings.add(utf8(item.dishName()));
+        }
+        int length = HEADER_LENGTH + order.getItems().size() * (Integer.BYTES + Long.BYTES);
+        for (byte[] string : strings) {
+            length += Short.BYTES + (string == null ? 0 : string.length);
+        }
+
+        ByteBuffer out = ByteBuffer.allocate(length);
+        Instant createdAt = round(order.getCreatedAt(), timestampPrecision);
+        Instant updatedAt = round(order.getUpdatedAt(), timestampPrecision);
+        Pricing pricing = order.getPricing();
+        out.putInt(length)
+                .putInt(idHash(order.getId().value()))
+                .putLong(createdAt.getEpochSecond())
+                .putInt(createdAt.getNano())
+                .putLong(updatedAt.getEpochSecond())
+                .putInt(updatedAt.getNano())
+                .putLong(hundredths(pricing.itemsTotal()))
+                .putLong(hundredths(pricing.packagingFee()))
+                .putLong(hundredths(pricing.deliveryFee()))
+                .putLong(hundredths(pricing.finalAmount()))
+                .put((byte) order.getStatus().ordinal())
+                .put((byte) 0)
+                .putShort((short) order.getItems().size());
+        for (int i = 0; i < 8; i++) {
+            putString(out, strings.get(i));
+        }
+        for (int i = 0; i < order.getItems().size(); i++) {
+            OrderItem item = order.getItems().get(i);
+            putString(out, strings.get(8 + i * 2));
+            putString(out, strings.get(9 + i * 2));
+            out.putInt(item.quantity()).putLong(hundredths(item.price()));
+        }
+        return out.array();
+    }
+
+    static int recordLength(ByteBuffer arena, int offset) {
+        return arena.getInt(offset);
+    }
+
+    static int idHash(ByteBuffer arena, int offset) {
+        return arena.getInt(offset + ID_HASH);
+    }
+
+    static long createdAtSeconds(ByteBuffer arena, int offset) {
+        return arena.getLong(offset + CREATED_AT);
+    }
+
+    static boolean idEquals(ByteBuffer arena, int offset, byte[] id) {
+        int position = offset + HEADER_LENGTH;
+        if (Short.toUnsignedInt(arena.getShort(position)) != id.length) {
+            return false;
+        }
+        position += Short.BYTES;
+        for (int i = 0; i < id.length; i++) {
+            if (arena.get(position + i) != id[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    static Order decode(ByteBuffer arena, int offset) {
+        int itemCount = Short.toUnsignedInt(arena.getShort(offset + ITEM_COUNT));
+        Reader in = new Reader(arena, offset + HEADER_LENGTH);
+        OrderId id = new OrderId(in.string());
+        OrderNumber orderNumber = new OrderNumber(in.string());
+        UserId userId = UserId.of(in.string());
+        MerchantId merchantId = MerchantId.of(in.string());
+        DeliveryInfo deliveryInfo = new DeliveryInfo(in.string(), in.string(), in.string());
+        String remark = in.string();
+        List<OrderItem> items = new ArrayList<>(itemCount);
+        for (int i = 0; i < itemCount; i++) {
+            items.add(new OrderItem(DishId.of(in.string()), in.string(), in.integer(), amount(in.longValue())));
+        }
+        return new Order(
+                id,
+                orderNumber,
+                userId,
+                merchantId,
+                List.copyOf(items),
+                deliveryInfo,
+                remark,
+                STATUSES[arena.get(offset + STATUS)],
+                new Pricing(
+                        amount(arena.getLong(offset + PRICING)),
+                        amount(arena.getLong(offset + PRICING + 8)),
+                        amount(arena.getLong(offset + PRICING + 16)),
+                        amount(arena.getLong(offset + PRICING + 24))),
+                Instant.ofEpochSecond(arena.getLong(offset + CREATED_AT), arena.getInt(offset + CREATED_AT + 8)),
+                Instant.ofEpochSecond(arena.getLong(offset + UPDATED_AT), arena.getInt(offset + UPDATED_AT + 8)));
+    }
+
+    /**
+     * Rounds half up to the given number of fractional second digits, as MySQL and H2 do when storing into a
+     * {@code TIMESTAMP(precision)} column.
+     */
+    static Instant round(Instant instant, int precision) {
+        if (precision >= 9) {
+            return instant;
+        }
+        long unit = (long) Math.pow(10, 9 - precision);
+        long nanos = (instant.getNano() + unit / 2) / unit * unit;
+        return Instant.ofEpochSecond(instant.getEpochSecond(), nanos);
+    }
+
+    private static long hundredths(BigDecimal amount) {
+        return amount.setScale(AMOUNT_SCALE, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+    }
+
+    private static BigDecimal amount(long hundredths) {
+        return BigDecimal.valueOf(hundredths, AMOUNT_SCALE);
+    }
+
+    private static byte[] utf8(String value) {
+        if (value == null) {
+            return null;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length >= NULL_STRING) {
+            throw new IllegalArgumentException("String too long for an order snapshot: " + bytes.length + " bytes");
+        }
+        return bytes;
+    }
+
+    private static void putString(ByteBuffer out, byte[] value) {
+        if (value == null) {
+            out.putShort((short) NULL_STRING);
+            return;
+        }
+        out.putShort((short) value.length).put(value);
+    }
+
+    /**
+     * Sequential reader over absolute positions, so concurrent readers never touch the arena's own position.
+     */
+    private static final class Reader {
+
+        private final ByteBuffer arena;
+        private int position;
+
+        Reader(ByteBuffer arena, int position) {
+            this.arena = arena;
+            this.position = position;
+        }
+
+        String string() {
+            int length = Short.toUnsignedInt(arena.getShort(position));
+            position += Short.BYTES;
+            if (length == NULL_STRING) {
+                return null;
+            }
+            byte[] bytes = new byte[length];
+            arena.get(position, bytes);
+            position += length;
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+
+        int integer() {
+            int value = arena.getInt(position);
+            position += Integer.BYTES;
+            return value;
+        }
+
+        long longValue() {
+            long value = arena.getLong(position);
+            position += Long.BYTES;
+            return value;
+        }
+    }
+}
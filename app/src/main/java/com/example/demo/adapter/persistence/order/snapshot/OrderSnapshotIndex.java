@@ -0,0 +1,132 @@
+package com.example.demo.adapter.persistence.order.snapshot;
+
+import java.util.Arrays;
+
+/**
+ * Open-addressing hash table from order ID hash to record location, with linear probing and backward-shift
+ * deletion so that removals leave no tombstones. The table stores only hashes and locations; the caller
+ * confirms a candidate by comparing the full ID stored in the record. Not thread-safe.
+ */
+final class OrderSnapshotIndex {
+
+    static final long NOT_FOUND = -1L;
+
+    private static final long EMPTY = -1L;
+    private static final double MAX_LOAD = 0.5;
+
+    private int[] hashes;
+    private long[] locations;
+    private int mask;
+    private int size;
+
+    @FunctionalInterface
+    interface KeyMatcher {
+        boolean matches(long location);
+    }
+
+    OrderSnapshotIndex(int initialCapacity) {
+        allocate(Math.max(Integer.highestOneBit(Math.max(initialCapacity, 2) - 1) << 1, 2));
+    }
+
+    long find(int hash, KeyMatcher matcher) {
+        for (int slot = home(hash); locations[slot] != EMPTY; slot = (slot + 1) & mask) {
+            if (hashes[slot] == hash && matcher.matches(locations[slot])) {
+                return locations[slot];
+            }
+        }
+        return NOT_FOUND;
+    }
+
+    /**
+     * Adds a location, replacing the entry of the same key if there is one.
+     *
+     * @return the replaced location, or {@link #NOT_FOUND}
+     */
+    long put(int hash, long location, KeyMatcher sameKey) {
+        if (size + 1 > locations.length * MAX_LOAD) {
+            resize(locations.length * 2);
+        }
+        int slot = home(hash);
+        for (; locations[slot] != EMPTY; slot = (slot + 1) & mask) {
+            if (hashes[slot] == hash && sameKey.matches(locations[slot])) {
+                long replaced = locations[slot];
+                locations[slot] = location;
+                return replaced;
+            }
+        }
+        hashes[slot] = hash;
+        locations[slot] = location;
+        size++;
+        return NOT_FOUND;
+    }
+
+    /**
+     * Removes the entry pointing at exactly this location, if present.
+     */
+    boolean remove(int hash, long location) {
+        for (int slot = home(hash); locations[slot] != EMPTY; slot = (slot + 1) & mask) {
+            if (locations[slot] == location) {
+                shiftBack(slot);
+                size--;
+                return true;
+            }
+        }
+        return false;
+    }
+
+    int size() {
+        return size;
+    }
+
+    int capacity() {
+        return locations.length;
+    }
+
+    private void shiftBack(int hole) {
+        int slot = hole;
+        while (true) {
+            slot = (slot + 1) & mask;
+            if (locations[slot] == EMPTY) {
+                break;
+            }
+            int home = home(hashes[slot]);
+            // The entry may fill the hole only if its home slot is not cyclically within (hole, slot]
+            boolean reachable = hole <= slot ? home > hole && home <= slot : home > hole || home <= slot;
+            if (!reachable) {
+                hashes[hole] = hashes[slot];
+                locations[hole] = locations[slot];
+                hole = slot;
+            }
+        }
+        locations[hole] = EMPTY;
+    }
+
+    private void resize(int capacity) {
+        int[] oldHashes = hashes;
+        long[] oldLocations = locations;
+        allocate(capacity);
+        for (int i = 0; i < oldLocations.length; i++) {
+            if (oldLocations[i] != EMPTY) {
+                int slot = home(oldHashes[i]);
+                while (locations[slot] != EMPTY) {
+                    slot = (slot + 1) & mask;
+                }
+                hashes[slot] = oldHashes[i];
+                locations[slot] = oldLocations[i];
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        hashes = new int[capacity];
+        locations = new long[capacity];
+        Arrays.fill(locations, EMPTY);
+        mask = capacity - 1;
+    }
+
+    private int home(int hash) {
+        // Spread String.hashCode, whose low bits are weak for similar UUIDs
+        int spread = hash * 0x9E3779B9;
+        return (spread ^ (spread >>> 16)) & mask;
+    }
+}
@@ -0,0 +1,25 @@
+package com.example.demo.adapter.persistence.order.snapshot;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * Configuration for the off-heap snapshot of recently created orders.
+ *
+ * @param maxAge orders created longer ago are no longer served from the snapshot
+ * @param arenas the number of direct buffers in the ring; memory is reclaimed one arena at a time
+ * @param arenaSize the size of each direct buffer, allocated when the ring first reaches it
+ * @param timestampPrecision fractional second digits of the database timestamp columns (6 for H2, 0 for the
+ *     MySQL schema), so that snapshots carry the same timestamps, and ETags, as rows read from the database
+ * @param evictionInterval the delay between checks for arenas whose orders have all expired
+ */
+@ConfigurationProperties(prefix = "example.persistence.order.snapshot")
+public record OrderSnapshotProperties(
+        boolean enabled,
+        @DefaultValue("6h") Duration maxAge,
+        @DefaultValue("8") int arenas,
+        @DefaultValue("32MB") DataSize arenaSize,
+        @DefaultValue("6") int timestampPrecision,
+        @DefaultValue("1m") Duration evictionInterval) {}
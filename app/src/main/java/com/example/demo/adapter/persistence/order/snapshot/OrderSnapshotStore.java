@@ -0,0 +1,246 @@
+package com.example.demo.adapter.persistence.order.snapshot;
+
+import com.example.demo.application.port.LoadOrderPort;
+import com.example.demo.domain.order.Order;
+import com.example.demo.domain.order.OrderCreatedEvent;
+import com.example.demo.domain.order.OrderId;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.InstantSource;
+import java.util.Optional;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Off-heap snapshot of recently created orders, answering lookups without a database round trip and without
+ * keeping order graphs on the heap. Orders are appended as {@link OrderSnapshotCodec} records to a ring of
+ * direct-buffer arenas and located through an {@link OrderSnapshotIndex}.
+ *
+ * <p>An arena is closed once it is full or holds orders older than its share of the maximum age. When the
+ * ring wraps, or the newest order in the oldest arena expires, that whole arena is dropped and its records are
+ * removed from the index. Lookups additionally skip records past the maximum age, so the bound is exact.
+ *
+ * <p>Orders are never updated after creation, so an entry stays valid until it is evicted.
+ */
+@Component
+@ConditionalOnProperty(prefix = "example.persistence.order.snapshot", name = "enabled", havingValue = "true")
+@Slf4j
+public class OrderSnapshotStore implements LoadOrderPort, SchedulingConfigurer {
+
+    private final ByteBuffer[] arenas;
+    private final int[] arenaEnds;
+    private final long[] arenaOldestSeconds;
+    private final long[] arenaNewestSeconds;
+    private final int arenaSize;
+    private final long maxAgeSeconds;
+    private final long arenaSliceSeconds;
+    private final int timestampPrecision;
+    private final Duration evictionInterval;
+    private final InstantSource clock;
+    private final OrderSnapshotIndex index = new OrderSnapshotIndex(1024);
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter expiredEvictions;
+    private final Counter capacityEvictions;
+    private final Counter rejected;
+    private int oldest;
+    private int current;
+
+    @Autowired
+    public OrderSnapshotStore(OrderSnapshotProperties properties, MeterRegistry meterRegistry) {
+        this(properties, meterRegistry, InstantSource.system());
+    }
+
+    OrderSnapshotStore(OrderSnapshotProperties properties, MeterRegistry meterRegistry, InstantSource clock) {
+        if (properties.arenas() < 2) {
+            throw new IllegalArgumentException("The order snapshot needs at least two arenas");
+        }
+        this.arenas = new ByteBuffer[properties.arenas()];
+        this.arenaEnds = new int[properties.arenas()];
+        this.arenaOldestSeconds = new long[properties.arenas()];
+        this.arenaNewestSeconds = new long[properties.arenas()];
+        this.arenaSize = Math.toIntExact(properties.arenaSize().toBytes());
+        this.maxAgeSeconds = properties.maxAge().toSeconds();
+        this.arenaSliceSeconds = Math.max(maxAgeSeconds / properties.arenas(), 1);
+        this.timestampPrecision = properties.timestampPrecision();
+        this.evictionInterval = properties.evictionInterval();
+        this.clock = clock;
+        this.hits = meterRegistry.counter("order.snapshot.lookups", "outcome", "hit");
+        this.misses = meterRegistry.counter("order.snapshot.lookups", "outcome", "miss");
+        this.expiredEvictions = meterRegistry.counter("order.snapshot.evicted.arenas", "reason", "expired");
+        this.capacityEvictions = meterRegistry.counter("order.snapshot.evicted.arenas", "reason", "capacity");
+        this.rejected = meterRegistry.counter("order.snapshot.rejected");
+        Gauge.builder("order.snapshot.orders", this, OrderSnapshotStore::size).register(meterRegistry);
+        Gauge.builder("order.snapshot.used", this, OrderSnapshotStore::usedBytes)
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onOrderCreated(OrderCreatedEvent event) {
+        try {
+            put(event.order());
+        } catch (RuntimeException ex) {
+            // The order is stored; lookups fall through to the database
+            log.warn("Failed to snapshot order {}", event.order().getId().value(), ex);
+        }
+    }
+
+    public void put(Order order) {
+        byte[] record = OrderSnapshotCodec.encode(order, timestampPrecision);
+        if (record.length > arenaSize) {
+            rejected.increment();
+            return;
+        }
+        long createdAt = order.getCreatedAt().getEpochSecond();
+        lock.writeLock().lock();
+        try {
+            int arena = arenaFor(record.length, clock.instant().getEpochSecond());
+            int offset = arenaEnds[arena];
+            arenas[arena].put(offset, record);
+            arenaEnds[arena] = offset + record.length;
+            if (offset == 0) {
+                arenaOldestSeconds[arena] = createdAt;
+            }
+            arenaNewestSeconds[arena] = Math.max(arenaNewestSeconds[arena], createdAt);
+            byte[] id = OrderSnapshotCodec.idBytes(order.getId().value());
+            index.put(
+                    OrderSnapshotCodec.idHash(order.getId().value()),
+                    location(arena, offset),
+                    location -> OrderSnapshotCodec.idEquals(arenaOf(location), offsetOf(location), id));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public Optional<Order> findById(OrderId orderId) {
+        byte[] id = OrderSnapshotCodec.idBytes(orderId.value());
+        long expiredBefore = clock.instant().getEpochSecond() - maxAgeSeconds;
+        lock.readLock().lock();
+        try {
+            long location = index.find(
+                    OrderSnapshotCodec.idHash(orderId.value()),
+                    candidate -> OrderSnapshotCodec.idEquals(arenaOf(candidate), offsetOf(candidate), id));
+            if (location == OrderSnapshotIndex.NOT_FOUND
+                    || OrderSnapshotCodec.createdAtSeconds(arenaOf(location), offsetOf(location)) < expiredBefore) {
+                misses.increment();
+                return Optional.empty();
+            }
+            hits.increment();
+            return Optional.of(OrderSnapshotCodec.decode(arenaOf(location), offsetOf(location)));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public void configureTasks(ScheduledTaskRegistrar taskRegistrar) {
+        taskRegistrar.addFixedDelayTask(this::evictExpired, evictionInterval);
+    }
+
+    /**
+     * Drops the arenas whose newest order has passed the maximum age.
+     */
+    public void evictExpired() {
+        long expiredBefore = clock.instant().getEpochSecond() - maxAgeSeconds;
+        lock.writeLock().lock();
+        try {
+            while (arenaEnds[oldest] > 0 && arenaNewestSeconds[oldest] < expiredBefore) {
+                expiredEvictions.increment();
+                clear(oldest);
+                if (oldest == current) {
+                    break;
+                }
+                oldest = next(oldest);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    int size() {
+        lock.readLock().lock();
+        try {
+            return index.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    long usedBytes() {
+        lock.readLock().lock();
+        try {
+            long used = 0;
+            for (int end : arenaEnds) {
+                used += end;
+            }
+            return used;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the arena to append a record of the given length to, moving to the next arena when the current
+     * one is full or has covered its time slice, and evicting the oldest arena when the ring is full.
+     */
+    private int arenaFor(int length, long nowSeconds) {
+        if (arenas[current] == null) {
+            arenas[current] = ByteBuffer.allocateDirect(arenaSize);
+        }
+        boolean full = arenaEnds[current] + length > arenaSize;
+        boolean sliceCovered = arenaEnds[current] > 0 && arenaOldestSeconds[current] <= nowSeconds - arenaSliceSeconds;
+        if (!full && !sliceCovered) {
+            return current;
+        }
+        int next = next(current);
+        if (next == oldest) {
+            capacityEvictions.increment();
+            clear(oldest);
+            oldest = next(oldest);
+        }
+        current = next;
+        if (arenas[current] == null) {
+            arenas[current] = ByteBuffer.allocateDirect(arenaSize);
+        }
+        return current;
+    }
+
+    private void clear(int arena) {
+        ByteBuffer buffer = arenas[arena];
+        for (int offset = 0; offset < arenaEnds[arena]; ) {
+            index.remove(OrderSnapshotCodec.idHash(buffer, offset), location(arena, offset));
+            offset += OrderSnapshotCodec.recordLength(buffer, offset);
+        }
+        arenaEnds[arena] = 0;
+        arenaOldestSeconds[arena] = 0;
+        arenaNewestSeconds[arena] = 0;
+    }
+
+    private int next(int arena) {
+        return (arena + 1) % arenas.length;
+    }
+
+    private ByteBuffer arenaOf(long location) {
+        return arenas[(int) (location >>> 32)];
+    }
+
+    private static int offsetOf(long location) {
+        return (int) location;
+    }
+
+    private static long location(int arena, int offset) {
+        return ((long) arena << 32) | offset;
+    }
+}
@@ -0,0 +1,21 @@
+package com.example.demo.adapter.persistence.order.snapshot;
+
+import com.example.demo.application.port.LoadOrderPort;
+import com.example.demo.domain.order.Order;
+import com.example.demo.domain.order.OrderId;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Answers lookups from the off-heap snapshot of recent orders; only misses reach the delegate.
+ */
+@RequiredArgsConstructor
+public class SnapshotLoadOrderAdapter implements LoadOrderPort {
+
+    private final OrderSnapshotStore orderSnapshotStore;
+    private final LoadOrderPort delegate;
+
+    public Optional<Order> findById(OrderId orderId) {
+        return orderSnapshotStore.findById(orderId).or(() -> delegate.findById(orderId));
+    }
+}
@@ -0,0 +1,228 @@
+package com.example.demo.adapter.persistence.profiling;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.function.Supplier;
+import javax.sql.DataSource;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+/**
+ * Hands out connections whose statements report each execution to the {@link StatementProfiler}: its SQL, how
+ * long it ran, the rows it updated or, once its result set is closed, the rows read, and the size of its batch.
+ *
+ * <p>The profiler is looked up on the first connection, so that wrapping the datasource does not pull the meter
+ * registry into the datasource initialization.
+ */
+class ProfilingDataSource extends DelegatingDataSource {
+
+    static final Class<?>[] PROXIED_INTERFACES = {
+        Connection.class, Statement.class, PreparedStatement.class, CallableStatement.class, ResultSet.class
+    };
+
+    private final Supplier<StatementProfiler> profilerSupplier;
+    private volatile StatementProfiler profiler;
+
+    ProfilingDataSource(DataSource targetDataSource, Supplier<StatementProfiler> profilerSupplier) {
+        super(targetDataSource);
+        this.profilerSupplier = profilerSupplier;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return connection(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return connection(super.getConnection(username, password));
+    }
+
+    private Connection connection(Connection target) {
+        StatementProfiler statementProfiler = profiler;
+        if (statementProfiler == null) {
+            statementProfiler = profilerSupplier.get();
+            profiler = statementProfiler;
+        }
+        return proxy(Connection.class, new ConnectionHandler(target, statementProfiler));
+    }
+
+    private static <T> T proxy(Class<T> type, InvocationHandler handler) {
+        return type.cast(
+                Proxy.newProxyInstance(ProfilingDataSource.class.getClassLoader(), new Class<?>[] {type}, handler));
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException ex) {
+            throw ex.getCause();
+        }
+    }
+
+    /**
+     * Proxies compare by identity; delegating {@code equals} would compare the target with the proxy.
+     */
+    private static Object identity(Object proxy, Method method, Object[] args) {
+        if (method.getName().equals("equals")) {
+            return proxy == args[0];
+        }
+        return System.identityHashCode(proxy);
+    }
+
+    private static boolean isIdentityMethod(Method method) {
+        return (method.getName().equals("equals") && method.getParameterCount() == 1)
+                || (method.getName().equals("hashCode") && method.getParameterCount() == 0);
+    }
+
+    private record ConnectionHandler(Connection target, StatementProfiler profiler) implements InvocationHandler {
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            if (isIdentityMethod(method)) {
+                return identity(proxy, method, args);
+            }
+            Object result = ProfilingDataSource.invoke(target, method, args);
+            return switch (method.getName()) {
+                case "createStatement" -> proxy(Statement.class, new StatementHandler(result, null, profiler));
+                case "prepareStatement" ->
+                    proxy(PreparedStatement.class, new StatementHandler(result, (String) args[0], profiler));
+                case "prepareCall" ->
+                    proxy(CallableStatement.class, new StatementHandler(result, (String) args[0], profiler));
+                default -> result;
+            };
+        }
+    }
+
+    private static final class StatementHandler implements InvocationHandler {
+
+        private final Object target;
+        // Null for plain statements, which take their SQL with each execution
+        private final String preparedSql;
+        private final StatementProfiler profiler;
+        private String batchSql;
+        private int batchSize;
+        private String lastSql;
+
+        StatementHandler(Object target, String preparedSql, StatementProfiler profiler) {
+            this.target = target;
+            this.preparedSql = preparedSql;
+            this.profiler = profiler;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            if (isIdentityMethod(method)) {
+                return identity(proxy, method, args);
+            }
+            switch (method.getName()) {
+                case "addBatch" -> {
+                    if (batchSql == null) {
+                        batchSql = args != null && args.length == 1 ? (String) args[0] : preparedSql;
+                    }
+                    batchSize++;
+                }
+                case "clearBatch" -> clearBatch();
+                case "execute", "executeQuery", "executeUpdate", "executeLargeUpdate" -> {
+                    return execute(method, args, sqlOf(args), 0);
+                }
+                case "executeBatch", "executeLargeBatch" -> {
+                    String sql = batchSql;
+                    int size = batchSize;
+                    clearBatch();
+                    return execute(method, args, sql, size);
+                }
+                case "getResultSet" -> {
+                    return resultSet(ProfilingDataSource.invoke(target, method, args), lastSql);
+                }
+                default -> {}
+            }
+            return ProfilingDataSource.invoke(target, method, args);
+        }
+
+        private Object execute(Method method, Object[] args, String sql, int size) throws Throwable {
+            lastSql = sql;
+            long started = System.nanoTime();
+            Object result = null;
+            boolean success = false;
+            try {
+                result = ProfilingDataSource.invoke(target, method, args);
+                success = true;
+            } finally {
+                profiler.executed(sql, System.nanoTime() - started, rowsOf(result), size, success);
+            }
+            return result instanceof ResultSet resultSet ? resultSet(resultSet, sql) : result;
+        }
+
+        private String sqlOf(Object[] args) {
+            return args != null && args.length > 0 && args[0] instanceof String sql ? sql : preparedSql;
+        }
+
+        private void clearBatch() {
+            batchSql = null;
+            batchSize = 0;
+        }
+
+        private Object resultSet(Object resultSet, String sql) {
+            return resultSet == null ? null : proxy(ResultSet.class, new ResultSetHandler(resultSet, sql, profiler));
+        }
+
+        private static long rowsOf(Object result) {
+            if (result instanceof Number updated) {
+                return updated.longValue();
+            }
+            long rows = 0;
+            if (result instanceof int[] batch) {
+                for (int updated : batch) {
+                    rows += Math.max(updated, 0);
+                }
+                return rows;
+            }
+            if (result instanceof long[] batch) {
+                for (long updated : batch) {
+                    rows += Math.max(updated, 0);
+                }
+                return rows;
+            }
+            // A result set, whose rows are counted as they are read, or the flag returned by execute
+            return -1;
+        }
+    }
+
+    private static final class ResultSetHandler implements InvocationHandler {
+
+        private final Object target;
+        private final String sql;
+        private final StatementProfiler profiler;
+        private long rows;
+        private boolean closed;
+
+        ResultSetHandler(Object target, String sql, StatementProfiler profiler) {
+            this.target = target;
+            this.sql = sql;
+            this.profiler = profiler;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            if (isIdentityMethod(method)) {
+                return identity(proxy, method, args);
+            }
+            Object result = ProfilingDataSource.invoke(target, method, args);
+            if (method.getName().equals("next") && Boolean.TRUE.equals(result)) {
+                rows++;
+            } else if (method.getName().equals("close") && !closed) {
+                closed = true;
+                profiler.fetched(sql, rows);
+            }
+            return result;
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.example.demo.adapter.persistence.profiling;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * The statements one request has run so far, counted per fingerprint.
+ */
+final class RequestStatements {
+
+    static final String UNMAPPED = "unmapped";
+
+    private final Supplier<String> endpointResolver;
+    private final Map<String, Integer> executions = new LinkedHashMap<>();
+    private String endpoint;
+    private int statements;
+
+    /**
+     * @param endpointResolver resolves the endpoint handling the request, null until it is known
+     */
+    RequestStatements(Supplier<String> endpointResolver) {
+        this.endpointResolver = endpointResolver;
+    }
+
+    String endpoint() {
+        if (endpoint == null) {
+            endpoint = endpointResolver.get();
+        }
+        return endpoint == null ? UNMAPPED : endpoint;
+    }
+
+    void executed(String fingerprint) {
+        executions.merge(fingerprint, 1, Integer::sum);
+        statements++;
+    }
+
+    int statements() {
+        return statements;
+    }
+
+    /**
+     * @return how often each statement ran, in the order they first ran
+     */
+    Map<String, Integer> executions() {
+        return executions;
+    }
+}
@@ -0,0 +1,16 @@
+package com.example.demo.adapter.persistence.profiling;
+
+import java.time.Instant;
+
+/**
+ * A statement that ran for at least the slow query threshold.
+ *
+ * @param finishedAt when the statement finished
+ * @param endpoint the endpoint whose request ran the statement, {@code none} outside a request
+ * @param statement the fingerprint of the statement
+ * @param durationMillis how long the statement ran
+ * @param rows the rows it updated, or -1 for queries, whose rows are only known once read
+ * @param batchSize the statements sent in its batch, or 0 if it was not batched
+ */
+public record SlowQuery(
+        Instant finishedAt, String endpoint, String statement, double durationMillis, long rows, int batchSize) {}
@@ -0,0 +1,42 @@
+package com.example.demo.adapter.persistence.profiling;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Keeps the most recent slow queries in a fixed size ring, overwriting the oldest once full.
+ */
+public class SlowQueryLog {
+
+    private final SlowQuery[] entries;
+    private int next;
+    private int size;
+
+    public SlowQueryLog(int capacity) {
+        this.entries = new SlowQuery[Math.max(1, capacity)];
+    }
+
+    synchronized void add(SlowQuery slowQuery) {
+        entries[next] = slowQuery;
+        next = (next + 1) % entries.length;
+        size = Math.min(size + 1, entries.length);
+    }
+
+    /**
+     * @return the kept slow queries, most recent first
+     */
+    public synchronized List<SlowQuery> recent() {
+        List<SlowQuery> recent = new ArrayList<>(size);
+        for (int i = 1; i <= size; i++) {
+            recent.add(entries[(next - i + entries.length) % entries.length]);
+        }
+        return recent;
+    }
+
+    public synchronized void clear() {
+        Arrays.fill(entries, null);
+        next = 0;
+        size = 0;
+    }
+}
@@ -0,0 +1,28 @@
+package com.example.demo.adapter.persistence.profiling;
+
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * Reduces SQL to the shape of the statement, so that executions differing only in their literals or in the
+ * length of their {@code IN} lists and multi-row {@code VALUES} count as the same statement.
+ */
+final class SqlFingerprint {
+
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+    // Digits inside identifiers such as o1_0 follow a word character, so the boundary excludes them
+    private static final Pattern NUMERIC_LITERAL = Pattern.compile("(?<![\\w.])-?\\d+(?:\\.\\d+)?\\b");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final Pattern IN_LIST = Pattern.compile("\\bin \\(\\?(?: ?, ?\\?)+\\)");
+    private static final Pattern VALUES_ROWS = Pattern.compile("\\bvalues (\\([^()]*\\))(?: ?, ?\\([^()]*\\))+");
+
+    private SqlFingerprint() {}
+
+    static String of(String sql) {
+        String fingerprint = STRING_LITERAL.matcher(sql).replaceAll("?");
+        fingerprint = NUMERIC_LITERAL.matcher(fingerprint).replaceAll("?");
+        fingerprint = WHITESPACE.matcher(fingerprint).replaceAll(" ").trim().toLowerCase(Locale.ROOT);
+        fingerprint = IN_LIST.matcher(fingerprint).replaceAll("in (?)");
+        return VALUES_ROWS.matcher(fingerprint).replaceAll("values $1");
+    }
+}
@@ -0,0 +1,173 @@
+package com.example.demo.adapter.persistence.profiling;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Records the statements run through the application datasource. Every execution is timed per endpoint and
+ * statement fingerprint, slow ones are kept in the {@link SlowQueryLog}, and at the end of a request the number
+ * of statements it ran is checked against the budget of its endpoint. A statement run at least
+ * {@code repeat-threshold} times within one request is counted as {@code db.statement.repeated}, which is how
+ * N+1 patterns such as loading the items of each order one by one show up.
+ *
+ * <p>The request is bound to the thread, so statements run on other threads count towards no request.
+ */
+@Slf4j
+public class StatementProfiler {
+
+    static final String NO_ENDPOINT = "none";
+    static final String OTHER_STATEMENT = "other";
+
+    private static final ThreadLocal<RequestStatements> CURRENT = new ThreadLocal<>();
+
+    private final StatementProfilingProperties properties;
+    private final SlowQueryLog slowQueryLog;
+    private final MeterRegistry meterRegistry;
+    private final long slowThresholdNanos;
+    // SQL text to fingerprint; prepared statements repeat the same text, so the cache stays small
+    private final Map<String, String> fingerprints = new ConcurrentHashMap<>();
+    // The fingerprints tagged on the metrics, bounded by max-statements
+    private final Set<String> taggedStatements = ConcurrentHashMap.newKeySet();
+
+    public StatementProfiler(
+            StatementProfilingProperties properties, SlowQueryLog slowQueryLog, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.slowQueryLog = slowQueryLog;
+        this.meterRegistry = meterRegistry;
+        this.slowThresholdNanos = properties.slowThreshold().toNanos();
+    }
+
+    /**
+     * Starts counting the statements of a request on the current thread.
+     *
+     * @param endpointResolver resolves the endpoint handling the request, null until it is known
+     */
+    RequestStatements begin(Supplier<String> endpointResolver) {
+        RequestStatements request = new RequestStatements(endpointResolver);
+        CURRENT.set(request);
+        return request;
+    }
+
+    /**
+     * Stops counting and checks the request against the budget of its endpoint.
+     *
+     * @param completed whether the request completed normally; a failed one keeps its own exception, so going
+     *     over the budget is only counted and logged
+     * @throws IllegalStateException if the completed request ran more statements than its budget and budgets are
+     *     enforced
+     */
+    void end(RequestStatements request, boolean completed) {
+        CURRENT.remove();
+        String endpoint = request.endpoint();
+        int statements = request.statements();
+        DistributionSummary.builder("db.request.statements")
+                .tag("endpoint", endpoint)
+                .register(meterRegistry)
+                .record(statements);
+        request.executions().forEach((fingerprint, count) -> {
+            if (count >= properties.repeatThreshold()) {
+                Counter.builder("db.statement.repeated")
+                        .tag("endpoint", endpoint)
+                        .tag("statement", tag(fingerprint))
+                        .register(meterRegistry)
+                        .increment();
+                log.debug("{} ran {} times in one request: {}", endpoint, count, fingerprint);
+            }
+        });
+        Integer budget = properties.budgets().get(endpoint);
+        if (budget != null && statements > budget) {
+            Counter.builder("db.request.budget.exceeded")
+                    .tag("endpoint", endpoint)
+                    .register(meterRegistry)
+                    .increment();
+            String message = String.format(
+                    "%s ran %d statements, over its budget of %d: %s",
+                    endpoint, statements, budget, request.executions());
+            if (completed && properties.enforceBudgets()) {
+                throw new IllegalStateException(message);
+            }
+            log.warn(message);
+        }
+    }
+
+    /**
+     * @param rows the rows updated, or -1 if the statement returned a result set
+     * @param batchSize the statements sent in the batch, or 0 if not batched
+     */
+    void executed(String sql, long nanos, long rows, int batchSize, boolean success) {
+        String fingerprint = fingerprint(sql);
+        String statement = tag(fingerprint);
+        RequestStatements request = CURRENT.get();
+        String endpoint = request == null ? NO_ENDPOINT : request.endpoint();
+        Timer.builder("db.statement.duration")
+                .tag("endpoint", endpoint)
+                .tag("statement", statement)
+                .tag("outcome", success ? "success" : "error")
+                .register(meterRegistry)
+                .record(nanos, TimeUnit.NANOSECONDS);
+        if (rows >= 0) {
+            recordRows(endpoint, statement, rows);
+        }
+        if (batchSize > 0) {
+            DistributionSummary.builder("db.statement.batch.size")
+                    .tag("endpoint", endpoint)
+                    .tag("statement", statement)
+                    .register(meterRegistry)
+                    .record(batchSize);
+        }
+        if (request != null) {
+            request.executed(fingerprint);
+        }
+        if (nanos >= slowThresholdNanos) {
+            slowQueryLog.add(new SlowQuery(Instant.now(), endpoint, fingerprint, nanos / 1_000_000.0, rows, batchSize));
+        }
+    }
+
+    /**
+     * Records the rows read from the result set of a query, once it is closed.
+     */
+    void fetched(String sql, long rows) {
+        RequestStatements request = CURRENT.get();
+        recordRows(request == null ? NO_ENDPOINT : request.endpoint(), tag(fingerprint(sql)), rows);
+    }
+
+    private void recordRows(String endpoint, String statement, long rows) {
+        DistributionSummary.builder("db.statement.rows")
+                .tag("endpoint", endpoint)
+                .tag("statement", statement)
+                .register(meterRegistry)
+                .record(rows);
+    }
+
+    private String fingerprint(String sql) {
+        if (sql == null) {
+            return OTHER_STATEMENT;
+        }
+        String fingerprint = fingerprints.get(sql);
+        if (fingerprint == null) {
+            fingerprint = SqlFingerprint.of(sql);
+            // SQL with inlined literals would grow the cache without bound
+            if (fingerprints.size() < properties.maxStatements() * 4) {
+                fingerprints.put(sql, fingerprint);
+            }
+        }
+        return fingerprint;
+    }
+
+    private String tag(String fingerprint) {
+        if (!taggedStatements.contains(fingerprint) && taggedStatements.size() >= properties.maxStatements()) {
+            return OTHER_STATEMENT;
+        }
+        taggedStatements.add(fingerprint);
+        return fingerprint;
+    }
+}
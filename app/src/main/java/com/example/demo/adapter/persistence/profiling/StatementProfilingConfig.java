@@ -0,0 +1,68 @@
+package com.example.demo.adapter.persistence.profiling;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.ImportRuntimeHints;
+
+/**
+ * Profiles the statements run through the {@code dataSource} bean, whether that is the plain pool or one of the
+ * routing datasources, and counts them per servlet request.
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(prefix = "example.persistence.profiling", name = "enabled", havingValue = "true")
+@ImportRuntimeHints(StatementProfilingRuntimeHints.class)
+public class StatementProfilingConfig {
+
+    @Bean
+    public static BeanPostProcessor profilingDataSourcePostProcessor(ObjectProvider<StatementProfiler> profiler) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (beanName.equals("dataSource")
+                        && bean instanceof DataSource dataSource
+                        && !(bean instanceof ProfilingDataSource)) {
+                    return new ProfilingDataSource(dataSource, profiler::getObject);
+                }
+                return bean;
+            }
+        };
+    }
+
+    @Bean
+    public SlowQueryLog slowQueryLog(StatementProfilingProperties properties) {
+        return new SlowQueryLog(properties.slowQueryCapacity());
+    }
+
+    @Bean
+    public StatementProfiler statementProfiler(
+            StatementProfilingProperties properties, SlowQueryLog slowQueryLog, MeterRegistry meterRegistry) {
+        return new StatementProfiler(properties, slowQueryLog, meterRegistry);
+    }
+
+    @Bean
+    public SlowQueriesEndpoint slowQueriesEndpoint(SlowQueryLog slowQueryLog) {
+        return new SlowQueriesEndpoint(slowQueryLog);
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+    static class RequestStatementsConfig {
+
+        @Bean
+        public FilterRegistrationBean<StatementProfilingFilter> statementProfilingFilter(StatementProfiler profiler) {
+            FilterRegistrationBean<StatementProfilingFilter> registration =
+                    new FilterRegistrationBean<>(new StatementProfilingFilter(profiler));
+            // Outside the concurrency limit, so that the budget check sees every statement of the request
+            registration.setOrder(SecurityProperties.DEFAULT_FILTER_ORDER - 3);
+            return registration;
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.example.demo.adapter.persistence.profiling;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * Counts the statements each request runs, attributed to the controller method handling it.
+ */
+@RequiredArgsConstructor
+class StatementProfilingFilter extends OncePerRequestFilter {
+
+    private final StatementProfiler profiler;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        RequestStatements statements = profiler.begin(() -> endpointOf(request));
+        boolean completed = false;
+        try {
+            filterChain.doFilter(request, response);
+            completed = true;
+        } finally {
+            profiler.end(statements, completed);
+        }
+    }
+
+    /**
+     * @return the controller method, such as {@code GetOrderController.getOrder}, or null before the request is
+     *     mapped to one
+     */
+    static String endpointOf(HttpServletRequest request) {
+        if (request.getAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE) instanceof HandlerMethod handler) {
+            return handler.getBeanType().getSimpleName() + "." + handler.getMethod().getName();
+        }
+        return null;
+    }
+}
@@ -0,0 +1,34 @@
+package com.example.demo.adapter.persistence.profiling;
+
+import java.time.Duration;
+import java.util.Map;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Configuration for the statement profiling of the application datasource.
+ *
+ * @param enabled whether the statements run through the application datasource are profiled
+ * @param slowThreshold statements running at least this long are kept in the slow query log
+ * @param slowQueryCapacity how many of the most recent slow queries the log keeps
+ * @param repeatThreshold a request running the same statement this often is flagged as an N+1 pattern
+ * @param maxStatements the number of distinct statements tagged on the metrics; any further ones are tagged
+ *     {@code other}
+ * @param budgets the most statements one request of an endpoint may run, keyed by endpoint such as
+ *     {@code GetOrderController.getOrder}
+ * @param enforceBudgets whether a request over its budget fails instead of only being logged, for tests
+ */
+@ConfigurationProperties(prefix = "example.persistence.profiling")
+public record StatementProfilingProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("200ms") Duration slowThreshold,
+        @DefaultValue("100") int slowQueryCapacity,
+        @DefaultValue("5") int repeatThreshold,
+        @DefaultValue("500") int maxStatements,
+        Map<String, Integer> budgets,
+        @DefaultValue("false") boolean enforceBudgets) {
+
+    public StatementProfilingProperties {
+        budgets = budgets == null ? Map.of() : Map.copyOf(budgets);
+    }
+}
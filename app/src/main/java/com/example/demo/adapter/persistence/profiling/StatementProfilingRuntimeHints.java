@@ -0,0 +1,17 @@
+package com.example.demo.adapter.persistence.profiling;
+
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+
+/**
+ * Native image hints for the JDK proxies {@link ProfilingDataSource} wraps JDBC objects in.
+ */
+class StatementProfilingRuntimeHints implements RuntimeHintsRegistrar {
+
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+        for (Class<?> proxied : ProfilingDataSource.PROXIED_INTERFACES) {
+            hints.proxies().registerJdkProxy(proxied);
+        }
+    }
+}
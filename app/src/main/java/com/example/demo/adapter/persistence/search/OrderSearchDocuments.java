@@ -0,0 +1,83 @@
+package com.example.demo.adapter.persistence.search;
+
+import com.example.demo.application.port.SearchOrdersPort.OrderSummary;
+import com.example.demo.domain.order.Order;
+import com.example.demo.domain.order.OrderItem;
+import java.math.BigDecimal;
+import java.time.Instant;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.cjk.CJKAnalyzer;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.NumericDocValuesField;
+import org.apache.lucene.document.StoredField;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.search.Sort;
+import org.apache.lucene.search.SortField;
+
+/**
+ * Mapping between orders and index documents. Identifiers and the phone number are indexed verbatim;
+ * names, dishes and remarks are split into CJK bigrams, so two-character words such as "宫保" match
+ * without scanning. Only the fields of the search result are stored.
+ */
+public final class OrderSearchDocuments {
+
+    public static final String ID = "id";
+    public static final String ORDER_NUMBER = "orderNumber";
+    public static final String USER_ID = "userId";
+    public static final String MERCHANT_ID = "merchantId";
+    public static final String RECIPIENT_NAME = "recipientName";
+    public static final String RECIPIENT_PHONE = "recipientPhone";
+    public static final String DISH_NAME = "dishName";
+    public static final String REMARK = "remark";
+    public static final String STATUS = "status";
+    public static final String FINAL_AMOUNT = "finalAmount";
+    public static final String CREATED_AT = "createdAt";
+
+    /**
+     * Newest first. Also the index sort, which lets searches stop after the first matching documents.
+     */
+    public static final Sort NEWEST_FIRST = new Sort(new SortField(CREATED_AT, SortField.Type.LONG, true));
+
+    private OrderSearchDocuments() {}
+
+    public static Analyzer analyzer() {
+        return new CJKAnalyzer();
+    }
+
+    static Document toDocument(Order order) {
+        Document document = new Document();
+        document.add(new StringField(ID, order.getId().value(), Field.Store.YES));
+        document.add(new StringField(ORDER_NUMBER, order.getOrderNumber().value(), Field.Store.YES));
+        document.add(new StringField(USER_ID, order.getUserId().value(), Field.Store.YES));
+        document.add(new StringField(MERCHANT_ID, order.getMerchantId().value(), Field.Store.YES));
+        document.add(new TextField(RECIPIENT_NAME, order.getDeliveryInfo().recipientName(), Field.Store.YES));
+        document.add(new StringField(RECIPIENT_PHONE, order.getDeliveryInfo().recipientPhone(), Field.Store.YES));
+        for (OrderItem item : order.getItems()) {
+            document.add(new TextField(DISH_NAME, item.dishName(), Field.Store.NO));
+        }
+        if (order.getRemark() != null) {
+            document.add(new TextField(REMARK, order.getRemark(), Field.Store.NO));
+        }
+        document.add(new StoredField(STATUS, order.getStatus().name()));
+        document.add(new StoredField(FINAL_AMOUNT, order.getPricing().finalAmount().toPlainString()));
+        long createdAt = order.getCreatedAt().toEpochMilli();
+        document.add(new NumericDocValuesField(CREATED_AT, createdAt));
+        document.add(new StoredField(CREATED_AT, createdAt));
+        return document;
+    }
+
+    public static OrderSummary toSummary(Document document) {
+        return new OrderSummary(
+                document.get(ID),
+                document.get(ORDER_NUMBER),
+                document.get(USER_ID),
+                document.get(MERCHANT_ID),
+                document.get(RECIPIENT_NAME),
+                document.get(RECIPIENT_PHONE),
+                document.get(STATUS),
+                new BigDecimal(document.get(FINAL_AMOUNT)),
+                Instant.ofEpochMilli(document.getField(CREATED_AT).numericValue().longValue()));
+    }
+}
@@ -0,0 +1,257 @@
+package com.example.demo.adapter.persistence.search;
+
+import com.example.demo.application.port.SearchOrdersPort.OrderSummary;
+import com.example.demo.domain.order.Order;
+import com.example.demo.domain.order.OrderCreatedEvent;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.StoredFields;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.TopFieldDocs;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Embedded Lucene index of orders on local disk, fed from the create path after each order commits.
+ *
+ * <p>Searches see new orders after the next refresh, within {@code refresh-interval} (default 1 second).
+ * Updates are made durable by a periodic commit that records when it started; on startup, orders created
+ * since shortly before the last commit are read back from the database, so updates lost in a crash are
+ * recovered. Documents are keyed by order ID, which makes every write idempotent.
+ */
+@Component
+@ConditionalOnProperty(prefix = "example.persistence.order.search", name = "enabled", havingValue = "true")
+@Slf4j
+public class OrderSearchIndex implements SchedulingConfigurer {
+
+    static final String COMMITTED_AT = "committedAt";
+
+    // Covers orders created before a commit but indexed after it, once their transaction committed
+    private static final Duration CATCH_UP_MARGIN = Duration.ofMinutes(5);
+
+    private final OrderSearchProperties properties;
+    private final OrderSearchSource orderSearchSource;
+    private final Directory directory;
+    private final AtomicBoolean rebuilding = new AtomicBoolean();
+
+    // Replaced when a failed rebuild is rolled back, which closes the writer
+    private volatile IndexWriter writer;
+    private volatile SearcherManager searcherManager;
+
+    public OrderSearchIndex(OrderSearchProperties properties, OrderSearchSource orderSearchSource) {
+        this.properties = properties;
+        this.orderSearchSource = orderSearchSource;
+        try {
+            this.directory = FSDirectory.open(Path.of(properties.directory()));
+            this.writer = openWriter();
+            this.searcherManager = new SearcherManager(writer, null);
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Failed to open the order search index", ex);
+        }
+    }
+
+    private IndexWriter openWriter() throws IOException {
+        IndexWriterConfig config = new IndexWriterConfig(OrderSearchDocuments.analyzer())
+                .setOpenMode(IndexWriterConfig.OpenMode.CREATE_OR_APPEND)
+                .setRAMBufferSizeMB(properties.ramBufferSizeMb())
+                .setIndexSort(OrderSearchDocuments.NEWEST_FIRST)
+                // Uncommitted rebuilds are discarded on shutdown, see close()
+                .setCommitOnClose(false);
+        return new IndexWriter(directory, config);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onOrderCreated(OrderCreatedEvent event) {
+        try {
+            index(event.order());
+        } catch (RuntimeException ex) {
+            // The order is stored; it will be indexed again by the next rebuild
+            log.warn("Failed to index order {}", event.order().getId().value(), ex);
+        }
+    }
+
+    public void index(Order order) {
+        try {
+            writer.updateDocument(
+                    new Term(OrderSearchDocuments.ID, order.getId().value()), OrderSearchDocuments.toDocument(order));
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    /**
+     * @param query the Lucene query
+     * @param limit the maximum number of hits
+     * @return the matching orders, newest first
+     */
+    public List<OrderSummary> search(Query query, int limit) {
+        SearcherManager manager = searcherManager;
+        try {
+            IndexSearcher searcher = manager.acquire();
+            try {
+                TopFieldDocs hits = searcher.search(query, limit, OrderSearchDocuments.NEWEST_FIRST);
+                StoredFields storedFields = searcher.storedFields();
+                List<OrderSummary> orders = new ArrayList<>(hits.scoreDocs.length);
+                for (ScoreDoc hit : hits.scoreDocs) {
+                    orders.add(OrderSearchDocuments.toSummary(storedFields.document(hit.doc)));
+                }
+                return orders;
+            } finally {
+                manager.release(searcher);
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    /**
+     * Replaces the index contents with all stored orders. Searches keep seeing the previous contents
+     * until the rebuild has been committed; orders created meanwhile are indexed as usual. A failed
+     * rebuild is rolled back to the last commit, so it is never committed half done.
+     *
+     * @return the number of indexed orders
+     */
+    public long rebuild() {
+        if (!rebuilding.compareAndSet(false, true)) {
+            throw new IllegalStateException("The order search index is already being rebuilt");
+        }
+        try {
+            Instant started = Instant.now();
+            writer.deleteAll();
+            long orders = orderSearchSource.forEachOrder(this::index);
+            commit(started);
+            searcherManager.maybeRefreshBlocking();
+            return orders;
+        } catch (IOException ex) {
+            UncheckedIOException failure = new UncheckedIOException("Failed to rebuild the order search index", ex);
+            discardRebuild(failure);
+            throw failure;
+        } catch (RuntimeException ex) {
+            discardRebuild(ex);
+            throw ex;
+        } finally {
+            rebuilding.set(false);
+        }
+    }
+
+    /**
+     * Rolls the writer back to the last commit, dropping the deletion and the partial reindex, and reopens it.
+     * Orders indexed since the last commit are rolled back too and are read back from the database.
+     */
+    private void discardRebuild(RuntimeException failure) {
+        try {
+            writer.rollback();
+            SearcherManager previous = searcherManager;
+            writer = openWriter();
+            searcherManager = new SearcherManager(writer, null);
+            previous.close();
+        } catch (IOException ex) {
+            failure.addSuppressed(ex);
+            return;
+        }
+        try {
+            catchUp();
+        } catch (RuntimeException ex) {
+            failure.addSuppressed(ex);
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void catchUp() {
+        Instant committedAt = lastCommittedAt();
+        if (committedAt == null) {
+            if (writer.getDocStats().numDocs == 0) {
+                log.info("The order search index is empty; rebuild it to include existing orders");
+            }
+            return;
+        }
+        long orders = orderSearchSource.forEachOrderCreatedFrom(committedAt.minus(CATCH_UP_MARGIN), this::index);
+        log.info("Re-indexed {} orders created since the last search index commit at {}", orders, committedAt);
+    }
+
+    @Override
+    public void configureTasks(ScheduledTaskRegistrar taskRegistrar) {
+        taskRegistrar.addFixedDelayTask(unchecked(this::refresh), properties.refreshInterval());
+        taskRegistrar.addFixedDelayTask(unchecked(this::commitScheduled), properties.commitInterval());
+    }
+
+    private static Runnable unchecked(IndexTask task) {
+        return () -> {
+            try {
+                task.run();
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        };
+    }
+
+    public void refresh() throws IOException {
+        // A rebuild in progress must not become visible half done
+        if (!rebuilding.get()) {
+            searcherManager.maybeRefresh();
+        }
+    }
+
+    public void commitScheduled() throws IOException {
+        if (!rebuilding.get() && writer.hasUncommittedChanges()) {
+            commit(Instant.now());
+        }
+    }
+
+    @PreDestroy
+    public void close() throws IOException {
+        try {
+            if (!rebuilding.get()) {
+                commit(Instant.now());
+            }
+            searcherManager.close();
+            writer.close();
+        } finally {
+            directory.close();
+        }
+    }
+
+    private void commit(Instant startedAt) throws IOException {
+        writer.setLiveCommitData(Map.of(COMMITTED_AT, startedAt.toString()).entrySet());
+        writer.commit();
+    }
+
+    private Instant lastCommittedAt() {
+        Iterable<Map.Entry<String, String>> commitData = writer.getLiveCommitData();
+        if (commitData != null) {
+            for (Map.Entry<String, String> entry : commitData) {
+                if (COMMITTED_AT.equals(entry.getKey())) {
+                    return Instant.parse(entry.getValue());
+                }
+            }
+        }
+        return null;
+    }
+
+    @FunctionalInterface
+    private interface IndexTask {
+        void run() throws IOException;
+    }
+}
@@ -0,0 +1,21 @@
+package com.example.demo.adapter.persistence.search;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Configuration for the embedded order search index.
+ *
+ * @param directory local directory of the index, owned by a single application instance
+ * @param ramBufferSizeMb memory used to buffer index updates before flushing a segment
+ * @param refreshInterval the delay between refreshes that make newly indexed orders searchable
+ * @param commitInterval the delay between commits that make index updates durable
+ */
+@ConfigurationProperties(prefix = "example.persistence.order.search")
+public record OrderSearchProperties(
+        boolean enabled,
+        @DefaultValue("order-search") String directory,
+        @DefaultValue("64") double ramBufferSizeMb,
+        @DefaultValue("1s") Duration refreshInterval,
+        @DefaultValue("30s") Duration commitInterval) {}
@@ -0,0 +1,167 @@
+package com.example.demo.adapter.persistence.search;
+
+import com.example.demo.adapter.persistence.datasource.OrderDatabases;
+import com.example.demo.adapter.persistence.order.OrderExportProperties;
+import com.example.demo.adapter.persistence.order.OrderItemsCodec;
+import com.example.demo.domain.dish.DishId;
+import com.example.demo.domain.merchant.MerchantId;
+import com.example.demo.domain.order.DeliveryInfo;
+import com.example.demo.domain.order.Order;
+import com.example.demo.domain.order.OrderId;
+import com.example.demo.domain.order.OrderItem;
+import com.example.demo.domain.order.OrderNumber;
+import com.example.demo.domain.order.OrderStatus;
+import com.example.demo.domain.order.Pricing;
+import com.example.demo.domain.user.UserId;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Component;
+
+/**
+ * Streams complete orders from a forward-only JDBC cursor to feed the search index. Rows arrive ordered by
+ * order ID, so each order is assembled from consecutive rows and only one order is held at a time. With
+ * sharding enabled the shards are read one after another.
+ */
+@Component
+@ConditionalOnProperty(prefix = "example.persistence.order.search", name = "enabled", havingValue = "true")
+public class OrderSearchSource {
+
+    private static final String SELECT_ORDERS =
+            """
+            SELECT o.id, o.order_number, o.user_id, o.merchant_id, o.recipient_name, o.recipient_phone, o.address,
+                o.remark, o.status, o.items_total, o.packaging_fee, o.delivery_fee, o.final_amount,
+                o.created_at, o.updated_at, o.items_data, i.dish_id, i.dish_name, i.quantity, i.price
+            FROM orders o LEFT JOIN order_items i ON i.order_id = o.id
+            """;
+
+    private static final String SELECT_ALL = SELECT_ORDERS + "ORDER BY o.id";
+
+    private static final String SELECT_CREATED_FROM = SELECT_ORDERS + "WHERE o.created_at >= ? ORDER BY o.id";
+
+    private final List<JdbcTemplate> jdbcTemplates;
+
+    public OrderSearchSource(OrderDatabases orderDatabases, OrderExportProperties properties) {
+        // Same streaming setup as the bulk export
+        this.jdbcTemplates = orderDatabases.all().stream()
+                .map(dataSource -> {
+                    JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+                    jdbcTemplate.setFetchSize(properties.fetchSize());
+                    return jdbcTemplate;
+                })
+                .toList();
+    }
+
+    /**
+     * @param action receives each stored order
+     * @return the number of orders read
+     */
+    public long forEachOrder(Consumer<Order> action) {
+        OrderAssembler assembler = new OrderAssembler(action);
+        jdbcTemplates.forEach(jdbcTemplate -> jdbcTemplate.query(SELECT_ALL, assembler));
+        assembler.finish();
+        return assembler.orders;
+    }
+
+    /**
+     * @param createdFrom the earliest creation time to include
+     * @param action receives each order created since then
+     * @return the number of orders read
+     */
+    public long forEachOrderCreatedFrom(Instant createdFrom, Consumer<Order> action) {
+        OrderAssembler assembler = new OrderAssembler(action);
+        Timestamp from = Timestamp.from(createdFrom);
+        jdbcTemplates.forEach(jdbcTemplate -> jdbcTemplate.query(SELECT_CREATED_FROM, assembler, from));
+        assembler.finish();
+        return assembler.orders;
+    }
+
+    private static final class OrderAssembler implements RowCallbackHandler {
+
+        private final Consumer<Order> action;
+        private final List<OrderItem> items = new ArrayList<>();
+        private Order current;
+        private long orders;
+
+        OrderAssembler(Consumer<Order> action) {
+            this.action = action;
+        }
+
+        @Override
+        public void processRow(ResultSet resultSet) throws SQLException {
+            String id = resultSet.getString("id");
+            if (current == null || !current.getId().value().equals(id)) {
+                finish();
+                current = toOrder(resultSet, id);
+            }
+            String dishId = resultSet.getString("dish_id");
+            if (dishId != null) {
+                items.add(new OrderItem(
+                        DishId.of(dishId),
+                        resultSet.getString("dish_name"),
+                        resultSet.getInt("quantity"),
+                        resultSet.getBigDecimal("price")));
+            }
+        }
+
+        void finish() {
+            if (current == null) {
+                return;
+            }
+            // The compact layout carries its items in the order row, which toOrder already decoded
+            if (current.getItems().isEmpty()) {
+                current = withItems(current, List.copyOf(items));
+            }
+            action.accept(current);
+            orders++;
+            current = null;
+            items.clear();
+        }
+
+        private static Order toOrder(ResultSet resultSet, String id) throws SQLException {
+            byte[] itemsData = resultSet.getBytes("items_data");
+            List<OrderItem> compactItems = itemsData == null ? List.of() : OrderItemsCodec.decode(itemsData);
+            return new Order(
+                    new OrderId(id),
+                    new OrderNumber(resultSet.getString("order_number")),
+                    UserId.of(resultSet.getString("user_id")),
+                    MerchantId.of(resultSet.getString("merchant_id")),
+                    compactItems,
+                    new DeliveryInfo(
+                            resultSet.getString("recipient_name"),
+                            resultSet.getString("recipient_phone"),
+                            resultSet.getString("address")),
+                    resultSet.getString("remark"),
+                    OrderStatus.valueOf(resultSet.getString("status")),
+                    new Pricing(
+                            resultSet.getBigDecimal("items_total"),
+                            resultSet.getBigDecimal("packaging_fee"),
+                            resultSet.getBigDecimal("delivery_fee"),
+                            resultSet.getBigDecimal("final_amount")),
+                    resultSet.getTimestamp("created_at").toInstant(),
+                    resultSet.getTimestamp("updated_at").toInstant());
+        }
+
+        private static Order withItems(Order order, List<OrderItem> items) {
+            return new Order(
+                    order.getId(),
+                    order.getOrderNumber(),
+                    order.getUserId(),
+                    order.getMerchantId(),
+                    items,
+                    order.getDeliveryInfo(),
+                    order.getRemark(),
+                    order.getStatus(),
+                    order.getPricing(),
+                    order.getCreatedAt(),
+                    order.getUpdatedAt());
+        }
+    }
+}
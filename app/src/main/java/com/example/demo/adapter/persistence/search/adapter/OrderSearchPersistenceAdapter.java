@@ -0,0 +1,66 @@
+package com.example.demo.adapter.persistence.search.adapter;
+
+import com.example.demo.adapter.persistence.search.OrderSearchDocuments;
+import com.example.demo.adapter.persistence.search.OrderSearchIndex;
+import com.example.demo.application.port.RebuildOrderSearchIndexPort;
+import com.example.demo.application.port.SearchOrdersPort;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.MatchNoDocsQuery;
+import org.apache.lucene.search.PrefixQuery;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.util.QueryBuilder;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConditionalOnProperty(prefix = "example.persistence.order.search", name = "enabled", havingValue = "true")
+@RequiredArgsConstructor
+public class OrderSearchPersistenceAdapter implements SearchOrdersPort, RebuildOrderSearchIndexPort {
+
+    private final OrderSearchIndex orderSearchIndex;
+    private final QueryBuilder queryBuilder = new QueryBuilder(OrderSearchDocuments.analyzer());
+
+    public List<OrderSummary> search(OrderSearchCriteria criteria, int limit) {
+        return orderSearchIndex.search(toQuery(criteria), limit);
+    }
+
+    public long rebuild() {
+        return orderSearchIndex.rebuild();
+    }
+
+    Query toQuery(OrderSearchCriteria criteria) {
+        // Results are sorted by creation time, so every criterion is a non-scoring filter
+        BooleanQuery.Builder query = new BooleanQuery.Builder();
+        if (criteria.recipientPhone() != null) {
+            filter(query, new PrefixQuery(new Term(OrderSearchDocuments.RECIPIENT_PHONE, criteria.recipientPhone())));
+        }
+        if (criteria.merchantId() != null) {
+            filter(query, new TermQuery(new Term(OrderSearchDocuments.MERCHANT_ID, criteria.merchantId())));
+        }
+        if (criteria.recipientName() != null) {
+            filter(query, phrase(OrderSearchDocuments.RECIPIENT_NAME, criteria.recipientName()));
+        }
+        if (criteria.dishName() != null) {
+            filter(query, phrase(OrderSearchDocuments.DISH_NAME, criteria.dishName()));
+        }
+        if (criteria.remark() != null) {
+            filter(query, phrase(OrderSearchDocuments.REMARK, criteria.remark()));
+        }
+        return query.build();
+    }
+
+    private Query phrase(String field, String text) {
+        Query query = queryBuilder.createPhraseQuery(field, text);
+        // Text without indexable characters cannot match anything
+        return query != null ? query : new MatchNoDocsQuery();
+    }
+
+    private static void filter(BooleanQuery.Builder query, Query clause) {
+        query.add(clause, BooleanClause.Occur.FILTER);
+    }
+}
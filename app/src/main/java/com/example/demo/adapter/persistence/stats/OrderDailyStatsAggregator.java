@@ -0,0 +1,96 @@
+package com.example.demo.adapter.persistence.stats;
+
+import com.example.demo.domain.order.Order;
+import com.example.demo.domain.order.OrderCreatedEvent;
+import jakarta.annotation.PreDestroy;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Accumulates committed orders into striped per-merchant, per-day counters and periodically adds them to
+ * {@code order_daily_stats}, so the create path never contends on the aggregate rows.
+ *
+ * <p>Days follow the JVM time zone, like the TIMESTAMP columns written through JDBC. Pending counts are lost
+ * if the process dies between flushes; {@link OrderDailyStatsReconciler} repairs them.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class OrderDailyStatsAggregator implements SchedulingConfigurer {
+
+    private final ConcurrentMap<Key, Counters> pending = new ConcurrentHashMap<>();
+    private final OrderDailyStatsStore orderDailyStatsStore;
+    private final OrderDailyStatsProperties properties;
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onOrderCreated(OrderCreatedEvent event) {
+        Order order = event.order();
+        LocalDate date = LocalDate.ofInstant(order.getCreatedAt(), ZoneId.systemDefault());
+        Counters counters =
+                pending.computeIfAbsent(new Key(order.getMerchantId().value(), date), key -> new Counters());
+        counters.orders.increment();
+        counters.revenueCents.add(toCents(order.getPricing().finalAmount()));
+    }
+
+    @Override
+    public void configureTasks(ScheduledTaskRegistrar taskRegistrar) {
+        taskRegistrar.addFixedDelayTask(this::flush, properties.flushInterval());
+    }
+
+    @PreDestroy
+    public synchronized void flush() {
+        List<OrderDailyStatsStore.Delta> deltas = new ArrayList<>();
+        LocalDate staleBefore = LocalDate.now().minusDays(1);
+        pending.forEach((key, counters) -> {
+            // Increments racing with the reset land in the next flush
+            long orders = counters.orders.sumThenReset();
+            long revenueCents = counters.revenueCents.sumThenReset();
+            if (orders != 0 || revenueCents != 0) {
+                deltas.add(new OrderDailyStatsStore.Delta(
+                        key.merchantId(), key.date(), orders, BigDecimal.valueOf(revenueCents, 2)));
+            } else if (key.date().isBefore(staleBefore)) {
+                // New orders are stamped with the current time, so past days stop receiving increments
+                pending.remove(key, counters);
+            }
+        });
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        try {
+            orderDailyStatsStore.add(deltas);
+        } catch (RuntimeException ex) {
+            // Put the counts back so they are retried with the next flush
+            log.warn("Failed to flush {} daily stats deltas, will retry", deltas.size(), ex);
+            deltas.forEach(delta -> {
+                Counters counters = pending.computeIfAbsent(
+                        new Key(delta.merchantId(), delta.date()), key -> new Counters());
+                counters.orders.add(delta.orderCount());
+                counters.revenueCents.add(toCents(delta.revenue()));
+            });
+        }
+    }
+
+    private static long toCents(BigDecimal amount) {
+        return amount.movePointRight(2).longValueExact();
+    }
+
+    private record Key(String merchantId, LocalDate date) {}
+
+    private static final class Counters {
+        private final LongAdder orders = new LongAdder();
+        private final LongAdder revenueCents = new LongAdder();
+    }
+}
@@ -0,0 +1,44 @@
+package com.example.demo.adapter.persistence.stats;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Table;
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Entity
+@Table(name = "order_daily_stats")
+@IdClass(OrderDailyStatsEntity.Key.class)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderDailyStatsEntity {
+    @Id
+    private String merchantId;
+
+    @Id
+    private LocalDate statsDate;
+
+    private long orderCount;
+    private BigDecimal revenue;
+    private Instant updatedAt;
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    public static class Key implements Serializable {
+        private String merchantId;
+        private LocalDate statsDate;
+    }
+}
@@ -0,0 +1,18 @@
+package com.example.demo.adapter.persistence.stats;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Configuration for the incrementally maintained per-merchant daily statistics.
+ *
+ * @param flushInterval how often accumulated counts are added to {@code order_daily_stats}
+ * @param reconcileCron when recent days are rebuilt from {@code orders}; {@code -} to disable
+ * @param reconcileDays the number of closed days rebuilt by each reconciliation
+ */
+@ConfigurationProperties(prefix = "example.persistence.order.stats")
+public record OrderDailyStatsProperties(
+        @DefaultValue("5s") Duration flushInterval,
+        @DefaultValue("0 30 3 * * *") String reconcileCron,
+        @DefaultValue("3") int reconcileDays) {}
@@ -0,0 +1,10 @@
+package com.example.demo.adapter.persistence.stats;
+
+import java.time.LocalDate;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface OrderDailyStatsRepository extends JpaRepository<OrderDailyStatsEntity, OrderDailyStatsEntity.Key> {
+    List<OrderDailyStatsEntity> findByMerchantIdAndStatsDateBetweenOrderByStatsDate(
+            String merchantId, LocalDate from, LocalDate to);
+}
@@ -0,0 +1,111 @@
+package com.example.demo.adapter.persistence.stats;
+
+import com.example.demo.adapter.persistence.datasource.OrderDatabases;
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import javax.sql.DataSource;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Writes to {@code order_daily_stats}: additive upserts from the in-memory aggregator and full rebuilds
+ * of a date range from {@code orders}. The aggregates live in the default database; with sharding enabled
+ * a rebuild aggregates every shard and merges the results.
+ */
+@Component
+@RequiredArgsConstructor
+public class OrderDailyStatsStore {
+
+    // ON DUPLICATE KEY UPDATE is understood by MySQL and by H2 in MySQL mode
+    private static final String UPSERT =
+            """
+            INSERT INTO order_daily_stats (merchant_id, stats_date, order_count, revenue, updated_at)
+            VALUES (?, ?, ?, ?, ?)
+            ON DUPLICATE KEY UPDATE
+                order_count = order_count + VALUES(order_count),
+                revenue = revenue + VALUES(revenue),
+                updated_at = VALUES(updated_at)
+            """;
+
+    private static final String DELETE_RANGE = "DELETE FROM order_daily_stats WHERE stats_date >= ? AND stats_date < ?";
+
+    // Range predicate on created_at uses idx_created_at instead of scanning the whole table
+    private static final String AGGREGATE_RANGE =
+            """
+            SELECT merchant_id, CAST(created_at AS DATE) AS stats_date, COUNT(*) AS order_count,
+                SUM(final_amount) AS revenue
+            FROM orders
+            WHERE created_at >= ? AND created_at < ?
+            GROUP BY merchant_id, CAST(created_at AS DATE)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final OrderDatabases orderDatabases;
+
+    public record Delta(String merchantId, LocalDate date, long orderCount, BigDecimal revenue) {
+
+        private Delta plus(Delta other) {
+            return new Delta(merchantId, date, orderCount + other.orderCount, revenue.add(other.revenue));
+        }
+    }
+
+    private record Key(String merchantId, LocalDate date) {}
+
+    @Transactional
+    public void add(List<Delta> deltas) {
+        upsert(deltas);
+    }
+
+    private void upsert(List<Delta> deltas) {
+        Timestamp now = Timestamp.from(Instant.now());
+        jdbcTemplate.batchUpdate(
+                UPSERT,
+                deltas,
+                deltas.size(),
+                (statement, delta) -> {
+                    statement.setString(1, delta.merchantId());
+                    statement.setDate(2, Date.valueOf(delta.date()));
+                    statement.setLong(3, delta.orderCount());
+                    statement.setBigDecimal(4, delta.revenue());
+                    statement.setTimestamp(5, now);
+                });
+    }
+
+    /**
+     * Replaces the aggregates of the given days with values recomputed from the orders table.
+     *
+     * @param from the first day, inclusive
+     * @param to the last day, exclusive
+     * @return the number of aggregate rows written
+     */
+    @Transactional
+    public int rebuild(LocalDate from, LocalDate to) {
+        Map<Key, Delta> totals = new LinkedHashMap<>();
+        for (DataSource dataSource : orderDatabases.all()) {
+            new JdbcTemplate(dataSource)
+                    .query(
+                            AGGREGATE_RANGE,
+                            (resultSet, rowNum) -> new Delta(
+                                    resultSet.getString("merchant_id"),
+                                    resultSet.getDate("stats_date").toLocalDate(),
+                                    resultSet.getLong("order_count"),
+                                    resultSet.getBigDecimal("revenue")),
+                            Timestamp.valueOf(from.atStartOfDay()),
+                            Timestamp.valueOf(to.atStartOfDay()))
+                    .forEach(delta -> totals.merge(new Key(delta.merchantId(), delta.date()), delta, Delta::plus));
+        }
+
+        jdbcTemplate.update(DELETE_RANGE, Date.valueOf(from), Date.valueOf(to));
+        upsert(new ArrayList<>(totals.values()));
+        return totals.size();
+    }
+}
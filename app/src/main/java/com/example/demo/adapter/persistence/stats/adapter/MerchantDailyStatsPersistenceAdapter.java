@@ -0,0 +1,34 @@
+package com.example.demo.adapter.persistence.stats.adapter;
+
+import com.example.demo.adapter.persistence.stats.OrderDailyStatsEntity;
+import com.example.demo.adapter.persistence.stats.OrderDailyStatsRepository;
+import com.example.demo.application.port.LoadMerchantDailyStatsPort;
+import com.example.demo.domain.merchant.MerchantDailyStats;
+import com.example.demo.domain.merchant.MerchantId;
+import java.time.LocalDate;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class MerchantDailyStatsPersistenceAdapter implements LoadMerchantDailyStatsPort {
+
+    private final OrderDailyStatsRepository orderDailyStatsRepository;
+
+    public List<MerchantDailyStats> findByMerchantId(MerchantId merchantId, LocalDate from, LocalDate to) {
+        return orderDailyStatsRepository
+                .findByMerchantIdAndStatsDateBetweenOrderByStatsDate(merchantId.value(), from, to)
+                .stream()
+                .map(this::toDomain)
+                .toList();
+    }
+
+    private MerchantDailyStats toDomain(OrderDailyStatsEntity entity) {
+        return new MerchantDailyStats(
+                MerchantId.of(entity.getMerchantId()),
+                entity.getStatsDate(),
+                entity.getOrderCount(),
+                entity.getRevenue());
+    }
+}
@@ -0,0 +1,21 @@
+package com.example.demo.adapter.web;
+
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.stereotype.Controller;
+
+/**
+ * Under {@code spring.main.lazy-initialization}, keeps controllers eager so that the services, adapters and
+ * persistence they depend on are ready before the first request instead of being built while serving it.
+ */
+@Configuration(proxyBeanMethods = false)
+public class LazyInitializationConfig {
+
+    @Bean
+    static LazyInitializationExcludeFilter eagerControllers() {
+        return (beanName, beanDefinition, beanType) ->
+                beanType != null && AnnotatedElementUtils.hasAnnotation(beanType, Controller.class);
+    }
+}
@@ -0,0 +1,77 @@
+package com.example.demo.adapter.web;
+
+import com.example.demo.application.service.InvalidQueryException;
+import com.example.demo.application.service.OrderNotFoundException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ProblemDetail;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.bind.support.WebExchangeBindException;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * Global exception handler for the reactive web layer, mirroring {@link WebExceptionHandler}.
+ */
+@RestControllerAdvice
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@Slf4j
+public class ReactiveWebExceptionHandler {
+
+    @ExceptionHandler(InvalidQueryException.class)
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    public ProblemDetail handleException(InvalidQueryException ex) {
+        return createProblemDetail(ex, HttpStatus.BAD_REQUEST);
+    }
+
+    @ExceptionHandler(IllegalStateException.class)
+    @ResponseStatus(HttpStatus.CONFLICT)
+    public ProblemDetail handleException(IllegalStateException ex) {
+        return createProblemDetail(ex, HttpStatus.CONFLICT);
+    }
+
+    @ExceptionHandler(WebExchangeBindException.class)
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    public ProblemDetail handleException(WebExchangeBindException ex) {
+        String message = ex.getBindingResult().getFieldErrors().stream()
+                .map(error -> error.getField() + ": " + error.getDefaultMessage())
+                .reduce((a, b) -> a + "; " + b)
+                .orElse("请求参数验证失败");
+
+        ProblemDetail problemDetail = ProblemDetail.forStatusAndDetail(HttpStatus.BAD_REQUEST, message);
+        problemDetail.setTitle("ValidationError");
+        return problemDetail;
+    }
+
+    @ExceptionHandler(OrderNotFoundException.class)
+    @ResponseStatus(HttpStatus.NOT_FOUND)
+    public ProblemDetail handleException(OrderNotFoundException ex) {
+        return createProblemDetail(ex, HttpStatus.NOT_FOUND);
+    }
+
+    /**
+     * Let framework exceptions that already carry a status (e.g. unknown routes) keep it.
+     */
+    @ExceptionHandler(ResponseStatusException.class)
+    public ProblemDetail handleException(ResponseStatusException ex) {
+        return ex.getBody();
+    }
+
+    @ExceptionHandler(Exception.class)
+    @ResponseStatus(HttpStatus.INTERNAL_SERVER_ERROR)
+    public ProblemDetail handleException(Exception ex) {
+        log.error(ex.getMessage(), ex);
+        return createProblemDetail(ex, HttpStatus.INTERNAL_SERVER_ERROR);
+    }
+
+    private static ProblemDetail createProblemDetail(Exception exception, HttpStatus status) {
+        ProblemDetail problemDetail = ProblemDetail.forStatusAndDetail(status, exception.getMessage());
+        problemDetail.setTitle(exception.getClass().getSimpleName());
+        return problemDetail;
+    }
+}
@@ -1,12 +1,17 @@
 package com.example.demo.adapter.web;
 
+import com.example.demo.application.service.BulkheadFullException;
+import com.example.demo.application.service.InvalidQueryException;
 import com.example.demo.application.service.OrderNotFoundException;
 import jakarta.validation.ConstraintViolationException;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.core.Ordered;
 import org.springframework.core.annotation.Order;
+import org.springframework.dao.DataAccessResourceFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ProblemDetail;
+import org.springframework.transaction.CannotCreateTransactionException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.ResponseStatus;
@@ -17,10 +22,17 @@ import org.springframework.web.servlet.resource.NoResourceFoundException;
  * Global exception handler for web layer.
  */
 @RestControllerAdvice
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 @Order(Ordered.HIGHEST_PRECEDENCE)
 @Slf4j
 public class WebExceptionHandler {
 
+    @ExceptionHandler(InvalidQueryException.class)
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    public ProblemDetail handleException(InvalidQueryException ex) {
+        return createProblemDetail(ex, HttpStatus.BAD_REQUEST);
+    }
+
     @ExceptionHandler(IllegalStateException.class)
     @ResponseStatus(HttpStatus.CONFLICT)
     public ProblemDetail handleException(IllegalStateException ex) {
@@ -52,6 +64,30 @@ public class WebExceptionHandler {
         return createProblemDetail(ex, HttpStatus.NOT_FOUND);
     }
 
+    /**
+     * The connection pool timed out or the database is unreachable; the request may succeed once load drops.
+     * Connections acquired lazily, as with per use case pools, fail through the data access exception rather
+     * than when the transaction begins.
+     */
+    @ExceptionHandler({CannotCreateTransactionException.class, DataAccessResourceFailureException.class})
+    @ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+    public ProblemDetail handleConnectionUnavailable(Exception ex) {
+        log.warn("No database connection available: {}", ex.getMessage());
+        ProblemDetail problemDetail = ProblemDetail.forStatusAndDetail(HttpStatus.SERVICE_UNAVAILABLE, "数据库繁忙，请稍后重试");
+        problemDetail.setTitle(ex.getClass().getSimpleName());
+        return problemDetail;
+    }
+
+    /**
+     * The use case already runs as many calls as its bulkhead allows. Not logged, as a burst would flood the log;
+     * rejections are counted by {@code order.bulkhead.calls.rejected}.
+     */
+    @ExceptionHandler(BulkheadFullException.class)
+    @ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+    public ProblemDetail handleException(BulkheadFullException ex) {
+        return createProblemDetail(ex, HttpStatus.SERVICE_UNAVAILABLE);
+    }
+
     /**
      * Handle static resource not found exceptions (e.g., favicon.ico).
      * These are common browser requests and should not be logged as errors.
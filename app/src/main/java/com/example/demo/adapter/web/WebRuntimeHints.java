@@ -0,0 +1,35 @@
+package com.example.demo.adapter.web;
+
+import com.example.demo.adapter.web.merchant.adapter.GetMerchantStatsAdapter.GetMerchantStatsResponse;
+import com.example.demo.adapter.web.order.CreateOrderController.CreateOrderRequest;
+import com.example.demo.adapter.web.order.adapter.CreateOrderAdapter.CreateOrderResponse;
+import com.example.demo.adapter.web.order.adapter.GetOrderAdapter.GetOrderResponse;
+import com.example.demo.adapter.web.order.adapter.MerchantOrderFeedAdapter.OrderCreatedData;
+import com.example.demo.adapter.web.order.adapter.SearchOrdersAdapter.SearchOrdersResponse;
+import java.util.List;
+import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+
+/**
+ * Native image hints for the request and response records that Jackson binds in every supported encoding.
+ * The binding registrar follows record components, so the nested records are covered as well; the merchant
+ * feed payload never appears in a controller signature and would otherwise be missed.
+ */
+public class WebRuntimeHints implements RuntimeHintsRegistrar {
+
+    static final List<Class<?>> BOUND_TYPES = List.of(
+            CreateOrderRequest.class,
+            CreateOrderResponse.class,
+            GetOrderResponse.class,
+            SearchOrdersResponse.class,
+            OrderCreatedData.class,
+            GetMerchantStatsResponse.class);
+
+    private final BindingReflectionHintsRegistrar bindingRegistrar = new BindingReflectionHintsRegistrar();
+
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+        BOUND_TYPES.forEach(type -> bindingRegistrar.registerReflectionHints(hints.reflection(), type));
+    }
+}
@@ -0,0 +1,22 @@
+package com.example.demo.adapter.web.compression;
+
+import com.github.luben.zstd.ZstdCompressCtx;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+
+/**
+ * Native image hints for zstd-jni, which extracts its native library from the jar and keeps the native
+ * context pointer in a Java field read from C.
+ */
+class CompressionRuntimeHints implements RuntimeHintsRegistrar {
+
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+        hints.resources()
+                .registerPattern("linux/*/libzstd-jni-*.so")
+                .registerPattern("darwin/*/libzstd-jni-*.dylib")
+                .registerPattern("win/*/libzstd-jni-*.dll");
+        hints.jni().registerType(ZstdCompressCtx.class, MemberCategory.DECLARED_FIELDS);
+    }
+}
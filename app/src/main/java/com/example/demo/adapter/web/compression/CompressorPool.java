@@ -0,0 +1,46 @@
+package com.example.demo.adapter.web.compression;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.function.Supplier;
+
+/**
+ * Bounded pool of idle compressors of one encoding. Acquiring never blocks: when the pool is empty a new
+ * compressor is created, and one released into a full pool is closed. Compressors whose output buffer grew
+ * past {@code maxRetainedOutput} are closed too, so one large response does not pin its buffer.
+ */
+final class CompressorPool implements AutoCloseable {
+
+    private final Supplier<ResponseCompressor> factory;
+    private final BlockingQueue<ResponseCompressor> idle;
+    private final int maxRetainedOutput;
+
+    CompressorPool(Supplier<ResponseCompressor> factory, int capacity, int maxRetainedOutput) {
+        this.factory = factory;
+        this.idle = new ArrayBlockingQueue<>(capacity);
+        this.maxRetainedOutput = maxRetainedOutput;
+    }
+
+    ResponseCompressor acquire() {
+        ResponseCompressor compressor = idle.poll();
+        return compressor != null ? compressor : factory.get();
+    }
+
+    void release(ResponseCompressor compressor) {
+        if (compressor.output().length > maxRetainedOutput || !idle.offer(compressor)) {
+            compressor.close();
+        }
+    }
+
+    int idleCount() {
+        return idle.size();
+    }
+
+    @Override
+    public void close() {
+        ResponseCompressor compressor;
+        while ((compressor = idle.poll()) != null) {
+            compressor.close();
+        }
+    }
+}
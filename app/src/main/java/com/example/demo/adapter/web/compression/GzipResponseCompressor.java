@@ -0,0 +1,72 @@
+package com.example.demo.adapter.web.compression;
+
+import java.util.Arrays;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+
+/**
+ * Gzip on a reusable raw {@link Deflater}. {@code GZIPOutputStream} allocates a new deflater, whose native
+ * state is far larger than a typical order response, for every stream.
+ */
+final class GzipResponseCompressor implements ResponseCompressor {
+
+    // RFC 1952 member header: deflate, no flags, no mtime, unknown OS
+    private static final byte[] HEADER = {0x1f, (byte) 0x8b, Deflater.DEFLATED, 0, 0, 0, 0, 0, 0, (byte) 0xff};
+    private static final int TRAILER_LENGTH = 8;
+    private static final int INITIAL_OUTPUT_SIZE = 8 * 1024;
+
+    private final Deflater deflater;
+    private final CRC32 crc = new CRC32();
+    private byte[] output = new byte[INITIAL_OUTPUT_SIZE];
+
+    GzipResponseCompressor(int level) {
+        this.deflater = new Deflater(level, true);
+    }
+
+    @Override
+    public String encoding() {
+        return "gzip";
+    }
+
+    @Override
+    public int compress(byte[] input, int length) {
+        deflater.reset();
+        deflater.setInput(input, 0, length);
+        deflater.finish();
+        crc.reset();
+        crc.update(input, 0, length);
+
+        System.arraycopy(HEADER, 0, output, 0, HEADER.length);
+        int position = HEADER.length;
+        while (!deflater.finished()) {
+            if (position == output.length) {
+                output = Arrays.copyOf(output, output.length * 2);
+            }
+            position += deflater.deflate(output, position, output.length - position);
+        }
+
+        if (position + TRAILER_LENGTH > output.length) {
+            output = Arrays.copyOf(output, position + TRAILER_LENGTH);
+        }
+        position = writeIntLittleEndian((int) crc.getValue(), position);
+        return writeIntLittleEndian(length, position);
+    }
+
+    @Override
+    public byte[] output() {
+        return output;
+    }
+
+    @Override
+    public void close() {
+        deflater.end();
+    }
+
+    private int writeIntLittleEndian(int value, int position) {
+        output[position] = (byte) value;
+        output[position + 1] = (byte) (value >>> 8);
+        output[position + 2] = (byte) (value >>> 16);
+        output[position + 3] = (byte) (value >>> 24);
+        return position + 4;
+    }
+}
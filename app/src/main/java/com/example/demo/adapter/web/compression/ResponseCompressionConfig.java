@@ -0,0 +1,32 @@
+package com.example.demo.adapter.web.compression;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.ImportRuntimeHints;
+
+/**
+ * Registers {@link ResponseCompressionFilter} for the order endpoints only; the export is already gzipped
+ * and the order feed must not be buffered.
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@ConditionalOnProperty(prefix = "example.web.compression", name = "enabled", havingValue = "true")
+@ImportRuntimeHints(CompressionRuntimeHints.class)
+public class ResponseCompressionConfig {
+
+    @Bean
+    public FilterRegistrationBean<ResponseCompressionFilter> responseCompressionFilter(
+            ResponseCompressionProperties properties, MeterRegistry meterRegistry) {
+        FilterRegistrationBean<ResponseCompressionFilter> registration =
+                new FilterRegistrationBean<>(new ResponseCompressionFilter(properties, meterRegistry));
+        registration.addUrlPatterns("/api/v1/orders/*");
+        // Before Spring Security, so that rejected requests carry Vary as well
+        registration.setOrder(SecurityProperties.DEFAULT_FILTER_ORDER - 1);
+        return registration;
+    }
+}
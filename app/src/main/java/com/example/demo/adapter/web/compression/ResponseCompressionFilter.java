@@ -0,0 +1,143 @@
+package com.example.demo.adapter.web.compression;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.util.StringUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+/**
+ * Compresses responses with zstd or gzip, as negotiated through {@code Accept-Encoding}, once they reach a
+ * minimum size. The body is buffered, which suits the small order responses this is registered for but not
+ * streamed ones such as the export or the order feed.
+ *
+ * <p>Compressors come from per-encoding pools, so neither their native state nor their output buffers are
+ * allocated per response.
+ */
+public class ResponseCompressionFilter extends OncePerRequestFilter {
+
+    private final int minResponseSize;
+    private final List<MediaType> mimeTypes;
+    // Server preference, most preferred first, for encodings the client accepts equally
+    private final Map<String, CompressorPool> pools = new LinkedHashMap<>();
+    private final Map<String, Counter> compressed = new LinkedHashMap<>();
+
+    public ResponseCompressionFilter(ResponseCompressionProperties properties, MeterRegistry meterRegistry) {
+        this.minResponseSize = (int) properties.minResponseSize().toBytes();
+        this.mimeTypes = MediaType.parseMediaTypes(properties.mimeTypes());
+        int maxRetainedOutput = (int) properties.maxRetainedBufferSize().toBytes();
+        if (properties.zstdEnabled()) {
+            pools.put(
+                    "zstd",
+                    new CompressorPool(
+                            () -> new ZstdResponseCompressor(properties.zstdLevel()),
+                            properties.poolSize(),
+                            maxRetainedOutput));
+        }
+        pools.put(
+                "gzip",
+                new CompressorPool(
+                        () -> new GzipResponseCompressor(properties.gzipLevel()),
+                        properties.poolSize(),
+                        maxRetainedOutput));
+        pools.keySet()
+                .forEach(encoding -> compressed.put(
+                        encoding, meterRegistry.counter("http.server.responses.compressed", "encoding", encoding)));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        String encoding = negotiate(request.getHeader(HttpHeaders.ACCEPT_ENCODING), pools.keySet());
+        if (encoding == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        ContentCachingResponseWrapper buffered = new ContentCachingResponseWrapper(response);
+        filterChain.doFilter(request, buffered);
+        if (!shouldCompress(buffered)) {
+            buffered.copyBodyToResponse();
+            return;
+        }
+
+        byte[] body = buffered.getContentAsByteArray();
+        CompressorPool pool = pools.get(encoding);
+        ResponseCompressor compressor = pool.acquire();
+        try {
+            int length = compressor.compress(body, body.length);
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, compressor.encoding());
+            response.setContentLength(length);
+            response.getOutputStream().write(compressor.output(), 0, length);
+        } finally {
+            pool.release(compressor);
+        }
+        compressed.get(encoding).increment();
+    }
+
+    @Override
+    public void destroy() {
+        pools.values().forEach(CompressorPool::close);
+    }
+
+    private boolean shouldCompress(ContentCachingResponseWrapper response) {
+        if (response.getContentSize() < minResponseSize
+                || response.getContentSize() == 0
+                || response.getHeader(HttpHeaders.CONTENT_ENCODING) != null
+                || !StringUtils.hasText(response.getContentType())) {
+            return false;
+        }
+        MediaType contentType = MediaType.parseMediaType(response.getContentType());
+        return mimeTypes.stream().anyMatch(mimeType -> mimeType.isCompatibleWith(contentType));
+    }
+
+    /**
+     * Picks the encoding with the highest quality value in {@code Accept-Encoding}, breaking ties by the
+     * order of {@code available}. {@code *} stands for any available encoding not listed explicitly.
+     *
+     * @return the chosen encoding, or null to send the response as is
+     */
+    static String negotiate(String acceptEncoding, Iterable<String> available) {
+        if (!StringUtils.hasText(acceptEncoding)) {
+            return null;
+        }
+        Map<String, Double> qualities = new LinkedHashMap<>();
+        for (String token : acceptEncoding.split(",")) {
+            String[] parts = token.trim().split(";");
+            double quality = 1.0;
+            for (int i = 1; i < parts.length; i++) {
+                String parameter = parts[i].trim();
+                if (parameter.startsWith("q=")) {
+                    try {
+                        quality = Double.parseDouble(parameter.substring(2));
+                    } catch (NumberFormatException ex) {
+                        quality = 0.0;
+                    }
+                }
+            }
+            qualities.put(parts[0].trim().toLowerCase(), quality);
+        }
+
+        String chosen = null;
+        double chosenQuality = 0.0;
+        for (String encoding : available) {
+            double quality = qualities.getOrDefault(encoding, qualities.getOrDefault("*", 0.0));
+            if (quality > chosenQuality) {
+                chosen = encoding;
+                chosenQuality = quality;
+            }
+        }
+        return chosen;
+    }
+}
@@ -0,0 +1,26 @@
+package com.example.demo.adapter.web.compression;
+
+import java.util.List;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * Configuration for compressing order API responses.
+ */
+@ConfigurationProperties(prefix = "example.web.compression")
+public record ResponseCompressionProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("1KB") DataSize minResponseSize,
+        @DefaultValue({
+                    "application/json",
+                    "application/problem+json",
+                    "application/cbor",
+                    "application/x-jackson-smile"
+                })
+                List<String> mimeTypes,
+        @DefaultValue("true") boolean zstdEnabled,
+        @DefaultValue("3") int zstdLevel,
+        @DefaultValue("6") int gzipLevel,
+        @DefaultValue("32") int poolSize,
+        @DefaultValue("256KB") DataSize maxRetainedBufferSize) {}
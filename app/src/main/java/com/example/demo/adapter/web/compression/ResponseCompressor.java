@@ -0,0 +1,30 @@
+package com.example.demo.adapter.web.compression;
+
+/**
+ * Compresses a whole response body in one call. Implementations keep their native state and output
+ * buffer between calls, which is what makes pooling them worthwhile; an instance is not thread-safe.
+ */
+interface ResponseCompressor extends AutoCloseable {
+
+    /**
+     * @return the {@code Content-Encoding} token this compressor produces
+     */
+    String encoding();
+
+    /**
+     * Compresses the input into {@link #output()}.
+     *
+     * @param input the uncompressed body
+     * @param length the number of bytes of {@code input} to compress
+     * @return the number of compressed bytes at the start of {@link #output()}
+     */
+    int compress(byte[] input, int length);
+
+    /**
+     * @return the buffer holding the last compressed body, valid until the next call to {@link #compress}
+     */
+    byte[] output();
+
+    @Override
+    void close();
+}
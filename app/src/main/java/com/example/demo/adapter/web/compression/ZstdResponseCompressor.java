@@ -0,0 +1,44 @@
+package com.example.demo.adapter.web.compression;
+
+import com.github.luben.zstd.Zstd;
+import com.github.luben.zstd.ZstdCompressCtx;
+
+/**
+ * Zstandard on a reusable compression context, writing a single frame with the content size.
+ */
+final class ZstdResponseCompressor implements ResponseCompressor {
+
+    private static final int INITIAL_OUTPUT_SIZE = 8 * 1024;
+
+    private final ZstdCompressCtx context = new ZstdCompressCtx();
+    private byte[] output = new byte[INITIAL_OUTPUT_SIZE];
+
+    ZstdResponseCompressor(int level) {
+        context.setLevel(level);
+        context.setContentSize(true);
+    }
+
+    @Override
+    public String encoding() {
+        return "zstd";
+    }
+
+    @Override
+    public int compress(byte[] input, int length) {
+        int bound = (int) Zstd.compressBound(length);
+        if (output.length < bound) {
+            output = new byte[bound];
+        }
+        return context.compressByteArray(output, 0, output.length, input, 0, length);
+    }
+
+    @Override
+    public byte[] output() {
+        return output;
+    }
+
+    @Override
+    public void close() {
+        context.close();
+    }
+}
@@ -0,0 +1,147 @@
+package com.example.demo.adapter.web.limit;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A concurrency limit that follows the latency of the requests it admits, in the style of the gradient
+ * algorithm: while a window of requests is about as fast as the long-term baseline the limit grows by a small
+ * queue allowance, and once it gets slower the limit shrinks in proportion, so that requests are turned away
+ * before they pile up behind a slow database. Windows in which requests failed as overloaded back off
+ * multiplicatively.
+ *
+ * <p>Low priority requests may only occupy a share of the limit, so they are shed first and the remainder stays
+ * available to high priority ones.
+ */
+public class AdaptiveConcurrencyLimiter {
+
+    public enum Priority {
+        HIGH,
+        LOW
+    }
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double readShare;
+    private final double rttTolerance;
+    private final int sampleWindow;
+    private final double baselineFactor;
+    private final double smoothing;
+    private final double backoffRatio;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    // The most requests in flight at once during the current window, to tell whether the limit was reached
+    private final AtomicInteger peakInFlight = new AtomicInteger();
+    private volatile double limit;
+
+    // Guarded by this
+    private long windowRttSum;
+    private int windowSamples;
+    private boolean windowDropped;
+    private double baselineRtt;
+
+    public AdaptiveConcurrencyLimiter(ConcurrencyLimitProperties properties) {
+        this.minLimit = properties.minLimit();
+        this.maxLimit = Math.max(properties.minLimit(), properties.maxLimit());
+        this.readShare = properties.readShare();
+        this.rttTolerance = properties.rttTolerance();
+        this.sampleWindow = Math.max(1, properties.sampleWindow());
+        this.baselineFactor = 2.0 / (Math.max(1, properties.baselineWindows()) + 1);
+        this.smoothing = properties.smoothing();
+        this.backoffRatio = properties.backoffRatio();
+        this.limit = clamp(properties.initialLimit());
+    }
+
+    /**
+     * Admits a request if the limit for its priority has not been reached. Every admitted request must be
+     * completed through {@link #release}.
+     *
+     * @param priority the priority of the request
+     * @return true if the request may proceed
+     */
+    public boolean tryAcquire(Priority priority) {
+        int allowed = allowed(priority);
+        while (true) {
+            int current = inFlight.get();
+            if (current >= allowed) {
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                peakInFlight.accumulateAndGet(current + 1, Math::max);
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Completes an admitted request and records its latency.
+     *
+     * @param rttNanos how long the request took
+     * @param dropped whether it failed because the service was overloaded, such as a connection pool timeout
+     */
+    public void release(long rttNanos, boolean dropped) {
+        inFlight.decrementAndGet();
+        sample(rttNanos, dropped);
+    }
+
+    public int limit() {
+        return (int) limit;
+    }
+
+    public int inFlight() {
+        return inFlight.get();
+    }
+
+    /**
+     * @return the baseline latency in nanoseconds, 0 until the first window completed
+     */
+    public synchronized double baselineRtt() {
+        return baselineRtt;
+    }
+
+    int allowed(Priority priority) {
+        int current = limit();
+        return priority == Priority.HIGH ? current : Math.max(1, (int) (current * readShare));
+    }
+
+    private synchronized void sample(long rttNanos, boolean dropped) {
+        windowRttSum += rttNanos;
+        windowSamples++;
+        windowDropped |= dropped;
+        if (windowSamples < sampleWindow) {
+            return;
+        }
+
+        double windowRtt = Math.max(1.0, (double) windowRttSum / windowSamples);
+        boolean limitReached = peakInFlight.get() * 2 >= limit;
+        boolean overloaded = windowDropped;
+        windowRttSum = 0;
+        windowSamples = 0;
+        windowDropped = false;
+        peakInFlight.set(inFlight.get());
+
+        if (baselineRtt == 0) {
+            baselineRtt = windowRtt;
+        } else {
+            baselineRtt += (windowRtt - baselineRtt) * baselineFactor;
+        }
+        // Once latency has recovered well below the baseline, e.g. after an incident, let the baseline catch up
+        if (baselineRtt > windowRtt * 2) {
+            baselineRtt *= 0.95;
+        }
+
+        double current = limit;
+        if (overloaded) {
+            limit = clamp(current * backoffRatio);
+        } else if (limitReached) {
+            // Latency within tolerance of the baseline keeps the gradient at 1, leaving room to grow by the queue
+            double gradient = Math.max(0.5, Math.min(1.0, rttTolerance * baselineRtt / windowRtt));
+            double estimate = current * gradient + Math.sqrt(current);
+            limit = clamp(current * (1 - smoothing) + estimate * smoothing);
+        }
+        // Otherwise fewer requests arrived than the limit allows, which says nothing about a better limit
+    }
+
+    private double clamp(double value) {
+        return Math.max(minLimit, Math.min(maxLimit, value));
+    }
+}
@@ -0,0 +1,104 @@
+package com.example.demo.adapter.web.limit;
+
+import com.example.demo.adapter.web.limit.AdaptiveConcurrencyLimiter.Priority;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ProblemDetail;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * Sheds order creations and order reads with a 503 once the {@link AdaptiveConcurrencyLimiter} is saturated,
+ * before they take a request thread's worth of time or a database connection. Reads are shed first, so that a
+ * slow database keeps taking orders for as long as it can.
+ *
+ * <p>Requests answered with a 503 anyway, such as on a connection pool timeout, count as overload and make the
+ * limit back off.
+ */
+public class ConcurrencyLimitFilter extends OncePerRequestFilter {
+
+    private static final String CREATE_PATH = "/api/v1/orders";
+    private static final String GET_PATH_PREFIX = CREATE_PATH + "/";
+
+    private final AdaptiveConcurrencyLimiter limiter;
+    private final ObjectMapper objectMapper;
+    private final String retryAfter;
+    private final Counter createsShed;
+    private final Counter readsShed;
+
+    public ConcurrencyLimitFilter(
+            AdaptiveConcurrencyLimiter limiter,
+            ConcurrencyLimitProperties properties,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry) {
+        this.limiter = limiter;
+        this.objectMapper = objectMapper;
+        this.retryAfter = String.valueOf(Math.max(1, properties.retryAfter().toSeconds()));
+        this.createsShed = meterRegistry.counter("http.server.requests.shed", "endpoint", "create-order");
+        this.readsShed = meterRegistry.counter("http.server.requests.shed", "endpoint", "get-order");
+        Gauge.builder("http.server.concurrency.limit", limiter, AdaptiveConcurrencyLimiter::limit)
+                .register(meterRegistry);
+        Gauge.builder("http.server.concurrency.in.flight", limiter, AdaptiveConcurrencyLimiter::inFlight)
+                .register(meterRegistry);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        Priority priority = priorityOf(request);
+        if (priority == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        if (!limiter.tryAcquire(priority)) {
+            (priority == Priority.HIGH ? createsShed : readsShed).increment();
+            reject(response);
+            return;
+        }
+
+        long start = System.nanoTime();
+        boolean dropped = true;
+        try {
+            filterChain.doFilter(request, response);
+            dropped = response.getStatus() == HttpStatus.SERVICE_UNAVAILABLE.value();
+        } finally {
+            limiter.release(System.nanoTime() - start, dropped);
+        }
+    }
+
+    /**
+     * @return the priority of an order creation or order read, null for requests the limit does not apply to
+     */
+    static Priority priorityOf(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        if (HttpMethod.POST.matches(request.getMethod()) && path.equals(CREATE_PATH)) {
+            return Priority.HIGH;
+        }
+        if (HttpMethod.GET.matches(request.getMethod())
+                && path.startsWith(GET_PATH_PREFIX)
+                && path.indexOf('/', GET_PATH_PREFIX.length()) < 0) {
+            return Priority.LOW;
+        }
+        return null;
+    }
+
+    private void reject(HttpServletResponse response) throws IOException {
+        ProblemDetail problemDetail = ProblemDetail.forStatusAndDetail(HttpStatus.SERVICE_UNAVAILABLE, "服务繁忙，请稍后重试");
+        problemDetail.setTitle("ConcurrencyLimitExceeded");
+        response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, retryAfter);
+        response.setContentType(MediaType.APPLICATION_PROBLEM_JSON_VALUE);
+        response.setCharacterEncoding("UTF-8");
+        objectMapper.writeValue(response.getOutputStream(), problemDetail);
+    }
+}
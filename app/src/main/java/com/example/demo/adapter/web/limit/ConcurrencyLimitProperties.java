@@ -0,0 +1,35 @@
+package com.example.demo.adapter.web.limit;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Configuration for the adaptive concurrency limit in front of the order endpoints.
+ *
+ * @param enabled whether requests beyond the limit are shed
+ * @param initialLimit the limit before any latency has been measured
+ * @param minLimit the limit never drops below this, so that the service keeps probing its latency
+ * @param maxLimit the limit never grows beyond this, typically about the size of the request thread pool
+ * @param readShare the share of the limit that order reads may occupy; the rest is kept for order creation
+ * @param rttTolerance how much slower than the baseline a window may be before the limit shrinks
+ * @param sampleWindow the number of completed requests whose average latency adjusts the limit once
+ * @param baselineWindows the number of sample windows the baseline latency averages over
+ * @param smoothing how far each adjustment moves the limit towards the new estimate, between 0 and 1
+ * @param backoffRatio the factor the limit is multiplied with after a window in which requests failed because
+ *     the service was overloaded
+ * @param retryAfter the {@code Retry-After} sent with shed requests
+ */
+@ConfigurationProperties(prefix = "example.web.concurrency-limit")
+public record ConcurrencyLimitProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("20") int initialLimit,
+        @DefaultValue("4") int minLimit,
+        @DefaultValue("200") int maxLimit,
+        @DefaultValue("0.75") double readShare,
+        @DefaultValue("1.5") double rttTolerance,
+        @DefaultValue("20") int sampleWindow,
+        @DefaultValue("30") int baselineWindows,
+        @DefaultValue("0.2") double smoothing,
+        @DefaultValue("0.9") double backoffRatio,
+        @DefaultValue("1s") Duration retryAfter) {}
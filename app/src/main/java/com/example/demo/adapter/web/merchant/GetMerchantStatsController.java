@@ -0,0 +1,35 @@
+package com.example.demo.adapter.web.merchant;
+
+import com.example.demo.adapter.web.merchant.adapter.GetMerchantStatsAdapter;
+import java.time.LocalDate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * REST controller for merchant sales statistics.
+ */
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@RequestMapping("/api/v1")
+@RequiredArgsConstructor
+public class GetMerchantStatsController {
+
+    private final GetMerchantStatsAdapter getMerchantStatsAdapter;
+
+    @GetMapping("/merchants/{merchantId}/stats")
+    @ResponseStatus(HttpStatus.OK)
+    public GetMerchantStatsAdapter.GetMerchantStatsResponse getStats(
+            @PathVariable String merchantId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return getMerchantStatsAdapter.getStats(merchantId, from, to);
+    }
+}
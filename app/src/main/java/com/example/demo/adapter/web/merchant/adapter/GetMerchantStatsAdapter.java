@@ -0,0 +1,61 @@
+package com.example.demo.adapter.web.merchant.adapter;
+
+import com.example.demo.application.service.GetMerchantStatsService;
+import com.example.demo.application.service.GetMerchantStatsService.GetMerchantStatsQuery;
+import com.example.demo.application.service.GetMerchantStatsService.GetMerchantStatsResult;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Adapter for converting web requests to application queries and results to responses.
+ */
+@Component
+@RequiredArgsConstructor
+public class GetMerchantStatsAdapter {
+
+    private final GetMerchantStatsService getMerchantStatsService;
+
+    public record GetMerchantStatsResponse(int code, String message, StatsData data) {
+        public record StatsData(
+                String merchantId,
+                String from,
+                String to,
+                long totalOrders,
+                BigDecimal totalRevenue,
+                List<DailyStatsData> days) {}
+
+        public record DailyStatsData(String date, long orderCount, BigDecimal revenue) {}
+    }
+
+    public GetMerchantStatsResponse getStats(String merchantId, LocalDate from, LocalDate to) {
+        GetMerchantStatsQuery query = new GetMerchantStatsQuery(merchantId, from, to);
+        GetMerchantStatsResult result = getMerchantStatsService.getStats(query);
+        return toResponse(result);
+    }
+
+    /**
+     * Converts a GetMerchantStatsResult to a GetMerchantStatsResponse.
+     *
+     * @param result the application result
+     * @return the web response
+     */
+    private GetMerchantStatsResponse toResponse(GetMerchantStatsResult result) {
+        List<GetMerchantStatsResponse.DailyStatsData> days = result.days().stream()
+                .map(day -> new GetMerchantStatsResponse.DailyStatsData(
+                        day.date().toString(), day.orderCount(), day.revenue()))
+                .toList();
+
+        GetMerchantStatsResponse.StatsData statsData = new GetMerchantStatsResponse.StatsData(
+                result.merchantId(),
+                result.from().toString(),
+                result.to().toString(),
+                result.totalOrders(),
+                result.totalRevenue(),
+                days);
+
+        return new GetMerchantStatsResponse(0, "查询成功", statsData);
+    }
+}
@@ -1,29 +1,56 @@
 package com.example.demo.adapter.web.order;
 
 import com.example.demo.adapter.web.order.adapter.GetOrderAdapter;
+import com.example.demo.adapter.web.order.version.OrderVersion;
+import java.util.Optional;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.userdetails.User;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
-import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
 
 /**
- * REST controller for order retrieval.
+ * REST controller for order retrieval. Responses carry {@code ETag} and {@code Last-Modified}, so clients
+ * polling an order can revalidate with {@code If-None-Match} or {@code If-Modified-Since} and get a 304.
  */
 @RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 @RequestMapping("/api/v1")
 @RequiredArgsConstructor
 public class GetOrderController {
 
+    // Lets clients store the response but makes them revalidate it before reuse
+    private static final CacheControl REVALIDATE = CacheControl.noCache().cachePrivate();
+
     private final GetOrderAdapter getOrderAdapter;
 
     @GetMapping("/orders/{orderId}")
-    @ResponseStatus(HttpStatus.OK)
-    public GetOrderAdapter.GetOrderResponse getOrder(@PathVariable String orderId, @AuthenticationPrincipal User user) {
-        return getOrderAdapter.getOrder(orderId, user);
+    public ResponseEntity<GetOrderAdapter.GetOrderResponse> getOrder(
+            @PathVariable String orderId,
+            @AuthenticationPrincipal User user,
+            @RequestHeader HttpHeaders requestHeaders) {
+        // A client whose copy is current is answered from the version cache without loading the order
+        Optional<OrderVersion> cached = getOrderAdapter.findCachedVersion(orderId, user);
+        if (cached.isPresent() && cached.get().isCurrent(requestHeaders)) {
+            return withValidators(ResponseEntity.status(HttpStatus.NOT_MODIFIED), cached.get()).build();
+        }
+
+        // On a cache miss Spring still answers 304 from these validators if the client's copy is current
+        GetOrderAdapter.VersionedOrderResponse versioned = getOrderAdapter.getOrder(orderId, user);
+        return withValidators(ResponseEntity.ok(), versioned.version()).body(versioned.response());
+    }
+
+    private static ResponseEntity.BodyBuilder withValidators(ResponseEntity.BodyBuilder builder, OrderVersion version) {
+        return builder.eTag(version.eTag())
+                .lastModified(version.lastModified())
+                .cacheControl(REVALIDATE);
     }
 }
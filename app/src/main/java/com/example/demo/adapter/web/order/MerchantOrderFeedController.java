@@ -0,0 +1,28 @@
+package com.example.demo.adapter.web.order;
+
+import com.example.demo.adapter.web.order.adapter.MerchantOrderFeedAdapter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * SSE controller streaming newly created orders to merchants.
+ */
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@RequestMapping("/api/v1")
+@RequiredArgsConstructor
+public class MerchantOrderFeedController {
+
+    private final MerchantOrderFeedAdapter merchantOrderFeedAdapter;
+
+    @GetMapping(path = "/merchants/{merchantId}/orders/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamOrders(@PathVariable String merchantId) {
+        return merchantOrderFeedAdapter.subscribe(merchantId);
+    }
+}
@@ -0,0 +1,36 @@
+package com.example.demo.adapter.web.order;
+
+import com.example.demo.adapter.web.order.CreateOrderController.CreateOrderRequest;
+import com.example.demo.adapter.web.order.adapter.CreateOrderAdapter;
+import com.example.demo.adapter.web.order.adapter.ReactiveCreateOrderAdapter;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+
+/**
+ * WebFlux controller for order creation, active when the application runs on the reactive stack.
+ */
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@RequestMapping("/api/v1")
+@RequiredArgsConstructor
+public class ReactiveCreateOrderController {
+
+    private final ReactiveCreateOrderAdapter reactiveCreateOrderAdapter;
+
+    @PostMapping("/orders")
+    @ResponseStatus(HttpStatus.CREATED)
+    public Mono<CreateOrderAdapter.CreateOrderResponse> createOrder(
+            @RequestBody @Valid CreateOrderRequest request, @AuthenticationPrincipal User user) {
+        return reactiveCreateOrderAdapter.createOrder(request, user);
+    }
+}
@@ -0,0 +1,34 @@
+package com.example.demo.adapter.web.order;
+
+import com.example.demo.adapter.web.order.adapter.GetOrderAdapter;
+import com.example.demo.adapter.web.order.adapter.ReactiveGetOrderAdapter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+
+/**
+ * WebFlux controller for order retrieval, active when the application runs on the reactive stack.
+ */
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@RequestMapping("/api/v1")
+@RequiredArgsConstructor
+public class ReactiveGetOrderController {
+
+    private final ReactiveGetOrderAdapter reactiveGetOrderAdapter;
+
+    @GetMapping("/orders/{orderId}")
+    @ResponseStatus(HttpStatus.OK)
+    public Mono<GetOrderAdapter.GetOrderResponse> getOrder(
+            @PathVariable String orderId, @AuthenticationPrincipal User user) {
+        return reactiveGetOrderAdapter.getOrder(orderId, user);
+    }
+}
@@ -0,0 +1,37 @@
+package com.example.demo.adapter.web.order;
+
+import com.example.demo.adapter.web.order.adapter.SearchOrdersAdapter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * REST controller for support staff searching orders.
+ */
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@ConditionalOnProperty(prefix = "example.persistence.order.search", name = "enabled", havingValue = "true")
+@RequestMapping("/api/v1")
+@RequiredArgsConstructor
+public class SearchOrdersController {
+
+    private final SearchOrdersAdapter searchOrdersAdapter;
+
+    @GetMapping("/admin/orders/search")
+    @ResponseStatus(HttpStatus.OK)
+    public SearchOrdersAdapter.SearchOrdersResponse searchOrders(
+            @RequestParam(required = false) String recipientPhone,
+            @RequestParam(required = false) String recipientName,
+            @RequestParam(required = false) String dishName,
+            @RequestParam(required = false) String remark,
+            @RequestParam(required = false) String merchantId,
+            @RequestParam(required = false) Integer limit) {
+        return searchOrdersAdapter.searchOrders(recipientPhone, recipientName, dishName, remark, merchantId, limit);
+    }
+}
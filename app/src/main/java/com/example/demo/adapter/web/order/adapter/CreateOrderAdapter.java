@@ -45,7 +45,7 @@ public class CreateOrderAdapter {
      * @param user the authenticated user
      * @return the application command
      */
-    private CreateOrderCommand toCommand(CreateOrderRequest request, User user) {
+    static CreateOrderCommand toCommand(CreateOrderRequest request, User user) {
         List<CreateOrderCommand.OrderItemDto> itemDtos = request.items().stream()
                 .map(item -> new CreateOrderCommand.OrderItemDto(
                         item.dishId(), item.dishName(), item.quantity(), item.price()))
@@ -66,7 +66,7 @@ public class CreateOrderAdapter {
      * @param result the application result
      * @return the web response
      */
-    private CreateOrderResponse toResponse(CreateOrderResult result) {
+    static CreateOrderResponse toResponse(CreateOrderResult result) {
         CreateOrderResponse.PricingData pricingData = new CreateOrderResponse.PricingData(
                 result.pricing().itemsTotal(),
                 result.pricing().packagingFee(),
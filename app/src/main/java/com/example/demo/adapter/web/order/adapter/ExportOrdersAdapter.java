@@ -0,0 +1,61 @@
+package com.example.demo.adapter.web.order.adapter;
+
+import com.example.demo.adapter.web.order.export.OrderExportFormat;
+import com.example.demo.adapter.web.order.export.OrderExportWriter;
+import com.example.demo.application.service.ExportOrdersService;
+import com.example.demo.application.service.ExportOrdersService.ExportOrdersQuery;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.LocalDate;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * Adapter for streaming exported orders in the requested file format.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ExportOrdersAdapter {
+
+    private final ExportOrdersService exportOrdersService;
+
+    public record ExportRequest(ExportOrdersQuery query, OrderExportFormat format) {
+        public String fileName() {
+            return "orders-" + query.from() + "-" + query.to() + "." + format.fileExtension();
+        }
+    }
+
+    /**
+     * Validates the request parameters, so errors surface before any bytes are streamed.
+     */
+    public ExportRequest prepare(LocalDate from, LocalDate to, String format) {
+        return new ExportRequest(new ExportOrdersQuery(from, to), OrderExportFormat.fromValue(format));
+    }
+
+    public long export(ExportRequest request, OutputStream out) throws IOException {
+        long started = System.nanoTime();
+        long lines;
+        try (OrderExportWriter writer = request.format().open(out)) {
+            lines = exportOrdersService.exportOrders(request.query(), line -> {
+                try {
+                    writer.write(line);
+                } catch (IOException ex) {
+                    throw new UncheckedIOException(ex);
+                }
+            });
+        } catch (UncheckedIOException ex) {
+            throw ex.getCause();
+        }
+        long elapsedMillis = Math.max((System.nanoTime() - started) / 1_000_000, 1);
+        log.info(
+                "Exported {} order lines as {} in {} ms ({} lines/s)",
+                lines,
+                request.format(),
+                elapsedMillis,
+                lines * 1000 / elapsedMillis);
+        return lines;
+    }
+}
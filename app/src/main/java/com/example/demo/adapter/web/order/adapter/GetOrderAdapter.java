@@ -1,10 +1,13 @@
 package com.example.demo.adapter.web.order.adapter;
 
+import com.example.demo.adapter.web.order.version.OrderVersion;
+import com.example.demo.adapter.web.order.version.OrderVersionCache;
 import com.example.demo.application.service.GetOrderService;
 import com.example.demo.application.service.GetOrderService.GetOrderQuery;
 import com.example.demo.application.service.GetOrderService.GetOrderResult;
 import java.math.BigDecimal;
 import java.util.List;
+import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.userdetails.User;
 import org.springframework.stereotype.Component;
@@ -17,6 +20,7 @@ import org.springframework.stereotype.Component;
 public class GetOrderAdapter {
 
     private final GetOrderService getOrderService;
+    private final OrderVersionCache orderVersionCache;
 
     public record GetOrderResponse(int code, String message, OrderData data) {
         public record OrderData(
@@ -39,7 +43,20 @@ public class GetOrderAdapter {
                 BigDecimal itemsTotal, BigDecimal packagingFee, BigDecimal deliveryFee, BigDecimal finalAmount) {}
     }
 
-    public GetOrderResponse getOrder(String orderId, User user) {
+    public record VersionedOrderResponse(GetOrderResponse response, OrderVersion version) {}
+
+    /**
+     * Returns the version of the order last served to this user, without loading the order.
+     *
+     * @param orderId the order ID
+     * @param user the authenticated user
+     * @return the cached version, empty if unknown, expired or owned by someone else
+     */
+    public Optional<OrderVersion> findCachedVersion(String orderId, User user) {
+        return orderVersionCache.find(orderId).filter(version -> version.userId().equals(user.getUsername()));
+    }
+
+    public VersionedOrderResponse getOrder(String orderId, User user) {
         // Extract userId from User
         String userId = user.getUsername();
 
@@ -47,8 +64,12 @@ public class GetOrderAdapter {
         GetOrderQuery query = new GetOrderQuery(orderId, userId);
         GetOrderResult result = getOrderService.getOrder(query);
 
+        // Remember the version so that the next conditional request can skip the load
+        OrderVersion version = new OrderVersion(result.userId(), result.updatedAt());
+        orderVersionCache.put(result.orderId(), version);
+
         // Convert GetOrderResult to GetOrderResponse
-        return toResponse(result);
+        return new VersionedOrderResponse(toResponse(result), version);
     }
 
     /**
@@ -57,7 +78,7 @@ public class GetOrderAdapter {
      * @param result the application result
      * @return the web response
      */
-    private GetOrderResponse toResponse(GetOrderResult result) {
+    static GetOrderResponse toResponse(GetOrderResult result) {
         List<GetOrderResponse.OrderItemData> itemDataList = result.items().stream()
                 .map(item -> new GetOrderResponse.OrderItemData(
                         item.dishId(), item.dishName(), item.quantity(), item.price()))
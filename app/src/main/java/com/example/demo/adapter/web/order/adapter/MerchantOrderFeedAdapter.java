@@ -0,0 +1,90 @@
+package com.example.demo.adapter.web.order.adapter;
+
+import com.example.demo.adapter.web.order.feed.OrderFeedHub;
+import com.example.demo.domain.order.Order;
+import com.example.demo.domain.order.OrderCreatedEvent;
+import java.math.BigDecimal;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * Adapter for feeding newly created orders to merchant SSE subscribers.
+ */
+@Component
+@RequiredArgsConstructor
+public class MerchantOrderFeedAdapter {
+
+    static final String ORDER_CREATED = "order-created";
+
+    private final OrderFeedHub orderFeedHub;
+
+    public record OrderCreatedData(
+            String orderId,
+            String orderNumber,
+            String userId,
+            String merchantId,
+            List<OrderItemData> items,
+            DeliveryInfoData deliveryInfo,
+            String remark,
+            String status,
+            PricingData pricing,
+            String createdAt) {
+        public record OrderItemData(String dishId, String dishName, Integer quantity, BigDecimal price) {}
+
+        public record DeliveryInfoData(String recipientName, String recipientPhone, String address) {}
+
+        public record PricingData(
+                BigDecimal itemsTotal, BigDecimal packagingFee, BigDecimal deliveryFee, BigDecimal finalAmount) {}
+    }
+
+    public SseEmitter subscribe(String merchantId) {
+        return orderFeedHub.subscribe(merchantId);
+    }
+
+    // Only push orders that actually committed; fall back to immediate delivery outside a transaction
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onOrderCreated(OrderCreatedEvent event) {
+        Order order = event.order();
+        orderFeedHub.publish(
+                order.getMerchantId().value(), ORDER_CREATED, order.getId().value(), toData(order));
+    }
+
+    /**
+     * Converts an Order to the payload pushed to merchants.
+     *
+     * @param order the created order
+     * @return the feed payload
+     */
+    private OrderCreatedData toData(Order order) {
+        List<OrderCreatedData.OrderItemData> items = order.getItems().stream()
+                .map(item -> new OrderCreatedData.OrderItemData(
+                        item.dishId().value(), item.dishName(), item.quantity(), item.price()))
+                .toList();
+
+        OrderCreatedData.DeliveryInfoData deliveryInfo = new OrderCreatedData.DeliveryInfoData(
+                order.getDeliveryInfo().recipientName(),
+                order.getDeliveryInfo().recipientPhone(),
+                order.getDeliveryInfo().address());
+
+        OrderCreatedData.PricingData pricing = new OrderCreatedData.PricingData(
+                order.getPricing().itemsTotal(),
+                order.getPricing().packagingFee(),
+                order.getPricing().deliveryFee(),
+                order.getPricing().finalAmount());
+
+        return new OrderCreatedData(
+                order.getId().value(),
+                order.getOrderNumber().value(),
+                order.getUserId().value(),
+                order.getMerchantId().value(),
+                items,
+                deliveryInfo,
+                order.getRemark(),
+                order.getStatus().name(),
+                pricing,
+                order.getCreatedAt().toString());
+    }
+}
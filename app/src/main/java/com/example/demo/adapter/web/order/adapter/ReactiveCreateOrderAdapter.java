@@ -0,0 +1,27 @@
+package com.example.demo.adapter.web.order.adapter;
+
+import com.example.demo.adapter.web.order.CreateOrderController.CreateOrderRequest;
+import com.example.demo.adapter.web.order.adapter.CreateOrderAdapter.CreateOrderResponse;
+import com.example.demo.application.service.ReactiveCreateOrderService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking counterpart of {@link CreateOrderAdapter}, sharing its request and response mapping.
+ */
+@Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@RequiredArgsConstructor
+public class ReactiveCreateOrderAdapter {
+
+    private final ReactiveCreateOrderService reactiveCreateOrderService;
+
+    public Mono<CreateOrderResponse> createOrder(CreateOrderRequest request, User user) {
+        return reactiveCreateOrderService
+                .createOrder(CreateOrderAdapter.toCommand(request, user))
+                .map(CreateOrderAdapter::toResponse);
+    }
+}
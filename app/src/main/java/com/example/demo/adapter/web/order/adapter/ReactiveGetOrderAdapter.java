@@ -0,0 +1,27 @@
+package com.example.demo.adapter.web.order.adapter;
+
+import com.example.demo.adapter.web.order.adapter.GetOrderAdapter.GetOrderResponse;
+import com.example.demo.application.service.GetOrderService.GetOrderQuery;
+import com.example.demo.application.service.ReactiveGetOrderService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking counterpart of {@link GetOrderAdapter}, sharing its response mapping.
+ */
+@Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@RequiredArgsConstructor
+public class ReactiveGetOrderAdapter {
+
+    private final ReactiveGetOrderService reactiveGetOrderService;
+
+    public Mono<GetOrderResponse> getOrder(String orderId, User user) {
+        return reactiveGetOrderService
+                .getOrder(new GetOrderQuery(orderId, user.getUsername()))
+                .map(GetOrderAdapter::toResponse);
+    }
+}
@@ -0,0 +1,72 @@
+package com.example.demo.adapter.web.order.adapter;
+
+import com.example.demo.application.service.SearchOrdersService;
+import com.example.demo.application.service.SearchOrdersService.SearchOrdersQuery;
+import com.example.demo.application.service.SearchOrdersService.SearchOrdersResult;
+import java.math.BigDecimal;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Adapter for converting web requests to application queries and results to responses.
+ */
+@Component
+@ConditionalOnProperty(prefix = "example.persistence.order.search", name = "enabled", havingValue = "true")
+@RequiredArgsConstructor
+public class SearchOrdersAdapter {
+
+    private final SearchOrdersService searchOrdersService;
+
+    public record SearchOrdersResponse(int code, String message, SearchData data) {
+        public record SearchData(List<OrderSummaryData> orders) {}
+
+        public record OrderSummaryData(
+                String orderId,
+                String orderNumber,
+                String userId,
+                String merchantId,
+                String recipientName,
+                String recipientPhone,
+                String status,
+                BigDecimal finalAmount,
+                String createdAt) {}
+    }
+
+    public SearchOrdersResponse searchOrders(
+            String recipientPhone,
+            String recipientName,
+            String dishName,
+            String remark,
+            String merchantId,
+            Integer limit) {
+        SearchOrdersQuery query =
+                new SearchOrdersQuery(recipientPhone, recipientName, dishName, remark, merchantId, limit);
+        SearchOrdersResult result = searchOrdersService.searchOrders(query);
+        return toResponse(result);
+    }
+
+    /**
+     * Converts a SearchOrdersResult to a SearchOrdersResponse.
+     *
+     * @param result the application result
+     * @return the web response
+     */
+    private SearchOrdersResponse toResponse(SearchOrdersResult result) {
+        List<SearchOrdersResponse.OrderSummaryData> orders = result.orders().stream()
+                .map(order -> new SearchOrdersResponse.OrderSummaryData(
+                        order.orderId(),
+                        order.orderNumber(),
+                        order.userId(),
+                        order.merchantId(),
+                        order.recipientName(),
+                        order.recipientPhone(),
+                        order.status(),
+                        order.finalAmount(),
+                        order.createdAt().toString()))
+                .toList();
+
+        return new SearchOrdersResponse(0, "查询成功", new SearchOrdersResponse.SearchData(orders));
+    }
+}
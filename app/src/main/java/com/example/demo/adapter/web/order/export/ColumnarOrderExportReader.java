@@ -0,0 +1,91 @@
+package com.example.demo.adapter.web.order.export;
+
+import com.example.demo.adapter.web.order.export.ColumnarOrderExportWriter.Column;
+import com.example.demo.adapter.web.order.export.ColumnarOrderExportWriter.Type;
+import com.example.demo.application.port.StreamOrderLinesPort.OrderLine;
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.function.Consumer;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * Reads files written by {@link ColumnarOrderExportWriter}, one row group at a time.
+ */
+public final class ColumnarOrderExportReader {
+
+    private ColumnarOrderExportReader() {}
+
+    /**
+     * Passes every line of the file to the action.
+     *
+     * @param in the gzip-compressed export
+     * @param action receives each line
+     * @return the number of lines read
+     */
+    public static long read(InputStream in, Consumer<OrderLine> action) throws IOException {
+        DataInputStream data = new DataInputStream(
+                new BufferedInputStream(new GZIPInputStream(in, OrderExportWriter.BUFFER_SIZE)));
+        if (data.readInt() != ColumnarOrderExportWriter.MAGIC) {
+            throw new IOException("Not a columnar order export");
+        }
+        byte version = data.readByte();
+        if (version != ColumnarOrderExportWriter.VERSION_1) {
+            throw new IOException("Unsupported columnar order export version: " + version);
+        }
+        int columnCount = data.readShort();
+        if (columnCount != ColumnarOrderExportWriter.COLUMNS.size()) {
+            throw new IOException("Unexpected column count: " + columnCount);
+        }
+        for (Column column : ColumnarOrderExportWriter.COLUMNS) {
+            String name = data.readUTF();
+            int type = data.readByte();
+            if (!column.name().equals(name) || column.type().ordinal() != type) {
+                throw new IOException("Unexpected column: " + name);
+            }
+        }
+
+        long total = 0;
+        int rows;
+        while ((rows = data.readInt()) > 0) {
+            Object[][] values = new Object[columnCount][rows];
+            for (int c = 0; c < columnCount; c++) {
+                Type type = ColumnarOrderExportWriter.COLUMNS.get(c).type();
+                for (int r = 0; r < rows; r++) {
+                    values[c][r] = readValue(data, type);
+                }
+            }
+            for (int r = 0; r < rows; r++) {
+                action.accept(new OrderLine(
+                        (String) values[0][r],
+                        (String) values[1][r],
+                        (String) values[2][r],
+                        (String) values[3][r],
+                        (String) values[4][r],
+                        (Instant) values[5][r],
+                        (BigDecimal) values[6][r],
+                        (BigDecimal) values[7][r],
+                        (BigDecimal) values[8][r],
+                        (BigDecimal) values[9][r],
+                        (String) values[10][r],
+                        (String) values[11][r],
+                        (Integer) values[12][r],
+                        (BigDecimal) values[13][r]));
+            }
+            total += rows;
+        }
+        return total;
+    }
+
+    private static Object readValue(DataInputStream data, Type type) throws IOException {
+        return switch (type) {
+            case STRING -> data.readUTF();
+            case INT -> data.readInt();
+            case DECIMAL -> BigDecimal.valueOf(data.readLong(), 2);
+            case TIMESTAMP -> Instant.ofEpochMilli(data.readLong());
+        };
+    }
+}
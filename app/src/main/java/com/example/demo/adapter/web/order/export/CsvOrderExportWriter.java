@@ -0,0 +1,92 @@
+package com.example.demo.adapter.web.order.export;
+
+import com.example.demo.application.port.StreamOrderLinesPort.OrderLine;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * RFC 4180 CSV, one row per order item with the order columns repeated.
+ */
+public class CsvOrderExportWriter implements OrderExportWriter {
+
+    static final String HEADER = "order_id,order_number,user_id,merchant_id,status,created_at,"
+            + "items_total,packaging_fee,delivery_fee,final_amount,dish_id,dish_name,quantity,price";
+
+    private final Writer writer;
+
+    public CsvOrderExportWriter(OutputStream out) throws IOException {
+        this.writer = new BufferedWriter(
+                new OutputStreamWriter(OrderExportWriter.gzip(out), StandardCharsets.UTF_8), BUFFER_SIZE);
+        writer.write(HEADER);
+        writer.write("\r\n");
+    }
+
+    @Override
+    public void write(OrderLine line) throws IOException {
+        writeText(line.orderId());
+        writer.write(',');
+        writeText(line.orderNumber());
+        writer.write(',');
+        writeText(line.userId());
+        writer.write(',');
+        writeText(line.merchantId());
+        writer.write(',');
+        writeText(line.status());
+        writer.write(',');
+        writer.write(line.createdAt().toString());
+        writer.write(',');
+        writeDecimal(line.itemsTotal());
+        writer.write(',');
+        writeDecimal(line.packagingFee());
+        writer.write(',');
+        writeDecimal(line.deliveryFee());
+        writer.write(',');
+        writeDecimal(line.finalAmount());
+        writer.write(',');
+        writeText(line.dishId());
+        writer.write(',');
+        writeText(line.dishName());
+        writer.write(',');
+        writer.write(Integer.toString(line.quantity()));
+        writer.write(',');
+        writeDecimal(line.price());
+        writer.write("\r\n");
+    }
+
+    @Override
+    public void close() throws IOException {
+        writer.close();
+    }
+
+    private void writeDecimal(BigDecimal value) throws IOException {
+        writer.write(value.toPlainString());
+    }
+
+    private void writeText(String value) throws IOException {
+        if (value == null) {
+            return;
+        }
+        if (!needsQuoting(value)) {
+            writer.write(value);
+            return;
+        }
+        writer.write('"');
+        writer.write(value.replace("\"", "\"\""));
+        writer.write('"');
+    }
+
+    private static boolean needsQuoting(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == ',' || c == '"' || c == '\r' || c == '\n') {
+                return true;
+            }
+        }
+        return false;
+    }
+}
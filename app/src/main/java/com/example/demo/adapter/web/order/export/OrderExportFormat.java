@@ -0,0 +1,40 @@
+package com.example.demo.adapter.web.order.export;
+
+import com.example.demo.application.service.InvalidQueryException;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Locale;
+
+/**
+ * Supported bulk export file formats.
+ */
+public enum OrderExportFormat {
+    CSV("csv.gz"),
+    COLUMNAR("ocol.gz");
+
+    private final String fileExtension;
+
+    OrderExportFormat(String fileExtension) {
+        this.fileExtension = fileExtension;
+    }
+
+    public String fileExtension() {
+        return fileExtension;
+    }
+
+    public OrderExportWriter open(OutputStream out) throws IOException {
+        return switch (this) {
+            case CSV -> new CsvOrderExportWriter(out);
+            case COLUMNAR -> new ColumnarOrderExportWriter(out);
+        };
+    }
+
+    public static OrderExportFormat fromValue(String value) {
+        for (OrderExportFormat format : values()) {
+            if (format.name().equals(value.toUpperCase(Locale.ROOT))) {
+                return format;
+            }
+        }
+        throw new InvalidQueryException("不支持的导出格式: " + value);
+    }
+}
@@ -0,0 +1,30 @@
+package com.example.demo.adapter.web.order.export;
+
+import com.example.demo.application.port.StreamOrderLinesPort.OrderLine;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Writes exported order lines to a gzip-compressed stream. Closing finishes the gzip trailer and closes
+ * the underlying stream.
+ */
+public interface OrderExportWriter extends Closeable {
+
+    int BUFFER_SIZE = 64 * 1024;
+
+    void write(OrderLine line) throws IOException;
+
+    /**
+     * Opens a gzip stream favouring throughput over ratio; exports are CPU-bound on compression otherwise.
+     */
+    static OutputStream gzip(OutputStream out) throws IOException {
+        return new GZIPOutputStream(out, BUFFER_SIZE) {
+            {
+                def.setLevel(Deflater.BEST_SPEED);
+            }
+        };
+    }
+}
@@ -0,0 +1,217 @@
+package com.example.demo.adapter.web.order.feed;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * In-process fan-out of feed events to SSE subscribers grouped by key (e.g. merchant ID).
+ *
+ * <p>Idle subscribers hold no thread: each has a bounded buffer drained on a virtual thread, one drain at a
+ * time per subscriber, so a send blocked on a stalled connection only holds its own thread. A subscriber whose
+ * buffer overflows or whose send takes longer than the send timeout is disconnected rather than allowed to
+ * block publishers or grow memory; clients are expected to reconnect and catch up.
+ */
+@Component
+@Slf4j
+public class OrderFeedHub implements SchedulingConfigurer {
+
+    private final ConcurrentMap<String, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+    private final OrderFeedProperties properties;
+    private final ExecutorService deliveryExecutor;
+    private final Counter slowConsumersDropped;
+    private final Counter eventsPublished;
+
+    @Autowired
+    public OrderFeedHub(OrderFeedProperties properties, MeterRegistry meterRegistry) {
+        this(
+                properties,
+                meterRegistry,
+                Executors.newThreadPerTaskExecutor(
+                        Thread.ofVirtual().name("order-feed-", 0).factory()));
+    }
+
+    OrderFeedHub(OrderFeedProperties properties, MeterRegistry meterRegistry, ExecutorService deliveryExecutor) {
+        this.properties = properties;
+        this.deliveryExecutor = deliveryExecutor;
+        this.slowConsumersDropped = meterRegistry.counter("order.feed.slow.consumers.dropped");
+        this.eventsPublished = meterRegistry.counter("order.feed.events.published");
+        Gauge.builder("order.feed.subscribers", this, OrderFeedHub::subscriberCount)
+                .register(meterRegistry);
+    }
+
+    public SseEmitter subscribe(String key) {
+        return subscribe(key, new SseEmitter(properties.timeout().toMillis()));
+    }
+
+    SseEmitter subscribe(String key, SseEmitter emitter) {
+        Subscriber subscriber = new Subscriber(key, emitter, properties.bufferSize());
+        subscribers.computeIfAbsent(key, k -> ConcurrentHashMap.newKeySet()).add(subscriber);
+        emitter.onCompletion(subscriber::close);
+        emitter.onTimeout(subscriber::close);
+        emitter.onError(ex -> subscriber.close());
+        return emitter;
+    }
+
+    public void publish(String key, String eventName, String eventId, Object data) {
+        Set<Subscriber> targets = subscribers.get(key);
+        if (targets == null) {
+            return;
+        }
+        FeedEvent event = new FeedEvent(eventName, eventId, data);
+        targets.forEach(subscriber -> subscriber.offer(event));
+        eventsPublished.increment();
+    }
+
+    @Override
+    public void configureTasks(ScheduledTaskRegistrar taskRegistrar) {
+        taskRegistrar.addFixedDelayTask(this::sendHeartbeats, properties.heartbeatInterval());
+    }
+
+    public void sendHeartbeats() {
+        // Keeps proxies from closing idle streams and surfaces dead connections
+        long now = System.nanoTime();
+        subscribers.values().forEach(targets -> targets.forEach(subscriber -> {
+            if (subscriber.isStalled(now)) {
+                log.debug("Dropping stalled order feed consumer for {}", subscriber.key);
+                subscriber.drop();
+            } else {
+                subscriber.offer(FeedEvent.HEARTBEAT);
+            }
+        }));
+    }
+
+    public int subscriberCount() {
+        return subscribers.values().stream().mapToInt(Set::size).sum();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        subscribers.values().forEach(targets -> targets.forEach(Subscriber::close));
+        deliveryExecutor.shutdown();
+    }
+
+    private void remove(Subscriber subscriber) {
+        subscribers.computeIfPresent(subscriber.key, (key, targets) -> {
+            targets.remove(subscriber);
+            return targets.isEmpty() ? null : targets;
+        });
+    }
+
+    record FeedEvent(String name, String id, Object data) {
+        static final FeedEvent HEARTBEAT = new FeedEvent(null, null, null);
+
+        SseEmitter.SseEventBuilder toSse() {
+            if (this == HEARTBEAT) {
+                return SseEmitter.event().comment("heartbeat");
+            }
+            return SseEmitter.event().name(name).id(id).data(data);
+        }
+    }
+
+    private final class Subscriber {
+        private final String key;
+        private final SseEmitter emitter;
+        private final BlockingQueue<FeedEvent> buffer;
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private final AtomicBoolean closed = new AtomicBoolean();
+        private volatile boolean sending;
+        private volatile long sendStartedAt;
+
+        private Subscriber(String key, SseEmitter emitter, int bufferSize) {
+            this.key = key;
+            this.emitter = emitter;
+            this.buffer = new ArrayBlockingQueue<>(bufferSize);
+        }
+
+        private void offer(FeedEvent event) {
+            if (closed.get()) {
+                return;
+            }
+            if (!buffer.offer(event)) {
+                log.debug("Dropping slow order feed consumer for {}", key);
+                drop();
+                return;
+            }
+            scheduleDrain();
+        }
+
+        private boolean isStalled(long now) {
+            return sending && now - sendStartedAt >= properties.sendTimeout().toNanos();
+        }
+
+        private void drop() {
+            if (close()) {
+                slowConsumersDropped.increment();
+            }
+        }
+
+        private boolean close() {
+            if (!closed.compareAndSet(false, true)) {
+                return false;
+            }
+            remove(this);
+            buffer.clear();
+            // The emitter is completed by the drain, so completing never waits on a send holding the emitter
+            scheduleDrain();
+            return true;
+        }
+
+        private void scheduleDrain() {
+            if (draining.compareAndSet(false, true)) {
+                deliveryExecutor.execute(this::drain);
+            }
+        }
+
+        private void drain() {
+            try {
+                FeedEvent event;
+                while (!closed.get() && (event = buffer.poll()) != null) {
+                    send(event);
+                }
+                if (closed.get()) {
+                    emitter.complete();
+                    return;
+                }
+            } catch (IOException | IllegalStateException ex) {
+                // Client went away or the emitter already completed
+                closed.set(true);
+                remove(this);
+                buffer.clear();
+                return;
+            } finally {
+                draining.set(false);
+            }
+            // An event or a close may have arrived after the last check but before the flag was cleared
+            if (!buffer.isEmpty() || closed.get()) {
+                scheduleDrain();
+            }
+        }
+
+        private void send(FeedEvent event) throws IOException {
+            sendStartedAt = System.nanoTime();
+            sending = true;
+            try {
+                emitter.send(event.toSse());
+            } finally {
+                sending = false;
+            }
+        }
+    }
+}
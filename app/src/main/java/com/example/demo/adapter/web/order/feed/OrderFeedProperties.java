@@ -0,0 +1,21 @@
+package com.example.demo.adapter.web.order.feed;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Configuration for the Server-Sent Events order feed.
+ *
+ * @param bufferSize events buffered per subscriber before it is disconnected as a slow consumer
+ * @param sendTimeout how long a single send may block before the subscriber is disconnected; checked when
+ *     heartbeats are sent
+ * @param timeout how long a subscription stays open before the client has to reconnect
+ * @param heartbeatInterval interval between heartbeats on idle streams
+ */
+@ConfigurationProperties(prefix = "example.web.order-feed")
+public record OrderFeedProperties(
+        @DefaultValue("256") int bufferSize,
+        @DefaultValue("10s") Duration sendTimeout,
+        @DefaultValue("30m") Duration timeout,
+        @DefaultValue("15s") Duration heartbeatInterval) {}
@@ -0,0 +1,53 @@
+package com.example.demo.adapter.web.order.version;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import org.springframework.http.HttpHeaders;
+
+/**
+ * The version of an order as last served to its owner, enough to answer a conditional GET.
+ *
+ * <p>Both validators use whole seconds of {@code updatedAt}: HTTP dates carry no fractions and MySQL keeps
+ * none by default, so an order read back from the database yields the same validators as before.
+ *
+ * @param userId the owner, so that a cached version is only ever revealed to them
+ * @param updatedAt the last modification time of the order
+ */
+public record OrderVersion(String userId, Instant updatedAt) {
+
+    private static final String WEAK_PREFIX = "W/";
+
+    /**
+     * Weak, because the same version may be sent in different encodings.
+     */
+    public String eTag() {
+        return WEAK_PREFIX + "\"" + updatedAt.getEpochSecond() + "\"";
+    }
+
+    public Instant lastModified() {
+        return updatedAt.truncatedTo(ChronoUnit.SECONDS);
+    }
+
+    /**
+     * Whether the client already has this version. {@code If-None-Match} takes precedence over
+     * {@code If-Modified-Since}, as in RFC 9110.
+     *
+     * @param requestHeaders the headers of a GET request
+     * @return true if the request can be answered with 304
+     */
+    public boolean isCurrent(HttpHeaders requestHeaders) {
+        List<String> ifNoneMatch = requestHeaders.getIfNoneMatch();
+        if (!ifNoneMatch.isEmpty()) {
+            String opaqueTag = opaqueTag(eTag());
+            return ifNoneMatch.stream().anyMatch(tag -> tag.equals("*") || opaqueTag(tag).equals(opaqueTag));
+        }
+        long ifModifiedSince = requestHeaders.getIfModifiedSince();
+        return ifModifiedSince >= 0 && ifModifiedSince >= lastModified().toEpochMilli();
+    }
+
+    private static String opaqueTag(String eTag) {
+        // Weak comparison: W/"1" and "1" match
+        return eTag.startsWith(WEAK_PREFIX) ? eTag.substring(WEAK_PREFIX.length()) : eTag;
+    }
+}
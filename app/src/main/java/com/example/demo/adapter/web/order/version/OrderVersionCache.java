@@ -0,0 +1,65 @@
+package com.example.demo.adapter.web.order.version;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Iterator;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.LongSupplier;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * Bounded map from order ID to the version last served, so that a poller whose copy is still current can
+ * get a 304 without the order being loaded or serialized.
+ *
+ * <p>Entries expire after {@code ttl}, which bounds how long a change made through another instance can go
+ * unnoticed. When the cache is full, arbitrary entries are dropped instead of tracking recency on every read.
+ */
+@Component
+public class OrderVersionCache {
+
+    private final ConcurrentMap<String, Entry> entries = new ConcurrentHashMap<>();
+    private final int maxSize;
+    private final long ttlNanos;
+    private final LongSupplier nanoTime;
+
+    private record Entry(OrderVersion version, long cachedAt) {}
+
+    @Autowired
+    public OrderVersionCache(OrderVersionCacheProperties properties, MeterRegistry meterRegistry) {
+        this(properties, meterRegistry, System::nanoTime);
+    }
+
+    OrderVersionCache(OrderVersionCacheProperties properties, MeterRegistry meterRegistry, LongSupplier nanoTime) {
+        this.maxSize = properties.maxSize();
+        this.ttlNanos = properties.ttl().toNanos();
+        this.nanoTime = nanoTime;
+        Gauge.builder("order.version.cache.size", entries, ConcurrentMap::size).register(meterRegistry);
+    }
+
+    public Optional<OrderVersion> find(String orderId) {
+        Entry entry = entries.get(orderId);
+        if (entry == null) {
+            return Optional.empty();
+        }
+        if (nanoTime.getAsLong() - entry.cachedAt() > ttlNanos) {
+            entries.remove(orderId, entry);
+            return Optional.empty();
+        }
+        return Optional.of(entry.version());
+    }
+
+    public void put(String orderId, OrderVersion version) {
+        entries.put(orderId, new Entry(version, nanoTime.getAsLong()));
+        if (entries.size() > maxSize) {
+            Iterator<String> orderIds = entries.keySet().iterator();
+            while (entries.size() > maxSize && orderIds.hasNext()) {
+                if (!orderIds.next().equals(orderId)) {
+                    orderIds.remove();
+                }
+            }
+        }
+    }
+}
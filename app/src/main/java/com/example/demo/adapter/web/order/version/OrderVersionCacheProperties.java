@@ -0,0 +1,11 @@
+package com.example.demo.adapter.web.order.version;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Configuration for the cache of order versions used to answer conditional GETs.
+ */
+@ConfigurationProperties(prefix = "example.web.order-version-cache")
+public record OrderVersionCacheProperties(@DefaultValue("100000") int maxSize, @DefaultValue("5m") Duration ttl) {}
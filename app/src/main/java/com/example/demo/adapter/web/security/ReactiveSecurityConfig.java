@@ -0,0 +1,89 @@
+package com.example.demo.adapter.web.security;
+
+import org.springframework.boot.actuate.autoconfigure.security.reactive.EndpointRequest;
+import org.springframework.boot.actuate.health.HealthEndpoint;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.authentication.ReactiveAuthenticationManager;
+import org.springframework.security.config.web.server.SecurityWebFiltersOrder;
+import org.springframework.security.config.web.server.ServerHttpSecurity;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.web.authentication.preauth.PreAuthenticatedAuthenticationToken;
+import org.springframework.security.web.server.SecurityWebFilterChain;
+import org.springframework.security.web.server.authentication.AuthenticationWebFilter;
+import org.springframework.security.web.server.authentication.HttpStatusServerEntryPoint;
+import org.springframework.security.web.server.context.NoOpServerSecurityContextRepository;
+import org.springframework.security.web.server.util.matcher.ServerWebExchangeMatchers;
+import reactor.core.publisher.Mono;
+
+/**
+ * Reactive equivalent of {@link SecurityConfig}: the {@code Authorization} header carries the pre-authenticated
+ * user name and requests without it are rejected with 403.
+ */
+@Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveSecurityConfig {
+
+    @Bean
+    public SecurityWebFilterChain securityWebFilterChain(
+            ServerHttpSecurity http, ReactiveAuthenticationManager reactiveAuthenticationManager) {
+        return headerAuthenticated(http, reactiveAuthenticationManager)
+                .securityMatcher(ServerWebExchangeMatchers.pathMatchers("/api/**"))
+                .authorizeExchange(authorize -> authorize
+                        .pathMatchers("/api/v1/admin/**")
+                        .hasRole("ADMIN")
+                        .anyExchange()
+                        .authenticated())
+                .build();
+    }
+
+    /**
+     * Leaves the health endpoint open for probes and restricts every other Actuator endpoint to admins.
+     */
+    @Bean
+    public SecurityWebFilterChain actuatorSecurityWebFilterChain(
+            ServerHttpSecurity http, ReactiveAuthenticationManager reactiveAuthenticationManager) {
+        return headerAuthenticated(http, reactiveAuthenticationManager)
+                .securityMatcher(EndpointRequest.toAnyEndpoint())
+                .authorizeExchange(authorize -> authorize
+                        .matchers(EndpointRequest.to(HealthEndpoint.class))
+                        .permitAll()
+                        .anyExchange()
+                        .hasRole("ADMIN"))
+                .build();
+    }
+
+    private static ServerHttpSecurity headerAuthenticated(
+            ServerHttpSecurity http, ReactiveAuthenticationManager reactiveAuthenticationManager) {
+        AuthenticationWebFilter authenticationFilter = new AuthenticationWebFilter(reactiveAuthenticationManager);
+        authenticationFilter.setServerAuthenticationConverter(exchange -> Mono.justOrEmpty(
+                        exchange.getRequest().getHeaders().getFirst(HttpHeaders.AUTHORIZATION))
+                .map(principal -> new PreAuthenticatedAuthenticationToken(principal, "N/A")));
+        authenticationFilter.setSecurityContextRepository(NoOpServerSecurityContextRepository.getInstance());
+
+        return http.csrf(ServerHttpSecurity.CsrfSpec::disable)
+                .httpBasic(ServerHttpSecurity.HttpBasicSpec::disable)
+                .formLogin(ServerHttpSecurity.FormLoginSpec::disable)
+                .logout(ServerHttpSecurity.LogoutSpec::disable)
+                .securityContextRepository(NoOpServerSecurityContextRepository.getInstance())
+                .exceptionHandling(exceptions ->
+                        exceptions.authenticationEntryPoint(new HttpStatusServerEntryPoint(HttpStatus.FORBIDDEN)))
+                .addFilterAt(authenticationFilter, SecurityWebFiltersOrder.AUTHENTICATION);
+    }
+
+    @Bean
+    public ReactiveAuthenticationManager reactiveAuthenticationManager(WebSecurityProperties properties) {
+        return authentication -> {
+            String username = (String) authentication.getPrincipal();
+            UserDetails user = User.withUsername(username)
+                    .password("N/A")
+                    .roles(properties.rolesOf(username))
+                    .build();
+            return Mono.just(new PreAuthenticatedAuthenticationToken(user, "N/A", user.getAuthorities()));
+        };
+    }
+}
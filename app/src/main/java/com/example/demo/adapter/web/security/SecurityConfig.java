@@ -1,40 +1,100 @@
 package com.example.demo.adapter.web.security;
 
+import org.springframework.boot.actuate.autoconfigure.security.servlet.EndpointRequest;
+import org.springframework.boot.actuate.health.HealthEndpoint;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authorization.AuthorityAuthorizationManager;
+import org.springframework.security.authorization.AuthorizationDecision;
+import org.springframework.security.authorization.AuthorizationManager;
+import org.springframework.security.authorization.AuthorizationManagers;
 import org.springframework.security.config.Customizer;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.core.userdetails.User;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.access.intercept.RequestAuthorizationContext;
 import org.springframework.security.web.authentication.preauth.PreAuthenticatedAuthenticationProvider;
 import org.springframework.security.web.authentication.preauth.RequestHeaderAuthenticationFilter;
 import org.springframework.security.web.context.NullSecurityContextRepository;
 import org.springframework.security.web.context.RequestAttributeSecurityContextRepository;
 
 @Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 public class SecurityConfig {
 
     @Bean
-    public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
-        return http.securityMatcher("/api/**")
-                .authorizeHttpRequests(authorize -> authorize.anyRequest().authenticated())
-                .csrf(AbstractHttpConfigurer::disable)
+    public SecurityFilterChain securityFilterChain(
+            HttpSecurity http,
+            PreAuthenticatedAuthenticationProvider preAuthenticatedAuthenticationProvider,
+            WebSecurityProperties properties)
+            throws Exception {
+        return headerAuthenticated(http, preAuthenticatedAuthenticationProvider)
+                .securityMatcher("/api/**")
+                .authorizeHttpRequests(authorize -> authorize
+                        .requestMatchers("/api/v1/admin/**")
+                        .hasRole("ADMIN")
+                        .requestMatchers("/api/v1/merchants/{merchantId}/**")
+                        .access(merchantOperator(properties))
+                        .anyRequest()
+                        .authenticated())
+                .build();
+    }
+
+    /**
+     * Leaves the health endpoint open for probes and restricts every other Actuator endpoint to admins, as they
+     * expose internals and some, such as emptying the slow query log, change state.
+     */
+    @Bean
+    public SecurityFilterChain actuatorSecurityFilterChain(
+            HttpSecurity http, PreAuthenticatedAuthenticationProvider preAuthenticatedAuthenticationProvider)
+            throws Exception {
+        return headerAuthenticated(http, preAuthenticatedAuthenticationProvider)
+                .securityMatcher(EndpointRequest.toAnyEndpoint())
+                .authorizeHttpRequests(authorize -> authorize
+                        .requestMatchers(EndpointRequest.to(HealthEndpoint.class))
+                        .permitAll()
+                        .anyRequest()
+                        .hasRole("ADMIN"))
+                .build();
+    }
+
+    private static HttpSecurity headerAuthenticated(
+            HttpSecurity http, PreAuthenticatedAuthenticationProvider preAuthenticatedAuthenticationProvider)
+            throws Exception {
+        return http.csrf(AbstractHttpConfigurer::disable)
                 .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 .securityContext(securityContext ->
                         securityContext.securityContextRepository(new RequestAttributeSecurityContextRepository()))
-                .authenticationProvider(preAuthenticatedAuthenticationProvider())
-                .with(new RequestHeaderAuthenticationFilterConfigurer(), Customizer.withDefaults())
-                .build();
+                .authenticationProvider(preAuthenticatedAuthenticationProvider)
+                .with(new RequestHeaderAuthenticationFilterConfigurer(), Customizer.withDefaults());
+    }
+
+    /**
+     * Grants merchant endpoints only to users holding the MERCHANT role who operate the merchant in the path.
+     */
+    private static AuthorizationManager<RequestAuthorizationContext> merchantOperator(
+            WebSecurityProperties properties) {
+        AuthorizationManager<RequestAuthorizationContext> operatesMerchant = (authentication, context) ->
+                new AuthorizationDecision(properties.operatesMerchant(
+                        authentication.get().getName(), context.getVariables().get("merchantId")));
+        return AuthorizationManagers.allOf(AuthorityAuthorizationManager.hasRole("MERCHANT"), operatesMerchant);
     }
 
     @Bean
-    public PreAuthenticatedAuthenticationProvider preAuthenticatedAuthenticationProvider() {
+    public PreAuthenticatedAuthenticationProvider preAuthenticatedAuthenticationProvider(
+            WebSecurityProperties properties) {
         PreAuthenticatedAuthenticationProvider provider = new PreAuthenticatedAuthenticationProvider();
-        provider.setPreAuthenticatedUserDetailsService(token ->
-                User.withUsername((String) token.getPrincipal()).password("N/A").build());
+        provider.setPreAuthenticatedUserDetailsService(token -> {
+            String username = (String) token.getPrincipal();
+            return User.withUsername(username)
+                    .password("N/A")
+                    .roles(properties.rolesOf(username))
+                    .build();
+        });
         return provider;
     }
 
@@ -0,0 +1,38 @@
+package com.example.demo.adapter.web.security;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Configuration for request authorization.
+ *
+ * @param adminUsers user names allowed to call the {@code /api/v1/admin/**} endpoints
+ * @param merchantUsers merchant IDs operated by each user name; these users get the MERCHANT role and may only
+ *     access the merchant endpoints of their own merchants
+ */
+@ConfigurationProperties(prefix = "example.web.security")
+public record WebSecurityProperties(Set<String> adminUsers, Map<String, Set<String>> merchantUsers) {
+
+    public WebSecurityProperties {
+        adminUsers = adminUsers == null ? Set.of() : Set.copyOf(adminUsers);
+        merchantUsers = merchantUsers == null ? Map.of() : Map.copyOf(merchantUsers);
+    }
+
+    public String[] rolesOf(String username) {
+        List<String> roles = new ArrayList<>(List.of("USER"));
+        if (adminUsers.contains(username)) {
+            roles.add("ADMIN");
+        }
+        if (merchantUsers.containsKey(username)) {
+            roles.add("MERCHANT");
+        }
+        return roles.toArray(String[]::new);
+    }
+
+    public boolean operatesMerchant(String username, String merchantId) {
+        return merchantUsers.getOrDefault(username, Set.of()).contains(merchantId);
+    }
+}
@@ -0,0 +1,17 @@
+package com.example.demo.application.port;
+
+import com.example.demo.domain.order.Order;
+import java.util.List;
+
+/**
+ * Port for saving many existing orders at once, such as historical orders being backfilled.
+ * Outbound port - called by application layer, implemented by adapters.
+ */
+public interface BulkSaveOrderPort {
+    /**
+     * Insert the orders in as few statements as possible. Joins the caller's transaction.
+     * @param orders the orders to insert, none of which may exist yet
+     * @return the number of rows inserted
+     */
+    int saveAll(List<Order> orders);
+}
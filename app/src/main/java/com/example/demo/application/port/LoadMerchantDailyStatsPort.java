@@ -0,0 +1,21 @@
+package com.example.demo.application.port;
+
+import com.example.demo.domain.merchant.MerchantDailyStats;
+import com.example.demo.domain.merchant.MerchantId;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Port for loading per-merchant daily sales aggregates.
+ * Outbound port - called by application layer, implemented by adapters.
+ */
+public interface LoadMerchantDailyStatsPort {
+    /**
+     * Find the aggregates of a merchant for a date range.
+     * @param merchantId the merchant ID
+     * @param from the first day, inclusive
+     * @param to the last day, inclusive
+     * @return the days with orders, in date order
+     */
+    List<MerchantDailyStats> findByMerchantId(MerchantId merchantId, LocalDate from, LocalDate to);
+}
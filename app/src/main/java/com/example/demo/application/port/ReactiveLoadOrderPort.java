@@ -0,0 +1,18 @@
+package com.example.demo.application.port;
+
+import com.example.demo.domain.order.Order;
+import com.example.demo.domain.order.OrderId;
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking port for loading orders.
+ * Outbound port - called by application layer, implemented by adapters.
+ */
+public interface ReactiveLoadOrderPort {
+    /**
+     * Find an order by its ID.
+     * @param orderId the order ID
+     * @return Mono emitting the order, or empty if not found
+     */
+    Mono<Order> findById(OrderId orderId);
+}
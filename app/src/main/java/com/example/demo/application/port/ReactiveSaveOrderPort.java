@@ -0,0 +1,17 @@
+package com.example.demo.application.port;
+
+import com.example.demo.domain.order.Order;
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking port for saving orders.
+ * Outbound port - called by application layer, implemented by adapters.
+ */
+public interface ReactiveSaveOrderPort {
+    /**
+     * Save an order.
+     * @param order the order to save
+     * @return Mono completing once the order is stored
+     */
+    Mono<Void> save(Order order);
+}
@@ -0,0 +1,13 @@
+package com.example.demo.application.port;
+
+/**
+ * Port for rebuilding the order search index from the stored orders.
+ * Outbound port - called by application layer, implemented by adapters.
+ */
+public interface RebuildOrderSearchIndexPort {
+    /**
+     * Replace the contents of the search index with all stored orders.
+     * @return the number of indexed orders
+     */
+    long rebuild();
+}
@@ -0,0 +1,17 @@
+package com.example.demo.application.port;
+
+import java.time.LocalDate;
+
+/**
+ * Port for recomputing per-merchant daily sales aggregates from the stored orders.
+ * Outbound port - called by application layer, implemented by adapters.
+ */
+public interface ReconcileMerchantDailyStatsPort {
+    /**
+     * Replace the aggregates of a date range with values recomputed from the orders.
+     * @param from the first day, inclusive
+     * @param to the last day, exclusive
+     * @return the number of aggregate rows written
+     */
+    int reconcile(LocalDate from, LocalDate to);
+}
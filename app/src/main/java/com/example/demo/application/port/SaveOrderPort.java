@@ -12,4 +12,12 @@ public interface SaveOrderPort {
      * @param order the order to save
      */
     void save(Order order);
+
+    /**
+     * Whether {@link #save} writes to the database, so that callers have to run it in a transaction.
+     * @return false if orders are made durable elsewhere first, without a database connection
+     */
+    default boolean requiresTransaction() {
+        return true;
+    }
 }
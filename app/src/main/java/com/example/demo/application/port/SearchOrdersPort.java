@@ -0,0 +1,43 @@
+package com.example.demo.application.port;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Port for searching orders by recipient, dish and remark.
+ * Outbound port - called by application layer, implemented by adapters.
+ */
+public interface SearchOrdersPort {
+
+    /**
+     * Search criteria; null criteria are ignored and the others must all match.
+     *
+     * @param recipientPhone prefix of the recipient phone number
+     * @param recipientName words of the recipient name
+     * @param dishName words of the name of any dish in the order
+     * @param remark words of the order remark
+     * @param merchantId the exact merchant ID
+     */
+    record OrderSearchCriteria(
+            String recipientPhone, String recipientName, String dishName, String remark, String merchantId) {}
+
+    record OrderSummary(
+            String orderId,
+            String orderNumber,
+            String userId,
+            String merchantId,
+            String recipientName,
+            String recipientPhone,
+            String status,
+            BigDecimal finalAmount,
+            Instant createdAt) {}
+
+    /**
+     * Find the most recently created orders matching the criteria.
+     * @param criteria the search criteria
+     * @param limit the maximum number of orders to return
+     * @return the matching orders, newest first
+     */
+    List<OrderSummary> search(OrderSearchCriteria criteria, int limit);
+}
@@ -0,0 +1,38 @@
+package com.example.demo.application.port;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.function.Consumer;
+
+/**
+ * Port for streaming orders in bulk, one line per order item, without materializing them.
+ * Outbound port - called by application layer, implemented by adapters.
+ */
+public interface StreamOrderLinesPort {
+
+    record OrderLine(
+            String orderId,
+            String orderNumber,
+            String userId,
+            String merchantId,
+            String status,
+            Instant createdAt,
+            BigDecimal itemsTotal,
+            BigDecimal packagingFee,
+            BigDecimal deliveryFee,
+            BigDecimal finalAmount,
+            String dishId,
+            String dishName,
+            int quantity,
+            BigDecimal price) {}
+
+    /**
+     * Pass every item line of the orders created in a time range to the action, in no particular order.
+     * Must be called within a transaction so the adapter can hold a cursor.
+     * @param from the start of the range, inclusive
+     * @param to the end of the range, exclusive
+     * @param action receives each line; it must not retain them
+     * @return the number of lines streamed
+     */
+    long forEachOrderLine(Instant from, Instant to, Consumer<OrderLine> action);
+}
@@ -0,0 +1,111 @@
+package com.example.demo.application.service;
+
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Bounds how many calls of one use case run at once, so that a use case slowed down by its queries cannot take
+ * every request thread from the others. A call beyond the limit waits up to {@code maxWait} for a running one to
+ * finish and is then rejected with {@link BulkheadFullException}.
+ *
+ * <p>The bulkhead of the running call is bound to the thread, so that outbound adapters can give each use case
+ * resources of its own, such as a connection pool.
+ */
+public class Bulkhead {
+
+    private static final ThreadLocal<String> CURRENT = new ThreadLocal<>();
+
+    private final String name;
+    private final int maxConcurrentCalls;
+    private final long maxWaitNanos;
+    // Null when unbounded
+    private final Semaphore permits;
+    private final AtomicInteger activeCalls = new AtomicInteger();
+    private final LongAdder rejectedCalls = new LongAdder();
+
+    /**
+     * @param name the use case, also the key outbound adapters route by
+     * @param maxConcurrentCalls the calls allowed to run at once, 0 for no limit
+     * @param maxWait how long a call beyond the limit waits for a permit
+     */
+    public Bulkhead(String name, int maxConcurrentCalls, Duration maxWait) {
+        this.name = name;
+        this.maxConcurrentCalls = Math.max(0, maxConcurrentCalls);
+        this.maxWaitNanos = maxWait.toNanos();
+        this.permits = maxConcurrentCalls > 0 ? new Semaphore(maxConcurrentCalls, true) : null;
+    }
+
+    /**
+     * Runs the action once a permit is available.
+     *
+     * @throws BulkheadFullException if no permit became available within the maximum wait
+     */
+    public <T> T call(Supplier<T> action) {
+        acquire();
+        String previous = CURRENT.get();
+        CURRENT.set(name);
+        activeCalls.incrementAndGet();
+        try {
+            return action.get();
+        } finally {
+            activeCalls.decrementAndGet();
+            if (previous == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(previous);
+            }
+            if (permits != null) {
+                permits.release();
+            }
+        }
+    }
+
+    /**
+     * @return the name of the bulkhead the current thread runs in, null outside any bulkhead
+     */
+    public static String current() {
+        return CURRENT.get();
+    }
+
+    public String name() {
+        return name;
+    }
+
+    /**
+     * @return the calls allowed to run at once, 0 for no limit
+     */
+    public int maxConcurrentCalls() {
+        return maxConcurrentCalls;
+    }
+
+    public int activeCalls() {
+        return activeCalls.get();
+    }
+
+    public long rejectedCalls() {
+        return rejectedCalls.sum();
+    }
+
+    private void acquire() {
+        if (permits == null) {
+            return;
+        }
+        boolean acquired;
+        try {
+            acquired = maxWaitNanos > 0
+                    ? permits.tryAcquire(maxWaitNanos, TimeUnit.NANOSECONDS)
+                    : permits.tryAcquire();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            acquired = false;
+        }
+        if (!acquired) {
+            rejectedCalls.increment();
+            throw new BulkheadFullException(name);
+        }
+    }
+}
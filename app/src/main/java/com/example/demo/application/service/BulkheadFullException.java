@@ -0,0 +1,11 @@
+package com.example.demo.application.service;
+
+/**
+ * Thrown when a use case already runs as many calls as its {@link Bulkhead} allows and no call finished within
+ * the allowed wait.
+ */
+public class BulkheadFullException extends RuntimeException {
+    public BulkheadFullException(String bulkhead) {
+        super("服务繁忙，请稍后重试: " + bulkhead);
+    }
+}
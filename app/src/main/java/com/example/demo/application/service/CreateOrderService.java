@@ -1,12 +1,8 @@
 package com.example.demo.application.service;
 
 import com.example.demo.application.port.SaveOrderPort;
-import com.example.demo.domain.dish.DishId;
-import com.example.demo.domain.merchant.MerchantId;
-import com.example.demo.domain.order.DeliveryInfo;
 import com.example.demo.domain.order.Order;
-import com.example.demo.domain.order.OrderItem;
-import com.example.demo.domain.user.UserId;
+import com.example.demo.domain.order.OrderCreatedEvent;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotNull;
@@ -15,18 +11,37 @@ import jakarta.validation.constraints.Size;
 import java.math.BigDecimal;
 import java.time.Instant;
 import java.util.List;
-import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 /**
- * Application service for creating orders.
+ * Application service for creating orders. Calls run in the {@code create-order} bulkhead, entered before the
+ * transaction begins so that calls waiting for a permit hold no database connection. Each call is recorded as an
+ * {@link OrderCreatedJfrEvent} for Flight Recorder.
  */
 @Service
-@RequiredArgsConstructor
 public class CreateOrderService {
 
     private final SaveOrderPort saveOrderPort;
+    private final OrderFactory orderFactory;
+    private final ApplicationEventPublisher applicationEventPublisher;
+    private final Bulkhead bulkhead;
+    private final TransactionTemplate transactionTemplate;
+
+    public CreateOrderService(
+            SaveOrderPort saveOrderPort,
+            OrderFactory orderFactory,
+            ApplicationEventPublisher applicationEventPublisher,
+            OrderBulkheads orderBulkheads,
+            PlatformTransactionManager transactionManager) {
+        this.saveOrderPort = saveOrderPort;
+        this.orderFactory = orderFactory;
+        this.applicationEventPublisher = applicationEventPublisher;
+        this.bulkhead = orderBulkheads.createOrder();
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
 
     public record CreateOrderCommand(
             @NotNull String userId,
@@ -52,24 +67,39 @@ public class CreateOrderService {
                 BigDecimal itemsTotal, BigDecimal packagingFee, BigDecimal deliveryFee, BigDecimal finalAmount) {}
     }
 
-    @Transactional
+    /**
+     * @throws BulkheadFullException if too many orders are being created already
+     */
     public CreateOrderResult createOrder(CreateOrderCommand command) {
-        UserId userId = new UserId(command.userId());
-        MerchantId merchantId = new MerchantId(command.merchantId());
-
-        List<OrderItem> items = command.items().stream()
-                .map(dto -> new OrderItem(new DishId(dto.dishId()), dto.dishName(), dto.quantity(), dto.price()))
-                .toList();
-
-        DeliveryInfo deliveryInfo = new DeliveryInfo(
-                command.deliveryInfo().recipientName(),
-                command.deliveryInfo().recipientPhone(),
-                command.deliveryInfo().address());
+        OrderCreatedJfrEvent jfrEvent = new OrderCreatedJfrEvent();
+        jfrEvent.begin();
+        try {
+            return bulkhead.call(() -> {
+                // A port that does not write to the database needs neither a transaction nor a pooled connection
+                CreateOrderResult result = saveOrderPort.requiresTransaction()
+                        ? transactionTemplate.execute(status -> create(command, jfrEvent))
+                        : create(command, jfrEvent);
+                // The statements of the order are flushed on commit, so persisting ends here
+                jfrEvent.committed();
+                return result;
+            });
+        } finally {
+            jfrEvent.commit();
+        }
+    }
 
-        Order order = new Order(userId, merchantId, items, deliveryInfo, command.remark());
+    private CreateOrderResult create(CreateOrderCommand command, OrderCreatedJfrEvent jfrEvent) {
+        jfrEvent.pricingStarted();
+        Order order = orderFactory.create(command);
 
+        jfrEvent.persistenceStarted(order);
         saveOrderPort.save(order);
+        applicationEventPublisher.publishEvent(new OrderCreatedEvent(order));
+
+        return toResult(order);
+    }
 
+    static CreateOrderResult toResult(Order order) {
         return new CreateOrderResult(
                 order.getId().value(),
                 order.getOrderNumber().value(),
@@ -0,0 +1,47 @@
+package com.example.demo.application.service;
+
+import com.example.demo.application.port.StreamOrderLinesPort;
+import com.example.demo.application.port.StreamOrderLinesPort.OrderLine;
+import jakarta.validation.constraints.NotNull;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.function.Consumer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Application service for exporting orders of a date range in bulk.
+ */
+@Service
+@RequiredArgsConstructor
+public class ExportOrdersService {
+
+    private final StreamOrderLinesPort streamOrderLinesPort;
+
+    public record ExportOrdersQuery(@NotNull LocalDate from, @NotNull LocalDate to) {
+        public ExportOrdersQuery {
+            // Checked on construction so callers can reject the request before streaming starts
+            if (from.isAfter(to)) {
+                throw new InvalidQueryException("开始日期不能晚于结束日期");
+            }
+        }
+    }
+
+    /**
+     * Streams the item lines of all orders created between the two days, both inclusive.
+     * Days follow the JVM time zone, like the TIMESTAMP columns written through JDBC.
+     *
+     * @param query the date range
+     * @param sink receives each line
+     * @return the number of lines exported
+     */
+    @Transactional(readOnly = true)
+    public long exportOrders(ExportOrdersQuery query, Consumer<OrderLine> sink) {
+        ZoneId zone = ZoneId.systemDefault();
+        return streamOrderLinesPort.forEachOrderLine(
+                query.from().atStartOfDay(zone).toInstant(),
+                query.to().plusDays(1).atStartOfDay(zone).toInstant(),
+                sink);
+    }
+}
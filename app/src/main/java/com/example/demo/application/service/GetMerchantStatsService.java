@@ -0,0 +1,63 @@
+package com.example.demo.application.service;
+
+import com.example.demo.application.port.LoadMerchantDailyStatsPort;
+import com.example.demo.domain.merchant.MerchantDailyStats;
+import com.example.demo.domain.merchant.MerchantId;
+import jakarta.validation.constraints.NotNull;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Application service for querying merchant sales statistics.
+ */
+@Service
+@RequiredArgsConstructor
+public class GetMerchantStatsService {
+
+    static final int DEFAULT_DAYS = 7;
+    static final int MAX_DAYS = 366;
+
+    private final LoadMerchantDailyStatsPort loadMerchantDailyStatsPort;
+
+    public record GetMerchantStatsQuery(@NotNull String merchantId, LocalDate from, LocalDate to) {}
+
+    public record GetMerchantStatsResult(
+            String merchantId,
+            LocalDate from,
+            LocalDate to,
+            long totalOrders,
+            BigDecimal totalRevenue,
+            List<DailyStatsDto> days) {
+        public record DailyStatsDto(LocalDate date, long orderCount, BigDecimal revenue) {}
+    }
+
+    @Transactional(readOnly = true)
+    public GetMerchantStatsResult getStats(GetMerchantStatsQuery query) {
+        // Default to the last week up to today
+        LocalDate to = query.to() != null ? query.to() : LocalDate.now();
+        LocalDate from = query.from() != null ? query.from() : to.minusDays(DEFAULT_DAYS - 1);
+        if (from.isAfter(to)) {
+            throw new InvalidQueryException("开始日期不能晚于结束日期");
+        }
+        if (ChronoUnit.DAYS.between(from, to) >= MAX_DAYS) {
+            throw new InvalidQueryException("查询范围不能超过" + MAX_DAYS + "天");
+        }
+
+        List<MerchantDailyStats> stats =
+                loadMerchantDailyStatsPort.findByMerchantId(MerchantId.of(query.merchantId()), from, to);
+
+        List<GetMerchantStatsResult.DailyStatsDto> days = stats.stream()
+                .map(day -> new GetMerchantStatsResult.DailyStatsDto(day.date(), day.orderCount(), day.revenue()))
+                .toList();
+        long totalOrders = stats.stream().mapToLong(MerchantDailyStats::orderCount).sum();
+        BigDecimal totalRevenue =
+                stats.stream().map(MerchantDailyStats::revenue).reduce(BigDecimal.ZERO, BigDecimal::add);
+
+        return new GetMerchantStatsResult(query.merchantId(), from, to, totalOrders, totalRevenue, days);
+    }
+}
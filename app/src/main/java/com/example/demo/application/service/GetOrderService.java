@@ -7,18 +7,30 @@ import jakarta.validation.constraints.NotNull;
 import java.math.BigDecimal;
 import java.time.Instant;
 import java.util.List;
-import lombok.RequiredArgsConstructor;
+import java.util.Optional;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 /**
- * Application service for querying order details.
+ * Application service for querying order details. Calls run in the {@code get-order} bulkhead, entered before
+ * the transaction begins so that calls waiting for a permit hold no database connection. Each call is recorded
+ * as an {@link OrderLookupJfrEvent} for Flight Recorder.
  */
 @Service
-@RequiredArgsConstructor
 public class GetOrderService {
 
     private final LoadOrderPort loadOrderPort;
+    private final Bulkhead bulkhead;
+    private final TransactionTemplate transactionTemplate;
+
+    public GetOrderService(
+            LoadOrderPort loadOrderPort, OrderBulkheads orderBulkheads, PlatformTransactionManager transactionManager) {
+        this.loadOrderPort = loadOrderPort;
+        this.bulkhead = orderBulkheads.getOrder();
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+    }
 
     public record GetOrderQuery(@NotNull String orderId, @NotNull String userId) {}
 
@@ -32,7 +44,8 @@ public class GetOrderService {
             String remark,
             String status,
             PricingDto pricing,
-            Instant createdAt) {
+            Instant createdAt,
+            Instant updatedAt) {
         public record OrderItemDto(String dishId, String dishName, Integer quantity, BigDecimal price) {}
 
         public record DeliveryInfoDto(String recipientName, String recipientPhone, String address) {}
@@ -41,23 +54,42 @@ public class GetOrderService {
                 BigDecimal itemsTotal, BigDecimal packagingFee, BigDecimal deliveryFee, BigDecimal finalAmount) {}
     }
 
-    @Transactional(readOnly = true)
+    /**
+     * @throws OrderNotFoundException if the order does not exist or belongs to another user
+     * @throws BulkheadFullException if too many orders are being read already
+     */
     public GetOrderResult getOrder(GetOrderQuery query) {
-        // Query order by orderId
-        Order order = loadOrderPort
-                .findById(new OrderId(query.orderId()))
-                .orElseThrow(() -> new OrderNotFoundException("订单不存在: " + query.orderId()));
+        OrderLookupJfrEvent jfrEvent = new OrderLookupJfrEvent();
+        jfrEvent.orderId = query.orderId();
+        jfrEvent.begin();
+        try {
+            return bulkhead.call(() -> transactionTemplate.execute(status -> {
+                // Query order by orderId
+                long loadStarted = System.nanoTime();
+                Optional<Order> loaded = loadOrderPort.findById(new OrderId(query.orderId()));
+                jfrEvent.loadTime = System.nanoTime() - loadStarted;
+                Order order = loaded.orElseThrow(() -> new OrderNotFoundException("订单不存在: " + query.orderId()));
 
-        // Verify order ownership
+                // Verify order ownership
+                verifyOwnership(order, query);
+                jfrEvent.found = true;
+                jfrEvent.itemCount = order.getItems().size();
+
+                // Convert Order domain object to GetOrderResult
+                return convertToResult(order);
+            }));
+        } finally {
+            jfrEvent.commit();
+        }
+    }
+
+    static void verifyOwnership(Order order, GetOrderQuery query) {
         if (!order.getUserId().value().equals(query.userId())) {
             throw new OrderNotFoundException("订单不存在: " + query.orderId());
         }
-
-        // Convert Order domain object to GetOrderResult
-        return convertToResult(order);
     }
 
-    private GetOrderResult convertToResult(Order order) {
+    static GetOrderResult convertToResult(Order order) {
         List<GetOrderResult.OrderItemDto> itemDtos = order.getItems().stream()
                 .map(item -> new GetOrderResult.OrderItemDto(
                         item.dishId().value(), item.dishName(), item.quantity(), item.price()))
@@ -84,6 +116,7 @@ public class GetOrderService {
                 order.getRemark(),
                 order.getStatus().name(),
                 pricingDto,
-                order.getCreatedAt());
+                order.getCreatedAt(),
+                order.getUpdatedAt());
     }
 }
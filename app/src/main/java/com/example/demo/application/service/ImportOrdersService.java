@@ -0,0 +1,216 @@
+package com.example.demo.application.service;
+
+import com.example.demo.application.port.BulkSaveOrderPort;
+import com.example.demo.application.port.ReconcileMerchantDailyStatsPort;
+import com.example.demo.domain.order.Order;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Application service for loading existing orders in bulk, e.g. to backfill history or seed load tests.
+ * Orders are inserted as given and no {@link com.example.demo.domain.order.OrderCreatedEvent} is published.
+ */
+@Service
+@Slf4j
+public class ImportOrdersService {
+
+    private final BulkSaveOrderPort bulkSaveOrderPort;
+    private final ReconcileMerchantDailyStatsPort reconcileMerchantDailyStatsPort;
+    private final TransactionTemplate transactionTemplate;
+    private final TaskExecutor taskExecutor;
+
+    /**
+     * @param taskExecutor runs the batches; its pool size caps the number of concurrent workers
+     */
+    public ImportOrdersService(
+            BulkSaveOrderPort bulkSaveOrderPort,
+            ReconcileMerchantDailyStatsPort reconcileMerchantDailyStatsPort,
+            TransactionTemplate transactionTemplate,
+            @Qualifier("applicationTaskExecutor") TaskExecutor taskExecutor) {
+        this.bulkSaveOrderPort = bulkSaveOrderPort;
+        this.reconcileMerchantDailyStatsPort = reconcileMerchantDailyStatsPort;
+        this.transactionTemplate = transactionTemplate;
+        this.taskExecutor = taskExecutor;
+    }
+
+    /**
+     * @param orders the orders to import, consumed on the calling thread
+     * @param batchSize orders committed per transaction
+     * @param workers batches written concurrently
+     * @param progressInterval how often progress is logged
+     */
+    public record ImportOrdersCommand(
+            Iterator<Order> orders, int batchSize, int workers, Duration progressInterval) {
+
+        public ImportOrdersCommand {
+            Objects.requireNonNull(orders, "orders");
+            Objects.requireNonNull(progressInterval, "progressInterval");
+            if (batchSize < 1) {
+                throw new IllegalArgumentException("Import batch size must be at least 1: " + batchSize);
+            }
+            if (workers < 1) {
+                throw new IllegalArgumentException("Import workers must be at least 1: " + workers);
+            }
+        }
+    }
+
+    /**
+     * @param orders the number of imported orders
+     * @param rows the number of inserted rows, which depends on the storage layout
+     * @param elapsed the import duration
+     * @param earliestCreatedAt the creation time of the oldest imported order, null if none was imported
+     * @param latestCreatedAt the creation time of the newest imported order, null if none was imported
+     */
+    public record ImportOrdersResult(
+            long orders, long rows, Duration elapsed, Instant earliestCreatedAt, Instant latestCreatedAt) {
+        public double rowsPerSecond() {
+            return rows * 1e9 / Math.max(elapsed.toNanos(), 1);
+        }
+    }
+
+    /**
+     * Reads the orders into batches and commits each batch in its own transaction on the task executor.
+     * At most one batch per worker is handed to the executor at a time, plus the batch being read. On the
+     * first failed batch no further batches are started and the failure is rethrown once running batches
+     * finish; batches committed before stay in place.
+     *
+     * @param command the import source and tuning
+     * @return the import totals
+     */
+    public ImportOrdersResult importOrders(ImportOrdersCommand command) {
+        Progress progress = new Progress();
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        Semaphore inFlight = new Semaphore(command.workers());
+        long started = System.nanoTime();
+        long nextReport = started + command.progressInterval().toNanos();
+
+        try {
+            Iterator<Order> orders = command.orders();
+            while (orders.hasNext() && failure.get() == null) {
+                List<Order> batch = nextBatch(orders, command.batchSize());
+                inFlight.acquireUninterruptibly();
+                try {
+                    taskExecutor.execute(() -> {
+                        try {
+                            if (failure.get() == null) {
+                                Integer rows =
+                                        transactionTemplate.execute(status -> bulkSaveOrderPort.saveAll(batch));
+                                progress.add(batch, rows == null ? 0 : rows);
+                            }
+                        } catch (RuntimeException | Error ex) {
+                            failure.compareAndSet(null, ex);
+                        } finally {
+                            inFlight.release();
+                        }
+                    });
+                } catch (RuntimeException ex) {
+                    // Rejected by the executor
+                    inFlight.release();
+                    throw ex;
+                }
+
+                long now = System.nanoTime();
+                if (now >= nextReport) {
+                    log.info(
+                            "Imported {} orders ({} rows), {} rows/s",
+                            progress.orders.get(),
+                            progress.rows.get(),
+                            Math.round(progress.rows.get() * 1e9 / (now - started)));
+                    nextReport = now + command.progressInterval().toNanos();
+                }
+            }
+        } finally {
+            awaitRunningBatches(inFlight, command.workers());
+        }
+
+        ImportOrdersResult result = progress.toResult(Duration.ofNanos(System.nanoTime() - started));
+        if (failure.get() != null) {
+            throw new IllegalStateException(
+                    "Order import failed after " + result.orders() + " committed orders", failure.get());
+        }
+        log.info(
+                "Imported {} orders ({} rows) in {} ms, {} rows/s",
+                result.orders(),
+                result.rows(),
+                result.elapsed().toMillis(),
+                Math.round(result.rowsPerSecond()));
+        return result;
+    }
+
+    private static List<Order> nextBatch(Iterator<Order> orders, int batchSize) {
+        List<Order> batch = new ArrayList<>(batchSize);
+        while (batch.size() < batchSize && orders.hasNext()) {
+            batch.add(orders.next());
+        }
+        return batch;
+    }
+
+    private static void awaitRunningBatches(Semaphore inFlight, int workers) {
+        try {
+            while (!inFlight.tryAcquire(workers, 1, TimeUnit.MINUTES)) {
+                log.info("Waiting for running import batches to commit");
+            }
+            inFlight.release(workers);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Rebuilds the merchant daily stats of the closed days covered by an import. Today stays with the live
+     * aggregates, which would add their pending counts on top of a rebuild.
+     *
+     * @param result the import totals
+     */
+    public void reconcileStats(ImportOrdersResult result) {
+        if (result.orders() == 0) {
+            return;
+        }
+        ZoneId zone = ZoneId.systemDefault();
+        LocalDate from = LocalDate.ofInstant(result.earliestCreatedAt(), zone);
+        LocalDate to = LocalDate.ofInstant(result.latestCreatedAt(), zone).plusDays(1);
+        LocalDate today = LocalDate.now(zone);
+        if (to.isAfter(today)) {
+            to = today;
+        }
+        if (from.isBefore(to)) {
+            reconcileMerchantDailyStatsPort.reconcile(from, to);
+        }
+    }
+
+    private static final class Progress {
+
+        private final AtomicLong orders = new AtomicLong();
+        private final AtomicLong rows = new AtomicLong();
+        private final AtomicReference<Instant> earliest = new AtomicReference<>();
+        private final AtomicReference<Instant> latest = new AtomicReference<>();
+
+        void add(List<Order> batch, int insertedRows) {
+            for (Order order : batch) {
+                earliest.accumulateAndGet(order.getCreatedAt(), (a, b) -> a == null || b.isBefore(a) ? b : a);
+                latest.accumulateAndGet(order.getCreatedAt(), (a, b) -> a == null || b.isAfter(a) ? b : a);
+            }
+            orders.addAndGet(batch.size());
+            rows.addAndGet(insertedRows);
+        }
+
+        ImportOrdersResult toResult(Duration elapsed) {
+            return new ImportOrdersResult(orders.get(), rows.get(), elapsed, earliest.get(), latest.get());
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package com.example.demo.application.service;
+
+/**
+ * Thrown when the parameters of a query, such as its date range or search criteria, are invalid. The web layer
+ * answers it with 400.
+ */
+public class InvalidQueryException extends RuntimeException {
+    public InvalidQueryException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,21 @@
+package com.example.demo.application.service;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Configuration for the {@link OrderBulkheads}.
+ *
+ * @param createOrder the limits of order creation
+ * @param getOrder the limits of order reads
+ */
+@ConfigurationProperties(prefix = "example.order.bulkhead")
+public record OrderBulkheadProperties(@DefaultValue Limits createOrder, @DefaultValue Limits getOrder) {
+
+    /**
+     * @param maxConcurrentCalls the calls allowed to run at once, 0 for no limit
+     * @param maxWait how long a call beyond the limit waits for a permit, 0 to reject it right away
+     */
+    public record Limits(int maxConcurrentCalls, @DefaultValue("0s") Duration maxWait) {}
+}
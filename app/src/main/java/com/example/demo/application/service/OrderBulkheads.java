@@ -0,0 +1,61 @@
+package com.example.demo.application.service;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.util.List;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * The bulkheads separating order creation from order reads, so that a burst of slow reads cannot hold up the
+ * orders being placed. Both are unbounded unless limits are configured.
+ */
+@Component
+public class OrderBulkheads implements MeterBinder {
+
+    public static final String CREATE_ORDER = "create-order";
+    public static final String GET_ORDER = "get-order";
+
+    private final Bulkhead createOrder;
+    private final Bulkhead getOrder;
+
+    @Autowired
+    public OrderBulkheads(OrderBulkheadProperties properties) {
+        this(
+                new Bulkhead(
+                        CREATE_ORDER,
+                        properties.createOrder().maxConcurrentCalls(),
+                        properties.createOrder().maxWait()),
+                new Bulkhead(GET_ORDER, properties.getOrder().maxConcurrentCalls(), properties.getOrder().maxWait()));
+    }
+
+    OrderBulkheads(Bulkhead createOrder, Bulkhead getOrder) {
+        this.createOrder = createOrder;
+        this.getOrder = getOrder;
+    }
+
+    public Bulkhead createOrder() {
+        return createOrder;
+    }
+
+    public Bulkhead getOrder() {
+        return getOrder;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (Bulkhead bulkhead : List.of(createOrder, getOrder)) {
+            Gauge.builder("order.bulkhead.calls.active", bulkhead, Bulkhead::activeCalls)
+                    .tag("bulkhead", bulkhead.name())
+                    .register(registry);
+            Gauge.builder("order.bulkhead.calls.max", bulkhead, Bulkhead::maxConcurrentCalls)
+                    .tag("bulkhead", bulkhead.name())
+                    .register(registry);
+            FunctionCounter.builder("order.bulkhead.calls.rejected", bulkhead, Bulkhead::rejectedCalls)
+                    .tag("bulkhead", bulkhead.name())
+                    .register(registry);
+        }
+    }
+}
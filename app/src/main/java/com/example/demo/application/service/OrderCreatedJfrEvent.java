@@ -0,0 +1,61 @@
+package com.example.demo.application.service;
+
+import com.example.demo.domain.order.Order;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * Flight Recorder event for one call of {@link CreateOrderService#createOrder}. Its duration includes the wait
+ * for the bulkhead, so that a latency spike can be told apart into queuing, pricing and persisting.
+ */
+@Name("com.example.demo.OrderCreated")
+@Label("Order Created")
+@Category({"Order Service", "Orders"})
+@Description("Creation of an order, from entering the create-order bulkhead to the commit of its transaction")
+@StackTrace(false)
+final class OrderCreatedJfrEvent extends Event {
+
+    @Label("Order Id")
+    String orderId;
+
+    @Label("Item Count")
+    int itemCount;
+
+    @Label("Pricing Time")
+    @Description("Validating the items and pricing the order")
+    @Timespan
+    long pricingTime;
+
+    @Label("Persistence Time")
+    @Description("Saving the order up to the commit of its transaction")
+    @Timespan
+    long persistenceTime;
+
+    @Label("Succeeded")
+    boolean succeeded;
+
+    // Not recorded: where the phase being timed began
+    private transient long phaseStarted;
+
+    void pricingStarted() {
+        phaseStarted = System.nanoTime();
+    }
+
+    void persistenceStarted(Order order) {
+        long now = System.nanoTime();
+        pricingTime = now - phaseStarted;
+        phaseStarted = now;
+        orderId = order.getId().value();
+        itemCount = order.getItems().size();
+    }
+
+    void committed() {
+        persistenceTime = System.nanoTime() - phaseStarted;
+        succeeded = true;
+    }
+}
@@ -0,0 +1,213 @@
+package com.example.demo.application.service;
+
+import com.example.demo.application.service.CreateOrderService.CreateOrderCommand;
+import com.example.demo.application.service.CreateOrderService.CreateOrderCommand.OrderItemDto;
+import com.example.demo.domain.dish.DishId;
+import com.example.demo.domain.merchant.MerchantId;
+import com.example.demo.domain.order.DeliveryInfo;
+import com.example.demo.domain.order.Order;
+import com.example.demo.domain.order.OrderItem;
+import com.example.demo.domain.order.Pricing;
+import com.example.demo.domain.user.UserId;
+import jakarta.annotation.PreDestroy;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Function;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Validates create commands and builds priced orders. Item lists of at least {@code item-threshold} lines are
+ * validated and priced across a {@link ForkJoinPool}; smaller ones are handled on the calling thread, where
+ * forking costs more than it saves.
+ *
+ * <p>Results do not depend on the path taken. Items keep their input order, the items total is an exact sum
+ * of the subtotals priced by the domain, and when several items are invalid the exception of the first one is
+ * thrown, exactly as the sequential path would.
+ */
+@Component
+public class OrderFactory {
+
+    // Leaves per worker, so that uneven leaves still keep every worker busy
+    private static final int LEAVES_PER_WORKER = 4;
+
+    private final ForkJoinPool pool;
+    private final boolean ownsPool;
+    private final int itemThreshold;
+
+    /**
+     * @param itemThreshold the number of items from which an order is validated and priced in parallel
+     * @param parallelism the size of a dedicated pool, 0 to use the common pool
+     */
+    @Autowired
+    public OrderFactory(
+            @Value("${example.order.parallel.item-threshold:2048}") int itemThreshold,
+            @Value("${example.order.parallel.parallelism:0}") int parallelism) {
+        this(parallelism > 0 ? new ForkJoinPool(parallelism) : ForkJoinPool.commonPool(), itemThreshold);
+    }
+
+    OrderFactory(ForkJoinPool pool, int itemThreshold) {
+        this.pool = pool;
+        this.ownsPool = pool != ForkJoinPool.commonPool();
+        this.itemThreshold = itemThreshold;
+    }
+
+    /**
+     * @return a factory that never forks, for callers outside the application context
+     */
+    public static OrderFactory sequential() {
+        return new OrderFactory(ForkJoinPool.commonPool(), Integer.MAX_VALUE);
+    }
+
+    /**
+     * Builds a new order from a command.
+     *
+     * @throws IllegalArgumentException if the command violates an order rule
+     */
+    public Order create(CreateOrderCommand command) {
+        UserId userId = UserId.of(command.userId());
+        MerchantId merchantId = MerchantId.of(command.merchantId());
+
+        List<OrderItem> items = map(command.items(), OrderFactory::toItem);
+
+        DeliveryInfo deliveryInfo = new DeliveryInfo(
+                command.deliveryInfo().recipientName(),
+                command.deliveryInfo().recipientPhone(),
+                command.deliveryInfo().address());
+
+        Pricing pricing = items.size() < itemThreshold ? null : Pricing.ofSubtotals(subtotals(items));
+        return new Order(userId, merchantId, items, deliveryInfo, command.remark(), pricing);
+    }
+
+    @PreDestroy
+    public void close() {
+        if (ownsPool) {
+            pool.shutdown();
+        }
+    }
+
+    private static OrderItem toItem(OrderItemDto dto) {
+        return new OrderItem(DishId.of(dto.dishId()), dto.dishName(), dto.quantity(), dto.price());
+    }
+
+    private List<OrderItem> map(List<OrderItemDto> inputs, Function<OrderItemDto, OrderItem> mapper) {
+        if (inputs.size() < itemThreshold) {
+            List<OrderItem> results = new ArrayList<>(inputs.size());
+            for (OrderItemDto input : inputs) {
+                results.add(mapper.apply(input));
+            }
+            return results;
+        }
+        OrderItem[] results = new OrderItem[inputs.size()];
+        RuntimeException[] failures = new RuntimeException[inputs.size()];
+        pool.invoke(new MapTask(inputs, mapper, results, failures, 0, inputs.size(), leafSize(inputs.size())));
+        // Every input was tried; report the failure the sequential path would have stopped at
+        for (RuntimeException failure : failures) {
+            if (failure != null) {
+                throw failure;
+            }
+        }
+        return Arrays.asList(results);
+    }
+
+    /**
+     * Sums the item subtotals in the pool, returning one partial sum per leaf.
+     */
+    private List<BigDecimal> subtotals(List<OrderItem> items) {
+        int leafSize = leafSize(items.size());
+        BigDecimal[] sums = new BigDecimal[(items.size() + leafSize - 1) / leafSize];
+        pool.invoke(new SubtotalTask(items, sums, 0, sums.length, leafSize));
+        return Arrays.asList(sums);
+    }
+
+    private int leafSize(int size) {
+        return Math.max(1, size / (pool.getParallelism() * LEAVES_PER_WORKER));
+    }
+
+    private static final class SubtotalTask extends RecursiveAction {
+
+        private final List<OrderItem> items;
+        private final BigDecimal[] sums;
+        private final int fromLeaf;
+        private final int toLeaf;
+        private final int leafSize;
+
+        SubtotalTask(List<OrderItem> items, BigDecimal[] sums, int fromLeaf, int toLeaf, int leafSize) {
+            this.items = items;
+            this.sums = sums;
+            this.fromLeaf = fromLeaf;
+            this.toLeaf = toLeaf;
+            this.leafSize = leafSize;
+        }
+
+        @Override
+        protected void compute() {
+            if (toLeaf - fromLeaf > 1) {
+                int middle = (fromLeaf + toLeaf) >>> 1;
+                invokeAll(
+                        new SubtotalTask(items, sums, fromLeaf, middle, leafSize),
+                        new SubtotalTask(items, sums, middle, toLeaf, leafSize));
+                return;
+            }
+            for (int leaf = fromLeaf; leaf < toLeaf; leaf++) {
+                BigDecimal sum = BigDecimal.ZERO;
+                int end = Math.min(items.size(), (leaf + 1) * leafSize);
+                for (int i = leaf * leafSize; i < end; i++) {
+                    sum = sum.add(items.get(i).subtotal());
+                }
+                sums[leaf] = sum;
+            }
+        }
+    }
+
+    private static final class MapTask extends RecursiveAction {
+
+        private final List<OrderItemDto> inputs;
+        private final Function<OrderItemDto, OrderItem> mapper;
+        private final OrderItem[] results;
+        private final RuntimeException[] failures;
+        private final int from;
+        private final int to;
+        private final int leafSize;
+
+        MapTask(
+                List<OrderItemDto> inputs,
+                Function<OrderItemDto, OrderItem> mapper,
+                OrderItem[] results,
+                RuntimeException[] failures,
+                int from,
+                int to,
+                int leafSize) {
+            this.inputs = inputs;
+            this.mapper = mapper;
+            this.results = results;
+            this.failures = failures;
+            this.from = from;
+            this.to = to;
+            this.leafSize = leafSize;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= leafSize) {
+                for (int i = from; i < to; i++) {
+                    try {
+                        results[i] = mapper.apply(inputs.get(i));
+                    } catch (RuntimeException ex) {
+                        failures[i] = ex;
+                    }
+                }
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(
+                    new MapTask(inputs, mapper, results, failures, from, middle, leafSize),
+                    new MapTask(inputs, mapper, results, failures, middle, to, leafSize));
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.example.demo.application.service;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * Flight Recorder event for one call of {@link GetOrderService#getOrder}. Its duration includes the wait for the
+ * bulkhead; the load time covers the order store alone.
+ */
+@Name("com.example.demo.OrderLookup")
+@Label("Order Lookup")
+@Category({"Order Service", "Orders"})
+@Description("Lookup of an order, from entering the get-order bulkhead to the end of its transaction")
+@StackTrace(false)
+final class OrderLookupJfrEvent extends Event {
+
+    @Label("Order Id")
+    String orderId;
+
+    @Label("Found")
+    boolean found;
+
+    @Label("Item Count")
+    int itemCount;
+
+    @Label("Load Time")
+    @Description("Loading the order from the order store")
+    @Timespan
+    long loadTime;
+}
@@ -0,0 +1,32 @@
+package com.example.demo.application.service;
+
+import com.example.demo.application.port.ReactiveSaveOrderPort;
+import com.example.demo.application.service.CreateOrderService.CreateOrderCommand;
+import com.example.demo.application.service.CreateOrderService.CreateOrderResult;
+import com.example.demo.domain.order.Order;
+import com.example.demo.domain.order.OrderCreatedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking application service for creating orders.
+ */
+@Service
+@ConditionalOnProperty(prefix = "example.datasource.r2dbc", name = "enabled", havingValue = "true")
+@RequiredArgsConstructor
+public class ReactiveCreateOrderService {
+
+    private final ReactiveSaveOrderPort reactiveSaveOrderPort;
+    private final OrderFactory orderFactory;
+    private final ApplicationEventPublisher applicationEventPublisher;
+
+    public Mono<CreateOrderResult> createOrder(CreateOrderCommand command) {
+        return Mono.fromSupplier(() -> orderFactory.create(command))
+                .flatMap(order -> reactiveSaveOrderPort.save(order).thenReturn(order))
+                .doOnNext(order -> applicationEventPublisher.publishEvent(new OrderCreatedEvent(order)))
+                .map(CreateOrderService::toResult);
+    }
+}
@@ -0,0 +1,29 @@
+package com.example.demo.application.service;
+
+import com.example.demo.application.port.ReactiveLoadOrderPort;
+import com.example.demo.application.service.GetOrderService.GetOrderQuery;
+import com.example.demo.application.service.GetOrderService.GetOrderResult;
+import com.example.demo.domain.order.OrderId;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking application service for querying order details.
+ */
+@Service
+@ConditionalOnProperty(prefix = "example.datasource.r2dbc", name = "enabled", havingValue = "true")
+@RequiredArgsConstructor
+public class ReactiveGetOrderService {
+
+    private final ReactiveLoadOrderPort reactiveLoadOrderPort;
+
+    public Mono<GetOrderResult> getOrder(GetOrderQuery query) {
+        return reactiveLoadOrderPort
+                .findById(new OrderId(query.orderId()))
+                .switchIfEmpty(Mono.error(() -> new OrderNotFoundException("订单不存在: " + query.orderId())))
+                .doOnNext(order -> GetOrderService.verifyOwnership(order, query))
+                .map(GetOrderService::convertToResult);
+    }
+}
@@ -0,0 +1,32 @@
+package com.example.demo.application.service;
+
+import com.example.demo.application.port.RebuildOrderSearchIndexPort;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+/**
+ * Application service for rebuilding the order search index, e.g. after it was lost or its format changed.
+ */
+@Service
+@ConditionalOnProperty(prefix = "example.persistence.order.search", name = "enabled", havingValue = "true")
+@RequiredArgsConstructor
+@Slf4j
+public class RebuildOrderSearchIndexService {
+
+    private final RebuildOrderSearchIndexPort rebuildOrderSearchIndexPort;
+
+    /**
+     * @return the number of indexed orders
+     */
+    public long rebuildIndex() {
+        long started = System.nanoTime();
+        long orders = rebuildOrderSearchIndexPort.rebuild();
+        log.info(
+                "Rebuilt the order search index with {} orders in {} ms",
+                orders,
+                (System.nanoTime() - started) / 1_000_000);
+        return orders;
+    }
+}
@@ -0,0 +1,60 @@
+package com.example.demo.application.service;
+
+import com.example.demo.application.port.SearchOrdersPort;
+import com.example.demo.application.port.SearchOrdersPort.OrderSearchCriteria;
+import com.example.demo.application.port.SearchOrdersPort.OrderSummary;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+/**
+ * Application service for support staff searching orders.
+ */
+@Service
+@ConditionalOnProperty(prefix = "example.persistence.order.search", name = "enabled", havingValue = "true")
+@RequiredArgsConstructor
+public class SearchOrdersService {
+
+    static final int DEFAULT_LIMIT = 20;
+    static final int MAX_LIMIT = 100;
+
+    private final SearchOrdersPort searchOrdersPort;
+
+    public record SearchOrdersQuery(
+            String recipientPhone,
+            String recipientName,
+            String dishName,
+            String remark,
+            String merchantId,
+            Integer limit) {}
+
+    public record SearchOrdersResult(List<OrderSummary> orders) {}
+
+    public SearchOrdersResult searchOrders(SearchOrdersQuery query) {
+        OrderSearchCriteria criteria = new OrderSearchCriteria(
+                trimToNull(query.recipientPhone()),
+                trimToNull(query.recipientName()),
+                trimToNull(query.dishName()),
+                trimToNull(query.remark()),
+                trimToNull(query.merchantId()));
+        if (criteria.recipientPhone() == null
+                && criteria.recipientName() == null
+                && criteria.dishName() == null
+                && criteria.remark() == null
+                && criteria.merchantId() == null) {
+            throw new InvalidQueryException("至少需要一个搜索条件");
+        }
+
+        int limit = query.limit() != null ? query.limit() : DEFAULT_LIMIT;
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new InvalidQueryException("返回条数必须在1到" + MAX_LIMIT + "之间");
+        }
+
+        return new SearchOrdersResult(searchOrdersPort.search(criteria, limit));
+    }
+
+    private static String trimToNull(String value) {
+        return value == null || value.isBlank() ? null : value.strip();
+    }
+}
@@ -0,0 +1,56 @@
+package com.example.demo.domain;
+
+import java.util.function.Function;
+
+/**
+ * Bounded, lock-free canonicalizing cache for identifier value objects. Each value hashes to one slot of a
+ * fixed table and replaces whatever id was there, so memory stays bounded while the hot set of merchants and
+ * dishes settles into the table. Interning is best effort: a racing or evicted lookup returns an equal but
+ * distinct instance, which is harmless because ids compare by value.
+ *
+ * @param <T> the identifier type
+ */
+public final class IdInterner<T> {
+
+    private final Object[] slots;
+    private final int mask;
+    private final Function<String, T> factory;
+    private final Function<T, String> valueOf;
+
+    /**
+     * @param capacity the number of slots, rounded up to a power of two
+     * @param factory creates an id for a value that is not cached
+     * @param valueOf reads the value back from a cached id
+     */
+    public IdInterner(int capacity, Function<String, T> factory, Function<T, String> valueOf) {
+        if (capacity < 1 || capacity > 1 << 30) {
+            throw new IllegalArgumentException("Capacity must be between 1 and 2^30: " + capacity);
+        }
+        int size = Integer.highestOneBit(capacity - 1) << 1;
+        this.slots = new Object[Math.max(size, 1)];
+        this.mask = slots.length - 1;
+        this.factory = factory;
+        this.valueOf = valueOf;
+    }
+
+    @SuppressWarnings("unchecked")
+    public T intern(String value) {
+        if (value == null) {
+            return factory.apply(null);
+        }
+        int hash = value.hashCode();
+        int slot = (hash ^ (hash >>> 16)) & mask;
+        // Ids are immutable records with final fields, so a racy read sees either null or a fully built id
+        T cached = (T) slots[slot];
+        if (cached != null && value.equals(valueOf.apply(cached))) {
+            return cached;
+        }
+        T created = factory.apply(value);
+        slots[slot] = created;
+        return created;
+    }
+
+    int capacity() {
+        return slots.length;
+    }
+}
@@ -3,7 +3,52 @@ package com.example.demo.domain;
 import java.util.UUID;
 
 public class Identities {
+    /**
+     * Number of routing buckets encoded in the leading 16 bits of affinity-aware ids.
+     */
+    public static final int ROUTING_BUCKETS = 1 << 16;
+
     public static String generateId() {
         return UUID.randomUUID().toString();
     }
+
+    /**
+     * Generates an id whose leading 16 bits hold the routing bucket of the affinity key, so that
+     * ids generated for the same key can be routed together from the id alone.
+     */
+    public static String generateId(String affinityKey) {
+        if (affinityKey == null) {
+            return generateId();
+        }
+        UUID random = UUID.randomUUID();
+        long mostSigBits = (random.getMostSignificantBits() & 0x0000FFFFFFFFFFFFL)
+                | ((long) routingBucket(affinityKey) << 48);
+        return new UUID(mostSigBits, random.getLeastSignificantBits()).toString();
+    }
+
+    public static int routingBucket(String affinityKey) {
+        int hash = affinityKey.hashCode();
+        // Murmur3 finalizer spreads similar keys (user-001, user-002, ...) across buckets
+        hash ^= hash >>> 16;
+        hash *= 0x85ebca6b;
+        hash ^= hash >>> 13;
+        hash *= 0xc2b2ae35;
+        hash ^= hash >>> 16;
+        return hash & (ROUTING_BUCKETS - 1);
+    }
+
+    /**
+     * Recovers the routing bucket of an id produced by {@link #generateId(String)}. Ids in any other
+     * format are bucketed by their hash.
+     */
+    public static int routingBucketOfId(String id) {
+        if (id.length() == 36 && id.charAt(8) == '-') {
+            try {
+                return Integer.parseInt(id, 0, 4, 16);
+            } catch (NumberFormatException ignored) {
+                // Not a UUID, fall through to hashing
+            }
+        }
+        return routingBucket(id);
+    }
 }
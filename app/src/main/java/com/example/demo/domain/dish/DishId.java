@@ -1,3 +1,15 @@
 package com.example.demo.domain.dish;
 
-public record DishId(String value) {}
+import com.example.demo.domain.IdInterner;
+
+public record DishId(String value) {
+
+    private static final IdInterner<DishId> INTERNER = new IdInterner<>(65_536, DishId::new, DishId::value);
+
+    /**
+     * Returns a shared instance for repeated dish ids; see {@link com.example.demo.domain.merchant.MerchantId#of}.
+     */
+    public static DishId of(String value) {
+        return INTERNER.intern(value);
+    }
+}
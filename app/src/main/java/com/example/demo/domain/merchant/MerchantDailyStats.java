@@ -0,0 +1,6 @@
+package com.example.demo.domain.merchant;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+public record MerchantDailyStats(MerchantId merchantId, LocalDate date, long orderCount, BigDecimal revenue) {}
@@ -1,3 +1,16 @@
 package com.example.demo.domain.merchant;
 
-public record MerchantId(String value) {}
+import com.example.demo.domain.IdInterner;
+
+public record MerchantId(String value) {
+
+    private static final IdInterner<MerchantId> INTERNER = new IdInterner<>(4_096, MerchantId::new, MerchantId::value);
+
+    /**
+     * Returns a shared instance for repeated merchant ids, so that orders held in memory and the entities
+     * written from them reference one id object and one string per merchant.
+     */
+    public static MerchantId of(String value) {
+        return INTERNER.intern(value);
+    }
+}
@@ -23,6 +23,22 @@ public class Order {
 
     public Order(
             UserId userId, MerchantId merchantId, List<OrderItem> items, DeliveryInfo deliveryInfo, String remark) {
+        this(userId, merchantId, items, deliveryInfo, remark, null);
+    }
+
+    /**
+     * Creates a new order priced by the caller, for callers that sum large item lists themselves.
+     *
+     * @param pricing the pricing of exactly these items from {@link Pricing#ofSubtotals}, null to calculate it
+     *     here
+     */
+    public Order(
+            UserId userId,
+            MerchantId merchantId,
+            List<OrderItem> items,
+            DeliveryInfo deliveryInfo,
+            String remark,
+            Pricing pricing) {
         if (items == null || items.isEmpty()) {
             throw new IllegalArgumentException("订单必须至少包含一个餐品");
         }
@@ -31,7 +47,8 @@ public class Order {
             throw new IllegalArgumentException("备注长度不能超过200字符");
         }
 
-        this.id = new OrderId(Identities.generateId());
+        // Co-locate the order with its owner so storage can be partitioned by user
+        this.id = new OrderId(Identities.generateId(userId == null ? null : userId.value()));
         this.orderNumber = new OrderNumber();
         this.userId = userId;
         this.merchantId = merchantId;
@@ -39,7 +56,7 @@ public class Order {
         this.deliveryInfo = deliveryInfo;
         this.remark = remark;
         this.status = OrderStatus.PENDING_PAYMENT;
-        this.pricing = Pricing.calculate(items);
+        this.pricing = pricing != null ? pricing : Pricing.calculate(this.items);
         this.createdAt = Instant.now();
         this.updatedAt = Instant.now();
     }
@@ -0,0 +1,3 @@
+package com.example.demo.domain.order;
+
+public record OrderCreatedEvent(Order order) {}
@@ -1,6 +1,7 @@
 package com.example.demo.domain.order;
 
 import java.math.BigDecimal;
+import java.util.Collection;
 import java.util.List;
 
 public record Pricing(BigDecimal itemsTotal, BigDecimal packagingFee, BigDecimal deliveryFee, BigDecimal finalAmount) {
@@ -8,9 +9,18 @@ public record Pricing(BigDecimal itemsTotal, BigDecimal packagingFee, BigDecimal
     public static final BigDecimal DELIVERY_FEE = new BigDecimal("3.00");
 
     public static Pricing calculate(List<OrderItem> items) {
-        BigDecimal itemsTotal =
-                items.stream().map(OrderItem::subtotal).findFirst().orElse(BigDecimal.ZERO);
+        return ofSubtotals(items.stream().map(OrderItem::subtotal).toList());
+    }
 
+    /**
+     * Prices items from subtotals summed elsewhere. Addition of {@link BigDecimal} is exact, so the result equals
+     * {@link #calculate(List)} however the item subtotals were grouped.
+     *
+     * @param subtotals the item subtotals, or sums of groups of them that together cover every item once
+     * @return the pricing with the fixed fees
+     */
+    public static Pricing ofSubtotals(Collection<BigDecimal> subtotals) {
+        BigDecimal itemsTotal = subtotals.stream().reduce(BigDecimal.ZERO, BigDecimal::add);
         BigDecimal finalAmount = itemsTotal.add(PACKAGING_FEE).add(DELIVERY_FEE);
 
         return new Pricing(itemsTotal, PACKAGING_FEE, DELIVERY_FEE, finalAmount);
@@ -1,3 +1,16 @@
 package com.example.demo.domain.user;
 
-public record UserId(String value) {}
+import com.example.demo.domain.IdInterner;
+
+public record UserId(String value) {
+
+    // Users are far more numerous than merchants; the table only keeps the recently active ones
+    private static final IdInterner<UserId> INTERNER = new IdInterner<>(65_536, UserId::new, UserId::value);
+
+    /**
+     * Returns a shared instance for repeated user ids; see {@link com.example.demo.domain.merchant.MerchantId#of}.
+     */
+    public static UserId of(String value) {
+        return INTERNER.intern(value);
+    }
+}
@@ -0,0 +1,8 @@
+-- Create order_archive_index table: locates archived orders in cold storage segments
+CREATE
+    TABLE
+        order_archive_index(
+            order_id VARCHAR(36) PRIMARY KEY,
+            segment VARCHAR(100) NOT NULL,
+            archived_at TIMESTAMP NOT NULL
+        );
@@ -0,0 +1,3 @@
+-- Add items_data column: order items encoded into the order row for the compact storage layout
+ALTER TABLE
+    orders ADD COLUMN items_data BLOB;
@@ -0,0 +1,17 @@
+-- Create order_daily_stats table: per-merchant daily order count and revenue, maintained incrementally
+CREATE
+    TABLE
+        order_daily_stats(
+            merchant_id VARCHAR(36) NOT NULL,
+            stats_date DATE NOT NULL,
+            order_count BIGINT NOT NULL,
+            revenue DECIMAL(
+                14,
+                2
+            ) NOT NULL,
+            updated_at TIMESTAMP NOT NULL,
+            PRIMARY KEY(
+                merchant_id,
+                stats_date
+            )
+        );
@@ -0,0 +1,72 @@
+package com.example.demo.adapter.diagnostics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.util.unit.DataSize;
+
+class ContinuousFlightRecordingTest {
+
+    @TempDir
+    Path directory;
+
+    private ContinuousFlightRecording recording;
+
+    @AfterEach
+    void tearDown() {
+        if (recording != null) {
+            recording.stop();
+        }
+    }
+
+    @Test
+    void dump_should_write_the_running_recording_to_a_new_file() throws Exception {
+        // Given
+        recording = new ContinuousFlightRecording(properties());
+        recording.start();
+
+        // When
+        Path first = recording.dump().orElseThrow();
+        Path second = recording.dump().orElseThrow();
+
+        // Then
+        assertThat(first).isNotEqualTo(second).hasParent(directory.resolve("recordings"));
+        try (RecordingFile file = new RecordingFile(first)) {
+            assertThat(file.hasMoreEvents()).isTrue();
+        }
+    }
+
+    @Test
+    void stop_should_save_the_recording_and_end_it() throws Exception {
+        // Given
+        recording = new ContinuousFlightRecording(properties());
+        recording.start();
+
+        // When
+        recording.stop();
+
+        // Then
+        assertThat(directory.resolve("recordings").resolve(ContinuousFlightRecording.NAME + "-shutdown.jfr"))
+                .exists();
+        assertThat(recording.isRunning()).isFalse();
+        assertThat(FlightRecorder.getFlightRecorder().getRecordings())
+                .noneMatch(running -> running.getName().equals(ContinuousFlightRecording.NAME));
+        assertThatThrownBy(recording::dump).isInstanceOf(IllegalStateException.class);
+    }
+
+    private FlightRecordingProperties properties() {
+        return new FlightRecordingProperties(
+                true,
+                "default",
+                Duration.ofMinutes(1),
+                DataSize.ofMegabytes(16),
+                directory.resolve("recordings").toString());
+    }
+}
@@ -0,0 +1,40 @@
+package com.example.demo.adapter.grpc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.example.demo.adapter.grpc.proto.CreateOrdersFailure;
+import com.example.demo.adapter.grpc.proto.GetOrderResponse;
+import com.google.protobuf.Timestamp;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+
+class GrpcRuntimeHintsTest {
+
+    private final RuntimeHints hints = new RuntimeHints();
+
+    @BeforeEach
+    void setUp() {
+        new GrpcRuntimeHints().registerHints(hints, getClass().getClassLoader());
+    }
+
+    @Test
+    void every_message_and_its_builder_should_expose_public_methods() {
+        for (Class<?> type : new Class<?>[] {
+            GetOrderResponse.class,
+            GetOrderResponse.Builder.class,
+            CreateOrdersFailure.class,
+            CreateOrdersFailure.Builder.class,
+            Timestamp.class,
+            Timestamp.Builder.class
+        }) {
+            assertThat(RuntimeHintsPredicates.reflection()
+                            .onType(type)
+                            .withMemberCategory(MemberCategory.INVOKE_PUBLIC_METHODS))
+                    .as(type.getName())
+                    .accepts(hints);
+        }
+    }
+}
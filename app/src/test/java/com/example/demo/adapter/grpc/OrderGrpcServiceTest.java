@@ -0,0 +1,180 @@
+package com.example.demo.adapter.grpc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.example.demo.adapter.grpc.proto.CreateOrderRequest;
+import com.example.demo.adapter.grpc.proto.CreateOrdersResponse;
+import com.example.demo.adapter.grpc.proto.DeliveryInfo;
+import com.example.demo.adapter.grpc.proto.GetOrderResponse;
+import com.example.demo.adapter.grpc.proto.OrderItem;
+import com.example.demo.application.service.BulkheadFullException;
+import com.example.demo.application.service.CreateOrderService;
+import com.example.demo.application.service.CreateOrderService.CreateOrderCommand;
+import com.example.demo.application.service.CreateOrderService.CreateOrderResult;
+import com.example.demo.application.service.GetOrderService;
+import com.example.demo.application.service.GetOrderService.GetOrderResult;
+import com.example.demo.application.service.OrderNotFoundException;
+import io.grpc.Status;
+import io.grpc.stub.StreamObserver;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+@ExtendWith(MockitoExtension.class)
+class OrderGrpcServiceTest {
+
+    @Mock
+    private CreateOrderService createOrderService;
+
+    @Mock
+    private GetOrderService getOrderService;
+
+    @Mock
+    private StreamObserver<CreateOrdersResponse> createOrdersObserver;
+
+    @InjectMocks
+    private OrderGrpcService orderGrpcService;
+
+    @Test
+    void to_command_should_map_all_fields() {
+        // When
+        CreateOrderCommand command = OrderGrpcService.toCommand(createOrderRequest("25.00"), "user-001");
+
+        // Then
+        assertThat(command.userId()).isEqualTo("user-001");
+        assertThat(command.merchantId()).isEqualTo("merchant-001");
+        assertThat(command.items())
+                .containsExactly(
+                        new CreateOrderCommand.OrderItemDto("dish-001", "宫保鸡丁", 2, new BigDecimal("25.00")));
+        assertThat(command.deliveryInfo())
+                .isEqualTo(new CreateOrderCommand.DeliveryInfoDto("张三", "13800138000", "北京市朝阳区xxx街道xxx号"));
+        assertThat(command.remark()).isNull();
+    }
+
+    @Test
+    void to_command_should_reject_missing_merchant_and_malformed_price() {
+        assertThatThrownBy(() -> OrderGrpcService.toCommand(
+                        createOrderRequest("25.00").toBuilder().clearMerchantId().build(), "user-001"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("商家ID不能为空");
+        assertThatThrownBy(() -> OrderGrpcService.toCommand(createOrderRequest("abc"), "user-001"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("价格格式不正确: abc");
+    }
+
+    @Test
+    void to_response_should_map_order_details() {
+        // Given
+        GetOrderResult result = new GetOrderResult(
+                "order-001",
+                "20251105102730996280",
+                "user-001",
+                "merchant-001",
+                List.of(new GetOrderResult.OrderItemDto("dish-001", "宫保鸡丁", 2, new BigDecimal("25.00"))),
+                new GetOrderResult.DeliveryInfoDto("张三", "13800138000", "北京市朝阳区xxx街道xxx号"),
+                "少辣",
+                "PENDING_PAYMENT",
+                new GetOrderResult.PricingDto(
+                        new BigDecimal("50.00"),
+                        new BigDecimal("1.00"),
+                        new BigDecimal("3.00"),
+                        new BigDecimal("54.00")),
+                Instant.parse("2025-11-05T02:27:30.745152Z"),
+                Instant.parse("2025-11-05T02:27:30.745152Z"));
+
+        // When
+        GetOrderResponse response = OrderGrpcService.toResponse(result);
+
+        // Then
+        assertThat(response.getOrderId()).isEqualTo("order-001");
+        assertThat(response.getItems(0).getPrice()).isEqualTo("25.00");
+        assertThat(response.getRemark()).isEqualTo("少辣");
+        assertThat(response.getPricing().getFinalAmount()).isEqualTo("54.00");
+        assertThat(response.getCreatedAt().getSeconds()).isEqualTo(1762309650L);
+        assertThat(response.getCreatedAt().getNanos()).isEqualTo(745152000);
+    }
+
+    @Test
+    void create_orders_should_report_invalid_orders_and_continue() {
+        // Given
+        when(createOrderService.createOrder(any())).thenReturn(createOrderResult());
+
+        // When
+        StreamObserver<CreateOrderRequest> requests = orderGrpcService.createOrders(createOrdersObserver);
+        requests.onNext(createOrderRequest("25.00"));
+        requests.onNext(createOrderRequest("-"));
+        requests.onNext(createOrderRequest("30.00"));
+        requests.onCompleted();
+
+        // Then
+        verify(createOrdersObserver).onNext(argThat(response -> response.getCreatedCount() == 2
+                && response.getFailedCount() == 1
+                && response.getFailuresCount() == 1
+                && response.getFailures(0).getIndex() == 1
+                && response.getFailures(0).getError().equals("价格格式不正确: -")));
+        verify(createOrdersObserver).onCompleted();
+    }
+
+    @Test
+    void to_status_should_map_application_exceptions() {
+        assertThat(OrderGrpcService.toStatus(new IllegalArgumentException("手机号格式不正确"))
+                        .getStatus()
+                        .getCode())
+                .isEqualTo(Status.Code.INVALID_ARGUMENT);
+        assertThat(OrderGrpcService.toStatus(new OrderNotFoundException("订单不存在: order-404"))
+                        .getStatus()
+                        .getCode())
+                .isEqualTo(Status.Code.NOT_FOUND);
+        assertThat(OrderGrpcService.toStatus(new IllegalStateException("conflict"))
+                        .getStatus()
+                        .getCode())
+                .isEqualTo(Status.Code.FAILED_PRECONDITION);
+        assertThat(OrderGrpcService.toStatus(new BulkheadFullException("create-order"))
+                        .getStatus()
+                        .getCode())
+                .isEqualTo(Status.Code.UNAVAILABLE);
+        assertThat(OrderGrpcService.toStatus(new DataAccessResourceFailureException("Order journal is closed"))
+                        .getStatus()
+                        .getCode())
+                .isEqualTo(Status.Code.UNAVAILABLE);
+    }
+
+    private static CreateOrderRequest createOrderRequest(String price) {
+        return CreateOrderRequest.newBuilder()
+                .setMerchantId("merchant-001")
+                .addItems(OrderItem.newBuilder()
+                        .setDishId("dish-001")
+                        .setDishName("宫保鸡丁")
+                        .setQuantity(2)
+                        .setPrice(price))
+                .setDeliveryInfo(DeliveryInfo.newBuilder()
+                        .setRecipientName("张三")
+                        .setRecipientPhone("13800138000")
+                        .setAddress("北京市朝阳区xxx街道xxx号"))
+                .build();
+    }
+
+    private static CreateOrderResult createOrderResult() {
+        return new CreateOrderResult(
+                "order-001",
+                "20251105102730996280",
+                "PENDING_PAYMENT",
+                new CreateOrderResult.PricingDto(
+                        new BigDecimal("50.00"),
+                        new BigDecimal("1.00"),
+                        new BigDecimal("3.00"),
+                        new BigDecimal("54.00")),
+                Instant.parse("2025-11-05T02:27:30.745152Z"));
+    }
+}
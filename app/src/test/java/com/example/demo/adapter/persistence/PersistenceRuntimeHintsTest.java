@@ -0,0 +1,42 @@
+package com.example.demo.adapter.persistence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.example.demo.adapter.persistence.order.OrderEntity;
+import com.example.demo.adapter.persistence.order.PricingEmbeddable;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+
+class PersistenceRuntimeHintsTest {
+
+    private final RuntimeHints hints = new RuntimeHints();
+
+    @BeforeEach
+    void setUp() {
+        new PersistenceRuntimeHints().registerHints(hints, getClass().getClassLoader());
+    }
+
+    @Test
+    void entities_and_embeddables_should_be_reflectively_accessible() {
+        assertThat(RuntimeHintsPredicates.reflection()
+                        .onType(OrderEntity.class)
+                        .withMemberCategories(MemberCategory.DECLARED_FIELDS, MemberCategory.INVOKE_PUBLIC_METHODS))
+                .accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection()
+                        .onType(PricingEmbeddable.class)
+                        .withMemberCategory(MemberCategory.INVOKE_DECLARED_CONSTRUCTORS))
+                .accepts(hints);
+    }
+
+    @Test
+    void common_and_vendor_migrations_should_be_included() {
+        assertThat(RuntimeHintsPredicates.resource()
+                        .forResource("db/migration/V1__Create_orders_and_order_items_tables.sql"))
+                .accepts(hints);
+        assertThat(RuntimeHintsPredicates.resource().forResource("db/vendor/mysql/V2__Partition_orders_by_month.sql"))
+                .accepts(hints);
+    }
+}
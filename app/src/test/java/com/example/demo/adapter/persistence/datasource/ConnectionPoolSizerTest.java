@@ -0,0 +1,144 @@
+package com.example.demo.adapter.persistence.datasource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.zaxxer.hikari.HikariDataSource;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.beans.factory.support.RootBeanDefinition;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+
+class ConnectionPoolSizerTest {
+
+    private static final BulkheadDataSourceProperties NO_BULKHEADS = new BulkheadDataSourceProperties(false, null);
+
+    @Test
+    void pool_size_should_follow_database_cores_and_spindles() {
+        ConnectionPoolProperties properties = new ConnectionPoolProperties(true, 8, 1, 151, 1, 10);
+
+        assertThat(ConnectionPoolSizer.poolSize(properties, 2, 1, 0)).isEqualTo(17);
+    }
+
+    @Test
+    void pool_size_should_use_available_processors_when_cores_are_not_configured() {
+        ConnectionPoolProperties properties = new ConnectionPoolProperties(true, 0, 2, 151, 1, 10);
+
+        assertThat(ConnectionPoolSizer.poolSize(properties, 4, 1, 0)).isEqualTo(10);
+    }
+
+    @Test
+    void pool_size_should_be_capped_by_the_share_of_database_connections() {
+        ConnectionPoolProperties properties = new ConnectionPoolProperties(true, 16, 1, 100, 8, 20);
+
+        assertThat(ConnectionPoolSizer.poolSize(properties, 2, 1, 0)).isEqualTo(10);
+    }
+
+    @Test
+    void pool_size_should_divide_the_share_between_pools() {
+        ConnectionPoolProperties properties = new ConnectionPoolProperties(true, 16, 1, 100, 2, 20);
+
+        assertThat(ConnectionPoolSizer.poolSize(properties, 2, 3, 0)).isEqualTo(13);
+    }
+
+    @Test
+    void pool_size_should_leave_out_the_bulkhead_pools() {
+        ConnectionPoolProperties properties = new ConnectionPoolProperties(true, 16, 1, 100, 2, 20);
+
+        assertThat(ConnectionPoolSizer.poolSize(properties, 2, 1, 25)).isEqualTo(15);
+    }
+
+    @Test
+    void pool_size_should_fail_when_the_bulkhead_pools_take_the_whole_share() {
+        ConnectionPoolProperties properties = new ConnectionPoolProperties(true, 16, 1, 100, 2, 20);
+
+        assertThatThrownBy(() -> ConnectionPoolSizer.poolSize(properties, 2, 1, 40))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void pool_size_should_fail_when_no_connections_are_left() {
+        ConnectionPoolProperties properties = new ConnectionPoolProperties(true, 8, 1, 20, 30, 10);
+
+        assertThatThrownBy(() -> ConnectionPoolSizer.poolSize(properties, 2, 1, 0))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void sizer_should_only_resize_hikari_pools() {
+        DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+        beanFactory.registerBeanDefinition("dataSource", new RootBeanDefinition(HikariDataSource.class));
+        ConnectionPoolSizer sizer =
+                sizer(beanFactory, new ConnectionPoolProperties(true, 4, 1, 151, 1, 10), NO_BULKHEADS);
+        HikariDataSource dataSource = new HikariDataSource();
+        Object other = new Object();
+
+        sizer.postProcessBeforeInitialization(dataSource, "dataSource");
+
+        assertThat(dataSource.getMaximumPoolSize()).isEqualTo(9);
+        assertThat(sizer.postProcessBeforeInitialization(other, "other")).isSameAs(other);
+        dataSource.close();
+    }
+
+    @Test
+    void sizer_should_size_the_shared_pool_from_what_the_bulkhead_pools_leave() {
+        BulkheadDataSourceProperties bulkheads =
+                new BulkheadDataSourceProperties(true, Map.of("create-order", 10, "get-order", 20));
+        DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+        beanFactory.registerBeanDefinition("sharedDataSource", new RootBeanDefinition(HikariDataSource.class));
+        ConnectionPoolSizer sizer =
+                sizer(beanFactory, new ConnectionPoolProperties(true, 16, 1, 50, 1, 10), bulkheads);
+        HikariDataSource dataSource = new HikariDataSource();
+
+        sizer.postProcessBeforeInitialization(dataSource, "sharedDataSource");
+
+        assertThat(dataSource.getMaximumPoolSize()).isEqualTo(10);
+        dataSource.close();
+    }
+
+    @Test
+    void sizer_should_split_the_share_between_hikari_pool_beans() {
+        DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+        beanFactory.registerBeanDefinition("primaryDataSource", new RootBeanDefinition(HikariDataSource.class));
+        beanFactory.registerBeanDefinition("reportingDataSource", new RootBeanDefinition(HikariDataSource.class));
+        ConnectionPoolSizer sizer =
+                sizer(beanFactory, new ConnectionPoolProperties(true, 16, 1, 50, 1, 10), NO_BULKHEADS);
+        HikariDataSource dataSource = new HikariDataSource();
+
+        sizer.postProcessBeforeInitialization(dataSource, "primaryDataSource");
+
+        assertThat(dataSource.getMaximumPoolSize()).isEqualTo(20);
+        dataSource.close();
+    }
+
+    @Test
+    void sizer_should_resolve_the_properties_once_the_context_binds_them() {
+        new ApplicationContextRunner()
+                .withUserConfiguration(PoolPropertiesConfig.class, ConnectionPoolSizingConfig.class)
+                .withBean("dataSource", HikariDataSource.class)
+                .withPropertyValues(
+                        "example.datasource.pool.auto-size=true",
+                        "example.datasource.pool.cores=4",
+                        "example.datasource.pool.database-max-connections=151")
+                .run(context -> assertThat(context.getBean(HikariDataSource.class).getMaximumPoolSize())
+                        .isEqualTo(9));
+    }
+
+    private static ConnectionPoolSizer sizer(
+            DefaultListableBeanFactory beanFactory,
+            ConnectionPoolProperties properties,
+            BulkheadDataSourceProperties bulkheads) {
+        beanFactory.registerSingleton("connectionPoolProperties", properties);
+        beanFactory.registerSingleton("bulkheadDataSourceProperties", bulkheads);
+        ConnectionPoolSizer sizer = new ConnectionPoolSizer(
+                beanFactory.getBeanProvider(ConnectionPoolProperties.class),
+                beanFactory.getBeanProvider(BulkheadDataSourceProperties.class));
+        sizer.setBeanFactory(beanFactory);
+        return sizer;
+    }
+
+    @EnableConfigurationProperties({ConnectionPoolProperties.class, BulkheadDataSourceProperties.class})
+    static class PoolPropertiesConfig {}
+}
@@ -0,0 +1,67 @@
+package com.example.demo.adapter.persistence.datasource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.example.demo.adapter.persistence.order.archive.OrderArchiveProperties;
+import io.r2dbc.pool.ConnectionPool;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+
+class ReactiveDataSourceConfigTest {
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withUserConfiguration(DataSourcePropertiesConfig.class, ReactiveDataSourceConfig.class)
+            .withPropertyValues(
+                    "example.datasource.r2dbc.enabled=true",
+                    "example.datasource.r2dbc.url=r2dbc:h2:mem:///reactive-config-test");
+
+    @Test
+    void should_start_with_the_normalized_layout_on_a_single_database() {
+        contextRunner.run(context -> assertThat(context).hasNotFailed().hasSingleBean(ConnectionPool.class));
+    }
+
+    @Test
+    void should_refuse_the_compact_layout() {
+        contextRunner
+                .withPropertyValues("example.persistence.order.layout=compact")
+                .run(context -> assertThat(context)
+                        .getFailure()
+                        .rootCause()
+                        .isInstanceOf(IllegalStateException.class)
+                        .hasMessageContaining("compact order layout"));
+    }
+
+    @Test
+    void should_refuse_replica_routing() {
+        contextRunner
+                .withPropertyValues("example.datasource.replica-routing.enabled=true")
+                .run(context -> assertThat(context)
+                        .getFailure()
+                        .rootCause()
+                        .isInstanceOf(IllegalStateException.class)
+                        .hasMessageContaining("replica routing"));
+    }
+
+    @Test
+    void should_be_refused_by_sharding() {
+        contextRunner
+                .withUserConfiguration(ShardingPropertiesConfig.class, ShardingDataSourceConfig.class)
+                .withPropertyValues("example.datasource.sharding.enabled=true")
+                .run(context -> assertThat(context)
+                        .getFailure()
+                        .rootCause()
+                        .isInstanceOf(IllegalStateException.class)
+                        .hasMessageContaining("R2DBC"));
+    }
+
+    @EnableConfigurationProperties({ReactiveDataSourceProperties.class, ReplicaRoutingProperties.class})
+    static class DataSourcePropertiesConfig {}
+
+    @EnableConfigurationProperties({
+        ShardingProperties.class,
+        BulkheadDataSourceProperties.class,
+        OrderArchiveProperties.class
+    })
+    static class ShardingPropertiesConfig {}
+}
@@ -0,0 +1,52 @@
+package com.example.demo.adapter.persistence.datasource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.config.IntervalTask;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+
+class ReadYourWritesWindowTest {
+
+    @Test
+    void configure_tasks_should_sweep_at_the_configured_interval() {
+        // Given
+        ReadYourWritesWindow window = new ReadYourWritesWindow(properties(true, Duration.ofSeconds(2)));
+        ScheduledTaskRegistrar registrar = new ScheduledTaskRegistrar();
+
+        // When
+        window.configureTasks(registrar);
+
+        // Then
+        assertThat(registrar.getFixedDelayTaskList())
+                .singleElement()
+                .extracting(IntervalTask::getIntervalDuration)
+                .isEqualTo(Duration.ofMillis(250));
+    }
+
+    @Test
+    void configure_tasks_should_not_sweep_without_a_window() {
+        // Given
+        ReadYourWritesWindow window = new ReadYourWritesWindow(properties(true, Duration.ZERO));
+        ScheduledTaskRegistrar registrar = new ScheduledTaskRegistrar();
+
+        // When
+        window.configureTasks(registrar);
+
+        // Then
+        assertThat(registrar.getFixedDelayTaskList()).isEmpty();
+    }
+
+    private static ReplicaRoutingProperties properties(boolean enabled, Duration window) {
+        return new ReplicaRoutingProperties(
+                enabled,
+                window,
+                Duration.ofMillis(250),
+                Duration.ofSeconds(10),
+                Duration.ofSeconds(1),
+                false,
+                List.of());
+    }
+}
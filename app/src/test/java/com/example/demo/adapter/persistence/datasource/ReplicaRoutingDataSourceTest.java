@@ -0,0 +1,104 @@
+package com.example.demo.adapter.persistence.datasource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.zaxxer.hikari.HikariDataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+class ReplicaRoutingDataSourceTest {
+
+    private final DataSource primary = mock(DataSource.class);
+    private final DataSource replica0 = mock(DataSource.class);
+    private final DataSource replica1 = mock(DataSource.class);
+
+    private ReplicaRoutingDataSource routingDataSource;
+
+    @BeforeEach
+    void setUp() {
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        replicas.put("replica-0", replica0);
+        replicas.put("replica-1", replica1);
+        routingDataSource = new ReplicaRoutingDataSource(primary, replicas);
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+    }
+
+    @Test
+    void read_write_transactions_should_route_to_primary() {
+        assertThat(routingDataSource.determineCurrentLookupKey()).isEqualTo(ReplicaRoutingDataSource.PRIMARY);
+    }
+
+    @Test
+    void read_only_transactions_should_round_robin_across_replicas() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        assertThat(routingDataSource.determineCurrentLookupKey()).isEqualTo("replica-0");
+        assertThat(routingDataSource.determineCurrentLookupKey()).isEqualTo("replica-1");
+        assertThat(routingDataSource.determineCurrentLookupKey()).isEqualTo("replica-0");
+    }
+
+    @Test
+    void read_only_transactions_should_route_to_primary_when_pinned() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        try (DataSourceRoutingContext.Pin ignored = DataSourceRoutingContext.pinToPrimary()) {
+            assertThat(routingDataSource.determineCurrentLookupKey()).isEqualTo(ReplicaRoutingDataSource.PRIMARY);
+        }
+        assertThat(routingDataSource.determineCurrentLookupKey()).isNotEqualTo(ReplicaRoutingDataSource.PRIMARY);
+    }
+
+    @Test
+    void unhealthy_replicas_should_be_skipped_until_they_recover() throws SQLException {
+        Connection healthy = mock(Connection.class);
+        when(healthy.isValid(1)).thenReturn(true);
+        when(replica0.getConnection()).thenThrow(new SQLException("connection refused"));
+        when(replica1.getConnection()).thenReturn(healthy);
+
+        routingDataSource.checkReplicaHealth(Duration.ofSeconds(1));
+
+        assertThat(routingDataSource.getUnhealthyReplicas()).containsExactly("replica-0");
+        assertThat(routingDataSource.nextHealthyReplica()).isEqualTo("replica-1");
+        assertThat(routingDataSource.nextHealthyReplica()).isEqualTo("replica-1");
+    }
+
+    @Test
+    void should_fall_back_to_primary_when_no_replica_is_healthy() throws SQLException {
+        when(replica0.getConnection()).thenThrow(new SQLException("connection refused"));
+        when(replica1.getConnection()).thenThrow(new SQLException("connection refused"));
+
+        routingDataSource.checkReplicaHealth(Duration.ofSeconds(1));
+
+        assertThat(routingDataSource.nextHealthyReplica()).isEqualTo(ReplicaRoutingDataSource.PRIMARY);
+    }
+
+    @Test
+    void close_should_close_the_replica_pools_but_not_the_primary() throws Exception {
+        // Given
+        HikariDataSource replica = mock(HikariDataSource.class);
+        HikariDataSource primaryPool = mock(HikariDataSource.class);
+        ReplicaRoutingDataSource closing = new ReplicaRoutingDataSource(primaryPool, Map.of("replica-0", replica));
+
+        // When
+        closing.close();
+
+        // Then
+        verify(replica).close();
+        verify(primaryPool, never()).close();
+    }
+}
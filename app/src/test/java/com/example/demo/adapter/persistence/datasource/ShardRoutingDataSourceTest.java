@@ -0,0 +1,56 @@
+package com.example.demo.adapter.persistence.datasource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import com.example.demo.domain.Identities;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.Test;
+
+class ShardRoutingDataSourceTest {
+
+    private final ShardRoutingDataSource routingDataSource = new ShardRoutingDataSource(
+            List.of(mock(DataSource.class), mock(DataSource.class), mock(DataSource.class)));
+
+    @Test
+    void orders_of_the_same_user_should_route_to_the_same_shard() {
+        String first = Identities.generateId("user-001");
+        String second = Identities.generateId("user-001");
+
+        assertThat(first).isNotEqualTo(second);
+        assertThat(routingDataSource.shardFor(first)).isEqualTo(routingDataSource.shardFor(second));
+    }
+
+    @Test
+    void users_should_spread_across_all_shards() {
+        Set<Integer> shards = IntStream.range(0, 50)
+                .mapToObj(i -> Identities.generateId("user-" + i))
+                .map(routingDataSource::shardFor)
+                .collect(Collectors.toSet());
+
+        assertThat(shards).containsExactlyInAnyOrder(0, 1, 2);
+    }
+
+    @Test
+    void should_route_to_first_shard_without_routing_key() {
+        assertThat(routingDataSource.determineCurrentLookupKey()).isEqualTo(0);
+    }
+
+    @Test
+    void should_route_by_bound_routing_key() {
+        String orderId = Identities.generateId("user-001");
+
+        try (DataSourceRoutingContext.Pin ignored = DataSourceRoutingContext.bindRoutingKey(orderId)) {
+            assertThat(routingDataSource.determineCurrentLookupKey()).isEqualTo(routingDataSource.shardFor(orderId));
+        }
+    }
+
+    @Test
+    void ids_not_generated_with_affinity_should_still_route_deterministically() {
+        assertThat(routingDataSource.shardFor("order-001")).isEqualTo(routingDataSource.shardFor("order-001"));
+    }
+}
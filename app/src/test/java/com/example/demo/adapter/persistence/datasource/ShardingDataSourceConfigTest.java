@@ -0,0 +1,70 @@
+package com.example.demo.adapter.persistence.datasource;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.example.demo.adapter.persistence.order.archive.OrderArchiveProperties;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+class ShardingDataSourceConfigTest {
+
+    @Test
+    void should_start_when_no_single_database_feature_is_enabled() {
+        assertThatCode(() -> new ShardingDataSourceConfig(
+                        replicaRouting(false), bulkhead(false), archive(false), r2dbc(false)))
+                .doesNotThrowAnyException();
+    }
+
+    @Test
+    void should_refuse_replica_routing() {
+        assertThatThrownBy(() -> new ShardingDataSourceConfig(
+                        replicaRouting(true), bulkhead(false), archive(false), r2dbc(false)))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("replica routing");
+    }
+
+    @Test
+    void should_refuse_datasource_bulkheads() {
+        assertThatThrownBy(() -> new ShardingDataSourceConfig(
+                        replicaRouting(false), bulkhead(true), archive(false), r2dbc(false)))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("bulkheads");
+    }
+
+    @Test
+    void should_refuse_order_archiving() {
+        assertThatThrownBy(() -> new ShardingDataSourceConfig(
+                        replicaRouting(false), bulkhead(false), archive(true), r2dbc(false)))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("archiving");
+    }
+
+    @Test
+    void should_refuse_r2dbc() {
+        assertThatThrownBy(() -> new ShardingDataSourceConfig(
+                        replicaRouting(false), bulkhead(false), archive(false), r2dbc(true)))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("R2DBC");
+    }
+
+    private static ReplicaRoutingProperties replicaRouting(boolean enabled) {
+        Duration second = Duration.ofSeconds(1);
+        return new ReplicaRoutingProperties(enabled, second, second, second, second, false, List.of());
+    }
+
+    private static BulkheadDataSourceProperties bulkhead(boolean enabled) {
+        return new BulkheadDataSourceProperties(enabled, Map.of());
+    }
+
+    private static ReactiveDataSourceProperties r2dbc(boolean enabled) {
+        return new ReactiveDataSourceProperties(
+                enabled, "r2dbc:h2:mem:///testdb", "sa", "", 10, 10, Duration.ofMinutes(30));
+    }
+
+    private static OrderArchiveProperties archive(boolean enabled) {
+        return new OrderArchiveProperties(enabled, "order-archive", Duration.ofDays(180), 1000);
+    }
+}
@@ -0,0 +1,56 @@
+package com.example.demo.adapter.persistence.order;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.example.demo.domain.dish.DishId;
+import com.example.demo.domain.order.OrderItem;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+class OrderItemsCodecTest {
+
+    @Test
+    void should_round_trip_items() {
+        List<OrderItem> items = List.of(
+                new OrderItem(new DishId("dish-001"), "宫保鸡丁", 2, new BigDecimal("25.00")),
+                new OrderItem(new DishId("dish-002"), "米饭", 300, new BigDecimal("0.50")),
+                new OrderItem(new DishId("dish-003"), "赠品", 1, new BigDecimal("0")));
+
+        List<OrderItem> decoded = OrderItemsCodec.decode(OrderItemsCodec.encode(items));
+
+        assertThat(decoded).isEqualTo(items);
+    }
+
+    @Test
+    void should_preserve_price_scale() {
+        List<OrderItem> items = List.of(new OrderItem(new DishId("dish-001"), "宫保鸡丁", 1, new BigDecimal("25.00")));
+
+        BigDecimal price = OrderItemsCodec.decode(OrderItemsCodec.encode(items)).get(0).price();
+
+        assertThat(price.scale()).isEqualTo(2);
+        assertThat(price).isEqualTo(new BigDecimal("25.00"));
+    }
+
+    @Test
+    void encoding_should_be_compact() {
+        List<OrderItem> items = IntStream.range(0, 10)
+                .mapToObj(i -> new OrderItem(new DishId("dish-00" + i), "宫保鸡丁", 2, new BigDecimal("25.00")))
+                .toList();
+
+        byte[] encoded = OrderItemsCodec.encode(items);
+
+        // 2 header bytes + per item: 9 (id) + 13 (name) + 1 (quantity) + 1 (scale) + 2 (price)
+        assertThat(encoded).hasSize(2 + 10 * 26);
+        assertThat(encoded[0]).isEqualTo(OrderItemsCodec.VERSION_1);
+    }
+
+    @Test
+    void should_reject_unknown_versions() {
+        assertThatThrownBy(() -> OrderItemsCodec.decode(new byte[] {99, 0}))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("99");
+    }
+}
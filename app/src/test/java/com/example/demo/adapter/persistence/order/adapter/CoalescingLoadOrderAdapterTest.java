@@ -0,0 +1,162 @@
+package com.example.demo.adapter.persistence.order.adapter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.example.demo.application.port.LoadOrderPort;
+import com.example.demo.domain.order.Order;
+import com.example.demo.domain.order.OrderId;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class CoalescingLoadOrderAdapterTest {
+
+    private static final OrderId ORDER_ID = new OrderId("order-001");
+
+    private BlockingLoadOrderPort delegate;
+    private SimpleMeterRegistry meterRegistry;
+    private CoalescingLoadOrderAdapter adapter;
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        delegate = new BlockingLoadOrderPort();
+        meterRegistry = new SimpleMeterRegistry();
+        adapter = new CoalescingLoadOrderAdapter(delegate, meterRegistry);
+        executor = Executors.newCachedThreadPool();
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void findById_should_share_one_call_between_concurrent_callers() throws Exception {
+        // Given
+        delegate.result = Optional::empty;
+        Future<Optional<Order>> leader = executor.submit(() -> adapter.findById(ORDER_ID));
+        assertThat(delegate.entered.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // When
+        List<Future<Optional<Order>>> followers = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            followers.add(executor.submit(() -> adapter.findById(new OrderId(ORDER_ID.value()))));
+        }
+        awaitCoalesced(3);
+        delegate.release.countDown();
+
+        // Then
+        assertThat(leader.get(5, TimeUnit.SECONDS)).isEmpty();
+        for (Future<Optional<Order>> follower : followers) {
+            assertThat(follower.get(5, TimeUnit.SECONDS)).isEmpty();
+        }
+        assertThat(delegate.calls.get()).isEqualTo(1);
+        assertThat(count("executed")).isEqualTo(1.0);
+        assertThat(count("coalesced")).isEqualTo(3.0);
+        assertThat(meterRegistry.get("order.load.in.flight").gauge().value()).isZero();
+    }
+
+    @Test
+    void findById_should_rethrow_shared_failure_to_every_caller() throws Exception {
+        // Given
+        IllegalStateException failure = new IllegalStateException("database unavailable");
+        delegate.result = () -> {
+            throw failure;
+        };
+        Future<Optional<Order>> leader = executor.submit(() -> adapter.findById(ORDER_ID));
+        assertThat(delegate.entered.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // When
+        Future<Optional<Order>> follower = executor.submit(() -> adapter.findById(ORDER_ID));
+        awaitCoalesced(1);
+        delegate.release.countDown();
+
+        // Then
+        assertThatThrownBy(() -> leader.get(5, TimeUnit.SECONDS)).hasCause(failure);
+        assertThatThrownBy(() -> follower.get(5, TimeUnit.SECONDS)).hasCause(failure);
+        assertThat(delegate.calls.get()).isEqualTo(1);
+        assertThat(meterRegistry.get("order.load.in.flight").gauge().value()).isZero();
+    }
+
+    @Test
+    void findById_should_start_new_call_after_previous_one_completed() {
+        // Given
+        delegate.result = Optional::empty;
+        delegate.release.countDown();
+
+        // When
+        adapter.findById(ORDER_ID);
+        adapter.findById(ORDER_ID);
+
+        // Then
+        assertThat(delegate.calls.get()).isEqualTo(2);
+        assertThat(count("executed")).isEqualTo(2.0);
+        assertThat(count("coalesced")).isZero();
+    }
+
+    @Test
+    void findById_should_not_coalesce_different_orders() throws Exception {
+        // Given
+        delegate.result = Optional::empty;
+        Future<Optional<Order>> first = executor.submit(() -> adapter.findById(ORDER_ID));
+        Future<Optional<Order>> second = executor.submit(() -> adapter.findById(new OrderId("order-002")));
+
+        // When
+        delegate.release.countDown();
+
+        // Then
+        first.get(5, TimeUnit.SECONDS);
+        second.get(5, TimeUnit.SECONDS);
+        assertThat(delegate.calls.get()).isEqualTo(2);
+    }
+
+    private double count(String outcome) {
+        return meterRegistry
+                .get("order.load.calls")
+                .tag("outcome", outcome)
+                .counter()
+                .count();
+    }
+
+    private void awaitCoalesced(int callers) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        // The counter is incremented just before a follower blocks on the shared call
+        while (count("coalesced") < callers && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(count("coalesced")).isEqualTo(callers);
+    }
+
+    private static class BlockingLoadOrderPort implements LoadOrderPort {
+
+        private final CountDownLatch entered = new CountDownLatch(1);
+        private final CountDownLatch release = new CountDownLatch(1);
+        private final AtomicInteger calls = new AtomicInteger();
+        private volatile Supplier<Optional<Order>> result;
+
+        @Override
+        public Optional<Order> findById(OrderId orderId) {
+            calls.incrementAndGet();
+            entered.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+            return result.get();
+        }
+    }
+}
@@ -4,6 +4,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.from;
 import static org.mockito.Mockito.*;
 
+import com.example.demo.adapter.persistence.datasource.ReadYourWritesWindow;
 import com.example.demo.adapter.persistence.order.DeliveryInfoEmbeddable;
 import com.example.demo.adapter.persistence.order.OrderEntity;
 import com.example.demo.adapter.persistence.order.OrderEntityRepository;
@@ -35,6 +36,9 @@ class OrderPersistenceAdapterTest {
     @Mock
     private OrderEntityRepository orderEntityRepository;
 
+    @Mock
+    private ReadYourWritesWindow readYourWritesWindow;
+
     @InjectMocks
     private OrderPersistenceAdapter orderPersistenceAdapter;
 
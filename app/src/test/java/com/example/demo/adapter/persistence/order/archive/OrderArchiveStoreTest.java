@@ -0,0 +1,89 @@
+package com.example.demo.adapter.persistence.order.archive;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.example.demo.domain.order.Order;
+import com.example.demo.domain.order.OrderStatus;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class OrderArchiveStoreTest {
+
+    @TempDir
+    Path directory;
+
+    private OrderArchiveStore orderArchiveStore;
+
+    @BeforeEach
+    void setUp() {
+        OrderArchiveProperties properties =
+                new OrderArchiveProperties(true, directory.toString(), Duration.ofDays(180), 1000);
+        orderArchiveStore = new OrderArchiveStore(properties, new ObjectMapper().findAndRegisterModules());
+    }
+
+    @Test
+    void should_find_archived_orders_in_written_segment() {
+        String segment = orderArchiveStore.writeSegment(List.of(archivedOrder("order-001"), archivedOrder("order-002")));
+
+        assertThat(directory.resolve(segment)).exists();
+        assertThat(orderArchiveStore.find(segment, "order-002"))
+                .hasValueSatisfying(order -> assertThat(order.id()).isEqualTo("order-002"));
+    }
+
+    @Test
+    void should_return_empty_when_order_is_not_in_segment() {
+        String segment = orderArchiveStore.writeSegment(List.of(archivedOrder("order-001")));
+
+        assertThat(orderArchiveStore.find(segment, "order-00")).isEmpty();
+    }
+
+    @Test
+    void should_not_leave_temporary_files_behind() throws Exception {
+        orderArchiveStore.writeSegment(List.of(archivedOrder("order-001")));
+
+        try (var files = Files.list(directory)) {
+            assertThat(files).allMatch(file -> file.getFileName().toString().endsWith(".jsonl.gz"));
+        }
+    }
+
+    @Test
+    void archived_order_should_convert_back_to_domain_order() {
+        Order order = archivedOrder("order-001").toDomain();
+
+        assertThat(order.getId().value()).isEqualTo("order-001");
+        assertThat(order.getItems()).hasSize(1);
+        assertThat(order.getItems().get(0).dishName()).isEqualTo("宫保鸡丁");
+        assertThat(order.getDeliveryInfo().recipientPhone()).isEqualTo("13800138000");
+        assertThat(order.getPricing().finalAmount()).isEqualByComparingTo(new BigDecimal("54.00"));
+        assertThat(order.getStatus()).isEqualTo(OrderStatus.PENDING_PAYMENT);
+    }
+
+    private static ArchivedOrder archivedOrder(String orderId) {
+        Instant createdAt = Instant.parse("2025-01-04T12:00:00Z");
+        return new ArchivedOrder(
+                orderId,
+                "20250104120000123456",
+                "user-001",
+                "merchant-001",
+                List.of(new ArchivedOrder.Item("dish-001", "宫保鸡丁", 2, new BigDecimal("25.00"))),
+                "张三",
+                "13800138000",
+                "北京市朝阳区某某街道123号",
+                "少辣",
+                OrderStatus.PENDING_PAYMENT,
+                new BigDecimal("50.00"),
+                new BigDecimal("1.00"),
+                new BigDecimal("3.00"),
+                new BigDecimal("54.00"),
+                createdAt,
+                createdAt);
+    }
+}
@@ -0,0 +1,18 @@
+package com.example.demo.adapter.persistence.order.archive;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Instant;
+import java.time.YearMonth;
+import org.junit.jupiter.api.Test;
+
+class OrderPartitionMaintainerTest {
+
+    @Test
+    void upper_bound_should_be_the_start_of_the_next_month_in_utc() {
+        assertThat(OrderPartitionMaintainer.upperBound(YearMonth.of(2027, 1)))
+                .isEqualTo(Instant.parse("2027-02-01T00:00:00Z").getEpochSecond());
+        assertThat(OrderPartitionMaintainer.upperBound(YearMonth.of(2027, 12)))
+                .isEqualTo(Instant.parse("2028-01-01T00:00:00Z").getEpochSecond());
+    }
+}
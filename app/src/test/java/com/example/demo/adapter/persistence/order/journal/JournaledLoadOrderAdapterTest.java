@@ -0,0 +1,57 @@
+package com.example.demo.adapter.persistence.order.journal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.example.demo.application.port.LoadOrderPort;
+import com.example.demo.domain.order.Order;
+import com.example.demo.domain.order.OrderId;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class JournaledLoadOrderAdapterTest {
+
+    private static final OrderId ORDER_ID = new OrderId("order-001");
+
+    private WriteBehindOrderAdapter writeBehindOrderAdapter;
+    private LoadOrderPort delegate;
+    private JournaledLoadOrderAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        writeBehindOrderAdapter = mock(WriteBehindOrderAdapter.class);
+        delegate = mock(LoadOrderPort.class);
+        adapter = new JournaledLoadOrderAdapter(writeBehindOrderAdapter, delegate);
+    }
+
+    @Test
+    void findById_should_answer_a_pending_order_without_calling_the_delegate() {
+        // Given
+        Order order = mock(Order.class);
+        when(writeBehindOrderAdapter.findPending(ORDER_ID)).thenReturn(Optional.of(order));
+
+        // When
+        Optional<Order> found = adapter.findById(ORDER_ID);
+
+        // Then
+        assertThat(found).containsSame(order);
+        verifyNoInteractions(delegate);
+    }
+
+    @Test
+    void findById_should_fall_through_to_the_delegate_once_the_order_is_drained() {
+        // Given
+        Order order = mock(Order.class);
+        when(writeBehindOrderAdapter.findPending(ORDER_ID)).thenReturn(Optional.empty());
+        when(delegate.findById(ORDER_ID)).thenReturn(Optional.of(order));
+
+        // When
+        Optional<Order> found = adapter.findById(ORDER_ID);
+
+        // Then
+        assertThat(found).containsSame(order);
+    }
+}
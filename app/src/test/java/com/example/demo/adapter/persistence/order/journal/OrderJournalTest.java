@@ -0,0 +1,197 @@
+package com.example.demo.adapter.persistence.order.journal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.example.demo.domain.dish.DishId;
+import com.example.demo.domain.merchant.MerchantId;
+import com.example.demo.domain.order.DeliveryInfo;
+import com.example.demo.domain.order.Order;
+import com.example.demo.domain.order.OrderId;
+import com.example.demo.domain.order.OrderItem;
+import com.example.demo.domain.user.UserId;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class OrderJournalTest {
+
+    @TempDir
+    Path directory;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final List<OrderJournal> journals = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        journals.forEach(OrderJournal::close);
+    }
+
+    static Order order(String remark) {
+        return new Order(
+                UserId.of("user-001"),
+                MerchantId.of("merchant-001"),
+                List.of(new OrderItem(DishId.of("dish-001"), "宫保鸡丁", 2, new BigDecimal("25.00"))),
+                new DeliveryInfo("张三", "13800138000", "北京市朝阳区xxx街道xxx号"),
+                remark);
+    }
+
+    @Test
+    void read_should_return_appended_orders_unchanged() {
+        // Given
+        OrderJournal journal = open(4096);
+        Order first = order("少放辣");
+        Order second = order(null);
+        journal.append(first);
+        long end = journal.append(second);
+
+        // When
+        OrderJournal.Batch batch = journal.read(journal.checkpointed(), 10);
+
+        // Then
+        assertThat(batch.orders()).hasSize(2);
+        assertThat(batch.orders().get(0)).usingRecursiveComparison().isEqualTo(first);
+        assertThat(batch.orders().get(1)).usingRecursiveComparison().isEqualTo(second);
+        assertThat(batch.next()).isEqualTo(end).isEqualTo(journal.end());
+    }
+
+    @Test
+    void read_should_stop_at_the_requested_count() {
+        OrderJournal journal = open(4096);
+        for (int i = 0; i < 3; i++) {
+            journal.append(order(null));
+        }
+
+        OrderJournal.Batch first = journal.read(journal.checkpointed(), 2);
+        OrderJournal.Batch second = journal.read(first.next(), 2);
+
+        assertThat(first.orders()).hasSize(2);
+        assertThat(second.orders()).hasSize(1);
+        assertThat(journal.read(second.next(), 2).orders()).isEmpty();
+    }
+
+    @Test
+    void append_should_roll_to_a_new_segment_when_the_current_one_is_full() {
+        // Given: room for only a couple of records per segment
+        OrderJournal journal = open(512);
+
+        // When
+        List<OrderId> ids = new ArrayList<>();
+        for (int i = 0; i < 7; i++) {
+            Order order = order(null);
+            journal.append(order);
+            ids.add(order.getId());
+        }
+
+        // Then
+        assertThat(journal.segmentCount()).isGreaterThan(2);
+        assertThat(journal.read(journal.checkpointed(), 100).orders())
+                .extracting(Order::getId)
+                .containsExactlyElementsOf(ids);
+    }
+
+    @Test
+    void checkpoint_should_delete_drained_segments_and_survive_a_reopen() throws IOException {
+        // Given
+        OrderJournal journal = open(512);
+        List<Order> orders = new ArrayList<>();
+        for (int i = 0; i < 7; i++) {
+            orders.add(order(null));
+            journal.append(orders.get(i));
+        }
+        OrderJournal.Batch drained = journal.read(journal.checkpointed(), 5);
+
+        // When
+        journal.checkpoint(drained.next());
+        journal.close();
+        OrderJournal reopened = open(512);
+
+        // Then
+        assertThat(segmentFiles()).hasSize(reopened.segmentCount());
+        assertThat(reopened.checkpointed()).isEqualTo(drained.next());
+        assertThat(reopened.read(reopened.checkpointed(), 100).orders())
+                .extracting(Order::getId)
+                .containsExactly(orders.get(5).getId(), orders.get(6).getId());
+    }
+
+    @Test
+    void reopen_should_discard_a_torn_record_and_keep_appending_after_the_last_intact_one() throws IOException {
+        // Given: a record whose payload never fully reached the disk
+        OrderJournal journal = open(4096);
+        Order intact = order(null);
+        long end = journal.append(intact);
+        journal.close();
+        try (FileChannel channel = FileChannel.open(segmentFiles().get(0), StandardOpenOption.WRITE)) {
+            ByteBuffer torn = ByteBuffer.allocate(OrderJournal.RECORD_HEADER + 4).putInt(100).putInt(12345);
+            channel.write(torn.flip(), (int) end);
+        }
+
+        // When
+        OrderJournal reopened = open(4096);
+        Order appended = order(null);
+        reopened.append(appended);
+
+        // Then
+        assertThat(reopened.read(0, 100).orders())
+                .extracting(Order::getId)
+                .containsExactly(intact.getId(), appended.getId());
+    }
+
+    @Test
+    void concurrent_appends_should_all_be_durable_when_acknowledged() throws Exception {
+        // Given
+        OrderJournal journal = open(1024 * 1024);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        // When
+        List<Future<Long>> acknowledgements = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            acknowledgements.add(executor.submit(() -> journal.append(order(null))));
+        }
+        for (Future<Long> acknowledgement : acknowledgements) {
+            assertThat(acknowledgement.get()).isLessThanOrEqualTo(journal.end());
+        }
+        executor.shutdown();
+
+        // Then: every acknowledged order is readable, and appenders shared forces
+        assertThat(journal.read(0, 1000).orders()).hasSize(200);
+        double fsyncs = meterRegistry.get("order.journal.fsyncs").counter().count();
+        assertThat(fsyncs).isPositive().isLessThanOrEqualTo(200);
+    }
+
+    @Test
+    void append_should_fail_once_the_journal_is_closed() {
+        OrderJournal journal = open(4096);
+        journal.close();
+
+        assertThatThrownBy(() -> journal.append(order(null))).isInstanceOf(IllegalStateException.class);
+    }
+
+    private OrderJournal open(int segmentSize) {
+        OrderJournal journal = new OrderJournal(directory, segmentSize, meterRegistry);
+        journals.add(journal);
+        return journal;
+    }
+
+    private List<Path> segmentFiles() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(path -> path.toString().endsWith(".journal"))
+                    .sorted()
+                    .toList();
+        }
+    }
+}
@@ -0,0 +1,233 @@
+package com.example.demo.adapter.persistence.order.journal;
+
+import static com.example.demo.adapter.persistence.order.journal.OrderJournalTest.order;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+import com.example.demo.adapter.persistence.order.adapter.OrderStore;
+import com.example.demo.application.port.BulkSaveOrderPort;
+import com.example.demo.domain.order.Order;
+import com.example.demo.domain.order.OrderId;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.scheduling.config.IntervalTask;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+class WriteBehindOrderAdapterTest {
+
+    private static final int BATCH_SIZE = 3;
+
+    @TempDir
+    Path directory;
+
+    private FakeDatabase database;
+    private SimpleMeterRegistry meterRegistry;
+    private final List<OrderJournal> journals = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        database = new FakeDatabase();
+    }
+
+    @AfterEach
+    void tearDown() {
+        journals.forEach(OrderJournal::close);
+    }
+
+    @Test
+    void save_should_acknowledge_before_the_database_write() {
+        // Given
+        WriteBehindOrderAdapter adapter = start();
+        Order order = order(null);
+
+        // When
+        adapter.save(order);
+
+        // Then
+        assertThat(database.rows).isEmpty();
+        assertThat(adapter.findPending(order.getId())).containsSame(order);
+        assertThat(meterRegistry.get("order.journal.pending").gauge().value()).isEqualTo(1.0);
+    }
+
+    @Test
+    void drain_should_write_journaled_orders_in_batches() {
+        // Given
+        WriteBehindOrderAdapter adapter = start();
+        List<Order> orders = saveOrders(adapter, 7);
+
+        // When
+        int inserted = adapter.drain();
+
+        // Then
+        assertThat(inserted).isEqualTo(7);
+        assertThat(database.rows.keySet()).containsExactlyElementsOf(ids(orders));
+        assertThat(database.batches).containsExactly(3, 3, 1);
+        assertThat(adapter.findPending(orders.get(0).getId())).isEmpty();
+        assertThat(adapter.pendingCount()).isZero();
+        assertThat(meterRegistry.get("order.journal.drained").counter().count()).isEqualTo(7.0);
+        assertThat(adapter.drain()).isZero();
+    }
+
+    @Test
+    void restart_should_replay_orders_the_writer_did_not_drain() {
+        // Given: orders acknowledged by a process that died before draining any of them
+        List<Order> orders = saveOrders(start(), 4);
+
+        // When
+        WriteBehindOrderAdapter restarted = start();
+
+        // Then: readable by ID at once, and written on the next drain
+        assertThat(restarted.findPending(orders.get(3).getId())).isPresent();
+        assertThat(restarted.drain()).isEqualTo(4);
+        assertThat(database.rows.keySet()).containsExactlyElementsOf(ids(orders));
+    }
+
+    @Test
+    void restart_after_a_crash_mid_batch_should_write_every_order_exactly_once() {
+        // Given: the writer dies after two orders of its second batch reached the database
+        WriteBehindOrderAdapter crashed = start();
+        List<Order> orders = saveOrders(crashed, 8);
+        database.crashAfter = 5;
+        assertThatThrownBy(crashed::drain).hasMessage("killed");
+        assertThat(database.rows).hasSize(5);
+
+        // When
+        database.crashAfter = Integer.MAX_VALUE;
+        WriteBehindOrderAdapter restarted = start();
+        int inserted = restarted.drain();
+
+        // Then
+        assertThat(inserted).isEqualTo(3);
+        assertThat(database.rows.keySet()).containsExactlyElementsOf(ids(orders));
+    }
+
+    @Test
+    void drain_should_skip_orders_a_failed_attempt_already_committed() {
+        // Given: a batch that reached the database although the drain reported a failure
+        WriteBehindOrderAdapter adapter = start();
+        List<Order> orders = saveOrders(adapter, 2);
+        database.failAfterCommit = true;
+        assertThatThrownBy(adapter::drain).hasMessage("connection reset");
+
+        // When
+        database.failAfterCommit = false;
+        int inserted = adapter.drain();
+
+        // Then
+        assertThat(inserted).isZero();
+        assertThat(database.rows.keySet()).containsExactlyElementsOf(ids(orders));
+        assertThat(adapter.pendingCount()).isZero();
+    }
+
+    @Test
+    void close_should_drain_what_is_left_and_reject_new_orders() {
+        // Given
+        WriteBehindOrderAdapter adapter = start();
+        saveOrders(adapter, 2);
+
+        // When
+        adapter.close();
+
+        // Then
+        assertThat(database.rows).hasSize(2);
+        assertThatThrownBy(() -> adapter.save(order(null))).isInstanceOf(DataAccessResourceFailureException.class);
+        assertThat(adapter.pendingCount()).isZero();
+    }
+
+    @Test
+    void configure_tasks_should_drain_at_the_configured_interval() {
+        // Given
+        WriteBehindOrderAdapter adapter = start();
+        ScheduledTaskRegistrar registrar = new ScheduledTaskRegistrar();
+
+        // When
+        adapter.configureTasks(registrar);
+
+        // Then
+        assertThat(registrar.getFixedDelayTaskList())
+                .singleElement()
+                .extracting(IntervalTask::getIntervalDuration)
+                .isEqualTo(Duration.ofMillis(100));
+    }
+
+    private WriteBehindOrderAdapter start() {
+        meterRegistry = new SimpleMeterRegistry();
+        OrderJournal journal = new OrderJournal(directory, 4096, meterRegistry);
+        journals.add(journal);
+        TransactionTemplate transactionTemplate = new TransactionTemplate(mock(PlatformTransactionManager.class));
+        return new WriteBehindOrderAdapter(
+                journal, BATCH_SIZE, Duration.ofMillis(100), database, database, transactionTemplate, meterRegistry);
+    }
+
+    private static List<Order> saveOrders(WriteBehindOrderAdapter adapter, int count) {
+        List<Order> orders = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            Order order = order(null);
+            adapter.save(order);
+            orders.add(order);
+        }
+        return orders;
+    }
+
+    private static List<OrderId> ids(List<Order> orders) {
+        return orders.stream().map(Order::getId).toList();
+    }
+
+    /**
+     * Order tables without transactions, so that a crash leaves a partially written batch behind.
+     */
+    private static class FakeDatabase implements OrderStore, BulkSaveOrderPort {
+
+        private final Map<OrderId, Order> rows = new LinkedHashMap<>();
+        private final List<Integer> batches = new ArrayList<>();
+        private int crashAfter = Integer.MAX_VALUE;
+        private boolean failAfterCommit;
+
+        @Override
+        public int saveAll(List<Order> orders) {
+            batches.add(orders.size());
+            for (Order order : orders) {
+                if (rows.size() == crashAfter) {
+                    throw new IllegalStateException("killed");
+                }
+                save(order);
+            }
+            if (failAfterCommit) {
+                throw new IllegalStateException("connection reset");
+            }
+            return orders.size();
+        }
+
+        @Override
+        public void save(Order order) {
+            if (rows.putIfAbsent(order.getId(), order) != null) {
+                throw new IllegalStateException("Duplicate order " + order.getId().value());
+            }
+        }
+
+        @Override
+        public Optional<Order> findById(OrderId orderId) {
+            return Optional.ofNullable(rows.get(orderId));
+        }
+
+        @Override
+        public List<Order> findAllById(Collection<OrderId> orderIds) {
+            return orderIds.stream().map(rows::get).filter(order -> order != null).toList();
+        }
+    }
+}
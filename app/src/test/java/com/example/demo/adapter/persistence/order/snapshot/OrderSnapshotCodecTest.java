@@ -0,0 +1,111 @@
+package com.example.demo.adapter.persistence.order.snapshot;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.example.demo.domain.dish.DishId;
+import com.example.demo.domain.merchant.MerchantId;
+import com.example.demo.domain.order.DeliveryInfo;
+import com.example.demo.domain.order.Order;
+import com.example.demo.domain.order.OrderId;
+import com.example.demo.domain.order.OrderItem;
+import com.example.demo.domain.order.OrderNumber;
+import com.example.demo.domain.order.OrderStatus;
+import com.example.demo.domain.order.Pricing;
+import com.example.demo.domain.user.UserId;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class OrderSnapshotCodecTest {
+
+    static Order order(String id, Instant createdAt, String remark) {
+        return new Order(
+                new OrderId(id),
+                new OrderNumber("20260101120000123456"),
+                new UserId("user-001"),
+                new MerchantId("merchant-001"),
+                List.of(
+                        new OrderItem(new DishId("dish-001"), "宫保鸡丁", 2, new BigDecimal("25.5")),
+                        new OrderItem(new DishId("dish-002"), "米饭", 1, new BigDecimal("2.00"))),
+                new DeliveryInfo("张三", "13800138000", "北京市朝阳区xxx街道xxx号"),
+                remark,
+                OrderStatus.PENDING_PAYMENT,
+                new Pricing(
+                        new BigDecimal("51.0"), new BigDecimal("1.00"), new BigDecimal("3.00"), new BigDecimal("55")),
+                createdAt,
+                createdAt);
+    }
+
+    @Test
+    void decode_should_restore_every_field_with_database_scale_and_precision() {
+        // Given
+        Instant createdAt = Instant.parse("2026-01-01T12:00:00.1234567Z");
+        Order order = order("order-001", createdAt, "少放辣");
+
+        // When
+        Order decoded = roundTrip(order, 6, 16);
+
+        // Then
+        assertThat(decoded.getId()).isEqualTo(order.getId());
+        assertThat(decoded.getOrderNumber()).isEqualTo(order.getOrderNumber());
+        assertThat(decoded.getUserId()).isEqualTo(order.getUserId());
+        assertThat(decoded.getMerchantId()).isEqualTo(order.getMerchantId());
+        assertThat(decoded.getDeliveryInfo()).isEqualTo(order.getDeliveryInfo());
+        assertThat(decoded.getRemark()).isEqualTo("少放辣");
+        assertThat(decoded.getStatus()).isEqualTo(OrderStatus.PENDING_PAYMENT);
+        assertThat(decoded.getItems())
+                .containsExactly(
+                        new OrderItem(new DishId("dish-001"), "宫保鸡丁", 2, new BigDecimal("25.50")),
+                        new OrderItem(new DishId("dish-002"), "米饭", 1, new BigDecimal("2.00")));
+        assertThat(decoded.getPricing())
+                .isEqualTo(new Pricing(
+                        new BigDecimal("51.00"),
+                        new BigDecimal("1.00"),
+                        new BigDecimal("3.00"),
+                        new BigDecimal("55.00")));
+        assertThat(decoded.getCreatedAt()).isEqualTo(Instant.parse("2026-01-01T12:00:00.123457Z"));
+        assertThat(decoded.getUpdatedAt()).isEqualTo(decoded.getCreatedAt());
+    }
+
+    @Test
+    void decode_should_keep_a_missing_remark_null() {
+        Order decoded = roundTrip(order("order-001", Instant.parse("2026-01-01T12:00:00Z"), null), 6, 0);
+
+        assertThat(decoded.getRemark()).isNull();
+    }
+
+    @Test
+    void round_should_round_half_up_like_a_timestamp_column() {
+        assertThat(OrderSnapshotCodec.round(Instant.parse("2026-01-01T12:00:00.5Z"), 0))
+                .isEqualTo(Instant.parse("2026-01-01T12:00:01Z"));
+        assertThat(OrderSnapshotCodec.round(Instant.parse("2026-01-01T12:00:00.499Z"), 0))
+                .isEqualTo(Instant.parse("2026-01-01T12:00:00Z"));
+        assertThat(OrderSnapshotCodec.round(Instant.parse("2026-01-01T12:00:59.9999996Z"), 6))
+                .isEqualTo(Instant.parse("2026-01-01T12:01:00Z"));
+    }
+
+    @Test
+    void idEquals_should_compare_the_stored_id() {
+        ByteBuffer arena = ByteBuffer.allocateDirect(1024);
+        arena.put(0, OrderSnapshotCodec.encode(order("order-001", Instant.now(), null), 6));
+
+        assertThat(OrderSnapshotCodec.idEquals(arena, 0, OrderSnapshotCodec.idBytes("order-001")))
+                .isTrue();
+        assertThat(OrderSnapshotCodec.idEquals(arena, 0, OrderSnapshotCodec.idBytes("order-002")))
+                .isFalse();
+        assertThat(OrderSnapshotCodec.idEquals(arena, 0, OrderSnapshotCodec.idBytes("order-0011")))
+                .isFalse();
+    }
+
+    private static Order roundTrip(Order order, int precision, int offset) {
+        byte[] record = OrderSnapshotCodec.encode(order, precision);
+        ByteBuffer arena = ByteBuffer.allocateDirect(offset + record.length);
+        arena.put(offset, record);
+        assertThat(OrderSnapshotCodec.recordLength(arena, offset)).isEqualTo(record.length);
+        assertThat(OrderSnapshotCodec.idHash(arena, offset))
+                .isEqualTo(OrderSnapshotCodec.idHash(order.getId().value()));
+        return OrderSnapshotCodec.decode(arena, offset);
+    }
+}
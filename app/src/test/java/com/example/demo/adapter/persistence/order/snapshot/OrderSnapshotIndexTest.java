@@ -0,0 +1,95 @@
+package com.example.demo.adapter.persistence.order.snapshot;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+class OrderSnapshotIndexTest {
+
+    // Location -> key, standing in for the ID stored in the record
+    private final Map<Long, String> records = new HashMap<>();
+    private final OrderSnapshotIndex index = new OrderSnapshotIndex(4);
+
+    @Test
+    void find_should_return_the_location_of_a_put_key() {
+        put("order-001", 1L);
+        put("order-002", 2L);
+
+        assertThat(find("order-001")).isEqualTo(1L);
+        assertThat(find("order-002")).isEqualTo(2L);
+        assertThat(find("order-003")).isEqualTo(OrderSnapshotIndex.NOT_FOUND);
+    }
+
+    @Test
+    void put_should_replace_the_location_of_an_existing_key() {
+        put("order-001", 1L);
+
+        assertThat(put("order-001", 7L)).isEqualTo(1L);
+        assertThat(find("order-001")).isEqualTo(7L);
+        assertThat(index.size()).isEqualTo(1);
+    }
+
+    @Test
+    void colliding_hashes_should_be_told_apart_by_the_key() {
+        // "Aa" and "BB" share a String hash code
+        put("Aa", 1L);
+        put("BB", 2L);
+
+        assertThat(find("Aa")).isEqualTo(1L);
+        assertThat(find("BB")).isEqualTo(2L);
+    }
+
+    @Test
+    void remove_should_keep_the_remaining_probe_chains_intact() {
+        // Given: far more keys than the initial capacity, forcing resizes and long probe chains
+        Random random = new Random(42);
+        Map<String, Long> expected = new HashMap<>();
+        for (long i = 1; i <= 5_000; i++) {
+            String key = "order-" + random.nextInt(1_000_000);
+            if (expected.putIfAbsent(key, i) == null) {
+                put(key, i);
+            }
+        }
+
+        // When: every other key is removed
+        int removed = 0;
+        for (Map.Entry<String, Long> entry : Map.copyOf(expected).entrySet()) {
+            if (entry.getValue() % 2 == 0) {
+                assertThat(index.remove(entry.getKey().hashCode(), entry.getValue())).isTrue();
+                expected.remove(entry.getKey());
+                removed++;
+            }
+        }
+
+        // Then
+        assertThat(removed).isPositive();
+        assertThat(index.size()).isEqualTo(expected.size());
+        expected.forEach((key, location) -> assertThat(find(key)).isEqualTo(location));
+        records.forEach((location, key) -> {
+            if (!expected.containsKey(key)) {
+                assertThat(find(key)).isEqualTo(OrderSnapshotIndex.NOT_FOUND);
+            }
+        });
+    }
+
+    @Test
+    void remove_should_ignore_a_location_that_was_replaced() {
+        put("order-001", 1L);
+        put("order-001", 2L);
+
+        assertThat(index.remove("order-001".hashCode(), 1L)).isFalse();
+        assertThat(find("order-001")).isEqualTo(2L);
+    }
+
+    private long put(String key, long location) {
+        records.put(location, key);
+        return index.put(key.hashCode(), location, candidate -> key.equals(records.get(candidate)));
+    }
+
+    private long find(String key) {
+        return index.find(key.hashCode(), candidate -> key.equals(records.get(candidate)));
+    }
+}
@@ -0,0 +1,188 @@
+package com.example.demo.adapter.persistence.order.snapshot;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.example.demo.domain.order.Order;
+import com.example.demo.domain.order.OrderId;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.InstantSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.config.IntervalTask;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+import org.springframework.util.unit.DataSize;
+
+class OrderSnapshotStoreTest {
+
+    private static final Instant START = Instant.parse("2026-01-01T12:00:00Z");
+
+    private SimpleMeterRegistry meterRegistry;
+    private MutableClock clock;
+    private OrderSnapshotStore store;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        clock = new MutableClock(START);
+        store = store(3, DataSize.ofKilobytes(1));
+    }
+
+    @Test
+    void findById_should_return_a_put_order() {
+        // Given
+        store.put(order("order-001"));
+
+        // When
+        Order found = store.findById(new OrderId("order-001")).orElseThrow();
+
+        // Then
+        assertThat(found.getId()).isEqualTo(new OrderId("order-001"));
+        assertThat(found.getItems()).hasSize(2);
+        assertThat(lookups("hit")).isEqualTo(1.0);
+        assertThat(meterRegistry.get("order.snapshot.orders").gauge().value()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("order.snapshot.used").gauge().value()).isPositive();
+    }
+
+    @Test
+    void findById_should_miss_an_unknown_order() {
+        store.put(order("order-001"));
+
+        assertThat(store.findById(new OrderId("order-002"))).isEmpty();
+        assertThat(lookups("miss")).isEqualTo(1.0);
+    }
+
+    @Test
+    void findById_should_miss_an_order_past_the_maximum_age() {
+        // Given
+        store.put(order("order-001"));
+
+        // When
+        clock.now = START.plus(Duration.ofHours(1)).plusSeconds(1);
+
+        // Then
+        assertThat(store.findById(new OrderId("order-001"))).isEmpty();
+        assertThat(lookups("miss")).isEqualTo(1.0);
+    }
+
+    @Test
+    void evictExpired_should_drop_arenas_whose_orders_are_all_expired() {
+        // Given: two orders in different arenas, 30 minutes apart
+        store.put(order("order-001"));
+        clock.now = START.plus(Duration.ofMinutes(30));
+        store.put(order("order-002"));
+
+        // When
+        clock.now = START.plus(Duration.ofMinutes(61));
+        store.evictExpired();
+
+        // Then
+        assertThat(store.size()).isEqualTo(1);
+        assertThat(store.findById(new OrderId("order-002"))).isPresent();
+        assertThat(evicted("expired")).isEqualTo(1.0);
+
+        // When
+        clock.now = START.plus(Duration.ofMinutes(91));
+        store.evictExpired();
+
+        // Then
+        assertThat(store.size()).isZero();
+        assertThat(store.usedBytes()).isZero();
+        assertThat(evicted("expired")).isEqualTo(2.0);
+    }
+
+    @Test
+    void put_should_evict_the_oldest_arena_when_the_ring_is_full() {
+        // Given: each 1 KB arena holds only a few orders
+        int orders = 0;
+        while (evicted("capacity") == 0) {
+            store.put(order("order-" + orders++));
+        }
+
+        // Then: the first orders are gone, the latest are still served
+        assertThat(store.findById(new OrderId("order-0"))).isEmpty();
+        assertThat(store.findById(new OrderId("order-" + (orders - 1)))).isPresent();
+        assertThat(store.size()).isLessThan(orders);
+        assertThat(store.usedBytes()).isLessThanOrEqualTo(3 * 1024);
+    }
+
+    @Test
+    void put_should_reject_an_order_larger_than_an_arena() {
+        // Given
+        store = store(2, DataSize.ofBytes(128));
+
+        // When
+        store.put(order("order-001"));
+
+        // Then
+        assertThat(store.findById(new OrderId("order-001"))).isEmpty();
+        assertThat(meterRegistry.get("order.snapshot.rejected").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void put_should_replace_an_order_put_twice() {
+        store.put(order("order-001"));
+        store.put(order("order-001"));
+
+        assertThat(store.size()).isEqualTo(1);
+        assertThat(store.findById(new OrderId("order-001"))).isPresent();
+    }
+
+    @Test
+    void configure_tasks_should_evict_at_the_configured_interval() {
+        // Given
+        ScheduledTaskRegistrar registrar = new ScheduledTaskRegistrar();
+
+        // When
+        store.configureTasks(registrar);
+
+        // Then
+        assertThat(registrar.getFixedDelayTaskList())
+                .singleElement()
+                .extracting(IntervalTask::getIntervalDuration)
+                .isEqualTo(Duration.ofMinutes(1));
+    }
+
+    private OrderSnapshotStore store(int arenas, DataSize arenaSize) {
+        meterRegistry = new SimpleMeterRegistry();
+        return new OrderSnapshotStore(
+                new OrderSnapshotProperties(true, Duration.ofHours(1), arenas, arenaSize, 6, Duration.ofMinutes(1)),
+                meterRegistry,
+                clock);
+    }
+
+    private Order order(String id) {
+        return OrderSnapshotCodecTest.order(id, clock.now, null);
+    }
+
+    private double lookups(String outcome) {
+        return meterRegistry
+                .get("order.snapshot.lookups")
+                .tag("outcome", outcome)
+                .counter()
+                .count();
+    }
+
+    private double evicted(String reason) {
+        return meterRegistry
+                .get("order.snapshot.evicted.arenas")
+                .tag("reason", reason)
+                .counter()
+                .count();
+    }
+
+    private static class MutableClock implements InstantSource {
+
+        private Instant now;
+
+        MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.example.demo.adapter.persistence.order.snapshot;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.example.demo.application.port.LoadOrderPort;
+import com.example.demo.domain.order.Order;
+import com.example.demo.domain.order.OrderId;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class SnapshotLoadOrderAdapterTest {
+
+    private static final OrderId ORDER_ID = new OrderId("order-001");
+
+    private OrderSnapshotStore orderSnapshotStore;
+    private LoadOrderPort delegate;
+    private SnapshotLoadOrderAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        orderSnapshotStore = mock(OrderSnapshotStore.class);
+        delegate = mock(LoadOrderPort.class);
+        adapter = new SnapshotLoadOrderAdapter(orderSnapshotStore, delegate);
+    }
+
+    @Test
+    void findById_should_answer_from_the_snapshot_without_calling_the_delegate() {
+        // Given
+        Order order = mock(Order.class);
+        when(orderSnapshotStore.findById(ORDER_ID)).thenReturn(Optional.of(order));
+
+        // When
+        Optional<Order> found = adapter.findById(ORDER_ID);
+
+        // Then
+        assertThat(found).containsSame(order);
+        verifyNoInteractions(delegate);
+    }
+
+    @Test
+    void findById_should_fall_through_to_the_delegate_on_a_snapshot_miss() {
+        // Given
+        Order order = mock(Order.class);
+        when(orderSnapshotStore.findById(ORDER_ID)).thenReturn(Optional.empty());
+        when(delegate.findById(ORDER_ID)).thenReturn(Optional.of(order));
+
+        // When
+        Optional<Order> found = adapter.findById(ORDER_ID);
+
+        // Then
+        assertThat(found).containsSame(order);
+    }
+}
@@ -0,0 +1,142 @@
+package com.example.demo.adapter.persistence.profiling;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.Map;
+import java.util.UUID;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+class ProfilingDataSourceTest {
+
+    private static final String INSERT = "insert into dishes (id, name) values (?, ?)";
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final StatementProfiler profiler = new StatementProfiler(
+            new StatementProfilingProperties(true, Duration.ofMillis(200), 10, 3, 500, Map.of(), false),
+            new SlowQueryLog(10),
+            meterRegistry);
+    private ProfilingDataSource dataSource;
+    private Connection connection;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        dataSource = new ProfilingDataSource(
+                new DriverManagerDataSource("jdbc:h2:mem:profiling-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1"),
+                () -> profiler);
+        connection = dataSource.getConnection();
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("create table dishes (id int primary key, name varchar(50))");
+        }
+    }
+
+    @AfterEach
+    void tearDown() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("shutdown");
+        }
+        connection.close();
+    }
+
+    @Test
+    void prepared_statements_should_report_updated_rows_and_batch_sizes() throws SQLException {
+        // When
+        try (PreparedStatement statement = connection.prepareStatement(INSERT)) {
+            for (int id = 1; id <= 3; id++) {
+                statement.setInt(1, id);
+                statement.setString(2, "dish-" + id);
+                statement.addBatch();
+            }
+            statement.executeBatch();
+        }
+
+        // Then
+        String fingerprint = "insert into dishes (id, name) values (?, ?)";
+        assertThat(meterRegistry
+                        .get("db.statement.batch.size")
+                        .tag("statement", fingerprint)
+                        .summary()
+                        .totalAmount())
+                .isEqualTo(3);
+        assertThat(meterRegistry
+                        .get("db.statement.rows")
+                        .tag("statement", fingerprint)
+                        .summary()
+                        .totalAmount())
+                .isEqualTo(3);
+    }
+
+    @Test
+    void queries_should_report_the_rows_read_once_the_result_set_is_closed() throws SQLException {
+        // Given
+        try (Statement statement = connection.createStatement()) {
+            statement.executeUpdate("insert into dishes (id, name) values (1, 'a'), (2, 'b')");
+        }
+
+        // When
+        try (PreparedStatement statement = connection.prepareStatement("select name from dishes where id > ?")) {
+            statement.setInt(1, 0);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    assertThat(resultSet.getString(1)).isNotBlank();
+                }
+            }
+        }
+
+        // Then
+        assertThat(meterRegistry
+                        .get("db.statement.rows")
+                        .tag("statement", "select name from dishes where id > ?")
+                        .summary()
+                        .totalAmount())
+                .isEqualTo(2);
+        assertThat(meterRegistry
+                        .get("db.statement.rows")
+                        .tag("statement", "insert into dishes (id, name) values (?, ?)")
+                        .summary()
+                        .totalAmount())
+                .isEqualTo(2);
+    }
+
+    @Test
+    void failed_statements_should_be_timed_with_an_error_outcome() {
+        // When
+        assertThatThrownBy(() -> {
+                    try (Statement statement = connection.createStatement()) {
+                        statement.executeQuery("select * from missing_table");
+                    }
+                })
+                .isInstanceOf(SQLException.class);
+
+        // Then
+        assertThat(meterRegistry
+                        .get("db.statement.duration")
+                        .tag("statement", "select * from missing_table")
+                        .tag("outcome", "error")
+                        .timer()
+                        .count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void proxies_should_compare_by_identity_and_unwrap_to_the_driver_objects() throws SQLException {
+        // When
+        Connection other = dataSource.getConnection();
+
+        // Then
+        assertThat(connection).isEqualTo(connection).isNotEqualTo(other);
+        assertThat(Proxy.isProxyClass(connection.unwrap(Connection.class).getClass())).isFalse();
+        other.close();
+    }
+}
@@ -0,0 +1,46 @@
+package com.example.demo.adapter.persistence.profiling;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+class SqlFingerprintTest {
+
+    @Test
+    void of_should_replace_literals_and_normalize_whitespace_and_case() {
+        // When
+        String fingerprint = SqlFingerprint.of("SELECT *\n  FROM orders WHERE user_id = 'it''s' AND amount > 12.50");
+
+        // Then
+        assertThat(fingerprint).isEqualTo("select * from orders where user_id = ? and amount > ?");
+    }
+
+    @Test
+    void of_should_keep_digits_inside_identifiers() {
+        // When
+        String fingerprint = SqlFingerprint.of("select o1_0.id from orders o1_0 where o1_0.id=? limit 10");
+
+        // Then
+        assertThat(fingerprint).isEqualTo("select o1_0.id from orders o1_0 where o1_0.id=? limit ?");
+    }
+
+    @Test
+    void of_should_collapse_in_lists_of_any_length() {
+        // When
+        String three = SqlFingerprint.of("select * from orders where id in (?, ?, ?)");
+        String one = SqlFingerprint.of("select * from orders where id in (?)");
+        String literals = SqlFingerprint.of("select * from orders where id in ('a','b')");
+
+        // Then
+        assertThat(three).isEqualTo(one).isEqualTo(literals).isEqualTo("select * from orders where id in (?)");
+    }
+
+    @Test
+    void of_should_collapse_multi_row_values() {
+        // When
+        String fingerprint = SqlFingerprint.of("insert into order_items (order_id,dish_id) values (?,?),(?,?), (?,?)");
+
+        // Then
+        assertThat(fingerprint).isEqualTo("insert into order_items (order_id,dish_id) values (?,?)");
+    }
+}
@@ -0,0 +1,193 @@
+package com.example.demo.adapter.persistence.profiling;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+class StatementProfilerTest {
+
+    private static final String FIND_ITEMS = "select * from order_items where order_id=?";
+    private static final String FIND_ORDER = "select * from orders where id=?";
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final SlowQueryLog slowQueryLog = new SlowQueryLog(2);
+
+    @Test
+    void executed_should_time_statements_per_endpoint_and_fingerprint() {
+        // Given
+        StatementProfiler profiler = profiler(Map.of(), false);
+        RequestStatements request = profiler.begin(() -> "GetOrderController.getOrder");
+
+        // When
+        profiler.executed(FIND_ORDER, TimeUnit.MILLISECONDS.toNanos(3), -1, 0, true);
+        profiler.fetched(FIND_ORDER, 1);
+        profiler.end(request, true);
+
+        // Then
+        assertThat(meterRegistry
+                        .get("db.statement.duration")
+                        .tag("endpoint", "GetOrderController.getOrder")
+                        .tag("statement", FIND_ORDER)
+                        .tag("outcome", "success")
+                        .timer()
+                        .count())
+                .isEqualTo(1);
+        assertThat(meterRegistry
+                        .get("db.statement.rows")
+                        .tag("statement", FIND_ORDER)
+                        .summary()
+                        .totalAmount())
+                .isEqualTo(1);
+        assertThat(meterRegistry
+                        .get("db.request.statements")
+                        .tag("endpoint", "GetOrderController.getOrder")
+                        .summary()
+                        .totalAmount())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void executed_outside_a_request_should_be_tagged_without_endpoint() {
+        // Given
+        StatementProfiler profiler = profiler(Map.of(), false);
+
+        // When
+        profiler.executed("update order_daily_stats set orders=orders+5", 1_000, 1, 0, true);
+
+        // Then
+        assertThat(meterRegistry
+                        .get("db.statement.duration")
+                        .tag("endpoint", StatementProfiler.NO_ENDPOINT)
+                        .tag("statement", "update order_daily_stats set orders=orders+?")
+                        .timer()
+                        .count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void end_should_flag_a_statement_repeated_within_one_request() {
+        // Given
+        StatementProfiler profiler = profiler(Map.of(), false);
+        RequestStatements request = profiler.begin(() -> "ListOrdersController.listOrders");
+
+        // When
+        profiler.executed("select * from orders where user_id=?", 1_000, -1, 0, true);
+        for (int i = 0; i < 3; i++) {
+            profiler.executed(FIND_ITEMS, 1_000, -1, 0, true);
+        }
+        profiler.end(request, true);
+
+        // Then
+        assertThat(meterRegistry
+                        .get("db.statement.repeated")
+                        .tag("endpoint", "ListOrdersController.listOrders")
+                        .counter()
+                        .count())
+                .isEqualTo(1);
+        assertThat(meterRegistry
+                        .get("db.statement.repeated")
+                        .counters())
+                .singleElement()
+                .satisfies(counter -> assertThat(counter.getId().getTag("statement")).isEqualTo(FIND_ITEMS));
+    }
+
+    @Test
+    void end_should_fail_a_request_over_its_budget_when_enforced() {
+        // Given
+        StatementProfiler profiler = profiler(Map.of("GetOrderController.getOrder", 1), true);
+        RequestStatements request = profiler.begin(() -> "GetOrderController.getOrder");
+        profiler.executed(FIND_ORDER, 1_000, -1, 0, true);
+        profiler.executed(FIND_ITEMS, 1_000, -1, 0, true);
+
+        // When & Then
+        assertThatThrownBy(() -> profiler.end(request, true))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("GetOrderController.getOrder ran 2 statements, over its budget of 1");
+        assertThat(meterRegistry.get("db.request.budget.exceeded").counter().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void end_should_not_replace_the_failure_of_a_request_over_its_budget() {
+        // Given
+        StatementProfiler profiler = profiler(Map.of("GetOrderController.getOrder", 1), true);
+        RequestStatements request = profiler.begin(() -> "GetOrderController.getOrder");
+        profiler.executed(FIND_ORDER, 1_000, -1, 0, true);
+        profiler.executed(FIND_ITEMS, 1_000, -1, 0, false);
+
+        // When
+        profiler.end(request, false);
+
+        // Then
+        assertThat(meterRegistry.get("db.request.budget.exceeded").counter().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void end_should_only_count_a_request_over_its_budget_when_not_enforced() {
+        // Given
+        StatementProfiler profiler = profiler(Map.of("GetOrderController.getOrder", 1), false);
+        RequestStatements request = profiler.begin(() -> "GetOrderController.getOrder");
+        profiler.executed(FIND_ORDER, 1_000, -1, 0, true);
+        profiler.executed(FIND_ITEMS, 1_000, -1, 0, true);
+
+        // When
+        profiler.end(request, true);
+
+        // Then
+        assertThat(meterRegistry.get("db.request.budget.exceeded").counter().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void executed_should_keep_only_the_most_recent_slow_queries() {
+        // Given
+        StatementProfiler profiler = profiler(Map.of(), false);
+        long slow = TimeUnit.MILLISECONDS.toNanos(100);
+
+        // When
+        profiler.executed("select 1", slow, -1, 0, true);
+        profiler.executed("select 2", TimeUnit.MILLISECONDS.toNanos(1), -1, 0, true);
+        profiler.executed(FIND_ORDER, slow, -1, 0, true);
+        profiler.executed("insert into order_items (dish_id) values (?)", slow, 3, 3, true);
+
+        // Then
+        assertThat(slowQueryLog.recent())
+                .extracting(SlowQuery::statement)
+                .containsExactly("insert into order_items (dish_id) values (?)", FIND_ORDER);
+        assertThat(slowQueryLog.recent().get(0).batchSize()).isEqualTo(3);
+    }
+
+    @Test
+    void executed_should_tag_statements_beyond_the_maximum_as_other() {
+        // Given
+        StatementProfiler profiler = new StatementProfiler(
+                new StatementProfilingProperties(true, Duration.ofMillis(50), 2, 3, 1, Map.of(), false),
+                slowQueryLog,
+                meterRegistry);
+
+        // When
+        profiler.executed(FIND_ORDER, 1_000, -1, 0, true);
+        profiler.executed(FIND_ITEMS, 1_000, -1, 0, true);
+
+        // Then
+        assertThat(meterRegistry
+                        .get("db.statement.duration")
+                        .tag("statement", StatementProfiler.OTHER_STATEMENT)
+                        .timer()
+                        .count())
+                .isEqualTo(1);
+    }
+
+    private StatementProfiler profiler(Map<String, Integer> budgets, boolean enforceBudgets) {
+        return new StatementProfiler(
+                new StatementProfilingProperties(true, Duration.ofMillis(50), 2, 3, 500, budgets, enforceBudgets),
+                slowQueryLog,
+                meterRegistry);
+    }
+}
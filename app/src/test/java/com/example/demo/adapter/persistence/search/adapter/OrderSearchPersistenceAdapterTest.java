@@ -0,0 +1,226 @@
+package com.example.demo.adapter.persistence.search.adapter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.example.demo.adapter.persistence.search.OrderSearchIndex;
+import com.example.demo.adapter.persistence.search.OrderSearchProperties;
+import com.example.demo.adapter.persistence.search.OrderSearchSource;
+import com.example.demo.application.port.SearchOrdersPort.OrderSearchCriteria;
+import com.example.demo.application.port.SearchOrdersPort.OrderSummary;
+import com.example.demo.domain.dish.DishId;
+import com.example.demo.domain.merchant.MerchantId;
+import com.example.demo.domain.order.DeliveryInfo;
+import com.example.demo.domain.order.Order;
+import com.example.demo.domain.order.OrderId;
+import com.example.demo.domain.order.OrderItem;
+import com.example.demo.domain.order.OrderNumber;
+import com.example.demo.domain.order.OrderStatus;
+import com.example.demo.domain.order.Pricing;
+import com.example.demo.domain.user.UserId;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.scheduling.config.IntervalTask;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+
+@ExtendWith(MockitoExtension.class)
+class OrderSearchPersistenceAdapterTest {
+
+    private static final Instant START = Instant.parse("2025-01-01T00:00:00Z");
+
+    @TempDir
+    Path directory;
+
+    @Mock
+    OrderSearchSource orderSearchSource;
+
+    OrderSearchIndex orderSearchIndex;
+
+    OrderSearchPersistenceAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        openIndex();
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        orderSearchIndex.close();
+    }
+
+    @Test
+    void should_find_orders_by_phone_prefix() throws IOException {
+        // Given
+        index(order(1, "13800138000", "张三", "宫保鸡丁", null));
+        index(order(2, "13900139000", "李四", "宫保鸡丁", null));
+
+        // When
+        List<OrderSummary> orders = search(new OrderSearchCriteria("1380013", null, null, null, null));
+
+        // Then
+        assertThat(orders).extracting(OrderSummary::orderId).containsExactly("order-1");
+        assertThat(orders.get(0).recipientName()).isEqualTo("张三");
+        assertThat(orders.get(0).finalAmount()).isEqualByComparingTo("29.00");
+        assertThat(orders.get(0).createdAt()).isEqualTo(START.plus(Duration.ofMinutes(1)));
+    }
+
+    @Test
+    void should_match_words_of_names_dishes_and_remarks() throws IOException {
+        // Given
+        index(order(1, "13800138000", "张三", "宫保鸡丁", "不要香菜"));
+        index(order(2, "13800138001", "张三丰", "鱼香肉丝", "多放辣"));
+        index(order(3, "13800138002", "李四", "米饭", null));
+
+        // When & Then
+        assertThat(search(new OrderSearchCriteria(null, null, "鸡丁", null, null)))
+                .extracting(OrderSummary::orderId)
+                .containsExactly("order-1");
+        assertThat(search(new OrderSearchCriteria(null, "张三", null, null, null)))
+                .extracting(OrderSummary::orderId)
+                .containsExactly("order-2", "order-1");
+        assertThat(search(new OrderSearchCriteria(null, "张三", null, "香菜", null)))
+                .extracting(OrderSummary::orderId)
+                .containsExactly("order-1");
+        assertThat(search(new OrderSearchCriteria(null, null, "肉丝鸡", null, null)))
+                .isEmpty();
+    }
+
+    @Test
+    void should_return_newest_orders_first_up_to_limit() throws IOException {
+        // Given
+        for (int i = 1; i <= 5; i++) {
+            index(order(i, "13800138000", "张三", "米饭", null));
+        }
+
+        // When
+        List<OrderSummary> orders = adapter.search(new OrderSearchCriteria(null, null, null, null, "merchant-001"), 3);
+
+        // Then
+        assertThat(orders).extracting(OrderSummary::orderId).containsExactly("order-5", "order-4", "order-3");
+    }
+
+    @Test
+    void should_replace_index_contents_on_rebuild() throws IOException {
+        // Given
+        index(order(1, "13800138000", "张三", "米饭", null));
+        when(orderSearchSource.forEachOrder(any())).thenAnswer(invocation -> {
+            Consumer<Order> action = invocation.getArgument(0);
+            action.accept(order(2, "13800138001", "李四", "米饭", null));
+            action.accept(order(3, "13800138002", "王五", "米饭", null));
+            return 2L;
+        });
+
+        // When
+        long indexed = adapter.rebuild();
+
+        // Then
+        assertThat(indexed).isEqualTo(2);
+        assertThat(search(new OrderSearchCriteria(null, null, "米饭", null, null)))
+                .extracting(OrderSummary::orderId)
+                .containsExactly("order-3", "order-2");
+    }
+
+    @Test
+    void should_roll_back_a_failed_rebuild_and_keep_indexing() throws IOException {
+        // Given
+        index(order(1, "13800138000", "张三", "米饭", null));
+        orderSearchIndex.commitScheduled();
+        IllegalStateException failure = new IllegalStateException("database unavailable");
+        when(orderSearchSource.forEachOrder(any())).thenAnswer(invocation -> {
+            Consumer<Order> action = invocation.getArgument(0);
+            action.accept(order(2, "13800138001", "李四", "米饭", null));
+            throw failure;
+        });
+
+        // When
+        assertThatThrownBy(adapter::rebuild).isSameAs(failure);
+        index(order(3, "13800138002", "王五", "米饭", null));
+        orderSearchIndex.commitScheduled();
+
+        // Then
+        assertThat(search(new OrderSearchCriteria(null, null, "米饭", null, null)))
+                .extracting(OrderSummary::orderId)
+                .containsExactly("order-3", "order-1");
+    }
+
+    @Test
+    void should_catch_up_from_shortly_before_the_last_commit_after_reopening() throws IOException {
+        // Given
+        index(order(1, "13800138000", "张三", "米饭", null));
+        Instant beforeCommit = Instant.now();
+        orderSearchIndex.commitScheduled();
+        orderSearchIndex.close();
+        openIndex();
+
+        // When
+        orderSearchIndex.catchUp();
+
+        // Then
+        ArgumentCaptor<Instant> from = ArgumentCaptor.forClass(Instant.class);
+        verify(orderSearchSource).forEachOrderCreatedFrom(from.capture(), any());
+        assertThat(from.getValue()).isBetween(beforeCommit.minus(Duration.ofMinutes(6)), beforeCommit);
+        assertThat(search(new OrderSearchCriteria("138", null, null, null, null))).hasSize(1);
+    }
+
+    @Test
+    void should_schedule_refreshes_and_commits_at_the_configured_intervals() {
+        // Given
+        ScheduledTaskRegistrar registrar = new ScheduledTaskRegistrar();
+
+        // When
+        orderSearchIndex.configureTasks(registrar);
+
+        // Then
+        assertThat(registrar.getFixedDelayTaskList())
+                .extracting(IntervalTask::getIntervalDuration)
+                .containsExactly(Duration.ofSeconds(1), Duration.ofSeconds(30));
+    }
+
+    private void openIndex() {
+        OrderSearchProperties properties = new OrderSearchProperties(
+                true, directory.toString(), 16, Duration.ofSeconds(1), Duration.ofSeconds(30));
+        orderSearchIndex = new OrderSearchIndex(properties, orderSearchSource);
+        adapter = new OrderSearchPersistenceAdapter(orderSearchIndex);
+    }
+
+    private void index(Order order) throws IOException {
+        orderSearchIndex.index(order);
+        orderSearchIndex.refresh();
+    }
+
+    private List<OrderSummary> search(OrderSearchCriteria criteria) {
+        return adapter.search(criteria, 20);
+    }
+
+    private static Order order(int sequence, String phone, String recipientName, String dishName, String remark) {
+        Instant createdAt = START.plus(Duration.ofMinutes(sequence));
+        return new Order(
+                new OrderId("order-" + sequence),
+                new OrderNumber(String.format("2025010100%010d", sequence)),
+                new UserId("user-001"),
+                new MerchantId("merchant-001"),
+                List.of(new OrderItem(new DishId("dish-001"), dishName, 1, new BigDecimal("25.00"))),
+                new DeliveryInfo(recipientName, phone, "北京市朝阳区xxx街道xxx号"),
+                remark,
+                OrderStatus.PENDING_PAYMENT,
+                new Pricing(new BigDecimal("25.00"), BigDecimal.ONE, new BigDecimal("3.00"), new BigDecimal("29.00")),
+                createdAt,
+                createdAt);
+    }
+}
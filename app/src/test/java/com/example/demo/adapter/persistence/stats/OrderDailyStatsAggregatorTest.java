@@ -0,0 +1,123 @@
+package com.example.demo.adapter.persistence.stats;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import com.example.demo.domain.dish.DishId;
+import com.example.demo.domain.merchant.MerchantId;
+import com.example.demo.domain.order.DeliveryInfo;
+import com.example.demo.domain.order.Order;
+import com.example.demo.domain.order.OrderCreatedEvent;
+import com.example.demo.domain.order.OrderItem;
+import com.example.demo.domain.user.UserId;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.scheduling.config.IntervalTask;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+
+@ExtendWith(MockitoExtension.class)
+class OrderDailyStatsAggregatorTest {
+
+    @Mock
+    OrderDailyStatsStore orderDailyStatsStore;
+
+    @InjectMocks
+    OrderDailyStatsAggregator orderDailyStatsAggregator;
+
+    @Captor
+    ArgumentCaptor<List<OrderDailyStatsStore.Delta>> deltasCaptor;
+
+    @Test
+    void flush_should_add_accumulated_counts_per_merchant_and_day() {
+        orderDailyStatsAggregator.onOrderCreated(new OrderCreatedEvent(order("merchant-001", "25.00")));
+        orderDailyStatsAggregator.onOrderCreated(new OrderCreatedEvent(order("merchant-001", "10.50")));
+        orderDailyStatsAggregator.onOrderCreated(new OrderCreatedEvent(order("merchant-002", "25.00")));
+
+        orderDailyStatsAggregator.flush();
+
+        verify(orderDailyStatsStore).add(deltasCaptor.capture());
+        List<OrderDailyStatsStore.Delta> deltas = deltasCaptor.getValue().stream()
+                .sorted(Comparator.comparing(OrderDailyStatsStore.Delta::merchantId))
+                .toList();
+        assertThat(deltas).hasSize(2);
+        assertThat(deltas.get(0).merchantId()).isEqualTo("merchant-001");
+        assertThat(deltas.get(0).date()).isEqualTo(LocalDate.now());
+        assertThat(deltas.get(0).orderCount()).isEqualTo(2);
+        // Final amounts include packaging and delivery fees: 29.00 + 14.50
+        assertThat(deltas.get(0).revenue()).isEqualByComparingTo("43.50");
+        assertThat(deltas.get(1).merchantId()).isEqualTo("merchant-002");
+        assertThat(deltas.get(1).orderCount()).isEqualTo(1);
+    }
+
+    @Test
+    void flush_should_not_write_when_nothing_changed() {
+        orderDailyStatsAggregator.onOrderCreated(new OrderCreatedEvent(order("merchant-001", "25.00")));
+        orderDailyStatsAggregator.flush();
+
+        orderDailyStatsAggregator.flush();
+
+        verify(orderDailyStatsStore, times(1)).add(anyList());
+    }
+
+    @Test
+    void flush_should_skip_store_when_no_orders_were_created() {
+        orderDailyStatsAggregator.flush();
+
+        verifyNoInteractions(orderDailyStatsStore);
+    }
+
+    @Test
+    void flush_should_retry_counts_when_store_fails() {
+        orderDailyStatsAggregator.onOrderCreated(new OrderCreatedEvent(order("merchant-001", "25.00")));
+        doThrow(new IllegalStateException("database unavailable"))
+                .doNothing()
+                .when(orderDailyStatsStore)
+                .add(anyList());
+
+        orderDailyStatsAggregator.flush();
+        orderDailyStatsAggregator.flush();
+
+        verify(orderDailyStatsStore, times(2)).add(deltasCaptor.capture());
+        List<OrderDailyStatsStore.Delta> retried = deltasCaptor.getAllValues().get(1);
+        assertThat(retried).hasSize(1);
+        assertThat(retried.get(0).orderCount()).isEqualTo(1);
+        assertThat(retried.get(0).revenue()).isEqualByComparingTo("29.00");
+    }
+
+    @Test
+    void configure_tasks_should_flush_at_the_configured_interval() {
+        OrderDailyStatsAggregator aggregator = new OrderDailyStatsAggregator(
+                orderDailyStatsStore, new OrderDailyStatsProperties(Duration.ofSeconds(2), "-", 3));
+        ScheduledTaskRegistrar registrar = new ScheduledTaskRegistrar();
+
+        aggregator.configureTasks(registrar);
+
+        assertThat(registrar.getFixedDelayTaskList())
+                .singleElement()
+                .extracting(IntervalTask::getIntervalDuration)
+                .isEqualTo(Duration.ofSeconds(2));
+    }
+
+    private static Order order(String merchantId, String price) {
+        return new Order(
+                new UserId("user-001"),
+                new MerchantId(merchantId),
+                List.of(new OrderItem(new DishId("dish-001"), "宫保鸡丁", 1, new BigDecimal(price))),
+                new DeliveryInfo("张三", "13800138000", "北京市朝阳区某某街道123号"),
+                null);
+    }
+}
@@ -0,0 +1,37 @@
+package com.example.demo.adapter.web;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.example.demo.adapter.web.order.CreateOrderController.CreateOrderRequest;
+import com.example.demo.adapter.web.order.adapter.GetOrderAdapter.GetOrderResponse;
+import com.example.demo.adapter.web.order.adapter.MerchantOrderFeedAdapter.OrderCreatedData;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+
+class WebRuntimeHintsTest {
+
+    private final RuntimeHints hints = new RuntimeHints();
+
+    @BeforeEach
+    void setUp() {
+        new WebRuntimeHints().registerHints(hints, getClass().getClassLoader());
+    }
+
+    @Test
+    void request_records_should_be_bindable_including_nested_records() {
+        assertThat(RuntimeHintsPredicates.reflection().onType(CreateOrderRequest.class))
+                .accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection().onType(CreateOrderRequest.OrderItemRequest.class))
+                .accepts(hints);
+    }
+
+    @Test
+    void response_records_should_be_bindable_including_nested_records() {
+        assertThat(RuntimeHintsPredicates.reflection().onType(GetOrderResponse.OrderData.class))
+                .accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection().onType(OrderCreatedData.PricingData.class))
+                .accepts(hints);
+    }
+}
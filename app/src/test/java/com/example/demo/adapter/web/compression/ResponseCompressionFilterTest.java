@@ -0,0 +1,149 @@
+package com.example.demo.adapter.web.compression;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.github.luben.zstd.Zstd;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.util.unit.DataSize;
+
+class ResponseCompressionFilterTest {
+
+    private static final String BODY =
+            "{\"code\":0,\"message\":\"查询成功\",\"data\":{\"remark\":\"" + "少辣".repeat(500) + "\"}}";
+
+    private SimpleMeterRegistry meterRegistry;
+    private ResponseCompressionFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        filter = new ResponseCompressionFilter(properties(DataSize.ofKilobytes(1)), meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        filter.destroy();
+    }
+
+    @Test
+    void should_compress_with_zstd_when_preferred_by_server() throws Exception {
+        MockHttpServletResponse response = perform("gzip, deflate, br, zstd", BODY, MediaType.APPLICATION_JSON_VALUE);
+
+        byte[] compressed = response.getContentAsByteArray();
+        assertThat(response.getHeader(HttpHeaders.CONTENT_ENCODING)).isEqualTo("zstd");
+        assertThat(response.getContentLength()).isEqualTo(compressed.length);
+        byte[] decompressed = Zstd.decompress(compressed, (int) Zstd.getFrameContentSize(compressed));
+        assertThat(new String(decompressed, StandardCharsets.UTF_8)).isEqualTo(BODY);
+        assertThat(meterRegistry
+                        .get("http.server.responses.compressed")
+                        .tag("encoding", "zstd")
+                        .counter()
+                        .count())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    void should_compress_with_gzip_when_zstd_not_accepted() throws Exception {
+        MockHttpServletResponse response = perform("gzip", BODY, MediaType.APPLICATION_JSON_VALUE);
+
+        assertThat(response.getHeader(HttpHeaders.CONTENT_ENCODING)).isEqualTo("gzip");
+        assertThat(gunzip(response.getContentAsByteArray())).isEqualTo(BODY);
+        assertThat(response.getHeaders(HttpHeaders.VARY)).contains(HttpHeaders.ACCEPT_ENCODING);
+    }
+
+    @Test
+    void should_reuse_pooled_compressor_across_responses() throws Exception {
+        for (int i = 0; i < 3; i++) {
+            MockHttpServletResponse response = perform("gzip", BODY + i, MediaType.APPLICATION_JSON_VALUE);
+            assertThat(gunzip(response.getContentAsByteArray())).isEqualTo(BODY + i);
+        }
+    }
+
+    @Test
+    void should_not_compress_below_min_response_size() throws Exception {
+        MockHttpServletResponse response = perform("gzip", "{\"code\":0}", MediaType.APPLICATION_JSON_VALUE);
+
+        assertThat(response.getHeader(HttpHeaders.CONTENT_ENCODING)).isNull();
+        assertThat(response.getContentAsString()).isEqualTo("{\"code\":0}");
+    }
+
+    @Test
+    void should_not_compress_other_content_types() throws Exception {
+        MockHttpServletResponse response = perform("gzip", BODY, MediaType.TEXT_EVENT_STREAM_VALUE);
+
+        assertThat(response.getHeader(HttpHeaders.CONTENT_ENCODING)).isNull();
+        assertThat(response.getContentAsString(StandardCharsets.UTF_8)).isEqualTo(BODY);
+    }
+
+    @Test
+    void should_pass_through_without_accept_encoding() throws Exception {
+        MockHttpServletResponse response = perform(null, BODY, MediaType.APPLICATION_JSON_VALUE);
+
+        assertThat(response.getHeader(HttpHeaders.CONTENT_ENCODING)).isNull();
+        assertThat(response.getContentAsString(StandardCharsets.UTF_8)).isEqualTo(BODY);
+    }
+
+    @Test
+    void negotiate_should_follow_quality_values_and_server_preference() {
+        List<String> available = List.of("zstd", "gzip");
+
+        assertThat(ResponseCompressionFilter.negotiate("gzip, zstd", available)).isEqualTo("zstd");
+        assertThat(ResponseCompressionFilter.negotiate("gzip;q=1.0, zstd;q=0.5", available))
+                .isEqualTo("gzip");
+        assertThat(ResponseCompressionFilter.negotiate("*", available)).isEqualTo("zstd");
+        assertThat(ResponseCompressionFilter.negotiate("*, zstd;q=0", available)).isEqualTo("gzip");
+        assertThat(ResponseCompressionFilter.negotiate("br, identity", available)).isNull();
+        assertThat(ResponseCompressionFilter.negotiate("gzip;q=0", available)).isNull();
+    }
+
+    private MockHttpServletResponse perform(String acceptEncoding, String body, String contentType)
+            throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/orders/order-001");
+        if (acceptEncoding != null) {
+            request.addHeader(HttpHeaders.ACCEPT_ENCODING, acceptEncoding);
+        }
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, new MockFilterChain(new HttpServlet() {
+            @Override
+            protected void service(HttpServletRequest req, HttpServletResponse resp) throws IOException {
+                resp.setContentType(contentType);
+                resp.getOutputStream().write(body.getBytes(StandardCharsets.UTF_8));
+            }
+        }));
+        return response;
+    }
+
+    private static String gunzip(byte[] compressed) throws IOException {
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    private static ResponseCompressionProperties properties(DataSize minResponseSize) {
+        return new ResponseCompressionProperties(
+                true,
+                minResponseSize,
+                List.of("application/json", "application/cbor"),
+                true,
+                3,
+                6,
+                2,
+                DataSize.ofKilobytes(256));
+    }
+}
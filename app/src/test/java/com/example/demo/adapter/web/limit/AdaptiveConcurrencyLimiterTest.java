@@ -0,0 +1,119 @@
+package com.example.demo.adapter.web.limit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.example.demo.adapter.web.limit.AdaptiveConcurrencyLimiter.Priority;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+class AdaptiveConcurrencyLimiterTest {
+
+    private static final long FAST = TimeUnit.MILLISECONDS.toNanos(10);
+    private static final long SLOW = TimeUnit.MILLISECONDS.toNanos(100);
+
+    @Test
+    void tryAcquire_should_keep_part_of_the_limit_for_high_priority_requests() {
+        // Given
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(properties(4, 1, 5));
+
+        // When
+        boolean firstRead = limiter.tryAcquire(Priority.LOW);
+        boolean secondRead = limiter.tryAcquire(Priority.LOW);
+        boolean thirdRead = limiter.tryAcquire(Priority.LOW);
+        boolean firstCreate = limiter.tryAcquire(Priority.HIGH);
+        boolean secondCreate = limiter.tryAcquire(Priority.HIGH);
+        boolean thirdCreate = limiter.tryAcquire(Priority.HIGH);
+
+        // Then
+        assertThat(firstRead).isTrue();
+        assertThat(secondRead).isTrue();
+        assertThat(thirdRead).isFalse();
+        assertThat(firstCreate).isTrue();
+        assertThat(secondCreate).isTrue();
+        assertThat(thirdCreate).isFalse();
+        assertThat(limiter.inFlight()).isEqualTo(4);
+    }
+
+    @Test
+    void release_should_grow_the_limit_while_latency_stays_at_the_baseline() {
+        // Given
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(properties(10, 5, 1));
+
+        // When
+        acquire(limiter, 10);
+        release(limiter, 5, FAST);
+
+        // Then
+        assertThat(limiter.limit()).isEqualTo(13);
+        assertThat(limiter.baselineRtt()).isEqualTo(FAST);
+    }
+
+    @Test
+    void release_should_shrink_the_limit_once_latency_rises_above_the_baseline() {
+        // Given
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(properties(10, 5, 1));
+        acquire(limiter, 10);
+        release(limiter, 5, FAST);
+        int grown = limiter.limit();
+
+        // When
+        acquire(limiter, 3);
+        release(limiter, 5, SLOW);
+
+        // Then
+        assertThat(limiter.limit()).isLessThan(grown);
+    }
+
+    @Test
+    void release_should_not_grow_the_limit_while_it_is_not_reached() {
+        // Given
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(properties(10, 1, 1));
+
+        // When
+        for (int i = 0; i < 5; i++) {
+            acquire(limiter, 1);
+            release(limiter, 1, FAST);
+        }
+
+        // Then
+        assertThat(limiter.limit()).isEqualTo(10);
+    }
+
+    @Test
+    void release_should_back_off_after_overloaded_requests_down_to_the_minimum() {
+        // Given
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(properties(10, 1, 1));
+
+        // When
+        acquire(limiter, 1);
+        limiter.release(FAST, true);
+        int afterOne = limiter.limit();
+        for (int i = 0; i < 20; i++) {
+            acquire(limiter, 1);
+            limiter.release(FAST, true);
+        }
+
+        // Then
+        assertThat(afterOne).isEqualTo(9);
+        assertThat(limiter.limit()).isEqualTo(2);
+        assertThat(limiter.inFlight()).isZero();
+    }
+
+    private static void acquire(AdaptiveConcurrencyLimiter limiter, int requests) {
+        for (int i = 0; i < requests; i++) {
+            assertThat(limiter.tryAcquire(Priority.HIGH)).isTrue();
+        }
+    }
+
+    private static void release(AdaptiveConcurrencyLimiter limiter, int requests, long rttNanos) {
+        for (int i = 0; i < requests; i++) {
+            limiter.release(rttNanos, false);
+        }
+    }
+
+    static ConcurrencyLimitProperties properties(int initialLimit, int sampleWindow, double smoothing) {
+        return new ConcurrencyLimitProperties(
+                true, initialLimit, 2, 100, 0.5, 1.5, sampleWindow, 100, smoothing, 0.9, Duration.ofSeconds(1));
+    }
+}
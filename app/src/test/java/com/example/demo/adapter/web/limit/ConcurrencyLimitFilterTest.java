@@ -0,0 +1,137 @@
+package com.example.demo.adapter.web.limit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.example.demo.adapter.web.limit.AdaptiveConcurrencyLimiter.Priority;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.time.Duration;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+class ConcurrencyLimitFilterTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private SimpleMeterRegistry meterRegistry;
+    private AdaptiveConcurrencyLimiter limiter;
+    private ConcurrencyLimitFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        // A limit of 2 lets reads occupy one slot
+        ConcurrencyLimitProperties properties = new ConcurrencyLimitProperties(
+                true, 2, 1, 2, 0.5, 1.5, 1, 10, 0.2, 0.5, Duration.ofSeconds(2));
+        meterRegistry = new SimpleMeterRegistry();
+        limiter = new AdaptiveConcurrencyLimiter(properties);
+        filter = new ConcurrencyLimitFilter(limiter, properties, objectMapper, meterRegistry);
+    }
+
+    @Test
+    void should_shed_reads_with_503_once_their_share_is_taken() throws Exception {
+        // Given
+        limiter.tryAcquire(Priority.HIGH);
+
+        // When
+        MockHttpServletResponse response = perform("GET", "/api/v1/orders/order-001", HttpServletResponse.SC_OK);
+
+        // Then
+        assertThat(response.getStatus()).isEqualTo(503);
+        assertThat(response.getHeader(HttpHeaders.RETRY_AFTER)).isEqualTo("2");
+        assertThat(response.getContentType()).startsWith(MediaType.APPLICATION_PROBLEM_JSON_VALUE);
+        JsonNode body = objectMapper.readTree(response.getContentAsByteArray());
+        assertThat(body.path("title").asText()).isEqualTo("ConcurrencyLimitExceeded");
+        assertThat(body.path("detail").asText()).isEqualTo("服务繁忙，请稍后重试");
+        assertThat(shed("get-order")).isEqualTo(1.0);
+        assertThat(shed("create-order")).isZero();
+    }
+
+    @Test
+    void should_admit_creates_while_reads_are_shed() throws Exception {
+        // Given
+        limiter.tryAcquire(Priority.HIGH);
+
+        // When
+        MockHttpServletResponse response = perform("POST", "/api/v1/orders", HttpServletResponse.SC_CREATED);
+
+        // Then
+        assertThat(response.getStatus()).isEqualTo(201);
+        assertThat(limiter.inFlight()).isEqualTo(1);
+        assertThat(meterRegistry.get("http.server.concurrency.limit").gauge().value())
+                .isEqualTo(2.0);
+        assertThat(meterRegistry.get("http.server.concurrency.in.flight").gauge().value())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    void should_back_off_when_the_application_answers_503() throws Exception {
+        // When
+        MockHttpServletResponse response =
+                perform("POST", "/api/v1/orders", HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+
+        // Then
+        assertThat(response.getStatus()).isEqualTo(503);
+        assertThat(limiter.limit()).isEqualTo(1);
+        assertThat(shed("create-order")).isZero();
+    }
+
+    @Test
+    void should_release_the_slot_when_the_request_fails() {
+        // Given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/orders/order-001");
+        MockFilterChain chain = new MockFilterChain(new HttpServlet() {
+            @Override
+            protected void service(HttpServletRequest req, HttpServletResponse resp) {
+                throw new IllegalStateException("boom");
+            }
+        });
+
+        // When & Then
+        assertThatThrownBy(() -> filter.doFilter(request, new MockHttpServletResponse(), chain))
+                .isInstanceOf(IllegalStateException.class);
+        assertThat(limiter.inFlight()).isZero();
+    }
+
+    @Test
+    void priorityOf_should_only_cover_order_creation_and_order_reads() {
+        assertThat(ConcurrencyLimitFilter.priorityOf(new MockHttpServletRequest("POST", "/api/v1/orders")))
+                .isEqualTo(Priority.HIGH);
+        assertThat(ConcurrencyLimitFilter.priorityOf(new MockHttpServletRequest("GET", "/api/v1/orders/order-001")))
+                .isEqualTo(Priority.LOW);
+        assertThat(ConcurrencyLimitFilter.priorityOf(new MockHttpServletRequest("GET", "/api/v1/orders/a/b")))
+                .isNull();
+        assertThat(ConcurrencyLimitFilter.priorityOf(new MockHttpServletRequest("DELETE", "/api/v1/orders/a")))
+                .isNull();
+    }
+
+    private MockHttpServletResponse perform(String method, String uri, int status) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, uri);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain(new HttpServlet() {
+            @Override
+            protected void service(HttpServletRequest req, HttpServletResponse resp) {
+                resp.setStatus(status);
+            }
+        });
+        filter.doFilter(request, response, chain);
+        return response;
+    }
+
+    private double shed(String endpoint) {
+        return meterRegistry
+                .get("http.server.requests.shed")
+                .tag("endpoint", endpoint)
+                .counter()
+                .count();
+    }
+}
@@ -7,12 +7,15 @@ import static org.mockito.ArgumentMatchers.assertArg;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import com.example.demo.adapter.web.order.version.OrderVersion;
+import com.example.demo.adapter.web.order.version.OrderVersionCache;
 import com.example.demo.application.service.GetOrderService;
 import com.example.demo.application.service.GetOrderService.GetOrderQuery;
 import com.example.demo.application.service.GetOrderService.GetOrderResult;
 import java.math.BigDecimal;
 import java.time.Instant;
 import java.util.List;
+import java.util.Optional;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
@@ -26,6 +29,9 @@ class GetOrderAdapterTest {
     @Mock
     private GetOrderService getOrderService;
 
+    @Mock
+    private OrderVersionCache orderVersionCache;
+
     @InjectMocks
     private GetOrderAdapter getOrderAdapter;
 
@@ -65,7 +71,8 @@ class GetOrderAdapterTest {
         when(getOrderService.getOrder(any())).thenReturn(mockResult);
 
         // Act
-        GetOrderAdapter.GetOrderResponse response = getOrderAdapter.getOrder(orderId, (User) user);
+        GetOrderAdapter.GetOrderResponse response =
+                getOrderAdapter.getOrder(orderId, (User) user).response();
 
         // Assert - Verify top-level response structure
         assertThat(response.code()).isEqualTo(0);
@@ -86,7 +93,8 @@ class GetOrderAdapterTest {
         when(getOrderService.getOrder(any())).thenReturn(mockResult);
 
         // Act
-        GetOrderAdapter.GetOrderResponse response = getOrderAdapter.getOrder(orderId, (User) user);
+        GetOrderAdapter.GetOrderResponse response =
+                getOrderAdapter.getOrder(orderId, (User) user).response();
 
         // Assert - Verify order data
         assertThat(response.data().orderId()).isEqualTo("order-id-1");
@@ -135,12 +143,50 @@ class GetOrderAdapterTest {
         when(getOrderService.getOrder(any())).thenReturn(mockResult);
 
         // Act
-        GetOrderAdapter.GetOrderResponse response = getOrderAdapter.getOrder(orderId, (User) user);
+        GetOrderAdapter.GetOrderResponse response =
+                getOrderAdapter.getOrder(orderId, (User) user).response();
 
         // Assert - Verify ISO 8601 format
         assertThat(response.data().createdAt()).isEqualTo("2025-11-05T02:27:30.745152Z");
     }
 
+    @Test
+    void get_order_should_cache_version_of_loaded_order() {
+        // Arrange
+        UserDetails user = User.withUsername("user-001")
+                .password("")
+                .authorities("ROLE_USER")
+                .build();
+        when(getOrderService.getOrder(any())).thenReturn(createMockGetOrderResult());
+
+        // Act
+        GetOrderAdapter.VersionedOrderResponse versioned = getOrderAdapter.getOrder("order-id-1", (User) user);
+
+        // Assert
+        OrderVersion expected = new OrderVersion("user-001", Instant.parse("2025-11-05T02:27:30.745152Z"));
+        assertThat(versioned.version()).isEqualTo(expected);
+        verify(orderVersionCache).put("order-id-1", expected);
+    }
+
+    @Test
+    void find_cached_version_should_hide_version_from_other_users() {
+        // Arrange
+        UserDetails owner = User.withUsername("user-001")
+                .password("")
+                .authorities("ROLE_USER")
+                .build();
+        UserDetails other = User.withUsername("user-002")
+                .password("")
+                .authorities("ROLE_USER")
+                .build();
+        OrderVersion version = new OrderVersion("user-001", Instant.parse("2025-11-05T02:27:30.745152Z"));
+        when(orderVersionCache.find("order-id-1")).thenReturn(Optional.of(version));
+
+        // Act & Assert
+        assertThat(getOrderAdapter.findCachedVersion("order-id-1", (User) owner)).contains(version);
+        assertThat(getOrderAdapter.findCachedVersion("order-id-1", (User) other)).isEmpty();
+    }
+
     private GetOrderResult createMockGetOrderResult() {
         GetOrderResult.OrderItemDto item1 =
                 new GetOrderResult.OrderItemDto("dish-001", "宫保鸡丁", 2, new BigDecimal("25.00"));
@@ -163,6 +209,7 @@ class GetOrderAdapterTest {
                 "少辣",
                 "PENDING_PAYMENT",
                 pricing,
+                Instant.parse("2025-11-05T02:27:30.745152Z"),
                 Instant.parse("2025-11-05T02:27:30.745152Z"));
     }
 }
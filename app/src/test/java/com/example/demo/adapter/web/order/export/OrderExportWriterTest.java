@@ -0,0 +1,97 @@
+package com.example.demo.adapter.web.order.export;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.example.demo.application.port.StreamOrderLinesPort.OrderLine;
+import com.example.demo.application.service.InvalidQueryException;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+import java.util.zip.GZIPInputStream;
+import org.junit.jupiter.api.Test;
+
+class OrderExportWriterTest {
+
+    @Test
+    void csv_should_write_header_and_quote_special_characters() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (OrderExportWriter writer = new CsvOrderExportWriter(out)) {
+            writer.write(line(1, "宫保鸡丁"));
+            writer.write(line(2, "鸡丁, \"特辣\""));
+        }
+
+        List<String> rows = gunzip(out.toByteArray()).lines().toList();
+        assertThat(rows).hasSize(3);
+        assertThat(rows.get(0)).isEqualTo(CsvOrderExportWriter.HEADER);
+        assertThat(rows.get(1))
+                .isEqualTo("order-1,20250104120000000001,user-001,merchant-001,PENDING_PAYMENT,"
+                        + "2025-01-04T12:00:00Z,50.00,1.00,3.00,54.00,dish-1,宫保鸡丁,2,25.00");
+        assertThat(rows.get(2)).endsWith(",dish-2,\"鸡丁, \"\"特辣\"\"\",2,25.00");
+    }
+
+    @Test
+    void columnar_should_round_trip_across_row_groups() throws IOException {
+        List<OrderLine> lines = IntStream.range(0, 10).mapToObj(i -> line(i, "宫保鸡丁")).toList();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (OrderExportWriter writer = new ColumnarOrderExportWriter(out, 4)) {
+            for (OrderLine line : lines) {
+                writer.write(line);
+            }
+        }
+
+        List<OrderLine> read = new ArrayList<>();
+        long count = ColumnarOrderExportReader.read(new ByteArrayInputStream(out.toByteArray()), read::add);
+
+        assertThat(count).isEqualTo(10);
+        assertThat(read).isEqualTo(lines);
+    }
+
+    @Test
+    void columnar_should_write_readable_empty_file() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        new ColumnarOrderExportWriter(out).close();
+
+        long count = ColumnarOrderExportReader.read(new ByteArrayInputStream(out.toByteArray()), line -> {});
+
+        assertThat(count).isZero();
+    }
+
+    @Test
+    void format_should_reject_unknown_value() {
+        assertThat(OrderExportFormat.fromValue("columnar")).isEqualTo(OrderExportFormat.COLUMNAR);
+        assertThatThrownBy(() -> OrderExportFormat.fromValue("xlsx"))
+                .isInstanceOf(InvalidQueryException.class)
+                .hasMessage("不支持的导出格式: xlsx");
+    }
+
+    private static OrderLine line(int sequence, String dishName) {
+        return new OrderLine(
+                "order-" + sequence,
+                "2025010412000000000" + sequence,
+                "user-001",
+                "merchant-001",
+                "PENDING_PAYMENT",
+                Instant.parse("2025-01-04T12:00:00Z"),
+                new BigDecimal("50.00"),
+                new BigDecimal("1.00"),
+                new BigDecimal("3.00"),
+                new BigDecimal("54.00"),
+                "dish-" + sequence,
+                dishName,
+                2,
+                new BigDecimal("25.00"));
+    }
+
+    private static String gunzip(byte[] data) throws IOException {
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(data))) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+}
@@ -0,0 +1,205 @@
+package com.example.demo.adapter.web.order.feed;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+class OrderFeedHubTest {
+
+    private ManualExecutor executor;
+    private SimpleMeterRegistry meterRegistry;
+    private OrderFeedHub hub;
+
+    @BeforeEach
+    void setUp() {
+        executor = new ManualExecutor();
+        meterRegistry = new SimpleMeterRegistry();
+        hub = new OrderFeedHub(properties(Duration.ofSeconds(10)), meterRegistry, executor);
+    }
+
+    @Test
+    void subscribe_should_register_subscriber_under_key() {
+        hub.subscribe("merchant-001");
+        hub.subscribe("merchant-001");
+        hub.subscribe("merchant-002");
+
+        assertThat(hub.subscriberCount()).isEqualTo(3);
+        assertThat(meterRegistry.get("order.feed.subscribers").gauge().value()).isEqualTo(3.0);
+    }
+
+    @Test
+    void publish_should_schedule_single_drain_per_subscriber() {
+        hub.subscribe("merchant-001");
+
+        hub.publish("merchant-001", "order-created", "order-1", "data-1");
+        hub.publish("merchant-001", "order-created", "order-2", "data-2");
+
+        // The second event joins the pending drain instead of scheduling another task
+        assertThat(executor.tasks).hasSize(1);
+    }
+
+    @Test
+    void publish_should_ignore_keys_without_subscribers() {
+        hub.subscribe("merchant-001");
+
+        hub.publish("merchant-002", "order-created", "order-1", "data-1");
+
+        assertThat(executor.tasks).isEmpty();
+    }
+
+    @Test
+    void publish_should_drop_subscriber_when_buffer_overflows() {
+        hub.subscribe("merchant-001");
+
+        // Buffer holds two events and nothing drains them
+        hub.publish("merchant-001", "order-created", "order-1", "data-1");
+        hub.publish("merchant-001", "order-created", "order-2", "data-2");
+        hub.publish("merchant-001", "order-created", "order-3", "data-3");
+
+        assertThat(hub.subscriberCount()).isZero();
+        assertThat(meterRegistry
+                        .get("order.feed.slow.consumers.dropped")
+                        .counter()
+                        .count())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    void stalled_subscriber_should_not_hold_up_delivery_to_other_subscribers() throws Exception {
+        // Given - One subscriber whose connection accepts no more data and one healthy subscriber
+        ExecutorService deliveryExecutor = Executors.newVirtualThreadPerTaskExecutor();
+        hub = new OrderFeedHub(properties(Duration.ofSeconds(10)), meterRegistry, deliveryExecutor);
+        StalledEmitter stalled = new StalledEmitter();
+        RecordingEmitter healthy = new RecordingEmitter();
+        hub.subscribe("merchant-001", stalled);
+        hub.subscribe("merchant-001", healthy);
+
+        try {
+            // When
+            hub.publish("merchant-001", "order-created", "order-1", "data-1");
+            hub.publish("merchant-001", "order-created", "order-2", "data-2");
+
+            // Then
+            assertThat(stalled.sendStarted.await(5, TimeUnit.SECONDS)).isTrue();
+            assertThat(healthy.sent.poll(5, TimeUnit.SECONDS)).isNotNull();
+            assertThat(healthy.sent.poll(5, TimeUnit.SECONDS)).isNotNull();
+        } finally {
+            stalled.release.countDown();
+            deliveryExecutor.shutdown();
+        }
+    }
+
+    @Test
+    void send_heartbeats_should_drop_subscriber_whose_send_exceeds_the_timeout() throws Exception {
+        // Given - A subscriber blocked in a send, with every send counted as late
+        ExecutorService deliveryExecutor = Executors.newVirtualThreadPerTaskExecutor();
+        hub = new OrderFeedHub(properties(Duration.ZERO), meterRegistry, deliveryExecutor);
+        StalledEmitter stalled = new StalledEmitter();
+        hub.subscribe("merchant-001", stalled);
+        hub.publish("merchant-001", "order-created", "order-1", "data-1");
+        assertThat(stalled.sendStarted.await(5, TimeUnit.SECONDS)).isTrue();
+
+        try {
+            // When
+            hub.sendHeartbeats();
+
+            // Then - Dropped at once, while the emitter is only completed once the blocked send returns
+            assertThat(hub.subscriberCount()).isZero();
+            assertThat(meterRegistry
+                            .get("order.feed.slow.consumers.dropped")
+                            .counter()
+                            .count())
+                    .isEqualTo(1.0);
+            assertThat(stalled.completed.await(100, TimeUnit.MILLISECONDS)).isFalse();
+            stalled.release.countDown();
+            assertThat(stalled.completed.await(5, TimeUnit.SECONDS)).isTrue();
+        } finally {
+            stalled.release.countDown();
+            deliveryExecutor.shutdown();
+        }
+    }
+
+    private static OrderFeedProperties properties(Duration sendTimeout) {
+        return new OrderFeedProperties(2, sendTimeout, Duration.ofMinutes(1), Duration.ofSeconds(15));
+    }
+
+    /** Emitter whose sends block until released, like a connection whose peer stopped reading. */
+    private static class StalledEmitter extends SseEmitter {
+        private final CountDownLatch sendStarted = new CountDownLatch(1);
+        private final CountDownLatch release = new CountDownLatch(1);
+        private final CountDownLatch completed = new CountDownLatch(1);
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            sendStarted.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                throw new IOException(ex);
+            }
+        }
+
+        @Override
+        public void complete() {
+            completed.countDown();
+        }
+    }
+
+    /** Emitter that records the events sent to it. */
+    private static class RecordingEmitter extends SseEmitter {
+        private final BlockingQueue<SseEventBuilder> sent = new LinkedBlockingQueue<>();
+
+        @Override
+        public void send(SseEventBuilder builder) {
+            sent.add(builder);
+        }
+    }
+
+    /** Executor that only records tasks so buffers can be filled deterministically. */
+    private static class ManualExecutor extends AbstractExecutorService {
+        private final List<Runnable> tasks = new ArrayList<>();
+
+        @Override
+        public void execute(Runnable command) {
+            tasks.add(command);
+        }
+
+        @Override
+        public void shutdown() {}
+
+        @Override
+        public List<Runnable> shutdownNow() {
+            return List.of();
+        }
+
+        @Override
+        public boolean isShutdown() {
+            return false;
+        }
+
+        @Override
+        public boolean isTerminated() {
+            return false;
+        }
+
+        @Override
+        public boolean awaitTermination(long timeout, TimeUnit unit) {
+            return true;
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.example.demo.adapter.web.order.version;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class OrderVersionCacheTest {
+
+    private static final OrderVersion VERSION = new OrderVersion("user-001", Instant.parse("2025-11-05T02:27:30Z"));
+
+    private AtomicLong nanoTime;
+    private SimpleMeterRegistry meterRegistry;
+    private OrderVersionCache cache;
+
+    @BeforeEach
+    void setUp() {
+        nanoTime = new AtomicLong();
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new OrderVersionCache(
+                new OrderVersionCacheProperties(2, Duration.ofMinutes(5)), meterRegistry, nanoTime::get);
+    }
+
+    @Test
+    void find_should_return_version_put_for_order() {
+        cache.put("order-001", VERSION);
+
+        assertThat(cache.find("order-001")).contains(VERSION);
+        assertThat(cache.find("order-002")).isEmpty();
+    }
+
+    @Test
+    void find_should_drop_expired_version() {
+        cache.put("order-001", VERSION);
+
+        nanoTime.addAndGet(Duration.ofMinutes(5).plusNanos(1).toNanos());
+
+        assertThat(cache.find("order-001")).isEmpty();
+        assertThat(meterRegistry.get("order.version.cache.size").gauge().value()).isZero();
+    }
+
+    @Test
+    void put_should_keep_cache_within_max_size() {
+        cache.put("order-001", VERSION);
+        cache.put("order-002", VERSION);
+        cache.put("order-003", VERSION);
+
+        assertThat(meterRegistry.get("order.version.cache.size").gauge().value()).isEqualTo(2.0);
+        assertThat(cache.find("order-003")).contains(VERSION);
+    }
+}
@@ -0,0 +1,54 @@
+package com.example.demo.adapter.web.order.version;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Instant;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+
+class OrderVersionTest {
+
+    private final OrderVersion version = new OrderVersion("user-001", Instant.parse("2025-11-05T02:27:30.745152Z"));
+
+    @Test
+    void validators_should_use_whole_seconds() {
+        assertThat(version.eTag()).isEqualTo("W/\"1762309650\"");
+        assertThat(version.lastModified()).isEqualTo(Instant.parse("2025-11-05T02:27:30Z"));
+    }
+
+    @Test
+    void is_current_should_match_if_none_match_with_weak_comparison() {
+        assertThat(version.isCurrent(headers(HttpHeaders.IF_NONE_MATCH, "W/\"1762309650\""))).isTrue();
+        assertThat(version.isCurrent(headers(HttpHeaders.IF_NONE_MATCH, "\"1762309650\""))).isTrue();
+        assertThat(version.isCurrent(headers(HttpHeaders.IF_NONE_MATCH, "\"1\", W/\"1762309650\""))).isTrue();
+        assertThat(version.isCurrent(headers(HttpHeaders.IF_NONE_MATCH, "*"))).isTrue();
+        assertThat(version.isCurrent(headers(HttpHeaders.IF_NONE_MATCH, "W/\"1762309649\""))).isFalse();
+    }
+
+    @Test
+    void is_current_should_compare_if_modified_since_with_last_modified() {
+        assertThat(version.isCurrent(headers(HttpHeaders.IF_MODIFIED_SINCE, "Wed, 05 Nov 2025 02:27:30 GMT")))
+                .isTrue();
+        assertThat(version.isCurrent(headers(HttpHeaders.IF_MODIFIED_SINCE, "Wed, 05 Nov 2025 02:27:29 GMT")))
+                .isFalse();
+    }
+
+    @Test
+    void is_current_should_prefer_if_none_match_over_if_modified_since() {
+        HttpHeaders headers = headers(HttpHeaders.IF_NONE_MATCH, "W/\"1\"");
+        headers.set(HttpHeaders.IF_MODIFIED_SINCE, "Wed, 05 Nov 2025 02:27:30 GMT");
+
+        assertThat(version.isCurrent(headers)).isFalse();
+    }
+
+    @Test
+    void is_current_should_be_false_for_unconditional_request() {
+        assertThat(version.isCurrent(new HttpHeaders())).isFalse();
+    }
+
+    private static HttpHeaders headers(String name, String value) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(name, value);
+        return headers;
+    }
+}
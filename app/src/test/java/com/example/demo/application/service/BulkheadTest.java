@@ -0,0 +1,148 @@
+package com.example.demo.application.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class BulkheadTest {
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor();
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void call_should_bind_the_bulkhead_to_the_thread_while_running() {
+        // Given
+        Bulkhead bulkhead = new Bulkhead("create-order", 1, Duration.ZERO);
+
+        // When
+        String inside = bulkhead.call(Bulkhead::current);
+
+        // Then
+        assertThat(inside).isEqualTo("create-order");
+        assertThat(Bulkhead.current()).isNull();
+        assertThat(bulkhead.activeCalls()).isZero();
+    }
+
+    @Test
+    void call_should_restore_the_outer_bulkhead_after_a_nested_call() {
+        // Given
+        Bulkhead outer = new Bulkhead("create-order", 1, Duration.ZERO);
+        Bulkhead inner = new Bulkhead("get-order", 1, Duration.ZERO);
+
+        // When
+        String afterInner = outer.call(() -> {
+            inner.call(Bulkhead::current);
+            return Bulkhead.current();
+        });
+
+        // Then
+        assertThat(afterInner).isEqualTo("create-order");
+    }
+
+    @Test
+    void call_should_reject_immediately_when_full_and_not_waiting() {
+        // Given
+        Bulkhead bulkhead = new Bulkhead("get-order", 1, Duration.ZERO);
+
+        // When & Then
+        assertThatThrownBy(() -> bulkhead.call(() -> bulkhead.call(() -> "nested")))
+                .isInstanceOf(BulkheadFullException.class);
+        assertThat(bulkhead.rejectedCalls()).isEqualTo(1);
+        assertThat(bulkhead.call(() -> "after")).isEqualTo("after");
+    }
+
+    @Test
+    void call_should_wait_for_a_running_call_to_finish() throws Exception {
+        // Given
+        Bulkhead bulkhead = new Bulkhead("get-order", 1, Duration.ofSeconds(5));
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Future<String> running = executor.submit(() -> bulkhead.call(() -> {
+            entered.countDown();
+            await(release);
+            return "first";
+        }));
+        assertThat(entered.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // When
+        new Thread(release::countDown).start();
+        String second = bulkhead.call(() -> "second");
+
+        // Then
+        assertThat(second).isEqualTo("second");
+        assertThat(running.get(5, TimeUnit.SECONDS)).isEqualTo("first");
+        assertThat(bulkhead.rejectedCalls()).isZero();
+    }
+
+    @Test
+    void call_should_reject_once_the_maximum_wait_elapsed() throws Exception {
+        // Given
+        Bulkhead bulkhead = new Bulkhead("get-order", 1, Duration.ofMillis(50));
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        executor.submit(() -> bulkhead.call(() -> {
+            entered.countDown();
+            await(release);
+            return null;
+        }));
+        assertThat(entered.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // When
+        long started = System.nanoTime();
+        assertThatThrownBy(() -> bulkhead.call(() -> "waiting")).isInstanceOf(BulkheadFullException.class);
+
+        // Then
+        assertThat(Duration.ofNanos(System.nanoTime() - started)).isGreaterThanOrEqualTo(Duration.ofMillis(50));
+        assertThat(bulkhead.activeCalls()).isEqualTo(1);
+        release.countDown();
+    }
+
+    @Test
+    void call_should_release_the_permit_when_the_action_fails() {
+        // Given
+        Bulkhead bulkhead = new Bulkhead("create-order", 1, Duration.ZERO);
+
+        // When
+        assertThatThrownBy(() -> bulkhead.call(() -> {
+                    throw new IllegalStateException("boom");
+                }))
+                .isInstanceOf(IllegalStateException.class);
+
+        // Then
+        assertThat(bulkhead.call(() -> "next")).isEqualTo("next");
+        assertThat(bulkhead.activeCalls()).isZero();
+    }
+
+    @Test
+    void call_should_not_limit_an_unbounded_bulkhead() {
+        // Given
+        Bulkhead bulkhead = new Bulkhead("create-order", 0, Duration.ZERO);
+
+        // When
+        String nested = bulkhead.call(() -> bulkhead.call(() -> "nested"));
+
+        // Then
+        assertThat(nested).isEqualTo("nested");
+        assertThat(bulkhead.maxConcurrentCalls()).isZero();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
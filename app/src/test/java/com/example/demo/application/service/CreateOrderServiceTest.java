@@ -1,23 +1,34 @@
 package com.example.demo.application.service;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
 
 import com.example.demo.application.port.SaveOrderPort;
 import com.example.demo.application.service.CreateOrderService.CreateOrderCommand;
 import com.example.demo.application.service.CreateOrderService.CreateOrderCommand.DeliveryInfoDto;
 import com.example.demo.application.service.CreateOrderService.CreateOrderCommand.OrderItemDto;
+import com.example.demo.application.service.CreateOrderService.CreateOrderResult;
 import com.example.demo.domain.order.Order;
+import com.example.demo.domain.order.OrderCreatedEvent;
 import com.example.demo.domain.order.Pricing;
 import java.math.BigDecimal;
+import java.time.Duration;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import jdk.jfr.consumer.RecordedEvent;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Captor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
 
 @ExtendWith(MockitoExtension.class)
 class CreateOrderServiceTest {
@@ -25,6 +36,18 @@ class CreateOrderServiceTest {
     @Mock
     SaveOrderPort saveOrderPort;
 
+    @Mock
+    ApplicationEventPublisher applicationEventPublisher;
+
+    @Spy
+    OrderFactory orderFactory = OrderFactory.sequential();
+
+    @Spy
+    OrderBulkheads orderBulkheads = TestBulkheads.unbounded();
+
+    @Mock
+    PlatformTransactionManager transactionManager;
+
     @InjectMocks
     CreateOrderService createOrderService;
 
@@ -76,4 +99,80 @@ class CreateOrderServiceTest {
 
         assertThat(capturedOrder.getStatus().name()).isEqualTo("PENDING_PAYMENT");
     }
+
+    @Test
+    void create_order_should_publish_order_created_event() {
+        OrderItemDto item = new OrderItemDto("dish-001", "宫保鸡丁", 1, new BigDecimal("25.00"));
+        DeliveryInfoDto deliveryInfo = new DeliveryInfoDto("张三", "13800138000", "北京市朝阳区某某街道123号");
+
+        CreateOrderCommand command =
+                new CreateOrderCommand("user-001", "merchant-001", List.of(item), deliveryInfo, null);
+
+        CreateOrderResult result = createOrderService.createOrder(command);
+
+        ArgumentCaptor<Object> eventCaptor = ArgumentCaptor.forClass(Object.class);
+        verify(applicationEventPublisher).publishEvent(eventCaptor.capture());
+        assertThat(eventCaptor.getValue()).isInstanceOf(OrderCreatedEvent.class);
+        OrderCreatedEvent event = (OrderCreatedEvent) eventCaptor.getValue();
+        assertThat(event.order().getId().value()).isEqualTo(result.orderId());
+    }
+
+    @Test
+    void create_order_should_run_in_a_transaction_when_the_port_writes_to_the_database() {
+        // Given
+        when(saveOrderPort.requiresTransaction()).thenReturn(true);
+
+        // When
+        createOrderService.createOrder(command());
+
+        // Then
+        verify(transactionManager).getTransaction(any());
+        verify(transactionManager).commit(any());
+    }
+
+    @Test
+    void create_order_should_not_open_a_transaction_when_the_port_journals_orders() {
+        // Given
+        when(saveOrderPort.requiresTransaction()).thenReturn(false);
+
+        // When
+        createOrderService.createOrder(command());
+
+        // Then
+        verify(saveOrderPort).save(any());
+        verifyNoInteractions(transactionManager);
+    }
+
+    @Test
+    void create_order_should_record_a_flight_recorder_event() throws Exception {
+        // Given
+        List<OrderItemDto> items = List.of(
+                new OrderItemDto("dish-001", "宫保鸡丁", 1, new BigDecimal("25.00")),
+                new OrderItemDto("dish-002", "米饭", 2, new BigDecimal("2.00")));
+        DeliveryInfoDto deliveryInfo = new DeliveryInfoDto("张三", "13800138000", "北京市朝阳区某某街道123号");
+        CreateOrderCommand command = new CreateOrderCommand("user-001", "merchant-001", items, deliveryInfo, null);
+        AtomicReference<CreateOrderResult> result = new AtomicReference<>();
+
+        // When
+        List<RecordedEvent> events = JfrEvents.recordedDuring(
+                "com.example.demo.OrderCreated", () -> result.set(createOrderService.createOrder(command)));
+
+        // Then
+        assertThat(events)
+                .filteredOn(event -> result.get().orderId().equals(event.getString("orderId")))
+                .singleElement()
+                .satisfies(event -> {
+                    assertThat(event.getInt("itemCount")).isEqualTo(2);
+                    assertThat(event.getBoolean("succeeded")).isTrue();
+                    assertThat(event.getDuration("pricingTime")).isGreaterThanOrEqualTo(Duration.ZERO);
+                    assertThat(event.getDuration("persistenceTime")).isGreaterThanOrEqualTo(Duration.ZERO);
+                    assertThat(event.getDuration()).isGreaterThanOrEqualTo(event.getDuration("pricingTime"));
+                });
+    }
+
+    private static CreateOrderCommand command() {
+        OrderItemDto item = new OrderItemDto("dish-001", "宫保鸡丁", 1, new BigDecimal("25.00"));
+        DeliveryInfoDto deliveryInfo = new DeliveryInfoDto("张三", "13800138000", "北京市朝阳区某某街道123号");
+        return new CreateOrderCommand("user-001", "merchant-001", List.of(item), deliveryInfo, null);
+    }
 }
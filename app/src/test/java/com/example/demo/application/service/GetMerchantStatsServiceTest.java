@@ -0,0 +1,93 @@
+package com.example.demo.application.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.example.demo.application.port.LoadMerchantDailyStatsPort;
+import com.example.demo.application.service.GetMerchantStatsService.GetMerchantStatsQuery;
+import com.example.demo.application.service.GetMerchantStatsService.GetMerchantStatsResult;
+import com.example.demo.domain.merchant.MerchantDailyStats;
+import com.example.demo.domain.merchant.MerchantId;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class GetMerchantStatsServiceTest {
+
+    @Mock
+    LoadMerchantDailyStatsPort loadMerchantDailyStatsPort;
+
+    @InjectMocks
+    GetMerchantStatsService getMerchantStatsService;
+
+    @Test
+    void should_return_daily_stats_and_totals_for_range() {
+        // Given
+        MerchantId merchantId = new MerchantId("merchant-001");
+        LocalDate from = LocalDate.of(2025, 1, 1);
+        LocalDate to = LocalDate.of(2025, 1, 3);
+        when(loadMerchantDailyStatsPort.findByMerchantId(merchantId, from, to))
+                .thenReturn(List.of(
+                        new MerchantDailyStats(merchantId, from, 2, new BigDecimal("58.00")),
+                        new MerchantDailyStats(merchantId, to, 1, new BigDecimal("29.00"))));
+
+        // When
+        GetMerchantStatsResult result =
+                getMerchantStatsService.getStats(new GetMerchantStatsQuery("merchant-001", from, to));
+
+        // Then
+        assertThat(result.merchantId()).isEqualTo("merchant-001");
+        assertThat(result.totalOrders()).isEqualTo(3);
+        assertThat(result.totalRevenue()).isEqualByComparingTo("87.00");
+        assertThat(result.days()).hasSize(2);
+        assertThat(result.days().get(0).date()).isEqualTo(from);
+        assertThat(result.days().get(0).orderCount()).isEqualTo(2);
+    }
+
+    @Test
+    void should_default_to_last_seven_days() {
+        // Given
+        LocalDate today = LocalDate.now();
+
+        // When
+        GetMerchantStatsResult result =
+                getMerchantStatsService.getStats(new GetMerchantStatsQuery("merchant-001", null, null));
+
+        // Then
+        assertThat(result.to()).isEqualTo(today);
+        assertThat(result.from()).isEqualTo(today.minusDays(6));
+        assertThat(result.totalRevenue()).isEqualByComparingTo("0");
+        verify(loadMerchantDailyStatsPort)
+                .findByMerchantId(new MerchantId("merchant-001"), today.minusDays(6), today);
+    }
+
+    @Test
+    void should_reject_range_ending_before_it_starts() {
+        GetMerchantStatsQuery query =
+                new GetMerchantStatsQuery("merchant-001", LocalDate.of(2025, 1, 3), LocalDate.of(2025, 1, 1));
+
+        assertThatThrownBy(() -> getMerchantStatsService.getStats(query))
+                .isInstanceOf(InvalidQueryException.class)
+                .hasMessage("开始日期不能晚于结束日期");
+        verifyNoInteractions(loadMerchantDailyStatsPort);
+    }
+
+    @Test
+    void should_reject_range_longer_than_a_year() {
+        GetMerchantStatsQuery query =
+                new GetMerchantStatsQuery("merchant-001", LocalDate.of(2024, 1, 1), LocalDate.of(2025, 1, 1));
+
+        assertThatThrownBy(() -> getMerchantStatsService.getStats(query))
+                .isInstanceOf(InvalidQueryException.class)
+                .hasMessage("查询范围不能超过366天");
+    }
+}
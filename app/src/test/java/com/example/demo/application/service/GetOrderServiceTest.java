@@ -2,6 +2,7 @@ package com.example.demo.application.service;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 import com.example.demo.application.port.LoadOrderPort;
@@ -18,14 +19,19 @@ import com.example.demo.domain.order.OrderStatus;
 import com.example.demo.domain.order.Pricing;
 import com.example.demo.domain.user.UserId;
 import java.math.BigDecimal;
+import java.time.Duration;
 import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
+import jdk.jfr.consumer.RecordedEvent;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
 
 @ExtendWith(MockitoExtension.class)
 class GetOrderServiceTest {
@@ -33,6 +39,12 @@ class GetOrderServiceTest {
     @Mock
     LoadOrderPort loadOrderPort;
 
+    @Spy
+    OrderBulkheads orderBulkheads = TestBulkheads.unbounded();
+
+    @Mock
+    PlatformTransactionManager transactionManager;
+
     @InjectMocks
     GetOrderService getOrderService;
 
@@ -115,6 +127,28 @@ class GetOrderServiceTest {
                 .hasMessageContaining("订单不存在: " + orderId);
     }
 
+    @Test
+    void should_record_a_flight_recorder_event_for_a_missing_order() throws Exception {
+        // Given
+        String orderId = "missing-" + UUID.randomUUID();
+        when(loadOrderPort.findById(new OrderId(orderId))).thenReturn(Optional.empty());
+        GetOrderQuery query = new GetOrderQuery(orderId, "user-001");
+
+        // When
+        List<RecordedEvent> events = JfrEvents.recordedDuring("com.example.demo.OrderLookup", () -> {
+            assertThatThrownBy(() -> getOrderService.getOrder(query)).isInstanceOf(OrderNotFoundException.class);
+        });
+
+        // Then
+        assertThat(events)
+                .filteredOn(event -> orderId.equals(event.getString("orderId")))
+                .singleElement()
+                .satisfies(event -> {
+                    assertThat(event.getBoolean("found")).isFalse();
+                    assertThat(event.getDuration("loadTime")).isGreaterThanOrEqualTo(Duration.ZERO);
+                });
+    }
+
     @Test
     void should_throw_exception_when_user_does_not_own_order() {
         // Given
@@ -149,4 +183,20 @@ class GetOrderServiceTest {
                 .isInstanceOf(OrderNotFoundException.class)
                 .hasMessageContaining("订单不存在: " + orderId);
     }
+
+    @Test
+    void should_reject_without_starting_a_transaction_when_the_bulkhead_is_full() {
+        // Given
+        Bulkhead getOrder = new Bulkhead(OrderBulkheads.GET_ORDER, 1, Duration.ZERO);
+        OrderBulkheads bulkheads = new OrderBulkheads(TestBulkheads.unbounded().createOrder(), getOrder);
+        GetOrderService service = new GetOrderService(loadOrderPort, bulkheads, transactionManager);
+        GetOrderQuery query = new GetOrderQuery("order-001", "user-001");
+
+        // When & Then: the only permit is held by the outer call
+        assertThatThrownBy(() -> getOrder.call(() -> service.getOrder(query)))
+                .isInstanceOf(BulkheadFullException.class)
+                .hasMessage("服务繁忙，请稍后重试: get-order");
+        verifyNoInteractions(transactionManager, loadOrderPort);
+        assertThat(getOrder.rejectedCalls()).isEqualTo(1);
+    }
 }
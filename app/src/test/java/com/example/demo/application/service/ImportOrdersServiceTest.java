@@ -0,0 +1,174 @@
+package com.example.demo.application.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.example.demo.application.port.BulkSaveOrderPort;
+import com.example.demo.application.port.ReconcileMerchantDailyStatsPort;
+import com.example.demo.application.service.ImportOrdersService.ImportOrdersCommand;
+import com.example.demo.application.service.ImportOrdersService.ImportOrdersResult;
+import com.example.demo.domain.dish.DishId;
+import com.example.demo.domain.merchant.MerchantId;
+import com.example.demo.domain.order.DeliveryInfo;
+import com.example.demo.domain.order.Order;
+import com.example.demo.domain.order.OrderId;
+import com.example.demo.domain.order.OrderItem;
+import com.example.demo.domain.order.OrderNumber;
+import com.example.demo.domain.order.OrderStatus;
+import com.example.demo.domain.order.Pricing;
+import com.example.demo.domain.user.UserId;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@ExtendWith(MockitoExtension.class)
+class ImportOrdersServiceTest {
+
+    private static final Instant START = Instant.parse("2025-01-01T00:00:00Z");
+
+    @Mock
+    BulkSaveOrderPort bulkSaveOrderPort;
+
+    @Mock
+    ReconcileMerchantDailyStatsPort reconcileMerchantDailyStatsPort;
+
+    ImportOrdersService importOrdersService;
+
+    @BeforeEach
+    void setUp() {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(mock(PlatformTransactionManager.class));
+        importOrdersService = new ImportOrdersService(
+                bulkSaveOrderPort,
+                reconcileMerchantDailyStatsPort,
+                transactionTemplate,
+                new SimpleAsyncTaskExecutor("order-import-"));
+    }
+
+    @Test
+    void should_import_all_orders_in_batches() {
+        // Given
+        List<Integer> batchSizes = Collections.synchronizedList(new ArrayList<>());
+        when(bulkSaveOrderPort.saveAll(anyList())).thenAnswer(invocation -> {
+            List<Order> batch = invocation.getArgument(0);
+            batchSizes.add(batch.size());
+            return batch.size() * 2;
+        });
+        List<Order> orders = IntStream.range(0, 10).mapToObj(ImportOrdersServiceTest::order).toList();
+
+        // When
+        ImportOrdersResult result = importOrdersService.importOrders(
+                new ImportOrdersCommand(orders.iterator(), 3, 2, Duration.ofSeconds(5)));
+
+        // Then
+        assertThat(batchSizes).containsExactlyInAnyOrder(3, 3, 3, 1);
+        assertThat(result.orders()).isEqualTo(10);
+        assertThat(result.rows()).isEqualTo(20);
+        assertThat(result.earliestCreatedAt()).isEqualTo(START);
+        assertThat(result.latestCreatedAt()).isEqualTo(START.plus(Duration.ofHours(9)));
+    }
+
+    @Test
+    void should_return_empty_result_when_there_is_nothing_to_import() {
+        // When
+        ImportOrdersResult result = importOrdersService.importOrders(
+                new ImportOrdersCommand(List.<Order>of().iterator(), 3, 2, Duration.ofSeconds(5)));
+
+        // Then
+        assertThat(result.orders()).isZero();
+        assertThat(result.earliestCreatedAt()).isNull();
+    }
+
+    @Test
+    void should_fail_when_a_batch_cannot_be_saved() {
+        // Given
+        IllegalStateException failure = new IllegalStateException("duplicate key");
+        when(bulkSaveOrderPort.saveAll(anyList())).thenThrow(failure);
+        List<Order> orders = IntStream.range(0, 10).mapToObj(ImportOrdersServiceTest::order).toList();
+
+        // When & Then
+        assertThatThrownBy(() -> importOrdersService.importOrders(
+                        new ImportOrdersCommand(orders.iterator(), 3, 1, Duration.ofSeconds(5))))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("Order import failed after 0 committed orders")
+                .hasCause(failure);
+    }
+
+    @Test
+    void command_should_reject_a_batch_size_below_one() {
+        assertThatThrownBy(() -> new ImportOrdersCommand(List.<Order>of().iterator(), 0, 2, Duration.ofSeconds(5)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Import batch size must be at least 1: 0");
+    }
+
+    @Test
+    void command_should_reject_fewer_than_one_worker() {
+        assertThatThrownBy(() -> new ImportOrdersCommand(List.<Order>of().iterator(), 3, 0, Duration.ofSeconds(5)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Import workers must be at least 1: 0");
+    }
+
+    @Test
+    void reconcile_stats_should_rebuild_the_imported_closed_days() {
+        // Given
+        ZoneId zone = ZoneId.systemDefault();
+        LocalDate first = LocalDate.of(2025, 1, 1);
+        LocalDate last = LocalDate.of(2025, 1, 3);
+        ImportOrdersResult result = new ImportOrdersResult(
+                2,
+                4,
+                Duration.ofSeconds(1),
+                first.atTime(10, 0).atZone(zone).toInstant(),
+                last.atTime(10, 0).atZone(zone).toInstant());
+
+        // When
+        importOrdersService.reconcileStats(result);
+
+        // Then
+        verify(reconcileMerchantDailyStatsPort).reconcile(first, last.plusDays(1));
+    }
+
+    @Test
+    void reconcile_stats_should_skip_an_empty_import() {
+        // When
+        importOrdersService.reconcileStats(new ImportOrdersResult(0, 0, Duration.ZERO, null, null));
+
+        // Then
+        verifyNoInteractions(reconcileMerchantDailyStatsPort);
+    }
+
+    private static Order order(int sequence) {
+        Instant createdAt = START.plus(Duration.ofHours(sequence));
+        return new Order(
+                new OrderId("order-" + sequence),
+                new OrderNumber(String.format("2025010100%010d", sequence)),
+                new UserId("user-001"),
+                new MerchantId("merchant-001"),
+                List.of(new OrderItem(new DishId("dish-001"), "宫保鸡丁", 1, new BigDecimal("25.00"))),
+                new DeliveryInfo("张三", "13800138000", "北京市朝阳区xxx街道xxx号"),
+                null,
+                OrderStatus.PENDING_PAYMENT,
+                new Pricing(
+                        new BigDecimal("25.00"), new BigDecimal("1.00"), new BigDecimal("3.00"), new BigDecimal("29.00")),
+                createdAt,
+                createdAt);
+    }
+}
@@ -0,0 +1,31 @@
+package com.example.demo.application.service;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+/**
+ * Captures the Flight Recorder events an action commits.
+ */
+final class JfrEvents {
+
+    private JfrEvents() {}
+
+    static List<RecordedEvent> recordedDuring(String eventName, Runnable action) throws IOException {
+        Path file = Files.createTempFile("events-", ".jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(eventName);
+            recording.start();
+            action.run();
+            recording.stop();
+            recording.dump(file);
+            return RecordingFile.readAllEvents(file);
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package com.example.demo.application.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.example.demo.application.service.CreateOrderService.CreateOrderCommand;
+import com.example.demo.application.service.CreateOrderService.CreateOrderCommand.DeliveryInfoDto;
+import com.example.demo.application.service.CreateOrderService.CreateOrderCommand.OrderItemDto;
+import com.example.demo.domain.order.Order;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class OrderFactoryTest {
+
+    private static final DeliveryInfoDto DELIVERY_INFO = new DeliveryInfoDto("张三", "13800138000", "北京市朝阳区某某街道123号");
+
+    private final ForkJoinPool pool = new ForkJoinPool(4);
+    private final OrderFactory parallel = new OrderFactory(pool, 4);
+    private final OrderFactory sequential = OrderFactory.sequential();
+
+    @AfterEach
+    void tearDown() {
+        pool.shutdown();
+    }
+
+    @Test
+    void create_should_build_the_same_order_on_both_paths() {
+        // Given
+        CreateOrderCommand command = command(items(500));
+
+        // When
+        Order forked = parallel.create(command);
+        Order sequentialOrder = sequential.create(command);
+
+        // Then
+        assertThat(forked.getItems()).isEqualTo(sequentialOrder.getItems());
+        assertThat(forked.getPricing()).isEqualTo(sequentialOrder.getPricing());
+        assertThat(forked.getItems()).extracting(item -> item.dishId().value()).startsWith("dish-0", "dish-1");
+    }
+
+    @Test
+    void create_should_sum_every_item_into_the_items_total() {
+        // Given: subtotals 1.01, 2.02, ... 500 x 1.01 = 126,502.50 in total
+        CreateOrderCommand command = command(items(500));
+
+        // When
+        Order order = parallel.create(command);
+
+        // Then
+        assertThat(order.getPricing().itemsTotal()).isEqualByComparingTo("126502.50");
+        assertThat(order.getPricing().finalAmount()).isEqualByComparingTo("126506.50");
+    }
+
+    @Test
+    void create_should_report_the_first_invalid_item_whichever_worker_fails_first() {
+        // Given: invalid items at positions 100 and 400
+        List<OrderItemDto> items = new ArrayList<>(items(500));
+        items.set(100, new OrderItemDto("dish-100", "宫保鸡丁", 0, BigDecimal.ONE));
+        items.set(400, new OrderItemDto("dish-400", "宫保鸡丁", 1, new BigDecimal("-1")));
+        CreateOrderCommand command = command(items);
+
+        // When & Then
+        for (int run = 0; run < 50; run++) {
+            assertThatThrownBy(() -> parallel.create(command))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessage("数量必须大于0");
+        }
+        assertThatThrownBy(() -> sequential.create(command)).hasMessage("数量必须大于0");
+    }
+
+    static List<OrderItemDto> items(int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> new OrderItemDto("dish-" + i, "餐品" + i, i + 1, new BigDecimal("1.01")))
+                .toList();
+    }
+
+    private static CreateOrderCommand command(List<OrderItemDto> items) {
+        return new CreateOrderCommand("user-001", "merchant-001", items, DELIVERY_INFO, null);
+    }
+}
@@ -0,0 +1,78 @@
+package com.example.demo.application.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.example.demo.application.port.ReactiveSaveOrderPort;
+import com.example.demo.application.service.CreateOrderService.CreateOrderCommand;
+import com.example.demo.application.service.CreateOrderService.CreateOrderCommand.DeliveryInfoDto;
+import com.example.demo.application.service.CreateOrderService.CreateOrderCommand.OrderItemDto;
+import com.example.demo.application.service.CreateOrderService.CreateOrderResult;
+import com.example.demo.domain.order.Order;
+import com.example.demo.domain.order.OrderCreatedEvent;
+import java.math.BigDecimal;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import reactor.core.publisher.Mono;
+
+@ExtendWith(MockitoExtension.class)
+class ReactiveCreateOrderServiceTest {
+
+    @Mock
+    ReactiveSaveOrderPort reactiveSaveOrderPort;
+
+    @Mock
+    ApplicationEventPublisher applicationEventPublisher;
+
+    @Spy
+    OrderFactory orderFactory = OrderFactory.sequential();
+
+    @InjectMocks
+    ReactiveCreateOrderService reactiveCreateOrderService;
+
+    @Captor
+    ArgumentCaptor<Order> orderCaptor;
+
+    @Test
+    void create_order_should_save_order_and_publish_event() {
+        when(reactiveSaveOrderPort.save(any(Order.class))).thenReturn(Mono.empty());
+
+        CreateOrderResult result = reactiveCreateOrderService.createOrder(command()).block();
+
+        verify(reactiveSaveOrderPort).save(orderCaptor.capture());
+        Order capturedOrder = orderCaptor.getValue();
+        assertThat(result).isNotNull();
+        assertThat(result.orderId()).isEqualTo(capturedOrder.getId().value());
+        assertThat(result.status()).isEqualTo("PENDING_PAYMENT");
+        assertThat(result.pricing().finalAmount()).isEqualByComparingTo(new BigDecimal("54.00"));
+        verify(applicationEventPublisher).publishEvent(new OrderCreatedEvent(capturedOrder));
+    }
+
+    @Test
+    void create_order_should_not_publish_event_when_save_fails() {
+        when(reactiveSaveOrderPort.save(any(Order.class))).thenReturn(Mono.error(new IllegalStateException("boom")));
+
+        Mono<CreateOrderResult> result = reactiveCreateOrderService.createOrder(command());
+
+        assertThatThrownBy(result::block).isInstanceOf(IllegalStateException.class);
+        verifyNoInteractions(applicationEventPublisher);
+    }
+
+    private static CreateOrderCommand command() {
+        OrderItemDto item = new OrderItemDto("dish-001", "宫保鸡丁", 2, new BigDecimal("25.00"));
+        DeliveryInfoDto deliveryInfo = new DeliveryInfoDto("张三", "13800138000", "北京市朝阳区某某街道123号");
+        return new CreateOrderCommand("user-001", "merchant-001", List.of(item), deliveryInfo, "少辣");
+    }
+}
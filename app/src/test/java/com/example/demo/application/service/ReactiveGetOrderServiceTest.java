@@ -0,0 +1,99 @@
+package com.example.demo.application.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.when;
+
+import com.example.demo.application.port.ReactiveLoadOrderPort;
+import com.example.demo.application.service.GetOrderService.GetOrderQuery;
+import com.example.demo.application.service.GetOrderService.GetOrderResult;
+import com.example.demo.domain.dish.DishId;
+import com.example.demo.domain.merchant.MerchantId;
+import com.example.demo.domain.order.DeliveryInfo;
+import com.example.demo.domain.order.Order;
+import com.example.demo.domain.order.OrderId;
+import com.example.demo.domain.order.OrderItem;
+import com.example.demo.domain.order.OrderNumber;
+import com.example.demo.domain.order.OrderStatus;
+import com.example.demo.domain.order.Pricing;
+import com.example.demo.domain.user.UserId;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+
+@ExtendWith(MockitoExtension.class)
+class ReactiveGetOrderServiceTest {
+
+    @Mock
+    ReactiveLoadOrderPort reactiveLoadOrderPort;
+
+    @InjectMocks
+    ReactiveGetOrderService reactiveGetOrderService;
+
+    @Test
+    void should_return_order_details_when_order_exists_and_user_matches() {
+        // Given
+        Order order = createOrder("order-001", "user-001");
+        when(reactiveLoadOrderPort.findById(new OrderId("order-001"))).thenReturn(Mono.just(order));
+
+        // When
+        GetOrderResult result = reactiveGetOrderService
+                .getOrder(new GetOrderQuery("order-001", "user-001"))
+                .block();
+
+        // Then
+        assertThat(result).isNotNull();
+        assertThat(result.orderId()).isEqualTo("order-001");
+        assertThat(result.userId()).isEqualTo("user-001");
+        assertThat(result.items()).hasSize(1);
+        assertThat(result.pricing().finalAmount()).isEqualByComparingTo("54.00");
+    }
+
+    @Test
+    void should_fail_with_order_not_found_when_order_does_not_exist() {
+        // Given
+        when(reactiveLoadOrderPort.findById(new OrderId("order-404"))).thenReturn(Mono.empty());
+
+        // When & Then
+        Mono<GetOrderResult> result = reactiveGetOrderService.getOrder(new GetOrderQuery("order-404", "user-001"));
+        assertThatThrownBy(result::block)
+                .isInstanceOf(OrderNotFoundException.class)
+                .hasMessage("订单不存在: order-404");
+    }
+
+    @Test
+    void should_fail_with_order_not_found_when_user_does_not_own_order() {
+        // Given
+        Order order = createOrder("order-001", "user-001");
+        when(reactiveLoadOrderPort.findById(new OrderId("order-001"))).thenReturn(Mono.just(order));
+
+        // When & Then
+        Mono<GetOrderResult> result = reactiveGetOrderService.getOrder(new GetOrderQuery("order-001", "user-002"));
+        assertThatThrownBy(result::block)
+                .isInstanceOf(OrderNotFoundException.class)
+                .hasMessage("订单不存在: order-001");
+    }
+
+    private static Order createOrder(String orderId, String userId) {
+        OrderItem item = new OrderItem(new DishId("dish-001"), "宫保鸡丁", 2, new BigDecimal("25.00"));
+        Instant createdAt = Instant.parse("2025-01-04T12:00:00Z");
+        return new Order(
+                new OrderId(orderId),
+                new OrderNumber("20250104120000123456"),
+                new UserId(userId),
+                new MerchantId("merchant-001"),
+                List.of(item),
+                new DeliveryInfo("张三", "13800138000", "北京市朝阳区某某街道123号"),
+                null,
+                OrderStatus.PENDING_PAYMENT,
+                Pricing.calculate(List.of(item)),
+                createdAt,
+                createdAt);
+    }
+}
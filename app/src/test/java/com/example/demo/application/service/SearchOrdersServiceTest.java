@@ -0,0 +1,83 @@
+package com.example.demo.application.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.example.demo.application.port.SearchOrdersPort;
+import com.example.demo.application.port.SearchOrdersPort.OrderSearchCriteria;
+import com.example.demo.application.port.SearchOrdersPort.OrderSummary;
+import com.example.demo.application.service.SearchOrdersService.SearchOrdersQuery;
+import com.example.demo.application.service.SearchOrdersService.SearchOrdersResult;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class SearchOrdersServiceTest {
+
+    @Mock
+    SearchOrdersPort searchOrdersPort;
+
+    @InjectMocks
+    SearchOrdersService searchOrdersService;
+
+    @Test
+    void should_search_with_trimmed_criteria_and_default_limit() {
+        // Given
+        OrderSummary summary = new OrderSummary(
+                "order-001",
+                "20250101120000000001",
+                "user-001",
+                "merchant-001",
+                "张三",
+                "13800138000",
+                "PENDING_PAYMENT",
+                new BigDecimal("56.00"),
+                Instant.parse("2025-01-01T12:00:00Z"));
+        OrderSearchCriteria criteria = new OrderSearchCriteria("138", null, "宫保", null, null);
+        when(searchOrdersPort.search(criteria, SearchOrdersService.DEFAULT_LIMIT))
+                .thenReturn(List.of(summary));
+
+        // When
+        SearchOrdersResult result = searchOrdersService.searchOrders(
+                new SearchOrdersQuery(" 138 ", "", "宫保", null, "  ", null));
+
+        // Then
+        assertThat(result.orders()).containsExactly(summary);
+    }
+
+    @Test
+    void should_pass_requested_limit() {
+        // When
+        searchOrdersService.searchOrders(new SearchOrdersQuery(null, null, null, null, "merchant-001", 50));
+
+        // Then
+        verify(searchOrdersPort).search(new OrderSearchCriteria(null, null, null, null, "merchant-001"), 50);
+    }
+
+    @Test
+    void should_reject_query_without_criteria() {
+        assertThatThrownBy(() -> searchOrdersService.searchOrders(
+                        new SearchOrdersQuery(null, " ", null, "", null, 20)))
+                .isInstanceOf(InvalidQueryException.class)
+                .hasMessage("至少需要一个搜索条件");
+        verifyNoInteractions(searchOrdersPort);
+    }
+
+    @Test
+    void should_reject_limit_out_of_range() {
+        assertThatThrownBy(() -> searchOrdersService.searchOrders(
+                        new SearchOrdersQuery("138", null, null, null, null, 101)))
+                .isInstanceOf(InvalidQueryException.class)
+                .hasMessage("返回条数必须在1到100之间");
+        verifyNoInteractions(searchOrdersPort);
+    }
+}
@@ -0,0 +1,20 @@
+package com.example.demo.application.service;
+
+import java.time.Duration;
+
+/**
+ * Bulkheads for services created outside the application context.
+ */
+final class TestBulkheads {
+
+    private TestBulkheads() {}
+
+    /**
+     * @return bulkheads without limits
+     */
+    static OrderBulkheads unbounded() {
+        return new OrderBulkheads(
+                new Bulkhead(OrderBulkheads.CREATE_ORDER, 0, Duration.ZERO),
+                new Bulkhead(OrderBulkheads.GET_ORDER, 0, Duration.ZERO));
+    }
+}
@@ -0,0 +1,89 @@
+package com.example.demo.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.example.demo.domain.merchant.MerchantId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.Test;
+
+class IdInternerTest {
+
+    private record TestId(String value) {}
+
+    private final IdInterner<TestId> interner = new IdInterner<>(16, TestId::new, TestId::value);
+
+    @Test
+    void intern_should_return_the_same_instance_for_equal_values() {
+        TestId first = interner.intern(new String("merchant-001"));
+        TestId second = interner.intern(new String("merchant-001"));
+
+        assertThat(second).isSameAs(first);
+        assertThat(second.value()).isSameAs(first.value());
+    }
+
+    @Test
+    void intern_should_keep_distinct_values_apart() {
+        TestId first = interner.intern("merchant-001");
+        TestId second = interner.intern("merchant-002");
+
+        assertThat(first.value()).isEqualTo("merchant-001");
+        assertThat(second.value()).isEqualTo("merchant-002");
+    }
+
+    @Test
+    void intern_should_stay_bounded_and_still_return_equal_ids_when_slots_collide() {
+        List<TestId> ids = new ArrayList<>();
+        for (int i = 0; i < 1_000; i++) {
+            ids.add(interner.intern("dish-" + i));
+        }
+
+        assertThat(interner.capacity()).isEqualTo(16);
+        for (int i = 0; i < 1_000; i++) {
+            assertThat(interner.intern("dish-" + i)).isEqualTo(ids.get(i));
+        }
+    }
+
+    @Test
+    void intern_should_pass_null_through_to_the_factory() {
+        assertThat(interner.intern(null).value()).isNull();
+    }
+
+    @Test
+    void capacity_should_be_rounded_up_to_a_power_of_two() {
+        assertThat(new IdInterner<>(5, TestId::new, TestId::value).capacity()).isEqualTo(8);
+        assertThat(new IdInterner<>(1, TestId::new, TestId::value).capacity()).isEqualTo(1);
+        assertThatThrownBy(() -> new IdInterner<>(0, TestId::new, TestId::value))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void concurrent_interning_should_only_ever_return_equal_ids() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<?>> workers = new ArrayList<>();
+            for (int t = 0; t < 8; t++) {
+                workers.add(executor.submit(() -> {
+                    for (int i = 0; i < 10_000; i++) {
+                        String value = "merchant-" + (i % 64);
+                        assertThat(interner.intern(value).value()).isEqualTo(value);
+                    }
+                }));
+            }
+            for (Future<?> worker : workers) {
+                worker.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void domain_ids_should_be_shared_through_their_factories() {
+        assertThat(MerchantId.of(new String("merchant-001"))).isSameAs(MerchantId.of(new String("merchant-001")));
+    }
+}
@@ -0,0 +1,39 @@
+package com.example.demo.domain.order;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.example.demo.domain.dish.DishId;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+class PricingTest {
+
+    @Test
+    void calculate_should_sum_the_subtotals_of_every_item() {
+        List<OrderItem> items = List.of(
+                new OrderItem(DishId.of("dish-001"), "宫保鸡丁", 2, new BigDecimal("25.00")),
+                new OrderItem(DishId.of("dish-002"), "米饭", 3, new BigDecimal("2.00")),
+                new OrderItem(DishId.of("dish-003"), "酸梅汤", 1, new BigDecimal("6.50")));
+
+        Pricing pricing = Pricing.calculate(items);
+
+        assertThat(pricing.itemsTotal()).isEqualByComparingTo("62.50");
+        assertThat(pricing.packagingFee()).isEqualByComparingTo(Pricing.PACKAGING_FEE);
+        assertThat(pricing.deliveryFee()).isEqualByComparingTo(Pricing.DELIVERY_FEE);
+        assertThat(pricing.finalAmount()).isEqualByComparingTo("66.50");
+    }
+
+    @Test
+    void of_subtotals_should_match_the_calculation_from_the_items_for_any_grouping() {
+        List<OrderItem> items = IntStream.range(0, 1000)
+                .mapToObj(i -> new OrderItem(DishId.of("dish-" + i), "餐品" + i, i % 7 + 1, new BigDecimal("12.35")))
+                .toList();
+        List<BigDecimal> groupSums = IntStream.range(0, 10)
+                .mapToObj(group -> Pricing.calculate(items.subList(group * 100, group * 100 + 100)).itemsTotal())
+                .toList();
+
+        assertThat(Pricing.ofSubtotals(groupSums)).isEqualTo(Pricing.calculate(items));
+    }
+}